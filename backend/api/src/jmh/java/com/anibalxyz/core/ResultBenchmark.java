@@ -0,0 +1,72 @@
+package com.anibalxyz.core;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** The {@link Result} combinators every use case chains, on both tracks. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResultBenchmark {
+  private Result<Integer, String> success;
+  private Result<Integer, String> failure;
+
+  @Setup
+  public void setup() {
+    success = Result.success(42);
+    failure = Result.failure("error");
+  }
+
+  @Benchmark
+  public Result<Integer, String> mapSuccess() {
+    return success.map(v -> v + 1);
+  }
+
+  @Benchmark
+  public Result<Integer, String> mapFailure() {
+    return failure.map(v -> v + 1);
+  }
+
+  @Benchmark
+  public Result<Integer, String> flatMapChainSuccess() {
+    return success
+        .flatMap(v -> Result.<Integer, String>success(v + 1))
+        .flatMap(v -> Result.<Integer, String>success(v * 2))
+        .map(v -> v - 1);
+  }
+
+  @Benchmark
+  public Result<Integer, String> flatMapChainFailure() {
+    return failure
+        .flatMap(v -> Result.<Integer, String>success(v + 1))
+        .flatMap(v -> Result.<Integer, String>success(v * 2))
+        .map(v -> v - 1);
+  }
+
+  @Benchmark
+  public Result<Integer, Integer> mapErrorFailure() {
+    return failure.mapError(String::length);
+  }
+
+  @Benchmark
+  public int foldSuccess() {
+    return success.fold(v -> v, String::length);
+  }
+
+  @Benchmark
+  public int orThrowSuccess() {
+    return success.orThrow(IllegalStateException::new);
+  }
+}
@@ -0,0 +1,92 @@
+package com.anibalxyz.features.auth.application;
+
+import com.anibalxyz.core.Result;
+import com.anibalxyz.features.auth.application.env.JwtEnvironment;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.SecretKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Issuing and checking access tokens, which every login and every authenticated request does.
+ *
+ * <p>{@code validateTokenUncached} cycles through more distinct tokens than the verified claims
+ * cache holds. The cache evicts the least recently used token, so each one is gone by the time it
+ * comes around again and every call pays for the full signature check.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtServiceBenchmark {
+  private static final int UNCACHED_TOKENS = 2 * VerifiedClaimsCache.MAX_ENTRIES;
+
+  private JwtService jwtService;
+  private String cachedToken;
+  private String[] uncachedTokens;
+  private int next;
+
+  @Setup
+  public void setup() {
+    SecretKey key =
+        Keys.hmacShaKeyFor(
+            "benchmark-secret-key-of-at-least-256-bits".getBytes(StandardCharsets.UTF_8));
+    jwtService =
+        new JwtService(
+            new JwtEnvironment() {
+              @Override
+              public SecretKey JWT_KEY() {
+                return key;
+              }
+
+              @Override
+              public String JWT_ISSUER() {
+                return "reconciler-benchmark";
+              }
+
+              @Override
+              public long JWT_ACCESS_EXPIRATION_TIME_MINUTES() {
+                return 60;
+              }
+            },
+            Clock.systemUTC());
+
+    cachedToken = jwtService.generateToken(1);
+    jwtService.validateToken(cachedToken);
+    uncachedTokens = new String[UNCACHED_TOKENS];
+    for (int i = 0; i < UNCACHED_TOKENS; i++) {
+      uncachedTokens[i] = jwtService.generateToken(UNCACHED_TOKENS + i);
+    }
+  }
+
+  @Benchmark
+  public String generateToken() {
+    return jwtService.generateToken(42);
+  }
+
+  @Benchmark
+  public Result<Claims, JwtService.JwtValidationError> validateTokenCached() {
+    return jwtService.validateToken(cachedToken);
+  }
+
+  @Benchmark
+  public Result<Claims, JwtService.JwtValidationError> validateTokenUncached() {
+    String token = uncachedTokens[next];
+    next = (next + 1) % UNCACHED_TOKENS;
+    return jwtService.validateToken(token);
+  }
+}
@@ -0,0 +1,72 @@
+package com.anibalxyz.features.users.domain;
+
+import com.anibalxyz.core.Result;
+import com.anibalxyz.features.users.domain.error.InvalidEmailError;
+import com.anibalxyz.features.users.domain.error.InvalidNameError;
+import com.anibalxyz.features.users.domain.error.InvalidPasswordError;
+import com.anibalxyz.features.users.domain.error.InvalidPasswordHashError;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Validation of the user value objects, run for every user read from the database or a request. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserValueObjectsBenchmark {
+  private String email;
+  private String invalidEmail;
+  private String name;
+  private String password;
+  private String passwordHash;
+
+  @Setup
+  public void setup() {
+    email = "Jane.Doe-01@example.com";
+    invalidEmail = "jane.doe@example";
+    name = "Jane Doe";
+    password = "correct-horse-battery";
+    passwordHash = PasswordHash.of(Password.of(password).unwrap(), 4).value();
+  }
+
+  @Benchmark
+  public Result<Email, InvalidEmailError> emailOf() {
+    return Email.of(email);
+  }
+
+  @Benchmark
+  public Result<Void, InvalidEmailError> emailValidate() {
+    return Email.validate(email);
+  }
+
+  @Benchmark
+  public Result<Void, InvalidEmailError> emailValidateInvalidFormat() {
+    return Email.validate(invalidEmail);
+  }
+
+  @Benchmark
+  public Result<Name, InvalidNameError> nameOf() {
+    return Name.of(name);
+  }
+
+  @Benchmark
+  public Result<Void, InvalidPasswordError> passwordValidate() {
+    return Password.validate(password);
+  }
+
+  @Benchmark
+  public Result<PasswordHash, InvalidPasswordHashError> passwordHashReconstitute() {
+    return PasswordHash.reconstitute(passwordHash);
+  }
+}
@@ -0,0 +1,40 @@
+package com.anibalxyz.features.users.infra;
+
+import com.anibalxyz.features.users.domain.Password;
+import com.anibalxyz.features.users.domain.PasswordHash;
+import com.anibalxyz.features.users.domain.User;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Mapping a loaded user row back to the domain, which revalidates every value object. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserEntityBenchmark {
+  private UserEntity entity;
+
+  @Setup
+  public void setup() {
+    String hash = PasswordHash.of(Password.of("correct-horse-battery").unwrap(), 4).value();
+    Instant now = Instant.now();
+    entity = new UserEntity(1, "Jane Doe", "jane.doe@example.com", hash, now, now);
+  }
+
+  @Benchmark
+  public User toDomain() {
+    return entity.toDomain();
+  }
+}
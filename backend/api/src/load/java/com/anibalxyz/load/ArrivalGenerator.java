@@ -0,0 +1,91 @@
+package com.anibalxyz.load;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Starts requests at a constant rate, each on a virtual thread of its own, whether or not earlier
+ * ones have been answered.
+ *
+ * <p>Latency is measured from when a request was due to start rather than from when it did, so a
+ * server that falls behind shows up in the percentiles instead of slowing the generator down.
+ */
+final class ArrivalGenerator {
+  private final LoadProfile profile;
+  private final Workload workload;
+  private final PoolWaitRecorder poolWait;
+  private final Map<Route, RouteStats> stats = new EnumMap<>(Route.class);
+  private final AtomicInteger inFlight = new AtomicInteger();
+
+  /**
+   * @param poolWait recorder to start with the measurement, or {@code null} if there is none
+   */
+  ArrivalGenerator(LoadProfile profile, Workload workload, PoolWaitRecorder poolWait) {
+    this.profile = profile;
+    this.workload = workload;
+    this.poolWait = poolWait;
+    for (Route route : Route.values()) {
+      stats.put(route, new RouteStats());
+    }
+  }
+
+  /** Runs the warmup and the measurement, and waits for every request sent to be answered. */
+  Map<Route, RouteStats> run() {
+    long interval = TimeUnit.SECONDS.toNanos(1) / profile.rate();
+    long start = System.nanoTime();
+    long measureFrom = start + profile.warmup().toNanos();
+    long end = measureFrom + profile.duration().toNanos();
+    boolean measuring = false;
+
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (long i = 0; ; i++) {
+        long due = start + i * interval;
+        if (due >= end) break;
+        sleepUntil(due);
+        boolean measured = due >= measureFrom;
+        if (measured && !measuring) {
+          measuring = true;
+          if (poolWait != null) poolWait.start();
+        }
+        Route route = workload.next();
+        if (inFlight.get() >= profile.maxInFlight()) {
+          if (measured) stats.get(route).skipped.increment();
+          continue;
+        }
+        inFlight.incrementAndGet();
+        executor.execute(() -> send(route, due, measured));
+      }
+    }
+    return stats;
+  }
+
+  private void send(Route route, long due, boolean measured) {
+    int status;
+    try {
+      status = workload.execute(route);
+    } catch (RuntimeException e) {
+      status = -1;
+    } finally {
+      inFlight.decrementAndGet();
+    }
+    long latency = System.nanoTime() - due;
+    if (!measured) return;
+    if (status == Workload.NO_IDLE_SESSION) {
+      stats.get(route).skipped.increment();
+    } else {
+      stats.get(route).record(status, latency);
+    }
+  }
+
+  private static void sleepUntil(long due) {
+    long remaining;
+    while ((remaining = due - System.nanoTime()) > 0) {
+      LockSupport.parkNanos(remaining);
+    }
+  }
+}
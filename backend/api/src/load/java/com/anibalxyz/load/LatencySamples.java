@@ -0,0 +1,52 @@
+package com.anibalxyz.load;
+
+import java.util.Arrays;
+
+/**
+ * Every latency recorded for one route, kept in full so that percentiles are exact.
+ *
+ * <p>A run of a few minutes at a few hundred requests per second is well under a million samples,
+ * so keeping them all costs less than a bucketed histogram's loss of precision at p999.
+ */
+final class LatencySamples {
+  private long[] nanos = new long[1024];
+  private int size;
+
+  synchronized void add(long value) {
+    if (size == nanos.length) {
+      nanos = Arrays.copyOf(nanos, size * 2);
+    }
+    nanos[size++] = value;
+  }
+
+  /** Returns the recorded values in ascending order. */
+  synchronized Snapshot snapshot() {
+    long[] sorted = Arrays.copyOf(nanos, size);
+    Arrays.sort(sorted);
+    return new Snapshot(sorted);
+  }
+
+  record Snapshot(long[] sorted) {
+    int count() {
+      return sorted.length;
+    }
+
+    /**
+     * @param quantile between 0 and 1, such as 0.99
+     * @return the smallest value at or above that share of the samples, or 0 if there are none
+     */
+    long percentile(double quantile) {
+      if (sorted.length == 0) return 0;
+      int index = (int) Math.ceil(quantile * sorted.length) - 1;
+      return sorted[Math.clamp(index, 0, sorted.length - 1)];
+    }
+
+    long max() {
+      return sorted.length == 0 ? 0 : sorted[sorted.length - 1];
+    }
+
+    double mean() {
+      return sorted.length == 0 ? 0 : Arrays.stream(sorted).average().orElse(0);
+    }
+  }
+}
@@ -0,0 +1,70 @@
+package com.anibalxyz.load;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * What a load test run sends, parsed from {@code key=value} arguments.
+ *
+ * <ul>
+ *   <li>{@code rate}: requests started per second, whether or not earlier ones have finished
+ *   <li>{@code warmup} and {@code duration}: seconds sent before and while measuring
+ *   <li>{@code sessions}: logged-in users that requests are spread over
+ *   <li>{@code maxInFlight}: requests left unanswered before new ones are skipped instead of sent
+ *   <li>{@code mix}: relative weight of each route, such as {@code login:20,get_user:30}
+ * </ul>
+ */
+record LoadProfile(
+    int rate,
+    Duration warmup,
+    Duration duration,
+    int sessions,
+    int maxInFlight,
+    Map<Route, Integer> mix) {
+
+  private static final String DEFAULT_MIX =
+      "login:20,refresh:20,get_user:30,list_users:5,create_user:10,update_user:15";
+
+  static LoadProfile parse(String[] args) {
+    Map<String, String> options = new HashMap<>();
+    for (String arg : args) {
+      int separator = arg.indexOf('=');
+      if (separator < 1) {
+        throw new IllegalArgumentException("Expected key=value, got: " + arg);
+      }
+      options.put(arg.substring(0, separator), arg.substring(separator + 1));
+    }
+    LoadProfile profile =
+        new LoadProfile(
+            Integer.parseInt(options.getOrDefault("rate", "100")),
+            Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "10"))),
+            Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "60"))),
+            Integer.parseInt(options.getOrDefault("sessions", "100")),
+            Integer.parseInt(options.getOrDefault("maxInFlight", "10000")),
+            parseMix(options.getOrDefault("mix", DEFAULT_MIX)));
+    if (profile.rate() < 1 || profile.sessions() < 1 || profile.maxInFlight() < 1) {
+      throw new IllegalArgumentException("rate, sessions and maxInFlight must be positive");
+    }
+    return profile;
+  }
+
+  private static Map<Route, Integer> parseMix(String mix) {
+    Map<Route, Integer> weights = new EnumMap<>(Route.class);
+    for (String entry : mix.split(",")) {
+      String[] parts = entry.split(":");
+      if (parts.length != 2) {
+        throw new IllegalArgumentException("Expected route:weight, got: " + entry);
+      }
+      int weight = Integer.parseInt(parts[1].trim());
+      if (weight > 0) {
+        weights.put(Route.parse(parts[0]), weight);
+      }
+    }
+    if (weights.isEmpty()) {
+      throw new IllegalArgumentException("The mix must give some route a positive weight");
+    }
+    return weights;
+  }
+}
@@ -0,0 +1,92 @@
+package com.anibalxyz.load;
+
+import static com.anibalxyz.shared.Helpers.cleanDatabase;
+
+import com.anibalxyz.server.Application;
+import com.anibalxyz.shared.Constants;
+import com.anibalxyz.shared.HttpRequest;
+import jakarta.persistence.EntityManager;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Drives a real {@link Application} with a mixed login, refresh and user workload at a constant
+ * arrival rate, and prints latency percentiles, throughput and connection pool wait per route.
+ *
+ * <p>The application is booted as {@code IntegrationTest} boots it, from the test configuration,
+ * so it runs against the PostgreSQL that {@code .env.test} points to. Every table there is
+ * truncated first. Run it with the {@code load} profile:
+ *
+ * <pre>{@code
+ * mvn -Pload -DskipTests verify -Dload.args="rate=200 duration=120"
+ * }</pre>
+ *
+ * <p>See {@link LoadProfile} for the arguments.
+ */
+public final class LoadRunner {
+  private static final Logger log = LoggerFactory.getLogger(LoadRunner.class);
+
+  // Tuesday 10:00, outside the weekend maintenance window that blocks logins
+  private static final ZonedDateTime START =
+      LocalDateTime.of(2026, 4, 21, 10, 0).atZone(ZoneId.of("America/Montevideo"));
+
+  private LoadRunner() {}
+
+  public static void main(String[] args) {
+    LoadProfile profile = LoadProfile.parse(args);
+    Constants.init();
+    Application app = Application.create(Constants.APP_CONFIG, clock());
+    app.start(0);
+    try {
+      EntityManager em = app.persistenceManager().emf().createEntityManager();
+      try {
+        cleanDatabase(em);
+      } finally {
+        em.close();
+      }
+
+      PoolWaitRecorder poolWait = installPoolWaitRecorder(app);
+      OkHttpClient client =
+          new OkHttpClient.Builder()
+              .connectionPool(new ConnectionPool(profile.sessions(), 1, TimeUnit.MINUTES))
+              .build();
+      String baseUrl = app.javalin().jettyServer().server().getURI().toString() + "api";
+      HttpRequest http = new HttpRequest(new ObjectMapper(), client, baseUrl);
+
+      log.info("Seeding {} sessions", profile.sessions());
+      Workload workload = Workload.seed(http, profile);
+      log.info("Sending {} req/s", profile.rate());
+      Map<Route, RouteStats> stats = new ArrivalGenerator(profile, workload, poolWait).run();
+
+      Report.print(System.out, profile, stats, poolWait);
+    } finally {
+      app.stop();
+    }
+  }
+
+  /** A clock that ticks from {@link #START}, so tokens expire as they would in production. */
+  private static Clock clock() {
+    Clock system = Clock.system(START.getZone());
+    return Clock.offset(system, Duration.between(Instant.now(system), START.toInstant()));
+  }
+
+  private static PoolWaitRecorder installPoolWaitRecorder(Application app) {
+    try {
+      return PoolWaitRecorder.install(app.persistenceManager().emf());
+    } catch (RuntimeException e) {
+      log.warn("Connection pool wait will not be reported: {}", e.toString());
+      return null;
+    }
+  }
+}
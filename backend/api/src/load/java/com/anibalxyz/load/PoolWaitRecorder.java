@@ -0,0 +1,73 @@
+package com.anibalxyz.load;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.EnumMap;
+import java.util.Map;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.slf4j.MDC;
+
+/**
+ * Records how long each route waits for a Hikari connection.
+ *
+ * <p>Hikari reports the wait on the thread that asked for the connection, which is the thread
+ * serving the request, so the route is read from the method and path {@code RequestContext} puts
+ * in the MDC. Connections taken outside a request driven by the load test, such as by scheduled
+ * jobs, are recorded as {@link #other()}.
+ */
+final class PoolWaitRecorder implements MetricsTrackerFactory {
+  private final Map<Route, LatencySamples> byRoute = new EnumMap<>(Route.class);
+  private final LatencySamples other = new LatencySamples();
+  private volatile boolean recording;
+
+  private PoolWaitRecorder() {
+    for (Route route : Route.values()) {
+      byRoute.put(route, new LatencySamples());
+    }
+  }
+
+  /**
+   * Attaches a recorder to the running pool behind {@code emf}.
+   *
+   * @throws IllegalStateException if the pool already reports to another tracker
+   */
+  static PoolWaitRecorder install(EntityManagerFactory emf) {
+    HikariDataSource dataSource =
+        emf.unwrap(SessionFactoryImplementor.class)
+            .getServiceRegistry()
+            .requireService(ConnectionProvider.class)
+            .unwrap(HikariDataSource.class);
+    PoolWaitRecorder recorder = new PoolWaitRecorder();
+    dataSource.setMetricsTrackerFactory(recorder);
+    return recorder;
+  }
+
+  /** Starts recording, so that waits during the warmup are left out. */
+  void start() {
+    recording = true;
+  }
+
+  LatencySamples of(Route route) {
+    return byRoute.get(route);
+  }
+
+  LatencySamples other() {
+    return other;
+  }
+
+  @Override
+  public IMetricsTracker create(String poolName, PoolStats poolStats) {
+    return new IMetricsTracker() {
+      @Override
+      public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+        if (!recording) return;
+        Route route = Route.match(MDC.get("method"), MDC.get("path"));
+        (route == null ? other : byRoute.get(route)).add(elapsedAcquiredNanos);
+      }
+    };
+  }
+}
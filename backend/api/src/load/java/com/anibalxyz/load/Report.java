@@ -0,0 +1,94 @@
+package com.anibalxyz.load;
+
+import java.io.PrintStream;
+import java.util.Locale;
+import java.util.Map;
+
+/** Prints the results of a run as a table with a row per route. */
+final class Report {
+  private static final String ROW = "%-24s %8s %9s %9s %9s %9s %9s %7s %7s %10s %10s%n";
+
+  private Report() {}
+
+  /**
+   * @param poolWait connection waits per route, or {@code null} if they were not recorded
+   */
+  static void print(
+      PrintStream out,
+      LoadProfile profile,
+      Map<Route, RouteStats> stats,
+      PoolWaitRecorder poolWait) {
+    double seconds = profile.duration().toNanos() / 1e9;
+    out.printf(
+        Locale.ROOT,
+        "%nLoad test: %d req/s for %ds after a %ds warmup, %d sessions%n",
+        profile.rate(),
+        profile.duration().toSeconds(),
+        profile.warmup().toSeconds(),
+        profile.sessions());
+    out.printf(
+        Locale.ROOT,
+        "Latencies in ms from when each request was due;"
+            + " errors are 4xx/5xx responses, failed ones got none%n%n");
+    out.printf(
+        Locale.ROOT,
+        ROW,
+        "route",
+        "count",
+        "req/s",
+        "p50",
+        "p99",
+        "p999",
+        "max",
+        "errors",
+        "failed",
+        "pool mean",
+        "pool p99");
+
+    long total = 0;
+    for (Map.Entry<Route, RouteStats> entry : stats.entrySet()) {
+      RouteStats route = entry.getValue();
+      LatencySamples.Snapshot latency = route.latency.snapshot();
+      if (latency.count() == 0 && route.skipped.sum() == 0) continue;
+      total += latency.count();
+      LatencySamples.Snapshot wait =
+          poolWait == null ? null : poolWait.of(entry.getKey()).snapshot();
+      out.printf(
+          Locale.ROOT,
+          ROW,
+          entry.getKey().label(),
+          latency.count(),
+          format(latency.count() / seconds),
+          millis(latency.percentile(0.50)),
+          millis(latency.percentile(0.99)),
+          millis(latency.percentile(0.999)),
+          millis(latency.max()),
+          route.errors.sum(),
+          route.failures.sum(),
+          wait == null ? "n/a" : format(wait.mean() / 1e6),
+          wait == null ? "n/a" : millis(wait.percentile(0.99)));
+      if (route.skipped.sum() > 0) {
+        out.printf(
+            Locale.ROOT, "  skipped, overloaded or no idle session: %d%n", route.skipped.sum());
+      }
+    }
+    out.printf(Locale.ROOT, "%nThroughput: %s req/s%n", format(total / seconds));
+    if (poolWait != null && poolWait.other().snapshot().count() > 0) {
+      LatencySamples.Snapshot other = poolWait.other().snapshot();
+      out.printf(
+          Locale.ROOT,
+          "Pool wait outside driven routes: %d acquisitions, mean %s ms, p99 %s ms%n",
+          other.count(),
+          format(other.mean() / 1e6),
+          millis(other.percentile(0.99)));
+    }
+  }
+
+  private static String millis(long nanos) {
+    return format(nanos / 1e6);
+  }
+
+  private static String format(double value) {
+    return String.format(Locale.ROOT, "%.2f", value);
+  }
+}
@@ -0,0 +1,44 @@
+package com.anibalxyz.load;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/** The routes the load test drives, as the server matches them. */
+enum Route {
+  LOGIN("POST", "/api/auth/login"),
+  REFRESH("POST", "/api/auth/refresh"),
+  LIST_USERS("GET", "/api/users"),
+  GET_USER("GET", "/api/users/{id}"),
+  CREATE_USER("POST", "/api/users"),
+  UPDATE_USER("PUT", "/api/users/{id}");
+
+  private final String method;
+  private final String template;
+  private final Pattern pattern;
+
+  Route(String method, String template) {
+    this.method = method;
+    this.template = template;
+    this.pattern = Pattern.compile(template.replace("{id}", "[^/]+"));
+  }
+
+  /**
+   * @return the route serving a request, or {@code null} if the load test does not drive it
+   */
+  static Route match(String method, String path) {
+    if (method == null || path == null) return null;
+    for (Route route : values()) {
+      if (route.method.equals(method) && route.pattern.matcher(path).matches()) return route;
+    }
+    return null;
+  }
+
+  /** Parses the lower-case name used on the command line, such as {@code get_user}. */
+  static Route parse(String name) {
+    return valueOf(name.trim().toUpperCase(Locale.ROOT));
+  }
+
+  String label() {
+    return method + " " + template;
+  }
+}
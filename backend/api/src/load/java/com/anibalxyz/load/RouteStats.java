@@ -0,0 +1,24 @@
+package com.anibalxyz.load;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/** Outcomes and latencies of the measured requests to one route. */
+final class RouteStats {
+  final LatencySamples latency = new LatencySamples();
+  final LongAdder errors = new LongAdder();
+  final LongAdder failures = new LongAdder();
+  final LongAdder skipped = new LongAdder();
+
+  /**
+   * @param status HTTP status of the response, or {@code -1} if no response came back
+   * @param nanos time from when the request should have started until its response arrived
+   */
+  void record(int status, long nanos) {
+    latency.add(nanos);
+    if (status < 0) {
+      failures.increment();
+    } else if (status >= 400) {
+      errors.increment();
+    }
+  }
+}
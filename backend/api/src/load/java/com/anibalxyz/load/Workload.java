@@ -0,0 +1,162 @@
+package com.anibalxyz.load;
+
+import static com.anibalxyz.shared.Helpers.createJwtHeader;
+
+import com.anibalxyz.features.auth.api.in.LoginRequest;
+import com.anibalxyz.features.auth.api.out.AuthResponse;
+import com.anibalxyz.features.users.api.in.CreateUserRequest;
+import com.anibalxyz.features.users.api.in.UpdateUserRequest;
+import com.anibalxyz.features.users.api.out.CreateUserResponse;
+import com.anibalxyz.shared.HttpRequest;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import okhttp3.Response;
+
+/**
+ * Sends the requests of each route on behalf of a pool of logged-in users.
+ *
+ * <p>A request borrows a user for its whole duration, so that no two requests rotate the same
+ * refresh token at once; when every user is busy the request is skipped.
+ */
+final class Workload {
+  /** Status returned for a request that was not sent because every user was busy. */
+  static final int NO_IDLE_SESSION = 0;
+
+  private static final String PASSWORD = "L0ad-Test_Passw0rd";
+  private static final String REFRESH_COOKIE = "refreshToken";
+
+  private final HttpRequest http;
+  private final Queue<Session> idle = new ConcurrentLinkedQueue<>();
+  private final AtomicLong usersCreated = new AtomicLong();
+  private final Route[] routes;
+  private final int[] cumulativeWeights;
+
+  private Workload(HttpRequest http, Map<Route, Integer> mix) {
+    this.http = http;
+    this.routes = mix.keySet().toArray(Route[]::new);
+    this.cumulativeWeights = new int[routes.length];
+    int total = 0;
+    for (int i = 0; i < routes.length; i++) {
+      total += mix.get(routes[i]);
+      cumulativeWeights[i] = total;
+    }
+  }
+
+  /** Creates and logs in {@code sessions} users, one after another. */
+  static Workload seed(HttpRequest http, LoadProfile profile) {
+    Workload workload = new Workload(http, profile.mix());
+    for (int i = 0; i < profile.sessions(); i++) {
+      Session session = new Session(workload.createUser());
+      if (workload.login(session) != 200) {
+        throw new IllegalStateException("Could not log in seeded user " + session.email);
+      }
+      workload.idle.add(session);
+    }
+    return workload;
+  }
+
+  /** Picks the next route at random according to the mix. */
+  Route next() {
+    int pick = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+    for (int i = 0; i < routes.length; i++) {
+      if (pick < cumulativeWeights[i]) return routes[i];
+    }
+    throw new IllegalStateException("Unreachable: pick is below the total weight");
+  }
+
+  /**
+   * @return the HTTP status of the response, or {@link #NO_IDLE_SESSION}
+   */
+  int execute(Route route) {
+    if (route == Route.CREATE_USER) {
+      return status(http.post("/users", newUser()));
+    }
+    Session session = idle.poll();
+    if (session == null) {
+      return NO_IDLE_SESSION;
+    }
+    try {
+      return switch (route) {
+        case LOGIN -> login(session);
+        case REFRESH -> refresh(session);
+        case LIST_USERS -> status(http.get("/users", createJwtHeader(session.accessToken)));
+        case GET_USER ->
+            status(http.get("/users/" + session.userId, createJwtHeader(session.accessToken)));
+        case UPDATE_USER ->
+            status(
+                http.put(
+                    "/users/" + session.userId,
+                    new UpdateUserRequest("Load User " + System.nanoTime() % 1000, null, null),
+                    createJwtHeader(session.accessToken)));
+        case CREATE_USER -> throw new IllegalStateException("Handled above, needs no session");
+      };
+    } finally {
+      idle.add(session);
+    }
+  }
+
+  private CreateUserResponse createUser() {
+    try (Response response = http.post("/users", newUser())) {
+      if (response.code() != 201) {
+        throw new IllegalStateException("Could not seed a user: HTTP " + response.code());
+      }
+      return http.parseBody(response, CreateUserResponse.class);
+    }
+  }
+
+  private CreateUserRequest newUser() {
+    long n = usersCreated.incrementAndGet();
+    return new CreateUserRequest("Load User", "load-user-" + n + "@example.com", PASSWORD);
+  }
+
+  private int login(Session session) {
+    return authenticate(
+        session, http.post("/auth/login", new LoginRequest(session.email, PASSWORD)));
+  }
+
+  private int refresh(Session session) {
+    return authenticate(
+        session,
+        http.post(
+            "/auth/refresh", "", Map.of("Cookie", REFRESH_COOKIE + "=" + session.refreshToken)));
+  }
+
+  /** Keeps the tokens of a successful login or refresh for the session's next requests. */
+  private int authenticate(Session session, Response response) {
+    try (response) {
+      if (response.code() == 200) {
+        for (String cookie : response.headers("Set-Cookie")) {
+          if (cookie.startsWith(REFRESH_COOKIE + "=")) {
+            int end = cookie.indexOf(';');
+            session.refreshToken =
+                cookie.substring(REFRESH_COOKIE.length() + 1, end < 0 ? cookie.length() : end);
+          }
+        }
+        session.accessToken = http.parseBody(response, AuthResponse.class).accessToken();
+      }
+      return response.code();
+    }
+  }
+
+  private static int status(Response response) {
+    try (response) {
+      return response.code();
+    }
+  }
+
+  /** A logged-in user; only the request that borrowed it touches its tokens. */
+  private static final class Session {
+    private final int userId;
+    private final String email;
+    private String accessToken;
+    private String refreshToken;
+
+    Session(CreateUserResponse user) {
+      this.userId = user.id();
+      this.email = user.email();
+    }
+  }
+}
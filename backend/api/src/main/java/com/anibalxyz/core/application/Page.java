@@ -0,0 +1,36 @@
+package com.anibalxyz.core.application;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * One page of a listing paginated by seeking past the last key seen, rather than by offset, so that
+ * every page costs the same regardless of how deep it is.
+ *
+ * @param items the items of this page, in listing order
+ * @param hasMore whether further items follow the last one
+ */
+public record Page<T>(List<T> items, boolean hasMore) {
+
+  public Page {
+    items = List.copyOf(Objects.requireNonNull(items));
+  }
+
+  /**
+   * Builds a page from rows fetched with one row of lookahead, that is, up to {@code limit + 1} of
+   * them; the extra row only tells whether there is a next page and is dropped.
+   */
+  public static <T> Page<T> fromLookahead(List<T> rows, int limit) {
+    if (rows.size() > limit) {
+      return new Page<>(rows.subList(0, limit), true);
+    }
+    return new Page<>(rows, false);
+  }
+
+  /**
+   * @return the last item of this page, or {@code null} if the page is empty
+   */
+  public T last() {
+    return items.isEmpty() ? null : items.getLast();
+  }
+}
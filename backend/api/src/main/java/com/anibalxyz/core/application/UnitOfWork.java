@@ -0,0 +1,18 @@
+package com.anibalxyz.core.application;
+
+import java.util.function.Supplier;
+
+/**
+ * Runs work in its own transaction: work that happens outside an HTTP request, such as a
+ * background job, or a short read a request must finish before a slow step, such as loading the
+ * user before checking a password.
+ */
+public interface UnitOfWork {
+  /**
+   * Runs the given work in a new transaction, committed when it returns and rolled back when it
+   * throws.
+   *
+   * @return whatever the work returned
+   */
+  <T> T execute(Supplier<T> work);
+}
@@ -20,14 +20,58 @@ import com.anibalxyz.server.api.FeatureErrorMapper;
 import com.anibalxyz.server.api.LogEntry;
 import com.anibalxyz.server.exception.UnhandledErrorException;
 import com.anibalxyz.server.exception.UnreachableCodeException;
+import java.util.List;
 
 public class AuthErrorMapper implements FeatureErrorMapper {
+  private static final List<Class<?>> ERROR_TYPES =
+      List.of(
+          AuthDomainError.class,
+          AuthService.AuthenticateUserError.class,
+          AuthService.RefreshTokensError.class,
+          JwtService.JwtValidationError.class);
+  private static final List<Class<? extends DomainError>> FIELD_ERROR_TYPES =
+      List.of(AuthDomainError.class);
+
+  // Errors without parameters map to the same result every time; only the request id differs,
+  // and that is added when the response is sent.
+  private static final ErrorResult INVALID_CREDENTIALS =
+      new ErrorResult(
+          401,
+          new ErrorResponse(CommonErrorCode.UNAUTHORIZED).detail("Invalid credentials"),
+          LogEntry.warn("Invalid credentials attempt"));
+  private static final ErrorResult REFRESH_TOKEN_NOT_FOUND =
+      new ErrorResult(
+          401,
+          new ErrorResponse(AuthErrorCode.REFRESH_TOKEN_NOT_FOUND),
+          LogEntry.debug("Refresh token not found"));
+  private static final ErrorResult REFRESH_TOKEN_EXPIRED =
+      new ErrorResult(
+          401,
+          new ErrorResponse(AuthErrorCode.REFRESH_TOKEN_EXPIRED),
+          LogEntry.debug("Refresh token expired"));
+  private static final ErrorResult REFRESH_TOKEN_REVOKED =
+      new ErrorResult(
+          401,
+          new ErrorResponse(AuthErrorCode.REFRESH_TOKEN_EXPIRED),
+          LogEntry.warn("Revoked refresh token used"));
+  private static final ErrorResult JWT_INVALID =
+      new ErrorResult(
+          401,
+          new ErrorResponse(CommonErrorCode.UNAUTHORIZED).detail("Invalid JWT token"),
+          LogEntry.warn("Invalid JWT token"));
+  private static final ErrorResult JWT_MISSING =
+      new ErrorResult(
+          401,
+          new ErrorResponse(CommonErrorCode.UNAUTHORIZED).detail("Missing JWT token"),
+          LogEntry.warn("Missing JWT token"));
+  private static final ErrorResult JWT_EXPIRED =
+      new ErrorResult(
+          401,
+          new ErrorResponse(CommonErrorCode.UNAUTHORIZED).detail("JWT has expired"),
+          LogEntry.debug("JWT has expired"));
 
   public ErrorResult mapInvalidCredentialsError() {
-    return new ErrorResult(
-        401,
-        new ErrorResponse(CommonErrorCode.UNAUTHORIZED).detail("Invalid credentials"),
-        LogEntry.warn("Invalid credentials attempt"));
+    return INVALID_CREDENTIALS;
   }
 
   public ErrorResult mapAuthenticateUserError(AuthService.AuthenticateUserError error) {
@@ -63,30 +107,15 @@ public class AuthErrorMapper implements FeatureErrorMapper {
 
   public ErrorResult mapInvalidRefreshTokenError(InvalidRefreshTokenError error) {
     return switch (error.getReason()) {
-      case InvalidRefreshTokenError.Reason.NotFound ignored ->
-          new ErrorResult(
-              401,
-              new ErrorResponse(AuthErrorCode.REFRESH_TOKEN_NOT_FOUND),
-              LogEntry.debug("Refresh token not found"));
-      case InvalidRefreshTokenError.Reason.Expired ignored ->
-          new ErrorResult(
-              401,
-              new ErrorResponse(AuthErrorCode.REFRESH_TOKEN_EXPIRED),
-              LogEntry.debug("Refresh token expired"));
-      case InvalidRefreshTokenError.Reason.Revoked ignored ->
-          new ErrorResult(
-              401,
-              new ErrorResponse(AuthErrorCode.REFRESH_TOKEN_EXPIRED),
-              LogEntry.warn("Revoked refresh token used"));
+      case InvalidRefreshTokenError.Reason.NotFound ignored -> REFRESH_TOKEN_NOT_FOUND;
+      case InvalidRefreshTokenError.Reason.Expired ignored -> REFRESH_TOKEN_EXPIRED;
+      case InvalidRefreshTokenError.Reason.Revoked ignored -> REFRESH_TOKEN_REVOKED;
     };
   }
 
   @Override
-  public boolean supports(Object error) {
-    return error instanceof AuthDomainError
-        || error instanceof AuthService.AuthenticateUserError
-        || error instanceof AuthService.RefreshTokensError
-        || error instanceof JwtService.JwtValidationError;
+  public List<Class<?>> errorTypes() {
+    return ERROR_TYPES;
   }
 
   @Override
@@ -101,8 +130,8 @@ public class AuthErrorMapper implements FeatureErrorMapper {
   }
 
   @Override
-  public boolean supportsFieldError(DomainError error) {
-    return error instanceof AuthDomainError;
+  public List<Class<? extends DomainError>> fieldErrorTypes() {
+    return FIELD_ERROR_TYPES;
   }
 
   @Override
@@ -120,16 +149,10 @@ public class AuthErrorMapper implements FeatureErrorMapper {
   }
 
   public ErrorResult mapJwtValidationError(JwtService.JwtValidationError jwe) {
-    ErrorResponse base = new ErrorResponse(CommonErrorCode.UNAUTHORIZED);
     return switch (jwe) {
-      case JwtService.JwtValidationError.Invalid ignored ->
-          new ErrorResult(
-              401, base.detail("Invalid JWT token"), LogEntry.warn("Invalid JWT token"));
-      case JwtService.JwtValidationError.Missing ignored ->
-          new ErrorResult(
-              401, base.detail("Missing JWT token"), LogEntry.warn("Missing JWT token"));
-      case JwtService.JwtValidationError.Expired ignored ->
-          new ErrorResult(401, base.detail("JWT has expired"), LogEntry.debug("JWT has expired"));
+      case JwtService.JwtValidationError.Invalid ignored -> JWT_INVALID;
+      case JwtService.JwtValidationError.Missing ignored -> JWT_MISSING;
+      case JwtService.JwtValidationError.Expired ignored -> JWT_EXPIRED;
     };
   }
 
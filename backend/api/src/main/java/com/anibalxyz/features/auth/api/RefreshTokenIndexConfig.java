@@ -0,0 +1,41 @@
+package com.anibalxyz.features.auth.api;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+import com.anibalxyz.core.application.UnitOfWork;
+import com.anibalxyz.features.auth.application.RefreshTokenService;
+import com.anibalxyz.server.config.modules.startup.StartupConfig;
+import io.javalin.config.JavalinConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Loads the in-memory refresh token index before the server accepts requests.
+ *
+ * <p>If loading fails the server still starts, and every refresh token is looked up in the
+ * database.
+ */
+public class RefreshTokenIndexConfig implements StartupConfig {
+  private static final Logger log = LoggerFactory.getLogger(RefreshTokenIndexConfig.class);
+
+  private final RefreshTokenService refreshTokenService;
+  private final UnitOfWork unitOfWork;
+
+  public RefreshTokenIndexConfig(RefreshTokenService refreshTokenService, UnitOfWork unitOfWork) {
+    this.refreshTokenService = refreshTokenService;
+    this.unitOfWork = unitOfWork;
+  }
+
+  @Override
+  public void apply(JavalinConfig cfg) {
+    cfg.events.serverStarting(
+        () -> {
+          try {
+            int loaded = unitOfWork.execute(refreshTokenService::loadIndex);
+            log.info("Refresh token index loaded", kv("token_count", loaded));
+          } catch (RuntimeException e) {
+            log.warn("Could not load the refresh token index, looking every token up", e);
+          }
+        });
+  }
+}
@@ -1,6 +1,7 @@
 package com.anibalxyz.features.auth.application;
 
 import com.anibalxyz.core.Result;
+import com.anibalxyz.core.application.UnitOfWork;
 import com.anibalxyz.core.application.ValidationNotification;
 import com.anibalxyz.features.auth.application.env.AuthEnvironment;
 import com.anibalxyz.features.auth.application.in.LoginCommand;
@@ -9,6 +10,7 @@ import com.anibalxyz.features.auth.domain.RefreshToken;
 import com.anibalxyz.features.auth.domain.error.InvalidCredentialsError;
 import com.anibalxyz.features.auth.domain.error.InvalidRefreshTokenError;
 import com.anibalxyz.features.users.application.GetUserByEmail;
+import com.anibalxyz.features.users.application.PasswordHasher;
 import com.anibalxyz.features.users.domain.Email;
 import com.anibalxyz.features.users.domain.Password;
 import com.anibalxyz.features.users.domain.User;
@@ -26,20 +28,26 @@ public class AuthService {
   private final AuthEnvironment env;
   private final Clock clock;
   private final GetUserByEmail getUserByEmail;
+  private final UnitOfWork unitOfWork;
   private final JwtService jwtService;
   private final RefreshTokenService refreshTokenService;
+  private final PasswordHasher passwordHasher;
 
   public AuthService(
       AuthEnvironment env,
       Clock clock,
       GetUserByEmail getUserByEmail,
+      UnitOfWork unitOfWork,
       JwtService jwtService,
-      RefreshTokenService refreshTokenService) {
+      RefreshTokenService refreshTokenService,
+      PasswordHasher passwordHasher) {
     this.env = env;
     this.clock = clock;
     this.getUserByEmail = getUserByEmail;
+    this.unitOfWork = unitOfWork;
     this.jwtService = jwtService;
     this.refreshTokenService = refreshTokenService;
+    this.passwordHasher = passwordHasher;
   }
 
   private static Instant capAtNextFriday(ZonedDateTime now, Instant expiryDate) {
@@ -98,14 +106,16 @@ public class AuthService {
       return Result.failure(new AuthenticateUserError.MaintenanceWindow(blocked.get()));
     }
 
-    var userResult = getUserByEmail.execute(command.email());
+    // Loaded in a transaction of its own, so its connection is back in the pool while the password
+    // check waits for a hashing thread
+    var userResult = unitOfWork.execute(() -> getUserByEmail.execute(command.email()));
 
     return switch (userResult) {
       case Result.Failure(var ignored) ->
           Result.failure(
               new AuthenticateUserError.InvalidCredentials(new InvalidCredentialsError()));
       case Result.Success(User user) -> {
-        if (!user.passwordMatches(command.password())) {
+        if (!passwordHasher.matches(user.passwordHash(), command.password())) {
           yield Result.failure(
               new AuthenticateUserError.InvalidCredentials(new InvalidCredentialsError()));
         }
@@ -0,0 +1,88 @@
+package com.anibalxyz.features.auth.application;
+
+import com.anibalxyz.core.application.UnitOfWork;
+import com.anibalxyz.features.auth.application.env.TokenCleanupEnvironment;
+import com.anibalxyz.features.auth.domain.RefreshTokenRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Deletes expired refresh tokens in small batches, so a large backlog never holds locks on the
+ * table for long.
+ *
+ * <p>Each batch of at most {@code REFRESH_TOKEN_CLEANUP_BATCH_SIZE} tokens runs in a transaction of
+ * its own, followed by a pause of {@code REFRESH_TOKEN_CLEANUP_PAUSE}. A run ends with the first
+ * batch that is not full, or when its thread is interrupted; batches already committed stay
+ * deleted and the rest is left to the next run.
+ */
+public class ExpiredTokenCleanup implements MeterBinder {
+  private final RefreshTokenRepository refreshTokenRepository;
+  private final UnitOfWork unitOfWork;
+  private final TokenCleanupEnvironment env;
+  private final Clock clock;
+
+  private final LongAdder batches = new LongAdder();
+  private final LongAdder batchNanos = new LongAdder();
+  private final LongAdder deleted = new LongAdder();
+
+  public ExpiredTokenCleanup(
+      RefreshTokenRepository refreshTokenRepository,
+      UnitOfWork unitOfWork,
+      TokenCleanupEnvironment env,
+      Clock clock) {
+    this.refreshTokenRepository = refreshTokenRepository;
+    this.unitOfWork = unitOfWork;
+    this.env = env;
+    this.clock = clock;
+  }
+
+  /**
+   * Deletes every token that expired before the run started.
+   *
+   * @return the number of tokens deleted
+   */
+  public int run() {
+    Instant now = clock.instant();
+    int batchSize = env.REFRESH_TOKEN_CLEANUP_BATCH_SIZE();
+    int total = 0;
+    while (!Thread.currentThread().isInterrupted()) {
+      long start = System.nanoTime();
+      int count =
+          unitOfWork.execute(() -> refreshTokenRepository.deleteExpiredBatch(now, batchSize));
+      batchNanos.add(System.nanoTime() - start);
+      batches.increment();
+      deleted.add(count);
+      total += count;
+      if (count < batchSize) {
+        break;
+      }
+      try {
+        Thread.sleep(env.REFRESH_TOKEN_CLEANUP_PAUSE());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    return total;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    FunctionTimer.builder(
+            "auth.refresh_token.cleanup.batch",
+            this,
+            cleanup -> cleanup.batches.sum(),
+            cleanup -> cleanup.batchNanos.doubleValue(),
+            TimeUnit.NANOSECONDS)
+        .description("Time spent deleting each batch of expired refresh tokens")
+        .register(registry);
+    FunctionCounter.builder("auth.refresh_token.cleanup.deleted", deleted, LongAdder::doubleValue)
+        .description("Expired refresh tokens deleted by the cleanup")
+        .register(registry);
+  }
+}
@@ -4,6 +4,8 @@ import com.anibalxyz.core.Result;
 import com.anibalxyz.features.auth.application.env.JwtEnvironment;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import java.time.Clock;
 import java.time.Instant;
 import java.util.Date;
@@ -11,14 +13,26 @@ import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class JwtService {
+/**
+ * Issues and validates access tokens.
+ *
+ * <p>Validation runs on every authenticated request, so the parser is built once and the claims of
+ * tokens already verified are served from a {@link VerifiedClaimsCache} until they expire. Its hit
+ * and miss counters are published through {@link #bindTo(MeterRegistry)}.
+ */
+public class JwtService implements MeterBinder {
   private static final Logger log = LoggerFactory.getLogger(JwtService.class);
   private final JwtEnvironment env;
   private final Clock clock;
+  private final JwtParser parser;
+  private final VerifiedClaimsCache verifiedClaims;
 
   public JwtService(JwtEnvironment env, Clock clock) {
     this.env = env;
     this.clock = clock;
+    this.parser =
+        Jwts.parser().verifyWith(env.JWT_KEY()).clock(() -> Date.from(clock.instant())).build();
+    this.verifiedClaims = new VerifiedClaimsCache(clock);
   }
 
   public String generateToken(Integer userId) {
@@ -42,14 +56,14 @@ public class JwtService {
     if (token == null || token.isBlank()) {
       return Result.failure(new JwtValidationError.Missing());
     }
+    Claims cached = verifiedClaims.get(token);
+    if (cached != null) {
+      return Result.success(cached);
+    }
     try {
-      return Result.success(
-          Jwts.parser()
-              .verifyWith(env.JWT_KEY())
-              .clock(() -> Date.from(clock.instant()))
-              .build()
-              .parseSignedClaims(token)
-              .getPayload());
+      Claims claims = parser.parseSignedClaims(token).getPayload();
+      verifiedClaims.put(token, claims);
+      return Result.success(claims);
     } catch (ExpiredJwtException e) {
       return Result.failure(new JwtValidationError.Expired());
     } catch (SignatureException e) {
@@ -61,6 +75,11 @@ public class JwtService {
     }
   }
 
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    verifiedClaims.bindTo(registry);
+  }
+
   public sealed interface JwtValidationError {
     record Missing() implements JwtValidationError {}
 
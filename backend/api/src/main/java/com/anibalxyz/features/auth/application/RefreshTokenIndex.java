@@ -0,0 +1,232 @@
+package com.anibalxyz.features.auth.application;
+
+import com.anibalxyz.features.auth.domain.RefreshTokenRepository.TokenState;
+import com.anibalxyz.features.auth.domain.error.InvalidRefreshTokenError;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Process-local index of the refresh tokens stored in the database, answering replays of unknown
+ * and revoked tokens without a database round trip.
+ *
+ * <p>Revoked tokens are kept, keyed by a SHA-256 digest, in a map of at most {@link #MAX_REVOKED}
+ * entries that forgets the oldest first; a forgotten one simply goes to the database again. A
+ * revocation never goes back, so this holds with any number of instances.
+ *
+ * <p>Only when this process issues every token, every stored token also goes into a Bloom filter,
+ * loaded once at startup and added to as tokens are issued: a token the filter has never seen
+ * cannot be in the database. With several instances a token issued elsewhere after the load would
+ * be missing from it, so the filter is not built and unknown tokens are looked up. Any other token
+ * might be valid and is looked up as usual, so the filter's false positives only cost the lookup it
+ * saves otherwise.
+ *
+ * <p>Until {@link #load(List)} runs every token is looked up.
+ */
+final class RefreshTokenIndex implements MeterBinder {
+  static final int MAX_REVOKED = 10_000;
+
+  /** Tokens the filter is sized for at least, so that a small table still leaves room to grow. */
+  static final int MIN_EXPECTED_TOKENS = 100_000;
+
+  /** False positive rate the filter is sized for, at twice the tokens stored at startup. */
+  static final double TARGET_FALSE_POSITIVE_RATE = 0.01;
+
+  private final boolean singleInstance;
+  private volatile boolean loaded;
+  private volatile BloomFilter filter;
+  private final Map<String, Instant> revoked =
+      Collections.synchronizedMap(
+          new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Instant> eldest) {
+              return size() > MAX_REVOKED;
+            }
+          });
+
+  private final LongAdder rejected = new LongAdder();
+  private final LongAdder checked = new LongAdder();
+  private final LongAdder falsePositives = new LongAdder();
+
+  /**
+   * @param singleInstance whether this process issues every token, see {@code
+   *     REFRESH_TOKEN_INDEX_SINGLE_INSTANCE}
+   */
+  RefreshTokenIndex(boolean singleInstance) {
+    this.singleInstance = singleInstance;
+  }
+
+  /** Replaces the index with the given tokens. */
+  void load(List<TokenState> tokens) {
+    BloomFilter stored =
+        singleInstance
+            ? new BloomFilter(
+                Math.max(MIN_EXPECTED_TOKENS, 2L * tokens.size()), TARGET_FALSE_POSITIVE_RATE)
+            : null;
+    revoked.clear();
+    for (TokenState token : tokens) {
+      byte[] digest = digest(token.token());
+      if (stored != null) {
+        stored.add(digest);
+      }
+      if (token.revoked()) {
+        revoked.put(encode(digest), token.expiryDate());
+      }
+    }
+    filter = stored;
+    loaded = true;
+  }
+
+  /**
+   * @return the error the database lookup would end in, or {@code null} if the token has to be
+   *     looked up
+   */
+  InvalidRefreshTokenError reject(String token, Instant now) {
+    if (!loaded) {
+      return null;
+    }
+    BloomFilter current = filter;
+    byte[] digest = digest(token);
+    if (current != null && !current.mightContain(digest)) {
+      rejected.increment();
+      return InvalidRefreshTokenError.notFound();
+    }
+    Instant expiryDate = revoked.get(encode(digest));
+    if (expiryDate != null) {
+      rejected.increment();
+      // Same precedence as RefreshTokenService: an expired token is reported as expired
+      return !now.isBefore(expiryDate)
+          ? InvalidRefreshTokenError.expired()
+          : InvalidRefreshTokenError.revoked();
+    }
+    checked.increment();
+    return null;
+  }
+
+  /** Records a token the filter let through but the database did not have. */
+  void notFound() {
+    if (filter != null) {
+      falsePositives.increment();
+    }
+  }
+
+  void added(String token) {
+    BloomFilter current = filter;
+    if (current != null) {
+      current.add(digest(token));
+    }
+  }
+
+  /**
+   * @param expiryDate expiry of the token, or {@code null} if unknown
+   */
+  void revoked(String token, Instant expiryDate) {
+    if (loaded) {
+      revoked.put(encode(digest(token)), expiryDate == null ? Instant.MAX : expiryDate);
+    }
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    FunctionCounter.builder("auth.refresh_token.index", rejected, LongAdder::doubleValue)
+        .description("Refresh token lookups answered by the in-memory index")
+        .tag("result", "rejected")
+        .register(registry);
+    FunctionCounter.builder("auth.refresh_token.index", checked, LongAdder::doubleValue)
+        .description("Refresh token lookups answered by the in-memory index")
+        .tag("result", "checked")
+        .register(registry);
+    FunctionCounter.builder("auth.refresh_token.index", falsePositives, LongAdder::doubleValue)
+        .description("Refresh token lookups answered by the in-memory index")
+        .tag("result", "false_positive")
+        .register(registry);
+    Gauge.builder("auth.refresh_token.index.false_positive_rate", this, index -> index.rate())
+        .description("Estimated chance that the filter lets an unknown token through")
+        .register(registry);
+  }
+
+  private double rate() {
+    BloomFilter current = filter;
+    return current == null ? Double.NaN : current.falsePositiveRate();
+  }
+
+  private static byte[] digest(String token) {
+    try {
+      return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+
+  private static String encode(byte[] digest) {
+    return Base64.getEncoder().encodeToString(digest);
+  }
+
+  /**
+   * Bloom filter over SHA-256 digests, deriving its bit positions from the first two 64-bit words
+   * of the digest.
+   */
+  private static final class BloomFilter {
+    private final AtomicLongArray words;
+    private final long bits;
+    private final int hashes;
+
+    BloomFilter(long expectedItems, double falsePositiveRate) {
+      double ln2 = Math.log(2);
+      long size = (long) Math.ceil(-expectedItems * Math.log(falsePositiveRate) / (ln2 * ln2));
+      this.words = new AtomicLongArray((int) ((size + 63) / 64));
+      this.bits = words.length() * 64L;
+      this.hashes = Math.max(1, (int) Math.round((double) bits / expectedItems * ln2));
+    }
+
+    void add(byte[] digest) {
+      ByteBuffer buffer = ByteBuffer.wrap(digest);
+      long h1 = buffer.getLong();
+      long h2 = buffer.getLong();
+      for (int i = 0; i < hashes; i++) {
+        long bit = Math.floorMod(h1 + i * h2, bits);
+        int word = (int) (bit >>> 6);
+        long mask = 1L << bit;
+        long current;
+        do {
+          current = words.get(word);
+        } while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask));
+      }
+    }
+
+    boolean mightContain(byte[] digest) {
+      ByteBuffer buffer = ByteBuffer.wrap(digest);
+      long h1 = buffer.getLong();
+      long h2 = buffer.getLong();
+      for (int i = 0; i < hashes; i++) {
+        long bit = Math.floorMod(h1 + i * h2, bits);
+        if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    /** Chance that every bit of an unknown token is set, given how many bits are set now. */
+    double falsePositiveRate() {
+      long set = 0;
+      for (int i = 0; i < words.length(); i++) {
+        set += Long.bitCount(words.get(i));
+      }
+      return Math.pow((double) set / bits, hashes);
+    }
+  }
+}
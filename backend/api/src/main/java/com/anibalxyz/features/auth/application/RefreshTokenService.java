@@ -1,19 +1,44 @@
 package com.anibalxyz.features.auth.application;
 
 import com.anibalxyz.core.Result;
+import com.anibalxyz.features.auth.application.env.RefreshTokenIndexEnvironment;
 import com.anibalxyz.features.auth.domain.RefreshToken;
 import com.anibalxyz.features.auth.domain.RefreshTokenRepository;
 import com.anibalxyz.features.auth.domain.error.InvalidRefreshTokenError;
 import com.anibalxyz.features.users.domain.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import java.time.*;
 import java.util.Optional;
 import java.util.UUID;
 
-public class RefreshTokenService {
+/**
+ * Issues, verifies and revokes refresh tokens.
+ *
+ * <p>Once {@link #loadIndex()} has run, unknown and revoked tokens are rejected from an in-memory
+ * index before reaching the database, see {@link RefreshTokenIndex}. Revocations only reach the
+ * index once their transaction commits, so a rolled back one leaves the token usable.
+ */
+public class RefreshTokenService implements MeterBinder {
   private final RefreshTokenRepository refreshTokenRepository;
+  private final RefreshTokenIndex index;
 
-  public RefreshTokenService(RefreshTokenRepository refreshTokenRepository) {
+  public RefreshTokenService(
+      RefreshTokenRepository refreshTokenRepository, RefreshTokenIndexEnvironment env) {
     this.refreshTokenRepository = refreshTokenRepository;
+    this.index = new RefreshTokenIndex(env.REFRESH_TOKEN_INDEX_SINGLE_INSTANCE());
+  }
+
+  /** Loads every stored token into the in-memory index. */
+  public int loadIndex() {
+    var tokens = refreshTokenRepository.findAllStates();
+    index.load(tokens);
+    return tokens.size();
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    index.bindTo(registry);
   }
 
   /**
@@ -21,21 +46,43 @@ public class RefreshTokenService {
    * current window.
    */
   public RefreshToken createRefreshToken(User user, Instant expiryDate) {
-    return refreshTokenRepository.save(
-        new RefreshToken(null, UUID.randomUUID().toString(), user, expiryDate, false));
+    RefreshToken refreshToken =
+        refreshTokenRepository.save(
+            new RefreshToken(null, UUID.randomUUID().toString(), user, expiryDate, false));
+    index.added(refreshToken.token());
+    return refreshToken;
   }
 
+  /**
+   * Revokes the token and issues a new one for the same user.
+   *
+   * <p>The token is revoked only if it still is not, so when the same token is rotated twice at
+   * once, only the first rotation succeeds and the other one fails as revoked.
+   */
   public Result<RefreshToken, InvalidRefreshTokenError> verifyAndRotate(
       String token, Instant now, Instant expiryDate) {
     return verifyRefreshToken(token, now)
-        .onSuccess(oldToken -> refreshTokenRepository.save(oldToken.withRevoked(true)))
-        .map(oldToken -> createRefreshToken(oldToken.user(), expiryDate));
+        .flatMap(
+            oldToken -> {
+              if (!refreshTokenRepository.revoke(oldToken.token())) {
+                return Result.failure(InvalidRefreshTokenError.revoked());
+              }
+              refreshTokenRepository.afterCommit(
+                  () -> index.revoked(oldToken.token(), oldToken.expiryDate()));
+              return Result.success(createRefreshToken(oldToken.user(), expiryDate));
+            });
   }
 
   public Result<RefreshToken, InvalidRefreshTokenError> verifyRefreshToken(
       String token, Instant now) {
+    InvalidRefreshTokenError rejected = index.reject(token, now);
+    if (rejected != null) {
+      return Result.failure(rejected);
+    }
+
     Optional<RefreshToken> found = refreshTokenRepository.findByToken(token);
     if (found.isEmpty()) {
+      index.notFound();
       return Result.failure(InvalidRefreshTokenError.notFound());
     }
 
@@ -59,12 +106,8 @@ public class RefreshTokenService {
   public void revokeToken(String token) {
     if (token == null || token.isBlank()) return;
 
-    refreshTokenRepository
-        .findByToken(token)
-        .ifPresent((refreshToken) -> refreshTokenRepository.save(refreshToken.withRevoked(true)));
-  }
-
-  public int cleanupExpiredTokens() {
-    return refreshTokenRepository.deleteExpiredTokens();
+    if (refreshTokenRepository.revoke(token)) {
+      refreshTokenRepository.afterCommit(() -> index.revoked(token, null));
+    }
   }
 }
@@ -0,0 +1,105 @@
+package com.anibalxyz.features.auth.application;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Claims of tokens whose signature was already verified, so that a client sending the same token
+ * on every request only pays for the HMAC once.
+ *
+ * <p>Entries are keyed by a SHA-256 digest of the token, so raw tokens are not kept around, and
+ * expire with the token itself: outside its {@code nbf} to {@code exp} window a lookup misses and
+ * the token goes through full validation again, which rejects it. At most {@link #MAX_ENTRIES}
+ * tokens are held in access order; caching one more evicts the least recently used, so a full cache
+ * costs no more per request than an empty one.
+ */
+final class VerifiedClaimsCache implements MeterBinder {
+  static final int MAX_ENTRIES = 10_000;
+
+  private final Clock clock;
+  private final Map<String, Entry> entries =
+      Collections.synchronizedMap(
+          new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+              return size() > MAX_ENTRIES;
+            }
+          });
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  VerifiedClaimsCache(Clock clock) {
+    this.clock = clock;
+  }
+
+  /**
+   * @return the claims of the token if it was verified before and has not expired, {@code null}
+   *     otherwise
+   */
+  Claims get(String token) {
+    String key = digest(token);
+    Entry entry = entries.get(key);
+    if (entry == null) {
+      misses.increment();
+      return null;
+    }
+    Instant now = clock.instant();
+    if (!now.isBefore(entry.expiresAt())) {
+      entries.remove(key, entry);
+      misses.increment();
+      return null;
+    }
+    if (entry.notBefore() != null && now.isBefore(entry.notBefore())) {
+      misses.increment();
+      return null;
+    }
+    hits.increment();
+    return entry.claims();
+  }
+
+  /** Caches the claims of a verified token until it expires. Tokens without expiry are skipped. */
+  void put(String token, Claims claims) {
+    if (claims.getExpiration() == null) {
+      return;
+    }
+    Instant expiresAt = claims.getExpiration().toInstant();
+    Instant notBefore = claims.getNotBefore() == null ? null : claims.getNotBefore().toInstant();
+    entries.put(digest(token), new Entry(claims, notBefore, expiresAt));
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    FunctionCounter.builder("auth.jwt.claims.cache", hits, LongAdder::doubleValue)
+        .description("JWT validations answered from the verified claims cache")
+        .tag("result", "hit")
+        .register(registry);
+    FunctionCounter.builder("auth.jwt.claims.cache", misses, LongAdder::doubleValue)
+        .description("JWT validations answered from the verified claims cache")
+        .tag("result", "miss")
+        .register(registry);
+  }
+
+  private static String digest(String token) {
+    try {
+      byte[] hash =
+          MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+      return Base64.getEncoder().encodeToString(hash);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+
+  private record Entry(Claims claims, Instant notBefore, Instant expiresAt) {}
+}
@@ -0,0 +1,10 @@
+package com.anibalxyz.features.auth.application.env;
+
+public interface RefreshTokenIndexEnvironment {
+  /**
+   * Whether this process issues every refresh token, so that a token the in-memory index has never
+   * seen can be rejected without a database lookup. Must stay off when several instances share the
+   * database.
+   */
+  boolean REFRESH_TOKEN_INDEX_SINGLE_INSTANCE();
+}
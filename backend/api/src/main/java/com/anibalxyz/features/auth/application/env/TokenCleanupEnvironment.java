@@ -0,0 +1,11 @@
+package com.anibalxyz.features.auth.application.env;
+
+import java.time.Duration;
+
+public interface TokenCleanupEnvironment {
+  /** Maximum number of expired refresh tokens deleted per transaction. */
+  int REFRESH_TOKEN_CLEANUP_BATCH_SIZE();
+
+  /** Pause between two cleanup batches, letting other transactions through. */
+  Duration REFRESH_TOKEN_CLEANUP_PAUSE();
+}
@@ -1,5 +1,7 @@
 package com.anibalxyz.features.auth.domain;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 public interface RefreshTokenRepository {
@@ -7,5 +9,30 @@ public interface RefreshTokenRepository {
 
   RefreshToken save(RefreshToken refreshToken);
 
-  int deleteExpiredTokens();
+  /**
+   * Revokes the token unless it already is.
+   *
+   * @return {@code true} if this call revoked it, {@code false} if it does not exist or was already
+   *     revoked
+   */
+  boolean revoke(String token);
+
+  /**
+   * Deletes up to {@code batchSize} tokens that expired before {@code now}, skipping tokens locked
+   * by another transaction.
+   *
+   * @return the number of tokens deleted
+   */
+  int deleteExpiredBatch(Instant now, int batchSize);
+
+  /**
+   * Runs {@code action} once the current transaction commits, and never if it rolls back. Meant for
+   * process-wide state that has to follow what the database holds.
+   */
+  void afterCommit(Runnable action);
+
+  /** Lists every stored token without its user. */
+  List<TokenState> findAllStates();
+
+  record TokenState(String token, Instant expiryDate, boolean revoked) {}
 }
@@ -2,12 +2,34 @@ package com.anibalxyz.features.auth.infra;
 
 import com.anibalxyz.features.auth.domain.RefreshToken;
 import com.anibalxyz.features.auth.domain.RefreshTokenRepository;
+import com.anibalxyz.features.users.infra.UserEntity;
 import com.anibalxyz.persistence.EntityManagerProvider;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.NoResultException;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import java.sql.PreparedStatement;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
 import java.util.Optional;
+import org.hibernate.Session;
 
 public class JpaRefreshTokenRepository implements RefreshTokenRepository {
+  /**
+   * Picks the batch through the {@code expiry_date} index. {@code SKIP LOCKED} leaves tokens that a
+   * refresh is rotating right now to a later batch instead of waiting for them.
+   */
+  private static final String DELETE_EXPIRED_BATCH_SQL =
+      """
+      DELETE FROM refresh_tokens
+      WHERE id IN (
+        SELECT id FROM refresh_tokens
+        WHERE expiry_date < ?
+        ORDER BY expiry_date
+        LIMIT ?
+        FOR UPDATE SKIP LOCKED)
+      """;
 
   private final EntityManagerProvider provider;
 
@@ -25,7 +47,7 @@ public class JpaRefreshTokenRepository implements RefreshTokenRepository {
     try {
       RefreshTokenEntity entity =
           em().createQuery(
-                  "SELECT rt FROM RefreshTokenEntity rt WHERE rt.token = :token",
+                  "SELECT rt FROM RefreshTokenEntity rt JOIN FETCH rt.user WHERE rt.token = :token",
                   RefreshTokenEntity.class)
               .setParameter("token", token)
               .getSingleResult();
@@ -38,16 +60,76 @@ public class JpaRefreshTokenRepository implements RefreshTokenRepository {
   @Override
   @SuppressWarnings("resource")
   public RefreshToken save(RefreshToken refreshToken) {
-    RefreshTokenEntity entity = em().merge(RefreshTokenEntity.fromDomain(refreshToken));
+    if (refreshToken.id() != null) {
+      RefreshTokenEntity entity = em().merge(RefreshTokenEntity.fromDomain(refreshToken));
+      em().flush();
+      return entity.toDomain();
+    }
+    // A new token only needs the user's key: a reference spares loading and merging the user
+    UserEntity user = em().getReference(UserEntity.class, refreshToken.user().id());
+    RefreshTokenEntity entity = RefreshTokenEntity.fromDomain(refreshToken, user);
+    em().persist(entity);
     em().flush(); // Ensure the entity is persisted and ID is generated before returning
-    return entity.toDomain();
+    return new RefreshToken(
+        entity.id(),
+        refreshToken.token(),
+        refreshToken.user(),
+        refreshToken.expiryDate(),
+        refreshToken.revoked());
   }
 
   @Override
   @SuppressWarnings("resource")
-  public int deleteExpiredTokens() {
+  public boolean revoke(String token) {
     return em().createQuery(
-            "DELETE FROM RefreshTokenEntity rt WHERE rt.expiryDate < CURRENT_TIMESTAMP")
-        .executeUpdate();
+                "UPDATE RefreshTokenEntity rt SET rt.revoked = true"
+                    + " WHERE rt.token = :token AND rt.revoked = false")
+            .setParameter("token", token)
+            .executeUpdate()
+        > 0;
+  }
+
+  @Override
+  @SuppressWarnings("resource")
+  public int deleteExpiredBatch(Instant now, int batchSize) {
+    return em().unwrap(Session.class)
+        .doReturningWork(
+            conn -> {
+              try (PreparedStatement ps = conn.prepareStatement(DELETE_EXPIRED_BATCH_SQL)) {
+                ps.setObject(1, now.atOffset(ZoneOffset.UTC));
+                ps.setInt(2, batchSize);
+                return ps.executeUpdate();
+              }
+            });
+  }
+
+  @Override
+  @SuppressWarnings("resource")
+  public void afterCommit(Runnable action) {
+    em().unwrap(Session.class)
+        .getTransaction()
+        .registerSynchronization(
+            new Synchronization() {
+              @Override
+              public void beforeCompletion() {}
+
+              @Override
+              public void afterCompletion(int status) {
+                if (status == Status.STATUS_COMMITTED) {
+                  action.run();
+                }
+              }
+            });
+  }
+
+  @Override
+  @SuppressWarnings("resource")
+  public List<TokenState> findAllStates() {
+    return em()
+        .createQuery(
+            "SELECT rt.token, rt.expiryDate, rt.revoked FROM RefreshTokenEntity rt", Object[].class)
+        .getResultStream()
+        .map(row -> new TokenState((String) row[0], (Instant) row[1], (Boolean) row[2]))
+        .toList();
   }
 }
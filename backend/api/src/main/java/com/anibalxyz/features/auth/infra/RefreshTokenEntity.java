@@ -37,15 +37,27 @@ public class RefreshTokenEntity {
   protected RefreshTokenEntity() {}
 
   public static RefreshTokenEntity fromDomain(RefreshToken domain) {
+    return fromDomain(domain, UserEntity.fromDomain(domain.user()));
+  }
+
+  /**
+   * Builds the entity around the given user, such as a reference to the managed one, instead of
+   * copying the user out of the domain token.
+   */
+  public static RefreshTokenEntity fromDomain(RefreshToken domain, UserEntity user) {
     var entity = new RefreshTokenEntity();
     entity.id = domain.id();
     entity.token = domain.token();
-    entity.user = UserEntity.fromDomain(domain.user());
+    entity.user = user;
     entity.expiryDate = domain.expiryDate();
     entity.revoked = domain.revoked();
     return entity;
   }
 
+  public Long id() {
+    return id;
+  }
+
   public RefreshToken toDomain() {
     return new RefreshToken(id, token, user.toDomain(), expiryDate, revoked);
   }
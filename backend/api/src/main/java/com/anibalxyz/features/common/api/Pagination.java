@@ -0,0 +1,78 @@
+package com.anibalxyz.features.common.api;
+
+import io.javalin.http.BadRequestResponse;
+import io.javalin.http.Context;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Query parameters of cursor-paginated listings.
+ *
+ * <p>A cursor carries the sort key of the last item of a page, so the next page is read by seeking
+ * past it. Clients must treat it as opaque: it is the Base64url encoding of the key parts and its
+ * layout may change at any time.
+ */
+public final class Pagination {
+  public static final int DEFAULT_LIMIT = 50;
+  public static final int MAX_LIMIT = 200;
+
+  private static final String SEPARATOR = "|";
+
+  private Pagination() {}
+
+  /**
+   * @return the {@code limit} query parameter, {@link #DEFAULT_LIMIT} when absent
+   * @throws BadRequestResponse if the limit is not a number between 1 and {@link #MAX_LIMIT}.
+   */
+  public static int limit(Context ctx) throws BadRequestResponse {
+    String limit = ctx.queryParam("limit");
+    if (limit == null) {
+      return DEFAULT_LIMIT;
+    }
+    int value;
+    try {
+      value = Integer.parseInt(limit);
+    } catch (NumberFormatException e) {
+      value = 0;
+    }
+    if (value < 1 || value > MAX_LIMIT) {
+      throw new BadRequestResponse(
+          "Invalid limit. Must be a number between 1 and " + MAX_LIMIT + ".");
+    }
+    return value;
+  }
+
+  /**
+   * Decodes the {@code cursor} query parameter.
+   *
+   * @param parser builds the key from its parts, throwing if they do not make one
+   * @return the key to seek past, or {@code null} when the first page is requested
+   * @throws BadRequestResponse if the cursor is malformed or was not issued by this listing.
+   */
+  public static <K> K after(Context ctx, Function<String[], K> parser) throws BadRequestResponse {
+    String cursor = ctx.queryParam("cursor");
+    if (cursor == null) {
+      return null;
+    }
+    try {
+      String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      return parser.apply(decoded.split("\\" + SEPARATOR, -1));
+    } catch (RuntimeException e) {
+      throw new BadRequestResponse("Invalid cursor.");
+    }
+  }
+
+  /**
+   * @return the cursor pointing past an item with the given key parts
+   */
+  public static String cursor(Object... keyParts) {
+    String key =
+        Arrays.stream(keyParts).map(String::valueOf).collect(Collectors.joining(SEPARATOR));
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(key.getBytes(StandardCharsets.UTF_8));
+  }
+}
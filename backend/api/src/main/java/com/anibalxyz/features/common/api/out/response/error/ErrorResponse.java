@@ -37,6 +37,10 @@ import java.util.Map;
  * deserialization without custom deserializers. The public API accepts {@link ErrorCode} instances
  * only, ensuring type safety at construction time while remaining transparent to callers.
  *
+ * <p>Every modifier returns a copy, sharing the extension fields of the original, which are never
+ * modified once built. A response can therefore be built once and reused, with only {@link
+ * #instance(String)} set per request.
+ *
  * <p>Usage examples:
  *
  * <pre>{@code
@@ -148,8 +152,7 @@ public record ErrorResponse(
    * @return a new {@code ErrorResponse} for method chaining
    */
   public ErrorResponse type(String type) {
-    return new ErrorResponse(
-        type, title, detail, code, instance, errors, new LinkedHashMap<>(extensions));
+    return new ErrorResponse(type, title, detail, code, instance, errors, extensions);
   }
 
   /**
@@ -157,8 +160,7 @@ public record ErrorResponse(
    * @return a new {@code ErrorResponse} for method chaining
    */
   public ErrorResponse detail(String detail) {
-    return new ErrorResponse(
-        type, title, detail, code, instance, errors, new LinkedHashMap<>(extensions));
+    return new ErrorResponse(type, title, detail, code, instance, errors, extensions);
   }
 
   /**
@@ -166,8 +168,7 @@ public record ErrorResponse(
    * @return a new {@code ErrorResponse} for method chaining
    */
   public ErrorResponse instance(String instance) {
-    return new ErrorResponse(
-        type, title, detail, code, instance, errors, new LinkedHashMap<>(extensions));
+    return new ErrorResponse(type, title, detail, code, instance, errors, extensions);
   }
 
   /**
@@ -175,8 +176,7 @@ public record ErrorResponse(
    * @return a new {@code ErrorResponse} for method chaining
    */
   public ErrorResponse errors(List<ErrorDetail> errors) {
-    return new ErrorResponse(
-        type, title, detail, code, instance, errors, new LinkedHashMap<>(extensions));
+    return new ErrorResponse(type, title, detail, code, instance, errors, extensions);
   }
 
   /**
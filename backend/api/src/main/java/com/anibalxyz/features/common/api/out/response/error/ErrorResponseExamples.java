@@ -10,6 +10,14 @@ public final class ErrorResponseExamples {
               "detail": "Invalid ID format. Must be a number."
             }""";
 
+  public static final String INVALID_CURSOR =
+      """
+            {
+              "title": "Invalid or malformed request",
+              "code": "BAD_REQUEST",
+              "detail": "Invalid cursor."
+            }""";
+
   public static final String RESOURCE_NOT_FOUND =
       """
             {
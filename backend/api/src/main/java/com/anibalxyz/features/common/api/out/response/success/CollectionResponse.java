@@ -50,6 +50,18 @@ public class CollectionResponse<T extends SuccessResponse> implements SuccessRes
     return new CollectionResponse<>(safeData, new ResponseMeta(pagination));
   }
 
+  /**
+   * Generates cursor-based metadata for one page of a keyset-paginated listing.
+   *
+   * @param next the cursor of the following page, or {@code null} if this is the last one
+   * @param pageSize the number of items requested per page
+   */
+  public static <T extends SuccessResponse> CollectionResponse<T> ofCursorPage(
+      List<T> data, String next, int pageSize) {
+    var pagination = new CursorPaginationMeta(next, pageSize);
+    return new CollectionResponse<>(data, new ResponseMeta(pagination));
+  }
+
   @JsonGetter("data")
   @OpenApiName("data")
   public List<T> data() {
@@ -0,0 +1,36 @@
+package com.anibalxyz.features.reconciliation.api;
+
+import com.anibalxyz.features.reconciliation.api.out.ReconciliationRuleResponse;
+import com.anibalxyz.features.reconciliation.api.out.ReconciliationRunResponse;
+import com.anibalxyz.features.reconciliation.application.out.ReconciliationSummary;
+import com.anibalxyz.features.reconciliation.application.out.RuleSummary;
+
+/** Utility class for mapping reconciliation results to API response DTOs. */
+public class ReconciliationMapper {
+
+  private ReconciliationMapper() {}
+
+  public static ReconciliationRunResponse toRunResponse(ReconciliationSummary summary) {
+    return new ReconciliationRunResponse(
+        summary.mode(),
+        summary.bankCandidates(),
+        summary.systemCandidates(),
+        summary.exactMatches(),
+        summary.ruleMatches(),
+        summary.referenceMatches(),
+        summary.toleranceMatches(),
+        summary.groupMatches(),
+        summary.rules().stream().map(ReconciliationMapper::toRuleResponse).toList(),
+        summary.elapsed().toMillis());
+  }
+
+  private static ReconciliationRuleResponse toRuleResponse(RuleSummary rule) {
+    return new ReconciliationRuleResponse(
+        rule.ruleId(),
+        rule.sourceId(),
+        rule.name(),
+        rule.strategy(),
+        rule.matches(),
+        rule.elapsed().toMillis());
+  }
+}
@@ -0,0 +1,25 @@
+package com.anibalxyz.features.reconciliation.api;
+
+import static io.javalin.apibuilder.ApiBuilder.*;
+
+import com.anibalxyz.features.common.api.Role;
+import com.anibalxyz.features.reconciliation.api.handlers.RunReconciliationHandler;
+import com.anibalxyz.server.config.modules.startup.StartupConfig;
+import io.javalin.config.JavalinConfig;
+
+public class ReconciliationRoutes implements StartupConfig {
+  private final RunReconciliationHandler runReconciliationHandler;
+
+  public ReconciliationRoutes(RunReconciliationHandler runReconciliationHandler) {
+    this.runReconciliationHandler = runReconciliationHandler;
+  }
+
+  @Override
+  public void apply(JavalinConfig cfg) {
+    cfg.routes.apiBuilder(
+        () ->
+            path(
+                "/api/reconciliations",
+                () -> post("/run", runReconciliationHandler, Role.AUTHENTICATED)));
+  }
+}
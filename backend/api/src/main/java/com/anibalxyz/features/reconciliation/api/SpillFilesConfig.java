@@ -0,0 +1,22 @@
+package com.anibalxyz.features.reconciliation.api;
+
+import com.anibalxyz.features.reconciliation.application.SpillingMatcher;
+import com.anibalxyz.server.config.modules.startup.StartupConfig;
+import io.javalin.config.JavalinConfig;
+
+/**
+ * Ties the spill files of large reconciliation runs to the server lifecycle, deleting them when the
+ * server stops instead of leaving them on disk.
+ */
+public class SpillFilesConfig implements StartupConfig {
+  private final SpillingMatcher spillingMatcher;
+
+  public SpillFilesConfig(SpillingMatcher spillingMatcher) {
+    this.spillingMatcher = spillingMatcher;
+  }
+
+  @Override
+  public void apply(JavalinConfig cfg) {
+    cfg.events.serverStopping(spillingMatcher::shutdown);
+  }
+}
@@ -0,0 +1,25 @@
+package com.anibalxyz.features.reconciliation.api.handlers;
+
+import com.anibalxyz.features.reconciliation.api.ReconciliationMapper;
+import com.anibalxyz.features.reconciliation.api.openapi.RunReconciliationEndpoint;
+import com.anibalxyz.features.reconciliation.application.ReconcileTransactions;
+import com.anibalxyz.features.reconciliation.application.out.ReconciliationSummary;
+import io.javalin.http.Context;
+import io.javalin.http.Handler;
+import org.jetbrains.annotations.NotNull;
+
+public class RunReconciliationHandler implements Handler, RunReconciliationEndpoint {
+  private final ReconcileTransactions reconcileTransactions;
+
+  public RunReconciliationHandler(ReconcileTransactions reconcileTransactions) {
+    this.reconcileTransactions = reconcileTransactions;
+  }
+
+  @Override
+  public void handle(@NotNull Context ctx) {
+    boolean full = Boolean.parseBoolean(ctx.queryParam("full"));
+    ReconciliationSummary summary = reconcileTransactions.execute(full);
+
+    ctx.status(200).json(ReconciliationMapper.toRunResponse(summary));
+  }
+}
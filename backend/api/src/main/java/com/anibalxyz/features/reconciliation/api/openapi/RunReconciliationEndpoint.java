@@ -0,0 +1,60 @@
+package com.anibalxyz.features.reconciliation.api.openapi;
+
+import com.anibalxyz.features.common.api.out.response.error.ErrorResponse;
+import com.anibalxyz.features.common.api.out.response.error.ErrorResponseExamples;
+import com.anibalxyz.features.reconciliation.api.out.ReconciliationRunResponse;
+import io.javalin.http.Context;
+import io.javalin.openapi.*;
+
+public interface RunReconciliationEndpoint {
+
+  @OpenApi(
+      summary = "Run reconciliation",
+      description =
+          "Matches every unmatched BANK transaction against the unmatched SYSTEM transactions"
+              + " and stores the resulting pairs. Exact matches on currency, amount and reference"
+              + " are tried first, then the match rules stored for each bank source in priority"
+              + " order, reported one by one; the remaining rows are then matched within the"
+              + " configured amount and date tolerances, preferring rows whose references are alike"
+              + " once bank prefixes, casing and punctuation are set aside, and recording their"
+              + " discrepancies. Last, single transactions are grouped with several transactions of"
+              + " the other side whose amounts add up to theirs, such as a bank settlement covering"
+              + " many ledger entries. Full runs over many transactions match the exact and"
+              + " tolerance pairs inside the database first. Runs are incremental by default: only"
+              + " transactions uploaded since the previous run are examined, against the open items"
+              + " kept in memory. A full run is done when that state is missing or stale, or when"
+              + " requested with `full=true`.",
+      operationId = "runReconciliation",
+      path = "/reconciliations/run",
+      methods = HttpMethod.POST,
+      tags = {"Reconciliations"},
+      security = @OpenApiSecurity(name = "bearerAuth"),
+      queryParams = {
+        @OpenApiParam(
+            name = "full",
+            type = Boolean.class,
+            description = "Re-examine every unmatched transaction instead of only the new ones.",
+            example = "false")
+      },
+      responses = {
+        @OpenApiResponse(
+            status = "200",
+            description = "Summary of the reconciliation run.",
+            content = @OpenApiContent(from = ReconciliationRunResponse.class)),
+        @OpenApiResponse(
+            status = "401",
+            description = "Authentication information is missing or invalid.",
+            content =
+                @OpenApiContent(
+                    from = ErrorResponse.class,
+                    example = ErrorResponseExamples.UNAUTHORIZED)),
+        @OpenApiResponse(
+            status = "500",
+            description = "Internal server error.",
+            content =
+                @OpenApiContent(
+                    from = ErrorResponse.class,
+                    example = ErrorResponseExamples.INTERNAL_SERVER_ERROR))
+      })
+  void handle(Context ctx);
+}
@@ -0,0 +1,12 @@
+package com.anibalxyz.features.reconciliation.api.out;
+
+import com.anibalxyz.features.reconciliation.domain.RuleStrategy;
+import io.javalin.openapi.OpenApiExample;
+
+public record ReconciliationRuleResponse(
+    @OpenApiExample("3") int ruleId,
+    @OpenApiExample("1") int sourceId,
+    @OpenApiExample("invoice-in-description") String name,
+    @OpenApiExample("HASH_JOIN") RuleStrategy strategy,
+    @OpenApiExample("12000") int matches,
+    @OpenApiExample("85") long elapsedMs) {}
@@ -0,0 +1,19 @@
+package com.anibalxyz.features.reconciliation.api.out;
+
+import com.anibalxyz.features.common.api.out.response.success.SuccessResponse;
+import com.anibalxyz.features.reconciliation.domain.ReconciliationMode;
+import io.javalin.openapi.OpenApiExample;
+import java.util.List;
+
+public record ReconciliationRunResponse(
+    @OpenApiExample("INCREMENTAL") ReconciliationMode mode,
+    @OpenApiExample("2000000") int bankCandidates,
+    @OpenApiExample("2000000") int systemCandidates,
+    @OpenApiExample("1850000") int exactMatches,
+    @OpenApiExample("30000") int ruleMatches,
+    @OpenApiExample("45000") int referenceMatches,
+    @OpenApiExample("120000") int toleranceMatches,
+    @OpenApiExample("3500") int groupMatches,
+    List<ReconciliationRuleResponse> rules,
+    @OpenApiExample("4200") long elapsedMs)
+    implements SuccessResponse {}
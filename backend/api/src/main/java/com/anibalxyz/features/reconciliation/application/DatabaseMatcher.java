@@ -0,0 +1,60 @@
+package com.anibalxyz.features.reconciliation.application;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+import com.anibalxyz.features.reconciliation.application.env.ReconciliationEnvironment;
+import com.anibalxyz.features.reconciliation.domain.DatabaseMatchOutcome;
+import com.anibalxyz.features.reconciliation.domain.ReconciliationRepository;
+import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Matches full runs over more than {@code RECONCILIATION_DATABASE_THRESHOLD} unmatched transactions
+ * inside the database, through {@link ReconciliationRepository#matchInDatabase(long, int,
+ * boolean)}, instead of loading every row to pair most of them by key or amount.
+ *
+ * <p>Only the exact and tolerance stages run there. What they leave, usually a small share of the
+ * run, goes through the regular stages afterwards, which also settle the tolerance picks the
+ * database left unmatched because another BANK row was closer to the same SYSTEM row. Match rules
+ * and the reference stage run between exact and tolerance in memory, so when either is configured
+ * only the exact stage runs in the database, and a run pairs the same rows whatever its size.
+ */
+public class DatabaseMatcher {
+  private static final Logger log = LoggerFactory.getLogger(DatabaseMatcher.class);
+
+  private final ReconciliationEnvironment env;
+
+  public DatabaseMatcher(ReconciliationEnvironment env) {
+    this.env = env;
+  }
+
+  public boolean isEnabled() {
+    return env.RECONCILIATION_DATABASE_THRESHOLD() > 0;
+  }
+
+  /** Returns whether a full run over {@code candidates} transactions is matched in the database. */
+  public boolean shouldMatch(long candidates) {
+    return isEnabled() && candidates > env.RECONCILIATION_DATABASE_THRESHOLD();
+  }
+
+  /**
+   * Runs the exact stage in the database, which also saves its pairs, and the tolerance stage too
+   * unless {@code stagesBeforeTolerance} says rules or references must see the rows first.
+   */
+  public DatabaseMatchOutcome match(
+      ReconciliationRepository repository, boolean stagesBeforeTolerance) {
+    long start = System.nanoTime();
+    DatabaseMatchOutcome outcome =
+        repository.matchInDatabase(
+            env.RECONCILIATION_AMOUNT_TOLERANCE_CENTS(),
+            env.RECONCILIATION_DATE_TOLERANCE_DAYS(),
+            !stagesBeforeTolerance);
+    log.info(
+        "Database matching finished",
+        kv("exact_matches", outcome.exactMatches()),
+        kv("tolerance_matches", outcome.toleranceMatches()),
+        kv("elapsed_ms", Duration.ofNanos(System.nanoTime() - start).toMillis()));
+    return outcome;
+  }
+}
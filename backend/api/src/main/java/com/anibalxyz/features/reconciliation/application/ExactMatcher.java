@@ -0,0 +1,58 @@
+package com.anibalxyz.features.reconciliation.application;
+
+import com.anibalxyz.features.reconciliation.domain.MatchCandidate;
+import com.anibalxyz.features.reconciliation.domain.MatchOutcome;
+import com.anibalxyz.features.reconciliation.domain.MatchPair;
+import com.anibalxyz.features.transactions.domain.Currency;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hash-join matcher pairing BANK and SYSTEM transactions that share currency, amount and reference.
+ *
+ * <p>The SYSTEM side is indexed once and the BANK side probes it in a single pass, so a run costs
+ * O(n + m) instead of comparing every pair. When several SYSTEM rows share a key they are consumed
+ * in the order they were given, which is the transaction date order returned by the repository.
+ */
+public class ExactMatcher implements MatchStage {
+
+  @Override
+  public MatchOutcome match(List<MatchCandidate> bank, List<MatchCandidate> system) {
+    Map<Key, ArrayDeque<MatchCandidate>> index = HashMap.newHashMap(system.size());
+    for (MatchCandidate candidate : system) {
+      index.computeIfAbsent(Key.of(candidate), k -> new ArrayDeque<>(1)).addLast(candidate);
+    }
+
+    List<MatchPair> pairs = new ArrayList<>(Math.min(bank.size(), system.size()));
+    List<MatchCandidate> unmatchedBank = new ArrayList<>();
+    for (MatchCandidate candidate : bank) {
+      ArrayDeque<MatchCandidate> bucket = index.get(Key.of(candidate));
+      if (bucket == null || bucket.isEmpty()) {
+        unmatchedBank.add(candidate);
+        continue;
+      }
+      pairs.add(new MatchPair(candidate.id(), bucket.pollFirst().id()));
+    }
+
+    List<MatchCandidate> unmatchedSystem = new ArrayList<>(system.size() - pairs.size());
+    for (MatchCandidate candidate : system) {
+      ArrayDeque<MatchCandidate> bucket = index.get(Key.of(candidate));
+      // Buckets keep input order and are consumed from the head, so the leftovers surface here in
+      // the same order they were indexed
+      if (bucket.peekFirst() == candidate) {
+        unmatchedSystem.add(bucket.pollFirst());
+      }
+    }
+
+    return new MatchOutcome(pairs, unmatchedBank, unmatchedSystem);
+  }
+
+  record Key(Currency currency, long amountCents, String reference) {
+    static Key of(MatchCandidate candidate) {
+      return new Key(candidate.currency(), candidate.amountCents(), candidate.reference());
+    }
+  }
+}
@@ -0,0 +1,288 @@
+package com.anibalxyz.features.reconciliation.application;
+
+import com.anibalxyz.features.reconciliation.application.env.ReconciliationEnvironment;
+import com.anibalxyz.features.reconciliation.domain.GroupMatchOutcome;
+import com.anibalxyz.features.reconciliation.domain.MatchCandidate;
+import com.anibalxyz.features.reconciliation.domain.MatchGroup;
+import com.anibalxyz.features.transactions.domain.Currency;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Many-to-one matcher grouping several transactions of one source type whose amounts add up to a
+ * single transaction of the other, such as a bank settlement covering many ledger entries.
+ *
+ * <p>Every new BANK row is tried as an anchor against the SYSTEM rows, then every new SYSTEM row
+ * against the BANK rows. Counterparts must share the anchor currency and sign and lie within the
+ * group date window; only the closest ones by date are kept, up to the configured candidate budget.
+ * The subset search over them is a meet-in-the-middle: the subset sums of each half are enumerated,
+ * one half is sorted, and every sum of the other half looks up its complement with a binary
+ * search. With at most 32 candidates that is {@code 2^16} sums per half instead of {@code 2^32}
+ * subsets, and the per-anchor time budget abandons the search if it still runs long.
+ *
+ * <p>The closest total wins, by amount difference first and group size second; an exact total
+ * stops the search. Groups always have at least two members, single counterparts are left to the
+ * pair stages.
+ */
+public class GroupMatcher {
+  private static final Comparator<MatchCandidate> DATE_ORDER =
+      Comparator.comparingInt(MatchCandidate::epochDay).thenComparingInt(MatchCandidate::id);
+
+  /** Subset sums are packed above the member mask of a half, which takes at most 16 bits. */
+  private static final int MASK_BITS = 16;
+
+  private static final long MAX_PACKED_SUM = (Long.MAX_VALUE >> MASK_BITS) - 1;
+  private static final long NO_MATCH = -1;
+
+  private final ReconciliationEnvironment env;
+
+  public GroupMatcher(ReconciliationEnvironment env) {
+    this.env = env;
+  }
+
+  /**
+   * Groups the new candidates among themselves and against the open items of earlier runs. Open
+   * items are only used as members, never as anchors, since they were already tried as anchors
+   * when they were new.
+   */
+  public GroupMatchOutcome match(
+      List<MatchCandidate> newBank,
+      List<MatchCandidate> newSystem,
+      List<MatchCandidate> openBank,
+      List<MatchCandidate> openSystem) {
+    if (env.RECONCILIATION_GROUP_MAX_CANDIDATES() < 2
+        || (newBank.isEmpty() && newSystem.isEmpty())) {
+      return new GroupMatchOutcome(List.of(), newBank, newSystem, List.of());
+    }
+
+    Set<Integer> taken = new HashSet<>();
+    List<MatchGroup> groups = new ArrayList<>();
+    groupAnchors(newBank, Pool.of(newSystem, openSystem), taken, groups);
+    groupAnchors(newSystem, Pool.of(newBank, openBank), taken, groups);
+
+    List<MatchCandidate> matchedOpenItems = new ArrayList<>();
+    for (MatchCandidate candidate : openBank) {
+      if (taken.contains(candidate.id())) {
+        matchedOpenItems.add(candidate);
+      }
+    }
+    for (MatchCandidate candidate : openSystem) {
+      if (taken.contains(candidate.id())) {
+        matchedOpenItems.add(candidate);
+      }
+    }
+    return new GroupMatchOutcome(
+        groups, untaken(newBank, taken), untaken(newSystem, taken), matchedOpenItems);
+  }
+
+  private void groupAnchors(
+      List<MatchCandidate> anchors, Pool pool, Set<Integer> taken, List<MatchGroup> groups) {
+    long amountTolerance = env.RECONCILIATION_AMOUNT_TOLERANCE_CENTS();
+    int window = env.RECONCILIATION_GROUP_DATE_WINDOW_DAYS();
+    int maxCandidates = env.RECONCILIATION_GROUP_MAX_CANDIDATES();
+    long budgetNanos = env.RECONCILIATION_GROUP_TIME_BUDGET_MS() * 1_000_000L;
+
+    List<MatchCandidate> ordered = new ArrayList<>(anchors);
+    ordered.sort(DATE_ORDER);
+    for (MatchCandidate anchor : ordered) {
+      long target = Math.abs(anchor.amountCents());
+      if (taken.contains(anchor.id())
+          || target <= amountTolerance
+          || target >= MAX_PACKED_SUM - amountTolerance) {
+        continue;
+      }
+      List<MatchCandidate> candidates =
+          pool.candidatesFor(anchor, window, amountTolerance, maxCandidates, taken);
+      if (candidates.size() < 2) {
+        continue;
+      }
+      long[] amounts = new long[candidates.size()];
+      for (int i = 0; i < amounts.length; i++) {
+        amounts[i] = Math.abs(candidates.get(i).amountCents());
+      }
+      long mask =
+          searchSubset(amounts, target, amountTolerance, System.nanoTime() + budgetNanos);
+      if (mask == NO_MATCH) {
+        continue;
+      }
+
+      List<Integer> members = new ArrayList<>(Long.bitCount(mask));
+      long total = 0;
+      for (int i = 0; i < candidates.size(); i++) {
+        if ((mask & (1L << i)) != 0) {
+          MatchCandidate member = candidates.get(i);
+          members.add(member.id());
+          total += member.amountCents();
+          taken.add(member.id());
+        }
+      }
+      taken.add(anchor.id());
+      groups.add(new MatchGroup(anchor.id(), members, total - anchor.amountCents()));
+    }
+  }
+
+  /**
+   * Meet-in-the-middle subset-sum search over non-negative amounts.
+   *
+   * @return the bit mask of the chosen amounts, or {@link #NO_MATCH} when no subset of at least two
+   *     amounts lands within the tolerance of the target before the deadline
+   */
+  static long searchSubset(long[] amounts, long target, long tolerance, long deadlineNanos) {
+    int half = amounts.length / 2;
+    // Sums above the cap can never match, so they saturate instead of overflowing.
+    long cap = target + tolerance + 1;
+    long[] left = subsetSums(amounts, 0, half, cap);
+    long[] right = subsetSums(amounts, half, amounts.length - half, cap);
+    long[] packedRight = new long[right.length];
+    for (int mask = 0; mask < right.length; mask++) {
+      packedRight[mask] = (right[mask] << MASK_BITS) | mask;
+    }
+    Arrays.sort(packedRight);
+
+    long best = NO_MATCH;
+    long bestDiff = tolerance + 1;
+    int bestSize = Integer.MAX_VALUE;
+    for (int leftMask = 0; leftMask < left.length; leftMask++) {
+      if ((leftMask & 0xFF) == 0 && System.nanoTime() > deadlineNanos) {
+        return NO_MATCH;
+      }
+      long need = target - left[leftMask];
+      if (need < -tolerance) {
+        continue;
+      }
+      int from = lowerBound(packedRight, Math.max(0, need - tolerance) << MASK_BITS);
+      for (int i = from; i < packedRight.length; i++) {
+        long rightSum = packedRight[i] >>> MASK_BITS;
+        if (rightSum > need + tolerance) {
+          break;
+        }
+        int rightMask = (int) (packedRight[i] & ((1 << MASK_BITS) - 1));
+        int size = Integer.bitCount(leftMask) + Integer.bitCount(rightMask);
+        long diff = Math.abs(need - rightSum);
+        if (size < 2 || diff > bestDiff || (diff == bestDiff && size >= bestSize)) {
+          continue;
+        }
+        best = leftMask | ((long) rightMask << half);
+        bestDiff = diff;
+        bestSize = size;
+        if (diff == 0 && size == 2) {
+          return best;
+        }
+      }
+    }
+    return best;
+  }
+
+  private static long[] subsetSums(long[] amounts, int offset, int length, long cap) {
+    long[] sums = new long[1 << length];
+    for (int mask = 1; mask < sums.length; mask++) {
+      int lowest = Integer.numberOfTrailingZeros(mask);
+      sums[mask] = Math.min(cap, sums[mask & (mask - 1)] + amounts[offset + lowest]);
+    }
+    return sums;
+  }
+
+  private static int lowerBound(long[] sorted, long key) {
+    int index = Arrays.binarySearch(sorted, key);
+    if (index < 0) {
+      return -index - 1;
+    }
+    while (index > 0 && sorted[index - 1] == key) {
+      index--;
+    }
+    return index;
+  }
+
+  private static List<MatchCandidate> untaken(List<MatchCandidate> candidates, Set<Integer> taken) {
+    if (taken.isEmpty()) {
+      return candidates;
+    }
+    List<MatchCandidate> remaining = new ArrayList<>(candidates.size());
+    for (MatchCandidate candidate : candidates) {
+      if (!taken.contains(candidate.id())) {
+        remaining.add(candidate);
+      }
+    }
+    return remaining;
+  }
+
+  /** Counterpart rows grouped by currency and sorted by date, for windowed lookups. */
+  private static final class Pool {
+    private final Map<Currency, MatchCandidate[]> byCurrency = new EnumMap<>(Currency.class);
+
+    static Pool of(List<MatchCandidate> fresh, List<MatchCandidate> open) {
+      Map<Currency, List<MatchCandidate>> grouped = new EnumMap<>(Currency.class);
+      for (MatchCandidate candidate : fresh) {
+        grouped.computeIfAbsent(candidate.currency(), k -> new ArrayList<>()).add(candidate);
+      }
+      for (MatchCandidate candidate : open) {
+        grouped.computeIfAbsent(candidate.currency(), k -> new ArrayList<>()).add(candidate);
+      }
+      Pool pool = new Pool();
+      grouped.forEach(
+          (currency, rows) -> {
+            MatchCandidate[] sorted = rows.toArray(MatchCandidate[]::new);
+            Arrays.sort(sorted, DATE_ORDER);
+            pool.byCurrency.put(currency, sorted);
+          });
+      return pool;
+    }
+
+    /**
+     * @return the untaken rows that could be part of a group for the anchor, closest by date first
+     *     and capped at {@code maxCandidates}
+     */
+    List<MatchCandidate> candidatesFor(
+        MatchCandidate anchor,
+        int window,
+        long amountTolerance,
+        int maxCandidates,
+        Set<Integer> taken) {
+      MatchCandidate[] rows = byCurrency.get(anchor.currency());
+      if (rows == null) {
+        return List.of();
+      }
+      long limit = Math.abs(anchor.amountCents()) + amountTolerance;
+      int sign = Long.signum(anchor.amountCents());
+      List<MatchCandidate> candidates = new ArrayList<>();
+      for (int i = firstOnOrAfter(rows, anchor.epochDay() - window);
+          i < rows.length && rows[i].epochDay() <= anchor.epochDay() + window;
+          i++) {
+        MatchCandidate row = rows[i];
+        if (Long.signum(row.amountCents()) == sign
+            && Math.abs(row.amountCents()) < limit
+            && !taken.contains(row.id())) {
+          candidates.add(row);
+        }
+      }
+      if (candidates.size() > maxCandidates) {
+        candidates.sort(
+            Comparator.comparingInt(
+                    (MatchCandidate row) -> Math.abs(row.epochDay() - anchor.epochDay()))
+                .thenComparingInt(MatchCandidate::id));
+        return candidates.subList(0, maxCandidates);
+      }
+      return candidates;
+    }
+
+    private static int firstOnOrAfter(MatchCandidate[] rows, int epochDay) {
+      int low = 0;
+      int high = rows.length;
+      while (low < high) {
+        int mid = (low + high) >>> 1;
+        if (rows[mid].epochDay() < epochDay) {
+          low = mid + 1;
+        } else {
+          high = mid;
+        }
+      }
+      return low;
+    }
+  }
+}
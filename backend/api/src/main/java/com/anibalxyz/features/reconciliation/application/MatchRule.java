@@ -0,0 +1,202 @@
+package com.anibalxyz.features.reconciliation.application;
+
+import com.anibalxyz.features.reconciliation.domain.MatchCandidate;
+import com.anibalxyz.features.reconciliation.domain.MatchOutcome;
+import com.anibalxyz.features.reconciliation.domain.MatchPair;
+import com.anibalxyz.features.reconciliation.domain.MatchRuleDefinition;
+import com.anibalxyz.features.reconciliation.domain.RuleStrategy;
+import com.anibalxyz.features.transactions.domain.Currency;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * A match rule compiled by {@link RuleCompiler}: one key extractor per side, holding every equality
+ * condition, plus at most one range condition swept over and the remaining conditions as a single
+ * predicate. Running it never looks at the rule text again.
+ *
+ * <p>Rules without a range condition are hash joins: every BANK row takes the oldest SYSTEM row
+ * with the same key. Rules with one sort the rows sharing a key by the ranged value and pair every
+ * BANK row with the closest SYSTEM row in its window that meets the predicate, like {@link
+ * ToleranceMatcher} does. Rows whose key cannot be extracted, such as a description the rule's
+ * pattern does not find anything in, are left unmatched.
+ *
+ * <p>Unmatched candidates are returned in input order.
+ */
+final class MatchRule implements MatchStage {
+  private final MatchRuleDefinition definition;
+  private final Function<MatchCandidate, Key> bankKey;
+  private final Function<MatchCandidate, Key> systemKey;
+  private final ToLongFunction<MatchCandidate> sweepValue;
+  private final long sweepTolerance;
+  private final BiPredicate<MatchCandidate, MatchCandidate> predicate;
+
+  /**
+   * @param sweepValue value of the range condition, {@code null} for a hash join
+   * @param predicate conditions checked on each candidate pair, {@code null} when there are none
+   */
+  MatchRule(
+      MatchRuleDefinition definition,
+      Function<MatchCandidate, Key> bankKey,
+      Function<MatchCandidate, Key> systemKey,
+      ToLongFunction<MatchCandidate> sweepValue,
+      long sweepTolerance,
+      BiPredicate<MatchCandidate, MatchCandidate> predicate) {
+    this.definition = definition;
+    this.bankKey = bankKey;
+    this.systemKey = systemKey;
+    this.sweepValue = sweepValue;
+    this.sweepTolerance = sweepTolerance;
+    this.predicate = predicate;
+  }
+
+  MatchRuleDefinition definition() {
+    return definition;
+  }
+
+  RuleStrategy strategy() {
+    return sweepValue == null ? RuleStrategy.HASH_JOIN : RuleStrategy.SORT_SWEEP;
+  }
+
+  @Override
+  public MatchOutcome match(List<MatchCandidate> bank, List<MatchCandidate> system) {
+    if (bank.isEmpty() || system.isEmpty()) {
+      return new MatchOutcome(List.of(), bank, system);
+    }
+    boolean[] bankTaken = new boolean[bank.size()];
+    boolean[] systemTaken = new boolean[system.size()];
+    List<MatchPair> pairs = new ArrayList<>();
+    if (sweepValue == null) {
+      hashJoin(bank, system, bankTaken, systemTaken, pairs);
+    } else {
+      sortSweep(bank, system, bankTaken, systemTaken, pairs);
+    }
+    return new MatchOutcome(pairs, untaken(bank, bankTaken), untaken(system, systemTaken));
+  }
+
+  private void hashJoin(
+      List<MatchCandidate> bank,
+      List<MatchCandidate> system,
+      boolean[] bankTaken,
+      boolean[] systemTaken,
+      List<MatchPair> pairs) {
+    Map<Key, ArrayDeque<Integer>> open = HashMap.newHashMap(system.size());
+    for (int j = 0; j < system.size(); j++) {
+      Key key = systemKey.apply(system.get(j));
+      if (key != null) {
+        open.computeIfAbsent(key, k -> new ArrayDeque<>()).add(j);
+      }
+    }
+    for (int i = 0; i < bank.size(); i++) {
+      MatchCandidate b = bank.get(i);
+      Key key = bankKey.apply(b);
+      ArrayDeque<Integer> candidates = key == null ? null : open.get(key);
+      if (candidates == null || candidates.isEmpty()) {
+        continue;
+      }
+      int j = candidates.poll();
+      bankTaken[i] = true;
+      systemTaken[j] = true;
+      MatchCandidate s = system.get(j);
+      pairs.add(new MatchPair(b.id(), s.id(), ToleranceMatcher.discrepancies(b, s)));
+    }
+  }
+
+  private void sortSweep(
+      List<MatchCandidate> bank,
+      List<MatchCandidate> system,
+      boolean[] bankTaken,
+      boolean[] systemTaken,
+      List<MatchPair> pairs) {
+    Map<Key, List<Integer>> bankByKey = byKey(bank, bankKey);
+    Map<Key, List<Integer>> systemByKey = byKey(system, systemKey);
+    for (Map.Entry<Key, List<Integer>> group : bankByKey.entrySet()) {
+      List<Integer> systemGroup = systemByKey.get(group.getKey());
+      if (systemGroup == null) {
+        continue;
+      }
+      int[] bankSorted = sorted(group.getValue(), bank);
+      int[] systemSorted = sorted(systemGroup, system);
+      int windowStart = 0;
+      for (int i : bankSorted) {
+        MatchCandidate b = bank.get(i);
+        long value = sweepValue.applyAsLong(b);
+        while (windowStart < systemSorted.length
+            && (systemTaken[systemSorted[windowStart]]
+                || sweepValue.applyAsLong(system.get(systemSorted[windowStart]))
+                    < value - sweepTolerance)) {
+          windowStart++;
+        }
+        int best = -1;
+        long bestDiff = Long.MAX_VALUE;
+        for (int w = windowStart; w < systemSorted.length; w++) {
+          int j = systemSorted[w];
+          MatchCandidate s = system.get(j);
+          long diff = sweepValue.applyAsLong(s) - value;
+          if (diff > sweepTolerance) {
+            break;
+          }
+          if (systemTaken[j] || Math.abs(diff) >= bestDiff) {
+            continue;
+          }
+          if (predicate == null || predicate.test(b, s)) {
+            best = j;
+            bestDiff = Math.abs(diff);
+          }
+        }
+        if (best < 0) {
+          continue;
+        }
+        bankTaken[i] = true;
+        systemTaken[best] = true;
+        MatchCandidate s = system.get(best);
+        pairs.add(new MatchPair(b.id(), s.id(), ToleranceMatcher.discrepancies(b, s)));
+      }
+    }
+  }
+
+  private static Map<Key, List<Integer>> byKey(
+      List<MatchCandidate> candidates, Function<MatchCandidate, Key> key) {
+    Map<Key, List<Integer>> grouped = new LinkedHashMap<>();
+    for (int i = 0; i < candidates.size(); i++) {
+      Key k = key.apply(candidates.get(i));
+      if (k != null) {
+        grouped.computeIfAbsent(k, unused -> new ArrayList<>()).add(i);
+      }
+    }
+    return grouped;
+  }
+
+  /** Positions ordered by the swept value, then by position. */
+  private int[] sorted(List<Integer> positions, List<MatchCandidate> candidates) {
+    Comparator<Integer> byValue =
+        Comparator.comparingLong(position -> sweepValue.applyAsLong(candidates.get(position)));
+    Integer[] sorted = positions.toArray(Integer[]::new);
+    Arrays.sort(sorted, byValue.thenComparingInt(position -> position));
+    return Arrays.stream(sorted).mapToInt(Integer::intValue).toArray();
+  }
+
+  private static List<MatchCandidate> untaken(List<MatchCandidate> candidates, boolean[] taken) {
+    List<MatchCandidate> untaken = new ArrayList<>();
+    for (int i = 0; i < candidates.size(); i++) {
+      if (!taken[i]) {
+        untaken.add(candidates.get(i));
+      }
+    }
+    return untaken;
+  }
+
+  /**
+   * Values of the equality conditions of a rule; those the rule does not compare are left at
+   * {@code 0} or {@code null}. Rows are never paired across currencies.
+   */
+  record Key(Currency currency, long amountCents, int epochDay, String reference) {}
+}
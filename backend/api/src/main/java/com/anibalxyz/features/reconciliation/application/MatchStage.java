@@ -0,0 +1,11 @@
+package com.anibalxyz.features.reconciliation.application;
+
+import com.anibalxyz.features.reconciliation.domain.MatchCandidate;
+import com.anibalxyz.features.reconciliation.domain.MatchOutcome;
+import java.util.List;
+
+/** A matching step that pairs BANK and SYSTEM candidates and hands back the leftovers. */
+@FunctionalInterface
+public interface MatchStage {
+  MatchOutcome match(List<MatchCandidate> bank, List<MatchCandidate> system);
+}
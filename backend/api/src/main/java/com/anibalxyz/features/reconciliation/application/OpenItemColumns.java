@@ -0,0 +1,307 @@
+package com.anibalxyz.features.reconciliation.application;
+
+import com.anibalxyz.features.reconciliation.domain.MatchCandidate;
+import com.anibalxyz.features.transactions.domain.Currency;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Open items of one side stored column by column in primitive arrays, one row per item, instead of
+ * as one {@link MatchCandidate} object each.
+ *
+ * <p>A row takes 29 bytes: id, source id, epoch day and reference code as {@code int}s, amount as a
+ * {@code long}, currency as a {@code byte} and the link to the next row with the same currency and
+ * amount. Those links chain the rows of each currency and amount together, and an open-addressing
+ * table holds the newest row of each chain, adding 5 to 11 bytes per distinct amount. References
+ * are dictionary-encoded through {@link ReferenceDictionary}. Since references are unique per
+ * source, the dictionary holds about one entry per row, so an open item takes about 60 bytes with
+ * 10 character references and 70 to 85 bytes with 17 character ones. Descriptions are only read by
+ * source rules, which do not probe open items, so they are not kept.
+ *
+ * <p>Removed rows are only marked as such and skipped; once they outnumber the live ones the
+ * columns are rebuilt without them. Rows keep the order they were added in, which decides ties the
+ * same way the list-based matchers do.
+ */
+final class OpenItemColumns {
+  private static final int NONE = -1;
+  private static final int INITIAL_CAPACITY = 64;
+  /** Removed rows tolerated before a rebuild, so that small indexes are not rebuilt constantly. */
+  private static final int MIN_REMOVED_BEFORE_COMPACT = 1024;
+
+  private static final Currency[] CURRENCIES = Currency.values();
+
+  private int[] ids;
+  private int[] sourceIds;
+  private long[] amounts;
+  private int[] epochDays;
+  private int[] referenceCodes;
+  private byte[] currencies;
+  private int[] nextSameAmount;
+  private BitSet removed;
+  private ReferenceDictionary references;
+
+  // Newest row of each currency and amount chain; the key is read back from that row
+  private int[] chainHeads;
+  private int chains;
+
+  private int rows;
+  private int size;
+
+  OpenItemColumns() {
+    clear();
+  }
+
+  int size() {
+    return size;
+  }
+
+  void clear() {
+    allocate(INITIAL_CAPACITY);
+    chainHeads = newTable(INITIAL_CAPACITY * 2);
+    chains = 0;
+    removed = new BitSet();
+    references = new ReferenceDictionary();
+    rows = 0;
+    size = 0;
+  }
+
+  void addAll(List<MatchCandidate> candidates) {
+    ensureCapacity(rows + candidates.size());
+    for (MatchCandidate candidate : candidates) {
+      append(candidate, references.encode(candidate.reference()));
+    }
+  }
+
+  /**
+   * Removes and returns the oldest row with the exact key of {@code probe}: currency, amount and
+   * reference.
+   *
+   * @return the matching open item, or {@code null} if there is none
+   */
+  MatchCandidate pollExact(MatchCandidate probe) {
+    int referenceCode = references.find(probe.reference());
+    if (referenceCode == ReferenceDictionary.ABSENT) {
+      return null;
+    }
+    int match = NONE;
+    for (int row = head(probe.currency(), probe.amountCents()); row != NONE; ) {
+      if (!removed.get(row) && referenceCodes[row] == referenceCode) {
+        // Chains run newest first, so the last hit is the oldest row
+        match = row;
+      }
+      row = nextSameAmount[row];
+    }
+    return match == NONE ? null : take(match);
+  }
+
+  /**
+   * Removes and returns the row closest to {@code probe} within the tolerances: the smallest amount
+   * difference first, then the smallest date difference, then the lowest amount, then the oldest
+   * row, which is the order the previous tree-based index settled on.
+   *
+   * <p>Looks up each amount in the tolerance window, so the cost grows with the amount tolerance
+   * rather than with the number of open items; a window wider than the number of distinct amounts
+   * walks every chain instead.
+   *
+   * @return the closest open item, or {@code null} if none is within both tolerances
+   */
+  MatchCandidate pollClosest(MatchCandidate probe, long amountTolerance, int dayTolerance) {
+    int best = NONE;
+    if (amountTolerance >= chains) {
+      for (int head : chainHeads) {
+        if (head != NONE && currencies[head] == probe.currency().ordinal()) {
+          best = closestInChain(head, probe, amountTolerance, dayTolerance, best);
+        }
+      }
+    } else {
+      long from = probe.amountCents() - amountTolerance;
+      long to = probe.amountCents() + amountTolerance;
+      for (long amount = from; amount <= to; amount++) {
+        int head = head(probe.currency(), amount);
+        best = closestInChain(head, probe, amountTolerance, dayTolerance, best);
+      }
+    }
+    return best == NONE ? null : take(best);
+  }
+
+  private int closestInChain(
+      int head, MatchCandidate probe, long amountTolerance, int dayTolerance, int best) {
+    for (int row = head; row != NONE; row = nextSameAmount[row]) {
+      if (removed.get(row)
+          || Math.abs(amounts[row] - probe.amountCents()) > amountTolerance
+          || Math.abs(epochDays[row] - probe.epochDay()) > dayTolerance) {
+        continue;
+      }
+      if (best == NONE || closer(row, best, probe)) {
+        best = row;
+      }
+    }
+    return best;
+  }
+
+  private boolean closer(int row, int other, MatchCandidate probe) {
+    int byAmount =
+        Long.compare(
+            Math.abs(amounts[row] - probe.amountCents()),
+            Math.abs(amounts[other] - probe.amountCents()));
+    if (byAmount != 0) return byAmount < 0;
+    int byDay =
+        Integer.compare(
+            Math.abs(epochDays[row] - probe.epochDay()),
+            Math.abs(epochDays[other] - probe.epochDay()));
+    if (byDay != 0) return byDay < 0;
+    if (amounts[row] != amounts[other]) return amounts[row] < amounts[other];
+    return row < other;
+  }
+
+  /** Returns whether {@code candidate} was an open item here, removing it if so. */
+  boolean remove(MatchCandidate candidate) {
+    for (int row = head(candidate.currency(), candidate.amountCents());
+        row != NONE;
+        row = nextSameAmount[row]) {
+      if (!removed.get(row) && ids[row] == candidate.id()) {
+        markRemoved(row);
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** Returns the open items in the order they were added. */
+  List<MatchCandidate> snapshot() {
+    List<MatchCandidate> items = new ArrayList<>(size);
+    for (int row = removed.nextClearBit(0); row < rows; row = removed.nextClearBit(row + 1)) {
+      items.add(toCandidate(row));
+    }
+    return items;
+  }
+
+  /** Bytes held by the arrays behind the columns, the chain table and the reference dictionary. */
+  long footprintBytes() {
+    long perRow = 4L * 5 + 8 + 1;
+    return perRow * ids.length
+        + 4L * chainHeads.length
+        + removed.size() / 8
+        + references.footprintBytes();
+  }
+
+  private void append(MatchCandidate candidate, int referenceCode) {
+    int row = rows++;
+    ids[row] = candidate.id();
+    sourceIds[row] = candidate.sourceId();
+    amounts[row] = candidate.amountCents();
+    epochDays[row] = candidate.epochDay();
+    referenceCodes[row] = referenceCode;
+    currencies[row] = (byte) candidate.currency().ordinal();
+
+    int slot = slotOf(candidate.currency().ordinal(), candidate.amountCents());
+    if (chainHeads[slot] == NONE) {
+      chains++;
+    }
+    nextSameAmount[row] = chainHeads[slot];
+    chainHeads[slot] = row;
+    size++;
+    if (chains * 4 > chainHeads.length * 3) {
+      rebuildChains(chainHeads.length * 2);
+    }
+  }
+
+  private MatchCandidate take(int row) {
+    MatchCandidate candidate = toCandidate(row);
+    markRemoved(row);
+    return candidate;
+  }
+
+  private MatchCandidate toCandidate(int row) {
+    return new MatchCandidate(
+        ids[row],
+        sourceIds[row],
+        CURRENCIES[currencies[row]],
+        amounts[row],
+        epochDays[row],
+        references.decode(referenceCodes[row]),
+        null);
+  }
+
+  private void markRemoved(int row) {
+    removed.set(row);
+    size--;
+    int removedRows = rows - size;
+    if (removedRows > size && removedRows >= MIN_REMOVED_BEFORE_COMPACT) {
+      compact();
+    }
+  }
+
+  /** Rebuilds the columns, the chains and the dictionary from the live rows only. */
+  private void compact() {
+    List<MatchCandidate> live = snapshot();
+    clear();
+    addAll(live);
+  }
+
+  private int head(Currency currency, long amount) {
+    return chainHeads[slotOf(currency.ordinal(), amount)];
+  }
+
+  /** Returns the slot of the chain for the currency and amount, or the empty slot for it. */
+  private int slotOf(int currency, long amount) {
+    int mask = chainHeads.length - 1;
+    for (int slot = hash(currency, amount) & mask; ; slot = (slot + 1) & mask) {
+      int row = chainHeads[slot];
+      if (row == NONE || (currencies[row] == currency && amounts[row] == amount)) {
+        return slot;
+      }
+    }
+  }
+
+  private void rebuildChains(int capacity) {
+    chainHeads = newTable(capacity);
+    chains = 0;
+    for (int row = 0; row < rows; row++) {
+      int slot = slotOf(currencies[row], amounts[row]);
+      if (chainHeads[slot] == NONE) {
+        chains++;
+      }
+      nextSameAmount[row] = chainHeads[slot];
+      chainHeads[slot] = row;
+    }
+  }
+
+  private void ensureCapacity(int required) {
+    if (required <= ids.length) {
+      return;
+    }
+    // Grow by half for the small batches of incremental runs, exactly for a bulk load
+    int capacity = Math.max(required, ids.length + (ids.length >> 1));
+    ids = Arrays.copyOf(ids, capacity);
+    sourceIds = Arrays.copyOf(sourceIds, capacity);
+    amounts = Arrays.copyOf(amounts, capacity);
+    epochDays = Arrays.copyOf(epochDays, capacity);
+    referenceCodes = Arrays.copyOf(referenceCodes, capacity);
+    currencies = Arrays.copyOf(currencies, capacity);
+    nextSameAmount = Arrays.copyOf(nextSameAmount, capacity);
+  }
+
+  private void allocate(int capacity) {
+    ids = new int[capacity];
+    sourceIds = new int[capacity];
+    amounts = new long[capacity];
+    epochDays = new int[capacity];
+    referenceCodes = new int[capacity];
+    currencies = new byte[capacity];
+    nextSameAmount = new int[capacity];
+  }
+
+  private static int[] newTable(int capacity) {
+    int[] table = new int[capacity];
+    Arrays.fill(table, NONE);
+    return table;
+  }
+
+  private static int hash(int currency, long amount) {
+    long h = (amount * 0x9E3779B97F4A7C15L) ^ currency;
+    return (int) (h ^ (h >>> 32));
+  }
+}
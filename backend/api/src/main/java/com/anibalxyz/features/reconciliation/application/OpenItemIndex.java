@@ -0,0 +1,147 @@
+package com.anibalxyz.features.reconciliation.application;
+
+import com.anibalxyz.features.reconciliation.application.env.ReconciliationEnvironment;
+import com.anibalxyz.features.reconciliation.domain.MatchCandidate;
+import com.anibalxyz.features.reconciliation.domain.MatchOutcome;
+import com.anibalxyz.features.reconciliation.domain.MatchPair;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * In-memory index of the transactions left unmatched by previous runs (open items), kept warm
+ * between runs so an incremental run only pays for the newly uploaded rows.
+ *
+ * <p>Each side keeps its open items in {@link OpenItemColumns}, chained by currency and amount, so
+ * a new row finds its counterpart with a hash lookup per amount in the tolerance window instead of
+ * a rescan of the open items, at about 60 to 85 bytes per open item depending on reference length.
+ *
+ * <p>The index mirrors database state only while nobody else writes reconciliations or watermarks.
+ * It remembers the sync token read after its last update and callers must check it with {@link
+ * #isInSync(String)} before trusting the index. Not thread-safe; runs are expected to be
+ * serialized.
+ */
+public class OpenItemIndex {
+  private final ReconciliationEnvironment env;
+  private final OpenItemColumns bank = new OpenItemColumns();
+  private final OpenItemColumns system = new OpenItemColumns();
+  private String syncToken;
+
+  public OpenItemIndex(ReconciliationEnvironment env) {
+    this.env = env;
+  }
+
+  public boolean isInSync(String currentToken) {
+    return syncToken != null && syncToken.equals(currentToken);
+  }
+
+  public void markSynced(String token) {
+    this.syncToken = token;
+  }
+
+  /** Drops every open item and forces the next run to rebuild the index. */
+  public void invalidate() {
+    bank.clear();
+    system.clear();
+    syncToken = null;
+  }
+
+  public void add(List<MatchCandidate> openBank, List<MatchCandidate> openSystem) {
+    bank.addAll(openBank);
+    system.addAll(openSystem);
+  }
+
+  public int openBankCount() {
+    return bank.size();
+  }
+
+  public int openSystemCount() {
+    return system.size();
+  }
+
+  public List<MatchCandidate> openBank() {
+    return bank.snapshot();
+  }
+
+  public List<MatchCandidate> openSystem() {
+    return system.snapshot();
+  }
+
+  /** Bytes held by the open items of both sides, for sizing the heap. */
+  public long footprintBytes() {
+    return bank.footprintBytes() + system.footprintBytes();
+  }
+
+  /** Drops open items consumed outside the index, such as group members. */
+  public void removeAll(List<MatchCandidate> candidates) {
+    for (MatchCandidate candidate : candidates) {
+      if (!bank.remove(candidate)) {
+        system.remove(candidate);
+      }
+    }
+  }
+
+  /**
+   * Exact-matches new BANK rows against open SYSTEM items and new SYSTEM rows against open BANK
+   * items. Matched open items leave the index; new rows are never added here.
+   */
+  public MatchOutcome matchExact(List<MatchCandidate> newBank, List<MatchCandidate> newSystem) {
+    List<MatchPair> pairs = new ArrayList<>();
+    List<MatchCandidate> unmatchedBank = new ArrayList<>();
+    for (MatchCandidate candidate : newBank) {
+      MatchCandidate counterpart = system.pollExact(candidate);
+      if (counterpart == null) {
+        unmatchedBank.add(candidate);
+      } else {
+        pairs.add(new MatchPair(candidate.id(), counterpart.id()));
+      }
+    }
+    List<MatchCandidate> unmatchedSystem = new ArrayList<>();
+    for (MatchCandidate candidate : newSystem) {
+      MatchCandidate counterpart = bank.pollExact(candidate);
+      if (counterpart == null) {
+        unmatchedSystem.add(candidate);
+      } else {
+        pairs.add(new MatchPair(counterpart.id(), candidate.id()));
+      }
+    }
+    return new MatchOutcome(pairs, unmatchedBank, unmatchedSystem);
+  }
+
+  /**
+   * Tolerance-matches new BANK rows against open SYSTEM items and new SYSTEM rows against open BANK
+   * items, choosing the closest counterpart the same way {@link ToleranceMatcher} does.
+   */
+  public MatchOutcome matchTolerance(List<MatchCandidate> newBank, List<MatchCandidate> newSystem) {
+    long amountTolerance = env.RECONCILIATION_AMOUNT_TOLERANCE_CENTS();
+    int dayTolerance = env.RECONCILIATION_DATE_TOLERANCE_DAYS();
+
+    List<MatchPair> pairs = new ArrayList<>();
+    List<MatchCandidate> unmatchedBank = new ArrayList<>();
+    for (MatchCandidate candidate : newBank) {
+      MatchCandidate counterpart = system.pollClosest(candidate, amountTolerance, dayTolerance);
+      if (counterpart == null) {
+        unmatchedBank.add(candidate);
+      } else {
+        pairs.add(
+            new MatchPair(
+                candidate.id(),
+                counterpart.id(),
+                ToleranceMatcher.discrepancies(candidate, counterpart)));
+      }
+    }
+    List<MatchCandidate> unmatchedSystem = new ArrayList<>();
+    for (MatchCandidate candidate : newSystem) {
+      MatchCandidate counterpart = bank.pollClosest(candidate, amountTolerance, dayTolerance);
+      if (counterpart == null) {
+        unmatchedSystem.add(candidate);
+      } else {
+        pairs.add(
+            new MatchPair(
+                counterpart.id(),
+                candidate.id(),
+                ToleranceMatcher.discrepancies(counterpart, candidate)));
+      }
+    }
+    return new MatchOutcome(pairs, unmatchedBank, unmatchedSystem);
+  }
+}
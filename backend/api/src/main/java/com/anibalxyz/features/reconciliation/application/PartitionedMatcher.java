@@ -0,0 +1,196 @@
+package com.anibalxyz.features.reconciliation.application;
+
+import com.anibalxyz.features.reconciliation.application.env.ReconciliationEnvironment;
+import com.anibalxyz.features.reconciliation.domain.MatchCandidate;
+import com.anibalxyz.features.reconciliation.domain.MatchOutcome;
+import com.anibalxyz.features.reconciliation.domain.MatchPair;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.ToLongFunction;
+
+/**
+ * Runs a {@link MatchStage} over independent partitions of the candidates in parallel.
+ *
+ * <p>Partitions never mix currencies. Each one is matched on its own virtual thread, with at most
+ * {@code RECONCILIATION_WORKERS} of them running at once, and the outcomes are concatenated in the
+ * order the partitions were first seen, so results do not depend on scheduling. Inputs smaller than
+ * {@link #SEQUENTIAL_THRESHOLD} are matched on the calling thread.
+ */
+public class PartitionedMatcher {
+  static final int SEQUENTIAL_THRESHOLD = 10_000;
+
+  /** Hash partitions per worker for key-based stages, to even out skewed currencies. */
+  private static final int PARTITIONS_PER_WORKER = 4;
+
+  private final ReconciliationEnvironment env;
+
+  public PartitionedMatcher(ReconciliationEnvironment env) {
+    this.env = env;
+  }
+
+  private static long partitionKey(MatchCandidate candidate, int subPartition) {
+    return ((long) candidate.currency().ordinal() << 32) | (subPartition & 0xFFFFFFFFL);
+  }
+
+  /**
+   * Partitions by currency and by a hash of (amount, reference). Rows sharing an exact key always
+   * land in the same partition, so no exact match is lost.
+   */
+  public MatchOutcome matchByExactKey(
+      List<MatchCandidate> bank, List<MatchCandidate> system, MatchStage stage) {
+    int partitions = env.RECONCILIATION_WORKERS() * PARTITIONS_PER_WORKER;
+    return match(
+        bank,
+        system,
+        stage,
+        c -> {
+          int hash = 31 * Long.hashCode(c.amountCents()) + c.reference().hashCode();
+          return partitionKey(c, Math.floorMod(hash, partitions));
+        });
+  }
+
+  /**
+   * Partitions by currency and by {@code RECONCILIATION_DATE_BUCKET_DAYS}-wide date buckets.
+   *
+   * <p>A pair within the date tolerance may straddle a bucket edge, so after the partitioned pass
+   * the leftovers lying within {@code RECONCILIATION_DATE_TOLERANCE_DAYS} of an edge go through the
+   * stage once more as a single seam partition. Rows further from an edge cannot reach another
+   * bucket and are returned as they are.
+   */
+  public MatchOutcome matchByDateBucket(
+      List<MatchCandidate> bank, List<MatchCandidate> system, MatchStage stage) {
+    if (runsSequentially(bank, system)) {
+      return stage.match(bank, system);
+    }
+    int bucketDays = env.RECONCILIATION_DATE_BUCKET_DAYS();
+    MatchOutcome bucketed =
+        match(
+            bank,
+            system,
+            stage,
+            c -> partitionKey(c, Math.floorDiv(c.epochDay(), bucketDays)));
+
+    int dayTolerance = env.RECONCILIATION_DATE_TOLERANCE_DAYS();
+    List<MatchCandidate> seamBank = new ArrayList<>();
+    List<MatchCandidate> unmatchedBank = new ArrayList<>();
+    splitBySeam(bucketed.unmatchedBank(), bucketDays, dayTolerance, seamBank, unmatchedBank);
+    List<MatchCandidate> seamSystem = new ArrayList<>();
+    List<MatchCandidate> unmatchedSystem = new ArrayList<>();
+    splitBySeam(bucketed.unmatchedSystem(), bucketDays, dayTolerance, seamSystem, unmatchedSystem);
+
+    if (seamBank.isEmpty() || seamSystem.isEmpty()) {
+      return bucketed;
+    }
+
+    MatchOutcome seam = stage.match(seamBank, seamSystem);
+    List<MatchPair> pairs = new ArrayList<>(bucketed.pairs().size() + seam.pairs().size());
+    pairs.addAll(bucketed.pairs());
+    pairs.addAll(seam.pairs());
+    unmatchedBank.addAll(seam.unmatchedBank());
+    unmatchedSystem.addAll(seam.unmatchedSystem());
+    return new MatchOutcome(pairs, unmatchedBank, unmatchedSystem);
+  }
+
+  private static void splitBySeam(
+      List<MatchCandidate> candidates,
+      int bucketDays,
+      int dayTolerance,
+      List<MatchCandidate> seam,
+      List<MatchCandidate> rest) {
+    for (MatchCandidate candidate : candidates) {
+      int offset = Math.floorMod(candidate.epochDay(), bucketDays);
+      if (offset < dayTolerance || bucketDays - 1 - offset < dayTolerance) {
+        seam.add(candidate);
+      } else {
+        rest.add(candidate);
+      }
+    }
+  }
+
+  private boolean runsSequentially(List<MatchCandidate> bank, List<MatchCandidate> system) {
+    return bank.isEmpty()
+        || system.isEmpty()
+        || bank.size() + system.size() < SEQUENTIAL_THRESHOLD
+        || env.RECONCILIATION_WORKERS() == 1;
+  }
+
+  private MatchOutcome match(
+      List<MatchCandidate> bank,
+      List<MatchCandidate> system,
+      MatchStage stage,
+      ToLongFunction<MatchCandidate> partitioner) {
+    if (runsSequentially(bank, system)) {
+      return stage.match(bank, system);
+    }
+
+    Map<Long, Partition> partitions = new LinkedHashMap<>();
+    for (MatchCandidate candidate : bank) {
+      partitions
+          .computeIfAbsent(partitioner.applyAsLong(candidate), k -> new Partition())
+          .bank
+          .add(candidate);
+    }
+    for (MatchCandidate candidate : system) {
+      partitions
+          .computeIfAbsent(partitioner.applyAsLong(candidate), k -> new Partition())
+          .system
+          .add(candidate);
+    }
+
+    List<Future<MatchOutcome>> futures = new ArrayList<>(partitions.size());
+    Semaphore workers = new Semaphore(env.RECONCILIATION_WORKERS());
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (Partition partition : partitions.values()) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  workers.acquire();
+                  try {
+                    return stage.match(partition.bank, partition.system);
+                  } finally {
+                    workers.release();
+                  }
+                }));
+      }
+      return merge(futures);
+    }
+  }
+
+  private static MatchOutcome merge(List<Future<MatchOutcome>> futures) {
+    List<MatchPair> pairs = new ArrayList<>();
+    List<MatchCandidate> unmatchedBank = new ArrayList<>();
+    List<MatchCandidate> unmatchedSystem = new ArrayList<>();
+    for (Future<MatchOutcome> future : futures) {
+      MatchOutcome outcome;
+      try {
+        outcome = future.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        futures.forEach(f -> f.cancel(true));
+        throw new IllegalStateException("Reconciliation run was interrupted", e);
+      } catch (ExecutionException e) {
+        futures.forEach(f -> f.cancel(true));
+        if (e.getCause() instanceof RuntimeException re) {
+          throw re;
+        }
+        throw new IllegalStateException("Reconciliation partition failed", e.getCause());
+      }
+      pairs.addAll(outcome.pairs());
+      unmatchedBank.addAll(outcome.unmatchedBank());
+      unmatchedSystem.addAll(outcome.unmatchedSystem());
+    }
+    return new MatchOutcome(pairs, unmatchedBank, unmatchedSystem);
+  }
+
+  private static final class Partition {
+    private final List<MatchCandidate> bank = new ArrayList<>();
+    private final List<MatchCandidate> system = new ArrayList<>();
+  }
+}
@@ -0,0 +1,288 @@
+package com.anibalxyz.features.reconciliation.application;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+import com.anibalxyz.features.reconciliation.application.out.ReconciliationSummary;
+import com.anibalxyz.features.reconciliation.application.out.RuleSummary;
+import com.anibalxyz.features.reconciliation.domain.DatabaseMatchOutcome;
+import com.anibalxyz.features.reconciliation.domain.GroupMatchOutcome;
+import com.anibalxyz.features.reconciliation.domain.MatchCandidate;
+import com.anibalxyz.features.reconciliation.domain.MatchOutcome;
+import com.anibalxyz.features.reconciliation.domain.MatchPair;
+import com.anibalxyz.features.reconciliation.domain.MatchRuleDefinition;
+import com.anibalxyz.features.reconciliation.domain.ReconciliationMode;
+import com.anibalxyz.features.reconciliation.domain.ReconciliationRepository;
+import com.anibalxyz.features.transactions.domain.SourceType;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reconciles unmatched transactions in five stages: an exact hash join first, then the match rules
+ * of each BANK source through {@link RuleMatcher}, then a {@link ReferenceMatcher} pass pairing
+ * similar references within the tolerances, then a tolerance sweep over whatever is left, the
+ * exact, reference and tolerance stages run partitioned through {@link PartitionedMatcher}, and
+ * finally a {@link GroupMatcher} search for many-to-one groups among the remaining rows.
+ *
+ * <p>Runs are incremental when possible: only transactions above each source's watermark are
+ * loaded, matched among themselves and then probed against the open items kept warm in {@link
+ * OpenItemIndex}. A full run reloads every unmatched transaction and rebuilds the index; it happens
+ * on the first run, when the index is out of sync with the database, or when forced. Rows that
+ * commit late with an id below an already advanced watermark are only picked up by a full run.
+ * Open items are probed by the exact and tolerance stages only, not by match rules or reference
+ * similarity.
+ *
+ * <p>A full run over more unmatched transactions than {@code RECONCILIATION_DATABASE_THRESHOLD}
+ * first runs the exact and tolerance stages inside the database through {@link DatabaseMatcher},
+ * then goes on with whatever they leave. A full run still over more unmatched transactions than
+ * {@code RECONCILIATION_SPILL_THRESHOLD} runs its exact, reference and tolerance stages through
+ * {@link SpillingMatcher} instead of in memory, and the match rules over what they leave.
+ */
+public class ReconcileTransactions {
+  private static final Logger log = LoggerFactory.getLogger(ReconcileTransactions.class);
+
+  private final ReconciliationRepository reconciliationRepository;
+  private final ExactMatcher exactMatcher;
+  private final RuleMatcher ruleMatcher;
+  private final ReferenceMatcher referenceMatcher;
+  private final ToleranceMatcher toleranceMatcher;
+  private final PartitionedMatcher partitionedMatcher;
+  private final GroupMatcher groupMatcher;
+  private final OpenItemIndex openItemIndex;
+  private final SpillingMatcher spillingMatcher;
+  private final DatabaseMatcher databaseMatcher;
+  private final ReentrantLock runLock = new ReentrantLock();
+
+  public ReconcileTransactions(
+      ReconciliationRepository reconciliationRepository,
+      ExactMatcher exactMatcher,
+      RuleMatcher ruleMatcher,
+      ReferenceMatcher referenceMatcher,
+      ToleranceMatcher toleranceMatcher,
+      PartitionedMatcher partitionedMatcher,
+      GroupMatcher groupMatcher,
+      OpenItemIndex openItemIndex,
+      SpillingMatcher spillingMatcher,
+      DatabaseMatcher databaseMatcher) {
+    this.reconciliationRepository = reconciliationRepository;
+    this.exactMatcher = exactMatcher;
+    this.ruleMatcher = ruleMatcher;
+    this.referenceMatcher = referenceMatcher;
+    this.toleranceMatcher = toleranceMatcher;
+    this.partitionedMatcher = partitionedMatcher;
+    this.groupMatcher = groupMatcher;
+    this.openItemIndex = openItemIndex;
+    this.spillingMatcher = spillingMatcher;
+    this.databaseMatcher = databaseMatcher;
+  }
+
+  public ReconciliationSummary execute(boolean forceFull) {
+    runLock.lock();
+    try {
+      return run(forceFull);
+    } catch (RuntimeException e) {
+      openItemIndex.invalidate();
+      throw e;
+    } finally {
+      runLock.unlock();
+    }
+  }
+
+  private ReconciliationSummary run(boolean forceFull) {
+    long start = System.nanoTime();
+    reconciliationRepository.lockForRun();
+
+    ReconciliationMode mode =
+        !forceFull && openItemIndex.isInSync(reconciliationRepository.syncToken())
+            ? ReconciliationMode.INCREMENTAL
+            : ReconciliationMode.FULL;
+
+    List<MatchRuleDefinition> ruleDefinitions = reconciliationRepository.findRules();
+    boolean inDatabase = false;
+    DatabaseMatchOutcome database = new DatabaseMatchOutcome(0, 0);
+    if (mode == ReconciliationMode.FULL) {
+      openItemIndex.invalidate();
+      long candidates = countFullRunCandidates();
+      if (databaseMatcher.shouldMatch(candidates)) {
+        inDatabase = true;
+        // Rules and references run before tolerance, so tolerance can't move to SQL ahead of them
+        database =
+            databaseMatcher.match(
+                reconciliationRepository,
+                !ruleDefinitions.isEmpty() || referenceMatcher.isEnabled());
+        candidates -= 2L * database.matches();
+      }
+      if (spillingMatcher.shouldSpill(candidates)) {
+        return runSpilled(candidates, ruleDefinitions, inDatabase, database, start);
+      }
+    }
+
+    List<MatchCandidate> bank;
+    List<MatchCandidate> system;
+    if (mode == ReconciliationMode.INCREMENTAL) {
+      bank = reconciliationRepository.findUnmatchedAfterWatermark(SourceType.BANK);
+      system = reconciliationRepository.findUnmatchedAfterWatermark(SourceType.SYSTEM);
+    } else {
+      bank = reconciliationRepository.findUnmatched(SourceType.BANK);
+      system = reconciliationRepository.findUnmatched(SourceType.SYSTEM);
+    }
+
+    // On a full run the index is empty, so the open-item probes pass everything through.
+    MatchOutcome exact = partitionedMatcher.matchByExactKey(bank, system, exactMatcher);
+    MatchOutcome exactOpen =
+        openItemIndex.matchExact(exact.unmatchedBank(), exact.unmatchedSystem());
+    RuleMatcher.Outcome rules =
+        ruleMatcher.match(exactOpen.unmatchedBank(), exactOpen.unmatchedSystem(), ruleDefinitions);
+    MatchOutcome reference =
+        partitionedMatcher.matchByDateBucket(
+            rules.unmatchedBank(), rules.unmatchedSystem(), referenceMatcher);
+    MatchOutcome tolerance =
+        partitionedMatcher.matchByDateBucket(
+            reference.unmatchedBank(), reference.unmatchedSystem(), toleranceMatcher);
+    MatchOutcome toleranceOpen =
+        openItemIndex.matchTolerance(tolerance.unmatchedBank(), tolerance.unmatchedSystem());
+    GroupMatchOutcome grouped =
+        groupMatcher.match(
+            toleranceOpen.unmatchedBank(),
+            toleranceOpen.unmatchedSystem(),
+            openItemIndex.openBank(),
+            openItemIndex.openSystem());
+    openItemIndex.removeAll(grouped.matchedOpenItems());
+    openItemIndex.add(grouped.unmatchedBank(), grouped.unmatchedSystem());
+
+    int exactMatches = exact.pairs().size() + exactOpen.pairs().size();
+    int ruleMatches = rules.pairs().size();
+    int referenceMatches = reference.pairs().size();
+    int toleranceMatches = tolerance.pairs().size() + toleranceOpen.pairs().size();
+    List<MatchPair> pairs =
+        new ArrayList<>(exactMatches + ruleMatches + referenceMatches + toleranceMatches);
+    exactMatches += database.exactMatches();
+    toleranceMatches += database.toleranceMatches();
+    pairs.addAll(exact.pairs());
+    pairs.addAll(exactOpen.pairs());
+    pairs.addAll(rules.pairs());
+    pairs.addAll(reference.pairs());
+    pairs.addAll(tolerance.pairs());
+    pairs.addAll(toleranceOpen.pairs());
+    reconciliationRepository.saveAll(pairs);
+    reconciliationRepository.saveGroups(grouped.groups());
+    reconciliationRepository.saveWatermarks(lastTransactionIdBySource(bank, system));
+    openItemIndex.markSynced(reconciliationRepository.syncToken());
+
+    return summarize(
+        mode,
+        false,
+        inDatabase,
+        bank.size() + database.matches(),
+        system.size() + database.matches(),
+        exactMatches,
+        ruleMatches,
+        referenceMatches,
+        toleranceMatches,
+        grouped.groups().size(),
+        rules.rules(),
+        start);
+  }
+
+  /** Full run whose spilled matching stages already saved their pairs. */
+  private ReconciliationSummary runSpilled(
+      long candidates,
+      List<MatchRuleDefinition> ruleDefinitions,
+      boolean inDatabase,
+      DatabaseMatchOutcome database,
+      long start) {
+    SpillingMatcher.Outcome spilled =
+        spillingMatcher.match(reconciliationRepository, candidates, ruleDefinitions);
+    GroupMatchOutcome grouped =
+        groupMatcher.match(
+            spilled.unmatchedBank(), spilled.unmatchedSystem(), List.of(), List.of());
+    openItemIndex.add(grouped.unmatchedBank(), grouped.unmatchedSystem());
+
+    reconciliationRepository.saveGroups(grouped.groups());
+    reconciliationRepository.saveWatermarks(spilled.lastTransactionIdBySource());
+    openItemIndex.markSynced(reconciliationRepository.syncToken());
+
+    return summarize(
+        ReconciliationMode.FULL,
+        true,
+        inDatabase,
+        spilled.bankCandidates() + database.matches(),
+        spilled.systemCandidates() + database.matches(),
+        spilled.exactMatches() + database.exactMatches(),
+        spilled.ruleMatches(),
+        spilled.referenceMatches(),
+        spilled.toleranceMatches() + database.toleranceMatches(),
+        grouped.groups().size(),
+        spilled.rules(),
+        start);
+  }
+
+  /** Counting costs a scan, so it is skipped when neither spilling nor database matching is on. */
+  private long countFullRunCandidates() {
+    if (!spillingMatcher.isEnabled() && !databaseMatcher.isEnabled()) {
+      return 0;
+    }
+    return reconciliationRepository.countUnmatched(SourceType.BANK)
+        + reconciliationRepository.countUnmatched(SourceType.SYSTEM);
+  }
+
+  private ReconciliationSummary summarize(
+      ReconciliationMode mode,
+      boolean spilled,
+      boolean inDatabase,
+      int bankCandidates,
+      int systemCandidates,
+      int exactMatches,
+      int ruleMatches,
+      int referenceMatches,
+      int toleranceMatches,
+      int groupMatches,
+      List<RuleSummary> rules,
+      long start) {
+    Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+    log.info(
+        "Reconciliation run finished",
+        kv("mode", mode),
+        kv("spilled", spilled),
+        kv("in_database", inDatabase),
+        kv("bank_candidates", bankCandidates),
+        kv("system_candidates", systemCandidates),
+        kv("exact_matches", exactMatches),
+        kv("rule_matches", ruleMatches),
+        kv("reference_matches", referenceMatches),
+        kv("tolerance_matches", toleranceMatches),
+        kv("group_matches", groupMatches),
+        kv("open_bank_items", openItemIndex.openBankCount()),
+        kv("open_system_items", openItemIndex.openSystemCount()),
+        kv("elapsed_ms", elapsed.toMillis()));
+
+    return new ReconciliationSummary(
+        mode,
+        bankCandidates,
+        systemCandidates,
+        exactMatches,
+        ruleMatches,
+        referenceMatches,
+        toleranceMatches,
+        groupMatches,
+        rules,
+        elapsed);
+  }
+
+  private static Map<Integer, Integer> lastTransactionIdBySource(
+      List<MatchCandidate> bank, List<MatchCandidate> system) {
+    Map<Integer, Integer> lastIds = new HashMap<>();
+    for (MatchCandidate candidate : bank) {
+      lastIds.merge(candidate.sourceId(), candidate.id(), Math::max);
+    }
+    for (MatchCandidate candidate : system) {
+      lastIds.merge(candidate.sourceId(), candidate.id(), Math::max);
+    }
+    return lastIds;
+  }
+}
@@ -0,0 +1,118 @@
+package com.anibalxyz.features.reconciliation.application;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Dictionary encoding of transaction references into dense {@code int} codes.
+ *
+ * <p>The UTF-8 bytes of every distinct reference are appended to a single array, and codes are
+ * found through an open-addressing table over them, so a reference costs its bytes plus 16 to 32
+ * bytes of offsets, hashes and table slots however many rows share it, instead of a {@code String}
+ * per row. {@code null} has the fixed code
+ * {@link #NULL}. Codes are never freed; drop the dictionary and encode the live rows again to
+ * reclaim them.
+ */
+final class ReferenceDictionary {
+  static final int NULL = -1;
+
+  /** Returned by {@link #find(String)} for a reference that was never encoded. */
+  static final int ABSENT = -2;
+
+  private static final int EMPTY = -1;
+
+  private byte[] bytes = new byte[1024];
+  private int bytesUsed;
+  // offsets[code] is where the reference starts; it ends where the next one starts
+  private int[] offsets = new int[65];
+  private int[] hashes = new int[64];
+  private int size;
+  private int[] table = newTable(128);
+
+  int size() {
+    return size;
+  }
+
+  /** Returns the code of {@code reference}, adding it if it is new. */
+  int encode(String reference) {
+    if (reference == null) return NULL;
+    byte[] encoded = reference.getBytes(StandardCharsets.UTF_8);
+    int hash = reference.hashCode();
+    int slot = slotOf(encoded, hash);
+    if (table[slot] != EMPTY) return table[slot];
+
+    int code = size++;
+    if (code == hashes.length) {
+      hashes = Arrays.copyOf(hashes, code * 2);
+      offsets = Arrays.copyOf(offsets, code * 2 + 1);
+    }
+    if (bytesUsed + encoded.length > bytes.length) {
+      bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, bytesUsed + encoded.length));
+    }
+    System.arraycopy(encoded, 0, bytes, bytesUsed, encoded.length);
+    bytesUsed += encoded.length;
+    offsets[code + 1] = bytesUsed;
+    hashes[code] = hash;
+    table[slot] = code;
+    if (size * 2 > table.length) {
+      rehash(table.length * 2);
+    }
+    return code;
+  }
+
+  /**
+   * @return the code of {@code reference}, or {@link #ABSENT} if it was never encoded
+   */
+  int find(String reference) {
+    if (reference == null) return NULL;
+    int slot = slotOf(reference.getBytes(StandardCharsets.UTF_8), reference.hashCode());
+    return table[slot] == EMPTY ? ABSENT : table[slot];
+  }
+
+  String decode(int code) {
+    if (code == NULL) return null;
+    return new String(
+        bytes, offsets[code], offsets[code + 1] - offsets[code], StandardCharsets.UTF_8);
+  }
+
+  /** Bytes held by the arrays behind the dictionary. */
+  long footprintBytes() {
+    return bytes.length + 4L * (offsets.length + hashes.length + table.length);
+  }
+
+  /** Returns the slot holding {@code encoded}, or the empty slot where it would go. */
+  private int slotOf(byte[] encoded, int hash) {
+    int mask = table.length - 1;
+    for (int slot = mix(hash) & mask; ; slot = (slot + 1) & mask) {
+      int code = table[slot];
+      if (code == EMPTY
+          || (hashes[code] == hash
+              && Arrays.equals(
+                  bytes, offsets[code], offsets[code + 1], encoded, 0, encoded.length))) {
+        return slot;
+      }
+    }
+  }
+
+  private void rehash(int capacity) {
+    table = newTable(capacity);
+    int mask = capacity - 1;
+    for (int code = 0; code < size; code++) {
+      int slot = mix(hashes[code]) & mask;
+      while (table[slot] != EMPTY) {
+        slot = (slot + 1) & mask;
+      }
+      table[slot] = code;
+    }
+  }
+
+  private static int[] newTable(int capacity) {
+    int[] table = new int[capacity];
+    Arrays.fill(table, EMPTY);
+    return table;
+  }
+
+  private static int mix(int hash) {
+    return hash ^ (hash >>> 16);
+  }
+}
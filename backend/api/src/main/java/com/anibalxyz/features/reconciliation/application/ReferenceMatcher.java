@@ -0,0 +1,177 @@
+package com.anibalxyz.features.reconciliation.application;
+
+import com.anibalxyz.features.reconciliation.application.env.ReconciliationEnvironment;
+import com.anibalxyz.features.reconciliation.domain.MatchCandidate;
+import com.anibalxyz.features.reconciliation.domain.MatchOutcome;
+import com.anibalxyz.features.reconciliation.domain.MatchPair;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Pairs BANK and SYSTEM transactions within the amount and date tolerances whose references are
+ * alike once normalized, catching the rows whose bank reference carries a prefix, was truncated or
+ * was retyped, before the tolerance stage pairs them by amount alone.
+ *
+ * <p>References are normalized by {@link ReferenceNormalizer} and compared by {@link Trigrams}
+ * similarity. For every BANK row, the {@link #TOP_K} most similar SYSTEM references reaching {@code
+ * RECONCILIATION_REFERENCE_SIMILARITY} are looked up, by default in a {@link TrigramIndex} built
+ * over the SYSTEM side and keyed by amount, and the most similar of them within the tolerances
+ * wins, by amount difference and then date difference among equals.
+ *
+ * <p>Unmatched candidates are returned in input order.
+ */
+public class ReferenceMatcher implements MatchStage {
+  /** Most similar references considered for each BANK row. */
+  static final int TOP_K = 8;
+
+  private final ReconciliationEnvironment env;
+
+  public ReferenceMatcher(ReconciliationEnvironment env) {
+    this.env = env;
+  }
+
+  public boolean isEnabled() {
+    return env.RECONCILIATION_REFERENCE_SIMILARITY() > 0;
+  }
+
+  @Override
+  public MatchOutcome match(List<MatchCandidate> bank, List<MatchCandidate> system) {
+    if (!isEnabled() || bank.isEmpty() || system.isEmpty()) {
+      return new MatchOutcome(List.of(), bank, system);
+    }
+    int[][] grams = new int[system.size()][];
+    long[] amounts = new long[system.size()];
+    for (int i = 0; i < grams.length; i++) {
+      grams[i] = Trigrams.of(ReferenceNormalizer.normalize(system.get(i).reference()));
+      amounts[i] = system.get(i).amountCents();
+    }
+    TrigramIndex index =
+        new TrigramIndex(grams, amounts, env.RECONCILIATION_REFERENCE_SIMILARITY());
+    long amountTolerance = env.RECONCILIATION_AMOUNT_TOLERANCE_CENTS();
+    boolean[] taken = new boolean[system.size()];
+    return match(
+        bank,
+        system,
+        taken,
+        (probe, probeGrams, limit) ->
+            index.similar(
+                probeGrams,
+                probe.amountCents() - amountTolerance,
+                probe.amountCents() + amountTolerance,
+                limit,
+                position -> !taken[position] && withinTolerance(probe, system.get(position))));
+  }
+
+  /**
+   * Runs the stage with SYSTEM references looked up through {@code lookup} instead of an index
+   * built in memory.
+   */
+  MatchOutcome match(List<MatchCandidate> bank, List<MatchCandidate> system, Lookup lookup) {
+    if (!isEnabled() || bank.isEmpty() || system.isEmpty()) {
+      return new MatchOutcome(List.of(), bank, system);
+    }
+    return match(bank, system, new boolean[system.size()], lookup);
+  }
+
+  private MatchOutcome match(
+      List<MatchCandidate> bank, List<MatchCandidate> system, boolean[] taken, Lookup lookup) {
+    double minSimilarity = env.RECONCILIATION_REFERENCE_SIMILARITY();
+    List<MatchPair> pairs = new ArrayList<>();
+    List<MatchCandidate> unmatchedBank = new ArrayList<>();
+
+    for (MatchCandidate b : bank) {
+      int[] probeGrams = Trigrams.of(ReferenceNormalizer.normalize(b.reference()));
+      int best = -1;
+      double bestSimilarity = 0;
+      long bestAmountDiff = Long.MAX_VALUE;
+      int bestDayDiff = Integer.MAX_VALUE;
+      if (probeGrams.length > 0) {
+        for (int position : similar(lookup, b, probeGrams, taken)) {
+          if (position < 0 || taken[position]) {
+            continue;
+          }
+          MatchCandidate s = system.get(position);
+          if (!withinTolerance(b, s)) {
+            continue;
+          }
+          // Lookups may be approximate, so every candidate is checked against the threshold again
+          double similarity =
+              Trigrams.similarity(
+                  probeGrams, Trigrams.of(ReferenceNormalizer.normalize(s.reference())));
+          if (similarity < minSimilarity) {
+            continue;
+          }
+          long amountDiff = Math.abs(s.amountCents() - b.amountCents());
+          int dayDiff = Math.abs(s.epochDay() - b.epochDay());
+          if (similarity > bestSimilarity
+              || (similarity == bestSimilarity
+                  && (amountDiff < bestAmountDiff
+                      || (amountDiff == bestAmountDiff && dayDiff < bestDayDiff)))) {
+            best = position;
+            bestSimilarity = similarity;
+            bestAmountDiff = amountDiff;
+            bestDayDiff = dayDiff;
+          }
+        }
+      }
+
+      if (best < 0) {
+        unmatchedBank.add(b);
+        continue;
+      }
+      taken[best] = true;
+      MatchCandidate s = system.get(best);
+      pairs.add(new MatchPair(b.id(), s.id(), ToleranceMatcher.discrepancies(b, s)));
+    }
+
+    List<MatchCandidate> unmatchedSystem = new ArrayList<>();
+    for (int j = 0; j < system.size(); j++) {
+      if (!taken[j]) {
+        unmatchedSystem.add(system.get(j));
+      }
+    }
+    return new MatchOutcome(pairs, unmatchedBank, unmatchedSystem);
+  }
+
+  /**
+   * Asks {@code lookup} for the {@link #TOP_K} most similar SYSTEM rows, and for twice as many each
+   * time every row it returns is taken already or not in the list while it may have more, so that
+   * rows claimed earlier in this call do not hide the free ones ranked after them.
+   */
+  private static int[] similar(
+      Lookup lookup, MatchCandidate probe, int[] probeGrams, boolean[] taken) {
+    int limit = TOP_K;
+    while (true) {
+      int[] positions = lookup.similar(probe, probeGrams, limit);
+      if (positions.length < limit || limit > Integer.MAX_VALUE / 2) {
+        return positions;
+      }
+      for (int position : positions) {
+        if (position >= 0 && !taken[position]) {
+          return positions;
+        }
+      }
+      limit *= 2;
+    }
+  }
+
+  private boolean withinTolerance(MatchCandidate bank, MatchCandidate system) {
+    return bank.currency() == system.currency()
+        && Math.abs(bank.amountCents() - system.amountCents())
+            <= env.RECONCILIATION_AMOUNT_TOLERANCE_CENTS()
+        && Math.abs(bank.epochDay() - system.epochDay())
+            <= env.RECONCILIATION_DATE_TOLERANCE_DAYS();
+  }
+
+  /** Source of the SYSTEM references most similar to a BANK row. */
+  @FunctionalInterface
+  interface Lookup {
+    /**
+     * @param probeGrams trigrams of the normalized reference of {@code probe}, never empty
+     * @return positions in the SYSTEM list of at most {@code limit} references similar to the one
+     *     of {@code probe}, most similar first, with {@code -1} for a row found outside the list.
+     *     Fewer than {@code limit} means there are no more.
+     */
+    int[] similar(MatchCandidate probe, int[] probeGrams, int limit);
+  }
+}
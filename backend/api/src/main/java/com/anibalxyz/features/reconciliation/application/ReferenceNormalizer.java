@@ -0,0 +1,61 @@
+package com.anibalxyz.features.reconciliation.application;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Reduces a transaction reference to the part both sides of a match are likely to agree on.
+ *
+ * <p>Banks prepend their own markers, truncate long references and change casing and punctuation.
+ * References are therefore compared after folding accents, uppercasing, splitting into runs of
+ * letters and digits, dropping leading tokens that are only such markers and joining the rest
+ * without separators: {@code "Transf. ref: inv-2024/0012"} becomes {@code "INV20240012"}.
+ */
+final class ReferenceNormalizer {
+  /** Tokens banks put in front of the reference they were given. */
+  private static final Set<String> NOISE_PREFIXES =
+      Set.of(
+          "DEP", "DEPOSIT", "DEPOSITO", "NO", "NRO", "NUM", "PAGO", "PAYMENT", "PMT", "REF",
+          "REFERENCIA", "TRANSF", "TRANSFER", "TRANSFERENCIA", "TRF");
+
+  private ReferenceNormalizer() {}
+
+  /**
+   * @return the normalized reference, made only of {@code A-Z} and {@code 0-9}; empty for a
+   *     reference without letters or digits
+   */
+  static String normalize(String reference) {
+    if (reference == null) return "";
+    String folded =
+        Normalizer.normalize(reference, Normalizer.Form.NFKD).toUpperCase(Locale.ROOT);
+    StringBuilder normalized = new StringBuilder(folded.length());
+    StringBuilder prefixes = new StringBuilder();
+    boolean leading = true;
+    int i = 0;
+    while (i < folded.length()) {
+      if (!isKept(folded.charAt(i))) {
+        i++;
+        continue;
+      }
+      int start = i;
+      while (i < folded.length() && isKept(folded.charAt(i))) {
+        i++;
+      }
+      String token = folded.substring(start, i);
+      if (leading && NOISE_PREFIXES.contains(token)) {
+        prefixes.append(token);
+        continue;
+      }
+      leading = false;
+      normalized.append(token);
+    }
+    // A reference made only of markers is kept whole rather than reduced to nothing
+    return normalized.isEmpty() ? prefixes.toString() : normalized.toString();
+  }
+
+  /** Combining marks left by the decomposition and every other symbol are dropped. */
+  private static boolean isKept(char c) {
+    return (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+  }
+}
@@ -0,0 +1,251 @@
+package com.anibalxyz.features.reconciliation.application;
+
+import com.anibalxyz.features.reconciliation.domain.MatchCandidate;
+import com.anibalxyz.features.reconciliation.domain.MatchRuleDefinition;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Compiles the rule language of {@code reconciliation_rules} into a {@link MatchRule}.
+ *
+ * <p>A rule is one or more conditions joined by {@code and}, each naming what a BANK row of the
+ * source and a SYSTEM row must share:
+ *
+ * <ul>
+ *   <li>{@code reference}: equal references.
+ *   <li>{@code amount} or {@code amount within N}: equal amounts, or amounts at most {@code N}
+ *       minor units apart.
+ *   <li>{@code date} or {@code date within N}: the same day, or at most {@code N} days apart.
+ *   <li>{@code reference matches 'regex'} or {@code description matches 'regex'}: the first group
+ *       of the pattern, or the whole match when it has no group, found in the BANK reference or
+ *       description equals the SYSTEM reference. Quotes inside the pattern are doubled.
+ * </ul>
+ *
+ * <p>For example {@code description matches 'INV-(\d+)' and amount within 100}. Keywords are
+ * case-insensitive and each field takes one condition at most. Equality conditions become the key
+ * of a hash join. A single range condition becomes the swept value of a sort-sweep, preferring
+ * amount over date when both are ranges, in which case the date one is checked as a predicate.
+ */
+final class RuleCompiler {
+  private static final Pattern TOKEN =
+      Pattern.compile("\\s*(?:([A-Za-z]+)|(\\d+)|'((?:[^']|'')*)')");
+
+  private RuleCompiler() {}
+
+  /**
+   * @throws IllegalArgumentException if the definition is not a valid rule
+   */
+  static MatchRule compile(MatchRuleDefinition rule) {
+    List<Object> tokens = tokenize(rule.definition());
+    Conditions conditions = new Conditions();
+    int at = 0;
+    do {
+      if (at > 0) {
+        expectWord(tokens, at++, "and");
+      }
+      at = parseCondition(tokens, at, conditions);
+    } while (at < tokens.size());
+    return conditions.compile(rule);
+  }
+
+  private static int parseCondition(List<Object> tokens, int at, Conditions conditions) {
+    String field = word(tokens, at++);
+    switch (field) {
+      case "reference", "description" -> {
+        if (at < tokens.size() && "matches".equals(tokens.get(at))) {
+          if (!(at + 1 < tokens.size() && tokens.get(at + 1) instanceof Text pattern)) {
+            throw new IllegalArgumentException("Expected a quoted pattern after 'matches'");
+          }
+          conditions.setReference(field, pattern.value());
+          return at + 2;
+        }
+        if (field.equals("description")) {
+          throw new IllegalArgumentException("Expected 'matches' after 'description'");
+        }
+        conditions.setReference(null, null);
+        return at;
+      }
+      case "amount", "date" -> {
+        long within = 0;
+        if (at < tokens.size() && "within".equals(tokens.get(at))) {
+          if (!(at + 1 < tokens.size() && tokens.get(at + 1) instanceof Long n)) {
+            throw new IllegalArgumentException("Expected a number after 'within'");
+          }
+          within = n;
+          at += 2;
+        }
+        if (field.equals("amount")) {
+          conditions.setAmount(within);
+        } else {
+          conditions.setDate(within);
+        }
+        return at;
+      }
+      default -> throw new IllegalArgumentException("Unknown condition '" + field + "'");
+    }
+  }
+
+  private static List<Object> tokenize(String definition) {
+    List<Object> tokens = new ArrayList<>();
+    Matcher matcher = TOKEN.matcher(definition);
+    int at = 0;
+    while (at < definition.length()) {
+      if (definition.substring(at).isBlank()) {
+        break;
+      }
+      if (!matcher.find(at) || matcher.start() != at) {
+        throw new IllegalArgumentException("Unexpected character at position " + at);
+      }
+      if (matcher.group(1) != null) {
+        tokens.add(matcher.group(1).toLowerCase(Locale.ROOT));
+      } else if (matcher.group(2) != null) {
+        try {
+          tokens.add(Long.parseLong(matcher.group(2)));
+        } catch (NumberFormatException e) {
+          throw new IllegalArgumentException("Number too large: " + matcher.group(2));
+        }
+      } else {
+        tokens.add(new Text(matcher.group(3).replace("''", "'")));
+      }
+      at = matcher.end();
+    }
+    if (tokens.isEmpty()) {
+      throw new IllegalArgumentException("A rule needs at least one condition");
+    }
+    return tokens;
+  }
+
+  private static String word(List<Object> tokens, int at) {
+    if (at >= tokens.size() || !(tokens.get(at) instanceof String word)) {
+      throw new IllegalArgumentException("Expected a condition");
+    }
+    return word;
+  }
+
+  private static void expectWord(List<Object> tokens, int at, String expected) {
+    if (!expected.equals(tokens.get(at))) {
+      throw new IllegalArgumentException("Expected '" + expected + "' between conditions");
+    }
+  }
+
+  /** Quoted text, kept apart from keywords. */
+  private record Text(String value) {}
+
+  /** Conditions read so far; {@code -1} marks a field the rule does not compare. */
+  private static final class Conditions {
+    private boolean byReference;
+    private String referenceField;
+    private Pattern referencePattern;
+    private long amountWithin = -1;
+    private long dateWithin = -1;
+
+    void setReference(String field, String pattern) {
+      if (byReference) {
+        throw new IllegalArgumentException("The reference is compared more than once");
+      }
+      byReference = true;
+      referenceField = field;
+      if (pattern != null) {
+        try {
+          referencePattern = Pattern.compile(pattern);
+        } catch (PatternSyntaxException e) {
+          throw new IllegalArgumentException("Invalid pattern: " + e.getDescription());
+        }
+      }
+    }
+
+    void setAmount(long within) {
+      if (amountWithin >= 0) {
+        throw new IllegalArgumentException("The amount is compared more than once");
+      }
+      amountWithin = within;
+    }
+
+    void setDate(long within) {
+      if (dateWithin >= 0) {
+        throw new IllegalArgumentException("The date is compared more than once");
+      }
+      if (within > Integer.MAX_VALUE) {
+        throw new IllegalArgumentException("Date range too large: " + within);
+      }
+      dateWithin = within;
+    }
+
+    MatchRule compile(MatchRuleDefinition rule) {
+      ToLongFunction<MatchCandidate> amount =
+          amountWithin == 0 ? MatchCandidate::amountCents : c -> 0;
+      ToIntFunction<MatchCandidate> day = dateWithin == 0 ? MatchCandidate::epochDay : c -> 0;
+      Function<MatchCandidate, String> systemReference =
+          byReference ? MatchCandidate::reference : null;
+      Function<MatchCandidate, String> bankReference =
+          referencePattern == null ? systemReference : extractor(referenceField, referencePattern);
+
+      ToLongFunction<MatchCandidate> sweepValue = null;
+      long sweepTolerance = 0;
+      BiPredicate<MatchCandidate, MatchCandidate> predicate = null;
+      if (amountWithin > 0) {
+        sweepValue = MatchCandidate::amountCents;
+        sweepTolerance = amountWithin;
+        if (dateWithin > 0) {
+          long days = dateWithin;
+          predicate = (b, s) -> Math.abs(b.epochDay() - s.epochDay()) <= days;
+        }
+      } else if (dateWithin > 0) {
+        sweepValue = MatchCandidate::epochDay;
+        sweepTolerance = dateWithin;
+      }
+
+      return new MatchRule(
+          rule,
+          key(bankReference, amount, day),
+          key(systemReference, amount, day),
+          sweepValue,
+          sweepTolerance,
+          predicate);
+    }
+
+    /**
+     * @param reference extractor of the compared reference, {@code null} when the rule does not
+     *     compare it
+     */
+    private static Function<MatchCandidate, MatchRule.Key> key(
+        Function<MatchCandidate, String> reference,
+        ToLongFunction<MatchCandidate> amount,
+        ToIntFunction<MatchCandidate> day) {
+      if (reference == null) {
+        return c -> new MatchRule.Key(c.currency(), amount.applyAsLong(c), day.applyAsInt(c), null);
+      }
+      return c -> {
+        String text = reference.apply(c);
+        return text == null
+            ? null
+            : new MatchRule.Key(c.currency(), amount.applyAsLong(c), day.applyAsInt(c), text);
+      };
+    }
+
+    private static Function<MatchCandidate, String> extractor(String field, Pattern pattern) {
+      Function<MatchCandidate, String> source =
+          field.equals("description") ? MatchCandidate::description : MatchCandidate::reference;
+      boolean hasGroup = pattern.matcher("").groupCount() > 0;
+      return c -> {
+        String text = source.apply(c);
+        if (text == null) {
+          return null;
+        }
+        Matcher matcher = pattern.matcher(text);
+        if (!matcher.find()) {
+          return null;
+        }
+        return hasGroup ? matcher.group(1) : matcher.group();
+      };
+    }
+  }
+}
@@ -0,0 +1,118 @@
+package com.anibalxyz.features.reconciliation.application;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+import com.anibalxyz.features.reconciliation.application.out.RuleSummary;
+import com.anibalxyz.features.reconciliation.domain.MatchCandidate;
+import com.anibalxyz.features.reconciliation.domain.MatchOutcome;
+import com.anibalxyz.features.reconciliation.domain.MatchPair;
+import com.anibalxyz.features.reconciliation.domain.MatchRuleDefinition;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs the match rules of each BANK source, as stored in {@code reconciliation_rules}, over the
+ * rows the exact stage left.
+ *
+ * <p>Rules are compiled by {@link RuleCompiler} once and kept until the stored definitions change.
+ * A rule that does not compile is logged and skipped instead of failing the run. Each source's
+ * rules run in priority order against that source's BANK rows and every SYSTEM row still unmatched,
+ * so a row taken by one rule is never seen by the next.
+ *
+ * <p>Unmatched candidates are returned in input order. Not thread-safe; runs are serialized by
+ * {@link ReconcileTransactions}.
+ */
+public class RuleMatcher {
+  private static final Logger log = LoggerFactory.getLogger(RuleMatcher.class);
+
+  private List<MatchRuleDefinition> definitions = List.of();
+  private List<MatchRule> compiled = List.of();
+
+  public Outcome match(
+      List<MatchCandidate> bank, List<MatchCandidate> system, List<MatchRuleDefinition> rules) {
+    List<MatchRule> pipeline = compile(rules);
+    if (pipeline.isEmpty() || bank.isEmpty() || system.isEmpty()) {
+      return new Outcome(List.of(), bank, system, List.of());
+    }
+    Map<Integer, List<MatchCandidate>> bankBySource = new LinkedHashMap<>();
+    for (MatchCandidate candidate : bank) {
+      bankBySource.computeIfAbsent(candidate.sourceId(), k -> new ArrayList<>()).add(candidate);
+    }
+
+    List<MatchPair> pairs = new ArrayList<>();
+    List<RuleSummary> summaries = new ArrayList<>(pipeline.size());
+    List<MatchCandidate> openSystem = system;
+    for (MatchRule rule : pipeline) {
+      MatchRuleDefinition definition = rule.definition();
+      List<MatchCandidate> openBank = bankBySource.getOrDefault(definition.sourceId(), List.of());
+      long start = System.nanoTime();
+      MatchOutcome outcome = rule.match(openBank, openSystem);
+      Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+      pairs.addAll(outcome.pairs());
+      bankBySource.put(definition.sourceId(), outcome.unmatchedBank());
+      openSystem = outcome.unmatchedSystem();
+      summaries.add(
+          new RuleSummary(
+              definition.id(),
+              definition.sourceId(),
+              definition.name(),
+              rule.strategy(),
+              outcome.pairs().size(),
+              elapsed));
+      log.info(
+          "Match rule finished",
+          kv("rule", definition.name()),
+          kv("source_id", definition.sourceId()),
+          kv("strategy", rule.strategy()),
+          kv("matches", outcome.pairs().size()),
+          kv("elapsed_ms", elapsed.toMillis()));
+    }
+
+    Set<Integer> matchedBank = HashSet.newHashSet(pairs.size());
+    for (MatchPair pair : pairs) {
+      matchedBank.add(pair.leftTransactionId());
+    }
+    List<MatchCandidate> unmatchedBank = new ArrayList<>(bank.size() - pairs.size());
+    for (MatchCandidate candidate : bank) {
+      if (!matchedBank.contains(candidate.id())) {
+        unmatchedBank.add(candidate);
+      }
+    }
+    return new Outcome(pairs, unmatchedBank, openSystem, summaries);
+  }
+
+  private List<MatchRule> compile(List<MatchRuleDefinition> rules) {
+    if (rules.equals(definitions)) {
+      return compiled;
+    }
+    List<MatchRule> pipeline = new ArrayList<>(rules.size());
+    for (MatchRuleDefinition rule : rules) {
+      try {
+        pipeline.add(RuleCompiler.compile(rule));
+      } catch (IllegalArgumentException e) {
+        log.warn(
+            "Skipping invalid match rule", kv("rule_id", rule.id()), kv("error", e.getMessage()));
+      }
+    }
+    definitions = List.copyOf(rules);
+    compiled = pipeline;
+    return pipeline;
+  }
+
+  /**
+   * @param rules what each rule did, in the order they ran
+   */
+  public record Outcome(
+      List<MatchPair> pairs,
+      List<MatchCandidate> unmatchedBank,
+      List<MatchCandidate> unmatchedSystem,
+      List<RuleSummary> rules) {}
+}
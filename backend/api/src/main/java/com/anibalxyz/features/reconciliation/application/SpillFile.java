@@ -0,0 +1,164 @@
+package com.anibalxyz.features.reconciliation.application;
+
+import com.anibalxyz.features.reconciliation.domain.MatchCandidate;
+import com.anibalxyz.features.transactions.domain.Currency;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Append-only file of {@link MatchCandidate} records, written through a small buffer and read back
+ * in one pass through a memory mapping.
+ *
+ * <p>A record is the fixed-width columns followed by the UTF-8 reference and description, each
+ * prefixed with its length, {@code -1} standing for {@code null}. The buffer is allocated on the
+ * first append and the file is only opened to write a full buffer out, so a partition costs no
+ * memory until it receives a row and no file descriptor between writes. Not thread-safe.
+ */
+final class SpillFile implements Closeable {
+  /** Bytes buffered before they are written out. */
+  static final int BUFFER_BYTES = 8 * 1024;
+
+  /** id, source id, currency, amount, epoch day, reference length and description length. */
+  private static final int FIXED_BYTES = 4 + 4 + 1 + 8 + 4 + 4 + 4;
+
+  private static final Currency[] CURRENCIES = Currency.values();
+
+  private final Path path;
+  private ByteBuffer buffer;
+  private boolean created;
+  private int count;
+
+  SpillFile(Path path) {
+    this.path = path;
+  }
+
+  int count() {
+    return count;
+  }
+
+  void append(MatchCandidate candidate) throws IOException {
+    if (buffer == null) {
+      buffer = ByteBuffer.allocate(BUFFER_BYTES);
+    }
+    byte[] reference = encode(candidate.reference());
+    byte[] description = encode(candidate.description());
+    int size =
+        FIXED_BYTES
+            + (reference == null ? 0 : reference.length)
+            + (description == null ? 0 : description.length);
+    if (buffer.remaining() < size) {
+      flush();
+    }
+    // A record longer than the whole buffer gets a buffer of its own
+    ByteBuffer target = size > buffer.capacity() ? ByteBuffer.allocate(size) : buffer;
+    target
+        .putInt(candidate.id())
+        .putInt(candidate.sourceId())
+        .put((byte) candidate.currency().ordinal())
+        .putLong(candidate.amountCents())
+        .putInt(candidate.epochDay());
+    put(target, reference);
+    put(target, description);
+    if (target != buffer) {
+      write(target.flip());
+    }
+    count++;
+  }
+
+  /**
+   * Maps the file and decodes every record in the order they were appended, then deletes the file.
+   */
+  List<MatchCandidate> readAndDelete() throws IOException {
+    close();
+    List<MatchCandidate> candidates = new ArrayList<>(count);
+    if (count == 0) {
+      return candidates;
+    }
+    try (FileChannel in = FileChannel.open(path, StandardOpenOption.READ)) {
+      long size = in.size();
+      if (size > Integer.MAX_VALUE) {
+        throw new IllegalStateException(
+            "Spill file " + path + " exceeds a single mapping; the run is too large to spill");
+      }
+      MappedByteBuffer mapped = in.map(FileChannel.MapMode.READ_ONLY, 0, size);
+      while (mapped.hasRemaining()) {
+        candidates.add(decode(mapped));
+      }
+    } finally {
+      Files.deleteIfExists(path);
+    }
+    return candidates;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (buffer == null) {
+      return;
+    }
+    try {
+      flush();
+    } finally {
+      buffer = null;
+    }
+  }
+
+  private void flush() throws IOException {
+    if (buffer.position() > 0) {
+      write(buffer.flip());
+    }
+    buffer.clear();
+  }
+
+  /** Opens the file just for this write, creating it the first time. */
+  private void write(ByteBuffer source) throws IOException {
+    StandardOpenOption mode = created ? StandardOpenOption.APPEND : StandardOpenOption.CREATE_NEW;
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE, mode)) {
+      created = true;
+      while (source.hasRemaining()) {
+        channel.write(source);
+      }
+    }
+  }
+
+  private static byte[] encode(String text) {
+    return text == null ? null : text.getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static void put(ByteBuffer target, byte[] text) {
+    target.putInt(text == null ? -1 : text.length);
+    if (text != null) {
+      target.put(text);
+    }
+  }
+
+  private static String getText(ByteBuffer in) {
+    int length = in.getInt();
+    if (length < 0) {
+      return null;
+    }
+    byte[] bytes = new byte[length];
+    in.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private static MatchCandidate decode(ByteBuffer in) {
+    int id = in.getInt();
+    int sourceId = in.getInt();
+    Currency currency = CURRENCIES[in.get()];
+    long amountCents = in.getLong();
+    int epochDay = in.getInt();
+    String reference = getText(in);
+    String description = getText(in);
+    return new MatchCandidate(
+        id, sourceId, currency, amountCents, epochDay, reference, description);
+  }
+}
@@ -0,0 +1,444 @@
+package com.anibalxyz.features.reconciliation.application;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+import com.anibalxyz.features.reconciliation.application.env.ReconciliationEnvironment;
+import com.anibalxyz.features.reconciliation.application.out.RuleSummary;
+import com.anibalxyz.features.reconciliation.domain.MatchCandidate;
+import com.anibalxyz.features.reconciliation.domain.MatchOutcome;
+import com.anibalxyz.features.reconciliation.domain.MatchRuleDefinition;
+import com.anibalxyz.features.reconciliation.domain.ReconciliationRepository;
+import com.anibalxyz.features.transactions.domain.SourceType;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Matches full runs too large for the heap by spilling the candidates to files under {@code
+ * RECONCILIATION_SPILL_DIR} and matching them one memory-mapped partition at a time.
+ *
+ * <p>Candidates are streamed from the repository into partitions by a hash of their exact match
+ * key, so rows sharing a key always land in the same partition. Each partition is exact-matched and
+ * its leftovers go through the match rules of the BANK sources, then are spilled again, this time
+ * into consecutive date ranges, which are then matched by reference and by tolerance in date order.
+ * That is the stage order of an in-memory run, so a run pairs the same rows whether it spills or
+ * not. Leftovers close enough to the next range to still match there are carried over into it, so
+ * no pair within the date tolerance is lost at a range edge. Pairs are saved as each partition
+ * finishes.
+ *
+ * <p>Partitions hold about half of {@code RECONCILIATION_SPILL_THRESHOLD} rows. Date ranges are cut
+ * from a count of the rows of each day taken while spilling, so a day crowded with settlements
+ * gets a range of its own instead of swelling a fixed-width one. The partition count is capped by
+ * {@link #maxPartitions(int)}, beyond which partitions grow instead. A date range whose SYSTEM side
+ * alone outgrows a partition is not indexed by reference in memory: its references are looked up
+ * through the trigram index of the database.
+ *
+ * <p>The heap is bounded by one partition only as long as no single day holds more rows than a
+ * partition, since a day is never split, and as long as few rows are left unmatched: those are
+ * returned in full and go on to the group stage and the open-item index as they do after an
+ * in-memory run. Match rules may pair rows however far apart their dates are, so when any are
+ * configured every row the exact stage leaves is held in memory while they run.
+ */
+public class SpillingMatcher {
+  private static final Logger log = LoggerFactory.getLogger(SpillingMatcher.class);
+
+  /** Partitions a run may always be split into, however low the threshold. */
+  static final int MIN_PARTITIONS = 16;
+
+  /** Partitions a run is never split beyond, however high the threshold. */
+  static final int MAX_PARTITIONS = 256;
+
+  /** Rough heap taken by a candidate held in memory, strings included. */
+  static final int CANDIDATE_BYTES = 128;
+
+  private final ReconciliationEnvironment env;
+  private final PartitionedMatcher partitionedMatcher;
+  private final ExactMatcher exactMatcher;
+  private final RuleMatcher ruleMatcher;
+  private final ReferenceMatcher referenceMatcher;
+  private final ToleranceMatcher toleranceMatcher;
+  private final Set<Path> activeRuns = ConcurrentHashMap.newKeySet();
+  private volatile boolean stopping;
+
+  public SpillingMatcher(
+      ReconciliationEnvironment env,
+      PartitionedMatcher partitionedMatcher,
+      ExactMatcher exactMatcher,
+      RuleMatcher ruleMatcher,
+      ReferenceMatcher referenceMatcher,
+      ToleranceMatcher toleranceMatcher) {
+    this.env = env;
+    this.partitionedMatcher = partitionedMatcher;
+    this.exactMatcher = exactMatcher;
+    this.ruleMatcher = ruleMatcher;
+    this.referenceMatcher = referenceMatcher;
+    this.toleranceMatcher = toleranceMatcher;
+  }
+
+  public boolean isEnabled() {
+    return env.RECONCILIATION_SPILL_THRESHOLD() > 0;
+  }
+
+  /** Returns whether a full run over {@code candidates} transactions has to spill to disk. */
+  public boolean shouldSpill(long candidates) {
+    return isEnabled() && candidates > env.RECONCILIATION_SPILL_THRESHOLD();
+  }
+
+  /**
+   * Runs the exact stage, the match rules and the reference and tolerance stages over every
+   * unmatched transaction, saving the pairs through {@code repository} as they are found. The
+   * spill files are deleted before returning.
+   *
+   * @param candidates number of unmatched transactions, used to size the partitions
+   */
+  public Outcome match(
+      ReconciliationRepository repository, long candidates, List<MatchRuleDefinition> rules) {
+    int threshold = env.RECONCILIATION_SPILL_THRESHOLD();
+    int partitions =
+        Math.clamp(Math.ceilDiv(candidates * 2, threshold), 1, maxPartitions(threshold));
+    Path runDir;
+    try {
+      Path spillDir = Files.createDirectories(env.RECONCILIATION_SPILL_DIR());
+      runDir = Files.createTempDirectory(spillDir, "run-");
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    activeRuns.add(runDir);
+    log.info(
+        "Spilling reconciliation run to disk",
+        kv("candidates", candidates),
+        kv("partitions", partitions),
+        kv("spill_dir", runDir));
+    try (Partitions byKey = new Partitions(runDir, "key", partitions)) {
+      return match(repository, runDir, byKey, rules);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } finally {
+      activeRuns.remove(runDir);
+      delete(runDir);
+    }
+  }
+
+  /**
+   * Most partitions a run over {@code spillThreshold} is split into. A run buffers two spill files
+   * per partition while spilling by key and up to four while spilling by date, since a date range
+   * may hold as little as half a partition, and together those buffers take no more heap than the
+   * rows of one partition.
+   */
+  static int maxPartitions(int spillThreshold) {
+    long partitionBytes = (long) spillThreshold / 2 * CANDIDATE_BYTES;
+    long partitions = partitionBytes / (4L * SpillFile.BUFFER_BYTES);
+    return (int) Math.clamp(partitions, MIN_PARTITIONS, MAX_PARTITIONS);
+  }
+
+  /**
+   * Fails the runs in progress at their next partition and deletes their spill files, so that a
+   * stopping server leaves nothing behind.
+   */
+  public void shutdown() {
+    stopping = true;
+    activeRuns.forEach(SpillingMatcher::delete);
+  }
+
+  /**
+   * First day of each date range, cut so that a range holds at most {@code rangeRows} rows unless a
+   * single day holds more, in which case that day is a range of its own.
+   *
+   * @param rowsByDay rows of each epoch day
+   */
+  static int[] dateRanges(Map<Integer, Integer> rowsByDay, long rangeRows) {
+    int[] days = rowsByDay.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+    int[] starts = new int[days.length];
+    int ranges = 0;
+    long rows = 0;
+    for (int day : days) {
+      int dayRows = rowsByDay.get(day);
+      if (ranges == 0 || rows + dayRows > rangeRows) {
+        starts[ranges++] = day;
+        rows = 0;
+      }
+      rows += dayRows;
+    }
+    return Arrays.copyOf(starts, ranges);
+  }
+
+  private Outcome match(
+      ReconciliationRepository repository,
+      Path runDir,
+      Partitions byKey,
+      List<MatchRuleDefinition> rules)
+      throws IOException {
+    int partitions = byKey.count();
+    Map<Integer, Integer> lastIds = new HashMap<>();
+    Map<Integer, Integer> rowsByDay = new HashMap<>();
+    int bankCandidates = spillByKey(repository, SourceType.BANK, byKey, lastIds, rowsByDay);
+    int systemCandidates = spillByKey(repository, SourceType.SYSTEM, byKey, lastIds, rowsByDay);
+    // Write the key partitions out now, so their buffers are gone before the date ones fill up
+    byKey.close();
+    int[] rangeStarts =
+        dateRanges(rowsByDay, Math.ceilDiv((long) bankCandidates + systemCandidates, partitions));
+    try (Partitions byDate = new Partitions(runDir, "date", rangeStarts.length)) {
+      return match(
+          repository, byKey, byDate, rangeStarts, rules, bankCandidates, systemCandidates, lastIds);
+    }
+  }
+
+  private Outcome match(
+      ReconciliationRepository repository,
+      Partitions byKey,
+      Partitions byDate,
+      int[] rangeStarts,
+      List<MatchRuleDefinition> rules,
+      int bankCandidates,
+      int systemCandidates,
+      Map<Integer, Integer> lastIds)
+      throws IOException {
+    int exactMatches = 0;
+    List<MatchCandidate> ruleBank = new ArrayList<>();
+    List<MatchCandidate> ruleSystem = new ArrayList<>();
+    for (int partition = 0; partition < byKey.count(); partition++) {
+      checkNotStopping();
+      MatchOutcome exact =
+          partitionedMatcher.matchByExactKey(
+              byKey.readAndDelete(SourceType.BANK, partition),
+              byKey.readAndDelete(SourceType.SYSTEM, partition),
+              exactMatcher);
+      repository.saveAll(exact.pairs());
+      exactMatches += exact.pairs().size();
+      if (rules.isEmpty()) {
+        spillByDate(byDate, rangeStarts, SourceType.BANK, exact.unmatchedBank());
+        spillByDate(byDate, rangeStarts, SourceType.SYSTEM, exact.unmatchedSystem());
+      } else {
+        ruleBank.addAll(exact.unmatchedBank());
+        ruleSystem.addAll(exact.unmatchedSystem());
+      }
+    }
+
+    // Back in date order, since rules break ties by input order as after an in-memory exact stage
+    Comparator<MatchCandidate> byDay =
+        Comparator.comparingInt(MatchCandidate::epochDay).thenComparingInt(MatchCandidate::id);
+    ruleBank.sort(byDay);
+    ruleSystem.sort(byDay);
+    RuleMatcher.Outcome ruled = ruleMatcher.match(ruleBank, ruleSystem, rules);
+    repository.saveAll(ruled.pairs());
+    spillByDate(byDate, rangeStarts, SourceType.BANK, ruled.unmatchedBank());
+    spillByDate(byDate, rangeStarts, SourceType.SYSTEM, ruled.unmatchedSystem());
+
+    int referenceMatches = 0;
+    int toleranceMatches = 0;
+    int dayTolerance = env.RECONCILIATION_DATE_TOLERANCE_DAYS();
+    List<MatchCandidate> unmatchedBank = new ArrayList<>();
+    List<MatchCandidate> unmatchedSystem = new ArrayList<>();
+    List<MatchCandidate> carriedBank = List.of();
+    List<MatchCandidate> carriedSystem = List.of();
+    for (int partition = 0; partition < byDate.count(); partition++) {
+      checkNotStopping();
+      List<MatchCandidate> bank = byDate.readAndDelete(SourceType.BANK, partition);
+      bank.addAll(carriedBank);
+      List<MatchCandidate> system = byDate.readAndDelete(SourceType.SYSTEM, partition);
+      system.addAll(carriedSystem);
+      MatchOutcome reference = matchByReference(repository, bank, system);
+      repository.saveAll(reference.pairs());
+      referenceMatches += reference.pairs().size();
+      MatchOutcome tolerance =
+          partitionedMatcher.matchByDateBucket(
+              reference.unmatchedBank(), reference.unmatchedSystem(), toleranceMatcher);
+      repository.saveAll(tolerance.pairs());
+      toleranceMatches += tolerance.pairs().size();
+
+      // Rows this close to the next range may still pair with one of its rows
+      long carryFrom =
+          partition + 1 < rangeStarts.length
+              ? (long) rangeStarts[partition + 1] - dayTolerance
+              : Long.MAX_VALUE;
+      carriedBank = carry(tolerance.unmatchedBank(), carryFrom, unmatchedBank);
+      carriedSystem = carry(tolerance.unmatchedSystem(), carryFrom, unmatchedSystem);
+    }
+    unmatchedBank.addAll(carriedBank);
+    unmatchedSystem.addAll(carriedSystem);
+
+    return new Outcome(
+        bankCandidates,
+        systemCandidates,
+        exactMatches,
+        ruled.pairs().size(),
+        referenceMatches,
+        toleranceMatches,
+        unmatchedBank,
+        unmatchedSystem,
+        ruled.rules(),
+        lastIds);
+  }
+
+  /**
+   * Ranges up to a partition in size index their SYSTEM references in memory, larger ones look them
+   * up in the database, where the rows already paired in the range are saved and left out.
+   */
+  private MatchOutcome matchByReference(
+      ReconciliationRepository repository, List<MatchCandidate> bank, List<MatchCandidate> system) {
+    boolean fitsPartition = system.size() <= env.RECONCILIATION_SPILL_THRESHOLD() / 2;
+    if (!referenceMatcher.isEnabled() || fitsPartition) {
+      return partitionedMatcher.matchByDateBucket(bank, system, referenceMatcher);
+    }
+    Map<Integer, Integer> positions = HashMap.newHashMap(system.size());
+    for (int position = 0; position < system.size(); position++) {
+      positions.put(system.get(position).id(), position);
+    }
+    long amountTolerance = env.RECONCILIATION_AMOUNT_TOLERANCE_CENTS();
+    int dayTolerance = env.RECONCILIATION_DATE_TOLERANCE_DAYS();
+    double minSimilarity = env.RECONCILIATION_REFERENCE_SIMILARITY();
+    // Rows of other ranges are left to those ranges
+    return referenceMatcher.match(
+        bank,
+        system,
+        (probe, probeGrams, limit) ->
+            repository
+                .findSimilarUnmatched(
+                    SourceType.SYSTEM, probe, amountTolerance, dayTolerance, minSimilarity, limit)
+                .stream()
+                .mapToInt(id -> positions.getOrDefault(id, -1))
+                .toArray());
+  }
+
+  /** Returns how many candidates of {@code side} were spilled. */
+  private static int spillByKey(
+      ReconciliationRepository repository,
+      SourceType side,
+      Partitions byKey,
+      Map<Integer, Integer> lastIds,
+      Map<Integer, Integer> rowsByDay) {
+    int[] spilled = {0};
+    repository.forEachUnmatched(
+        side,
+        candidate -> {
+          byKey.append(side, byKey.keyPartition(candidate), candidate);
+          lastIds.merge(candidate.sourceId(), candidate.id(), Math::max);
+          rowsByDay.merge(candidate.epochDay(), 1, Integer::sum);
+          spilled[0]++;
+        });
+    return spilled[0];
+  }
+
+  private static void spillByDate(
+      Partitions byDate, int[] rangeStarts, SourceType side, List<MatchCandidate> candidates) {
+    for (MatchCandidate candidate : candidates) {
+      byDate.append(side, rangeOf(rangeStarts, candidate.epochDay()), candidate);
+    }
+  }
+
+  private static int rangeOf(int[] rangeStarts, int epochDay) {
+    int index = Arrays.binarySearch(rangeStarts, epochDay);
+    return index >= 0 ? index : -index - 2;
+  }
+
+  private static List<MatchCandidate> carry(
+      List<MatchCandidate> leftovers, long carryFrom, List<MatchCandidate> unmatched) {
+    List<MatchCandidate> carried = new ArrayList<>();
+    for (MatchCandidate candidate : leftovers) {
+      (candidate.epochDay() >= carryFrom ? carried : unmatched).add(candidate);
+    }
+    return carried;
+  }
+
+  private void checkNotStopping() {
+    if (stopping) {
+      throw new IllegalStateException("Reconciliation run aborted, the server is stopping");
+    }
+  }
+
+  private static void delete(Path runDir) {
+    try (Stream<Path> files = Files.list(runDir)) {
+      for (Path file : (Iterable<Path>) files::iterator) {
+        Files.deleteIfExists(file);
+      }
+      Files.deleteIfExists(runDir);
+    } catch (IOException e) {
+      log.warn("Could not delete reconciliation spill files", kv("spill_dir", runDir), e);
+    }
+  }
+
+  /**
+   * What the spilled exact stage, match rules and reference and tolerance stages produced. Their
+   * pairs are already saved.
+   *
+   * @param rules what each match rule did, in the order they ran
+   * @param lastTransactionIdBySource highest candidate id of each source, for the watermarks
+   */
+  public record Outcome(
+      int bankCandidates,
+      int systemCandidates,
+      int exactMatches,
+      int ruleMatches,
+      int referenceMatches,
+      int toleranceMatches,
+      List<MatchCandidate> unmatchedBank,
+      List<MatchCandidate> unmatchedSystem,
+      List<RuleSummary> rules,
+      Map<Integer, Integer> lastTransactionIdBySource) {}
+
+  /** One spill file per side and partition of a stage. */
+  private static final class Partitions implements Closeable {
+    private final SpillFile[] bank;
+    private final SpillFile[] system;
+
+    Partitions(Path runDir, String stage, int count) {
+      bank = new SpillFile[count];
+      system = new SpillFile[count];
+      for (int partition = 0; partition < count; partition++) {
+        bank[partition] = new SpillFile(runDir.resolve(stage + "-" + partition + ".bank"));
+        system[partition] = new SpillFile(runDir.resolve(stage + "-" + partition + ".system"));
+      }
+    }
+
+    int count() {
+      return bank.length;
+    }
+
+    /** Same key as {@link ExactMatcher}, so rows sharing it never land in different partitions. */
+    int keyPartition(MatchCandidate candidate) {
+      return Math.floorMod(ExactMatcher.Key.of(candidate).hashCode(), bank.length);
+    }
+
+    void append(SourceType side, int partition, MatchCandidate candidate) {
+      try {
+        files(side)[partition].append(candidate);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    List<MatchCandidate> readAndDelete(SourceType side, int partition) throws IOException {
+      return files(side)[partition].readAndDelete();
+    }
+
+    @Override
+    public void close() throws IOException {
+      IOException failure = null;
+      for (SpillFile file : Stream.concat(Stream.of(bank), Stream.of(system)).toList()) {
+        try {
+          file.close();
+        } catch (IOException e) {
+          if (failure == null) failure = e;
+        }
+      }
+      if (failure != null) throw failure;
+    }
+
+    private SpillFile[] files(SourceType side) {
+      return side == SourceType.BANK ? bank : system;
+    }
+  }
+}
@@ -0,0 +1,145 @@
+package com.anibalxyz.features.reconciliation.application;
+
+import com.anibalxyz.features.reconciliation.application.env.ReconciliationEnvironment;
+import com.anibalxyz.features.reconciliation.domain.Discrepancy;
+import com.anibalxyz.features.reconciliation.domain.MatchCandidate;
+import com.anibalxyz.features.reconciliation.domain.MatchOutcome;
+import com.anibalxyz.features.reconciliation.domain.MatchPair;
+import com.anibalxyz.features.transactions.domain.Currency;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sort-sweep matcher pairing BANK and SYSTEM transactions whose amount and date differ within the
+ * configured tolerances, regardless of their reference.
+ *
+ * <p>Per currency, both sides are sorted by (amount, date) and every BANK row only scans the SYSTEM
+ * rows inside its amount window, which slides forward monotonically. Inside the window the closest
+ * SYSTEM row wins, by amount difference first and date difference second. The cost is {@code O(n
+ * log n)} for the sort plus the window width per row, instead of comparing every pair.
+ *
+ * <p>Unmatched candidates are returned grouped by currency and in (amount, date) order.
+ */
+public class ToleranceMatcher implements MatchStage {
+  private static final Comparator<MatchCandidate> SWEEP_ORDER =
+      Comparator.comparingLong(MatchCandidate::amountCents)
+          .thenComparingInt(MatchCandidate::epochDay)
+          .thenComparingInt(MatchCandidate::id);
+
+  private final ReconciliationEnvironment env;
+
+  public ToleranceMatcher(ReconciliationEnvironment env) {
+    this.env = env;
+  }
+
+  private static Map<Currency, List<MatchCandidate>> byCurrency(List<MatchCandidate> candidates) {
+    Map<Currency, List<MatchCandidate>> grouped = new EnumMap<>(Currency.class);
+    for (MatchCandidate candidate : candidates) {
+      grouped.computeIfAbsent(candidate.currency(), k -> new ArrayList<>()).add(candidate);
+    }
+    return grouped;
+  }
+
+  static EnumSet<Discrepancy> discrepancies(MatchCandidate bank, MatchCandidate system) {
+    EnumSet<Discrepancy> discrepancies = EnumSet.noneOf(Discrepancy.class);
+    if (bank.amountCents() != system.amountCents()) {
+      discrepancies.add(Discrepancy.AMOUNT_MISMATCH);
+    }
+    if (bank.epochDay() != system.epochDay()) {
+      discrepancies.add(Discrepancy.DATE_MISMATCH);
+    }
+    if (!bank.reference().equals(system.reference())) {
+      discrepancies.add(Discrepancy.REFERENCE_MISMATCH);
+    }
+    return discrepancies;
+  }
+
+  @Override
+  public MatchOutcome match(List<MatchCandidate> bank, List<MatchCandidate> system) {
+    Map<Currency, List<MatchCandidate>> bankByCurrency = byCurrency(bank);
+    Map<Currency, List<MatchCandidate>> systemByCurrency = byCurrency(system);
+
+    List<MatchPair> pairs = new ArrayList<>();
+    List<MatchCandidate> unmatchedBank = new ArrayList<>();
+    List<MatchCandidate> unmatchedSystem = new ArrayList<>();
+
+    for (Currency currency : Currency.values()) {
+      List<MatchCandidate> bankSide = bankByCurrency.getOrDefault(currency, List.of());
+      List<MatchCandidate> systemSide = systemByCurrency.getOrDefault(currency, List.of());
+      if (bankSide.isEmpty() || systemSide.isEmpty()) {
+        unmatchedBank.addAll(bankSide);
+        unmatchedSystem.addAll(systemSide);
+        continue;
+      }
+      sweep(bankSide, systemSide, pairs, unmatchedBank, unmatchedSystem);
+    }
+
+    return new MatchOutcome(pairs, unmatchedBank, unmatchedSystem);
+  }
+
+  private void sweep(
+      List<MatchCandidate> bankSide,
+      List<MatchCandidate> systemSide,
+      List<MatchPair> pairs,
+      List<MatchCandidate> unmatchedBank,
+      List<MatchCandidate> unmatchedSystem) {
+    long amountTolerance = env.RECONCILIATION_AMOUNT_TOLERANCE_CENTS();
+    int dayTolerance = env.RECONCILIATION_DATE_TOLERANCE_DAYS();
+
+    List<MatchCandidate> bankSorted = bankSide.stream().sorted(SWEEP_ORDER).toList();
+    List<MatchCandidate> systemSorted = systemSide.stream().sorted(SWEEP_ORDER).toList();
+    boolean[] taken = new boolean[systemSorted.size()];
+    int windowStart = 0;
+
+    for (MatchCandidate b : bankSorted) {
+      long lowerBound = b.amountCents() - amountTolerance;
+      long upperBound = b.amountCents() + amountTolerance;
+      while (windowStart < systemSorted.size()
+          && (taken[windowStart] || systemSorted.get(windowStart).amountCents() < lowerBound)) {
+        windowStart++;
+      }
+
+      int best = -1;
+      long bestAmountDiff = Long.MAX_VALUE;
+      int bestDayDiff = Integer.MAX_VALUE;
+      for (int j = windowStart; j < systemSorted.size(); j++) {
+        MatchCandidate s = systemSorted.get(j);
+        if (s.amountCents() > upperBound) {
+          break;
+        }
+        if (taken[j]) {
+          continue;
+        }
+        int dayDiff = Math.abs(s.epochDay() - b.epochDay());
+        if (dayDiff > dayTolerance) {
+          continue;
+        }
+        long amountDiff = Math.abs(s.amountCents() - b.amountCents());
+        if (amountDiff < bestAmountDiff
+            || (amountDiff == bestAmountDiff && dayDiff < bestDayDiff)) {
+          best = j;
+          bestAmountDiff = amountDiff;
+          bestDayDiff = dayDiff;
+        }
+      }
+
+      if (best < 0) {
+        unmatchedBank.add(b);
+        continue;
+      }
+      taken[best] = true;
+      MatchCandidate s = systemSorted.get(best);
+      pairs.add(new MatchPair(b.id(), s.id(), discrepancies(b, s)));
+    }
+
+    for (int j = 0; j < systemSorted.size(); j++) {
+      if (!taken[j]) {
+        unmatchedSystem.add(systemSorted.get(j));
+      }
+    }
+  }
+}
@@ -0,0 +1,152 @@
+package com.anibalxyz.features.reconciliation.application;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+/**
+ * Inverted index from trigram to the references containing it, built once per run over the SYSTEM
+ * side, that finds the references most similar to a probe without comparing it to every one.
+ *
+ * <p>Every reference carries a key, the amount in practice, and each posting list is sorted by key,
+ * so a lookup only walks the stretch of a list inside the requested key range. Within that range
+ * lookups use prefix filtering: a reference at least {@code minSimilarity} similar to the probe
+ * shares at least that fraction of the probe's trigrams, so it must contain one of the probe's
+ * rarest trigrams in the range, leaving out just enough to fall below the threshold. Only those
+ * stretches are walked and each reference found there is then compared in full. Common trigrams,
+ * such as those of a shared invoice prefix, are never walked.
+ *
+ * <p>Postings are kept in one array, grouped by trigram code. Not thread-safe.
+ */
+final class TrigramIndex {
+  private final int[][] grams;
+  private final long[] keys;
+  private final double minSimilarity;
+  // postings[offsets[code]..offsets[code + 1]] are the references containing the trigram
+  private final int[] offsets;
+  private final int[] postings;
+  // Last lookup that reached each reference, so every reference is compared once per lookup
+  private final int[] seenBy;
+  private int lookups;
+
+  /**
+   * @param grams trigram set of every indexed reference, as returned by {@link Trigrams#of(String)}
+   * @param keys key of every indexed reference, the range lookups are restricted to
+   */
+  TrigramIndex(int[][] grams, long[] keys, double minSimilarity) {
+    this.grams = grams;
+    this.keys = keys;
+    this.minSimilarity = minSimilarity;
+    this.offsets = new int[Trigrams.CODES + 1];
+    for (int[] set : grams) {
+      for (int code : set) {
+        offsets[code + 1]++;
+      }
+    }
+    for (int code = 0; code < Trigrams.CODES; code++) {
+      offsets[code + 1] += offsets[code];
+    }
+    this.postings = new int[offsets[Trigrams.CODES]];
+    int[] next = Arrays.copyOf(offsets, Trigrams.CODES);
+    // Filled in key order, which leaves every posting list sorted by key and then by position
+    int[] byKey =
+        IntStream.range(0, keys.length)
+            .boxed()
+            .sorted((a, b) -> Long.compare(keys[a], keys[b]))
+            .mapToInt(Integer::intValue)
+            .toArray();
+    for (int position : byKey) {
+      for (int code : grams[position]) {
+        postings[next[code]++] = position;
+      }
+    }
+    this.seenBy = new int[grams.length];
+  }
+
+  /**
+   * @param eligible filter applied to positions before they are compared
+   * @return positions of up to {@code limit} eligible references keyed within {@code [fromKey,
+   *     toKey]} and at least {@code minSimilarity} similar to {@code probeGrams}, most similar
+   *     first and by position among equals
+   */
+  int[] similar(int[] probeGrams, long fromKey, long toKey, int limit, IntPredicate eligible) {
+    if (probeGrams.length == 0) return new int[0];
+    int lookup = ++lookups;
+    int minShared = Math.max(1, (int) Math.ceil(minSimilarity * probeGrams.length));
+
+    // Length and start of the stretch of each posting list inside the key range, shortest first
+    long[] stretches = new long[probeGrams.length];
+    for (int g = 0; g < probeGrams.length; g++) {
+      int code = probeGrams[g];
+      int from = lowerBound(offsets[code], offsets[code + 1], fromKey);
+      int to = upperBound(from, offsets[code + 1], toKey);
+      stretches[g] = (long) (to - from) << 32 | from;
+    }
+    Arrays.sort(stretches);
+
+    int[] found = new int[limit];
+    double[] foundSimilarity = new double[limit];
+    int size = 0;
+    for (int g = 0; g < probeGrams.length - minShared + 1; g++) {
+      int from = (int) stretches[g];
+      int to = from + (int) (stretches[g] >>> 32);
+      for (int p = from; p < to; p++) {
+        int position = postings[p];
+        if (seenBy[position] == lookup) {
+          continue;
+        }
+        seenBy[position] = lookup;
+        if (!eligible.test(position)) {
+          continue;
+        }
+        double similarity = Trigrams.similarity(probeGrams, grams[position]);
+        if (similarity < minSimilarity) {
+          continue;
+        }
+        // Insertion into the few best found so far, which stay ordered
+        int at = size;
+        while (at > 0
+            && (foundSimilarity[at - 1] < similarity
+                || (foundSimilarity[at - 1] == similarity && found[at - 1] > position))) {
+          at--;
+        }
+        if (at == limit) {
+          continue;
+        }
+        int moved = Math.min(size, limit - 1) - at;
+        System.arraycopy(found, at, found, at + 1, moved);
+        System.arraycopy(foundSimilarity, at, foundSimilarity, at + 1, moved);
+        found[at] = position;
+        foundSimilarity[at] = similarity;
+        size = Math.min(size + 1, limit);
+      }
+    }
+    return Arrays.copyOf(found, size);
+  }
+
+  /** First posting in {@code [from, to)} whose key is not below {@code key}. */
+  private int lowerBound(int from, int to, long key) {
+    while (from < to) {
+      int mid = (from + to) >>> 1;
+      if (keys[postings[mid]] < key) {
+        from = mid + 1;
+      } else {
+        to = mid;
+      }
+    }
+    return from;
+  }
+
+  /** First posting in {@code [from, to)} whose key is above {@code key}. */
+  private int upperBound(int from, int to, long key) {
+    while (from < to) {
+      int mid = (from + to) >>> 1;
+      if (keys[postings[mid]] <= key) {
+        from = mid + 1;
+      } else {
+        to = mid;
+      }
+    }
+    return from;
+  }
+}
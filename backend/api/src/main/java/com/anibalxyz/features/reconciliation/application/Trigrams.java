@@ -0,0 +1,67 @@
+package com.anibalxyz.features.reconciliation.application;
+
+import java.util.Arrays;
+
+/**
+ * Trigram sets of normalized references and their Jaccard similarity, following {@code pg_trgm}:
+ * the reference is padded with two spaces in front and one behind, and similarity is the number of
+ * shared trigrams over the number of distinct trigrams of both.
+ *
+ * <p>Normalized references only hold {@code A-Z} and {@code 0-9}, so with the padding space every
+ * trigram packs into an {@code int} below {@link #CODES}.
+ */
+final class Trigrams {
+  private static final int SYMBOLS = 37;
+
+  /** Number of distinct trigram codes. */
+  static final int CODES = SYMBOLS * SYMBOLS * SYMBOLS;
+
+  private Trigrams() {}
+
+  /**
+   * @param normalized a reference as returned by {@link ReferenceNormalizer#normalize(String)}
+   * @return the distinct trigram codes of the reference, sorted ascending
+   */
+  static int[] of(String normalized) {
+    if (normalized.isEmpty()) return new int[0];
+    String padded = "  " + normalized + " ";
+    int[] codes = new int[padded.length() - 2];
+    for (int i = 0; i < codes.length; i++) {
+      codes[i] =
+          (symbol(padded.charAt(i)) * SYMBOLS + symbol(padded.charAt(i + 1))) * SYMBOLS
+              + symbol(padded.charAt(i + 2));
+    }
+    Arrays.sort(codes);
+    int distinct = 0;
+    for (int i = 0; i < codes.length; i++) {
+      if (i == 0 || codes[i] != codes[i - 1]) {
+        codes[distinct++] = codes[i];
+      }
+    }
+    return Arrays.copyOf(codes, distinct);
+  }
+
+  /** Jaccard similarity of two sorted trigram sets, {@code 0} when either is empty. */
+  static double similarity(int[] a, int[] b) {
+    if (a.length == 0 || b.length == 0) return 0;
+    int shared = 0;
+    for (int i = 0, j = 0; i < a.length && j < b.length; ) {
+      if (a[i] == b[j]) {
+        shared++;
+        i++;
+        j++;
+      } else if (a[i] < b[j]) {
+        i++;
+      } else {
+        j++;
+      }
+    }
+    return (double) shared / (a.length + b.length - shared);
+  }
+
+  private static int symbol(char c) {
+    if (c == ' ') return 0;
+    if (c <= '9') return 1 + c - '0';
+    return 11 + c - 'A';
+  }
+}
@@ -0,0 +1,41 @@
+package com.anibalxyz.features.reconciliation.application.env;
+
+import java.nio.file.Path;
+
+public interface ReconciliationEnvironment {
+  /** Maximum absolute amount difference, in minor units, accepted by the tolerance stage. */
+  long RECONCILIATION_AMOUNT_TOLERANCE_CENTS();
+
+  /** Maximum distance in days between transaction dates accepted by the tolerance stage. */
+  int RECONCILIATION_DATE_TOLERANCE_DAYS();
+
+  /** Maximum number of partitions matched concurrently during a run. */
+  int RECONCILIATION_WORKERS();
+
+  /** Width in days of the date buckets used to partition the tolerance stage. */
+  int RECONCILIATION_DATE_BUCKET_DAYS();
+
+  /** Maximum distance in days between a group anchor and each of its members. */
+  int RECONCILIATION_GROUP_DATE_WINDOW_DAYS();
+
+  /** Maximum number of counterpart candidates searched for subsets of a single group anchor. */
+  int RECONCILIATION_GROUP_MAX_CANDIDATES();
+
+  /** Time allowed to the subset search of a single group anchor before it is abandoned. */
+  int RECONCILIATION_GROUP_TIME_BUDGET_MS();
+
+  /** Local directory holding the spill files of full runs too large to match in memory. */
+  Path RECONCILIATION_SPILL_DIR();
+
+  /** Unmatched transactions above which a full run spills to disk; {@code 0} never spills. */
+  int RECONCILIATION_SPILL_THRESHOLD();
+
+  /**
+   * Unmatched transactions above which a full run matches exact and tolerance pairs in the
+   * database; {@code 0} always matches in memory.
+   */
+  int RECONCILIATION_DATABASE_THRESHOLD();
+
+  /** Minimum trigram similarity of two references paired by reference; {@code 0} disables it. */
+  double RECONCILIATION_REFERENCE_SIMILARITY();
+}
@@ -0,0 +1,32 @@
+package com.anibalxyz.features.reconciliation.application.out;
+
+import com.anibalxyz.features.reconciliation.domain.ReconciliationMode;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Outcome of a reconciliation run.
+ *
+ * @param mode whether the run only examined new transactions or every unmatched one
+ * @param bankCandidates unmatched BANK transactions considered by the run
+ * @param systemCandidates unmatched SYSTEM transactions considered by the run
+ * @param exactMatches pairs matched on currency, amount and reference
+ * @param ruleMatches pairs matched by the match rules of the BANK sources, with discrepancies
+ * @param referenceMatches pairs matched within the tolerances by similar references, with
+ *     discrepancies
+ * @param toleranceMatches pairs matched within the amount and date tolerances, with discrepancies
+ * @param groupMatches many-to-one groups whose amounts add up within the amount tolerance
+ * @param rules what each match rule did, in the order they ran
+ * @param elapsed wall time spent by the run
+ */
+public record ReconciliationSummary(
+    ReconciliationMode mode,
+    int bankCandidates,
+    int systemCandidates,
+    int exactMatches,
+    int ruleMatches,
+    int referenceMatches,
+    int toleranceMatches,
+    int groupMatches,
+    List<RuleSummary> rules,
+    Duration elapsed) {}
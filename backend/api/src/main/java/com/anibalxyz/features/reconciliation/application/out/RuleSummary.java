@@ -0,0 +1,14 @@
+package com.anibalxyz.features.reconciliation.application.out;
+
+import com.anibalxyz.features.reconciliation.domain.RuleStrategy;
+import java.time.Duration;
+
+/**
+ * What one match rule did during a reconciliation run.
+ *
+ * @param strategy how the compiled rule paired rows
+ * @param matches pairs the rule matched
+ * @param elapsed wall time spent running the rule
+ */
+public record RuleSummary(
+    int ruleId, int sourceId, String name, RuleStrategy strategy, int matches, Duration elapsed) {}
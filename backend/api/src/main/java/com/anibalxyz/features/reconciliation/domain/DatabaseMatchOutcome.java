@@ -0,0 +1,15 @@
+package com.anibalxyz.features.reconciliation.domain;
+
+/**
+ * Pairs matched and saved inside the database by {@link
+ * ReconciliationRepository#matchInDatabase(long, int, boolean)}.
+ *
+ * @param exactMatches pairs sharing currency, amount and reference
+ * @param toleranceMatches pairs within the amount and date tolerances, with discrepancies
+ */
+public record DatabaseMatchOutcome(int exactMatches, int toleranceMatches) {
+
+  public int matches() {
+    return exactMatches + toleranceMatches;
+  }
+}
@@ -0,0 +1,21 @@
+package com.anibalxyz.features.reconciliation.domain;
+
+/**
+ * Differences accepted by a non-exact match. Each one is persisted as a {@code DISCREPANCY} tag
+ * whose name is the constant name.
+ */
+public enum Discrepancy {
+  AMOUNT_MISMATCH("Matched amounts differ within the configured tolerance"),
+  DATE_MISMATCH("Matched transaction dates differ within the configured tolerance"),
+  REFERENCE_MISMATCH("Matched references are not equal");
+
+  private final String description;
+
+  Discrepancy(String description) {
+    this.description = description;
+  }
+
+  public String description() {
+    return description;
+  }
+}
@@ -0,0 +1,13 @@
+package com.anibalxyz.features.reconciliation.domain;
+
+import java.util.List;
+
+/**
+ * Result of the group stage: the groups it produced, the new candidates left unmatched and the
+ * previously open items consumed as group members.
+ */
+public record GroupMatchOutcome(
+    List<MatchGroup> groups,
+    List<MatchCandidate> unmatchedBank,
+    List<MatchCandidate> unmatchedSystem,
+    List<MatchCandidate> matchedOpenItems) {}
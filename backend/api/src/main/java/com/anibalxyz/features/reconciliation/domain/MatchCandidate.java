@@ -0,0 +1,25 @@
+package com.anibalxyz.features.reconciliation.domain;
+
+import com.anibalxyz.features.transactions.domain.Currency;
+
+/**
+ * Lightweight projection of an unmatched transaction, holding only the columns the matching engine
+ * needs.
+ *
+ * @param id transaction id
+ * @param sourceId id of the source the transaction was uploaded from
+ * @param currency transaction currency
+ * @param amountCents amount expressed in minor units, avoiding {@code BigDecimal} arithmetic
+ * @param epochDay transaction date in the system timezone, as days since 1970-01-01
+ * @param reference transaction reference as stored in the database
+ * @param description free text of the transaction, {@code null} when it has none, read by source
+ *     rules only
+ */
+public record MatchCandidate(
+    int id,
+    int sourceId,
+    Currency currency,
+    long amountCents,
+    int epochDay,
+    String reference,
+    String description) {}
@@ -0,0 +1,18 @@
+package com.anibalxyz.features.reconciliation.domain;
+
+import java.util.List;
+
+/**
+ * A many-to-one match between an anchor transaction and several transactions of the opposite
+ * source type whose amounts add up to the anchor amount, persisted as a row of {@code
+ * reconciliation_groups} plus one {@code reconciliation_group_members} row per member.
+ *
+ * @param amountDifferenceCents sum of the member amounts minus the anchor amount
+ */
+public record MatchGroup(
+    int anchorTransactionId, List<Integer> memberTransactionIds, long amountDifferenceCents) {
+
+  public MatchGroup {
+    memberTransactionIds = List.copyOf(memberTransactionIds);
+  }
+}
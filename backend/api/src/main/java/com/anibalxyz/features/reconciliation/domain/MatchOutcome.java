@@ -0,0 +1,11 @@
+package com.anibalxyz.features.reconciliation.domain;
+
+import java.util.List;
+
+/**
+ * Result of a matching stage: the pairs it produced and the candidates left for the next stage.
+ */
+public record MatchOutcome(
+    List<MatchPair> pairs,
+    List<MatchCandidate> unmatchedBank,
+    List<MatchCandidate> unmatchedSystem) {}
@@ -0,0 +1,21 @@
+package com.anibalxyz.features.reconciliation.domain;
+
+import java.util.Set;
+
+/**
+ * A 1:1 match between a BANK transaction (left) and a SYSTEM transaction (right), persisted as a
+ * row of {@code reconciliations} plus one {@code reconciliation_discrepancies} row per accepted
+ * {@link Discrepancy}.
+ */
+public record MatchPair(
+    int leftTransactionId, int rightTransactionId, Set<Discrepancy> discrepancies) {
+
+  public MatchPair {
+    discrepancies = Set.copyOf(discrepancies);
+  }
+
+  /** Creates an exact match, without discrepancies. */
+  public MatchPair(int leftTransactionId, int rightTransactionId) {
+    this(leftTransactionId, rightTransactionId, Set.of());
+  }
+}
@@ -0,0 +1,12 @@
+package com.anibalxyz.features.reconciliation.domain;
+
+/**
+ * A matching rule of a BANK source as stored in {@code reconciliation_rules}, before it is
+ * compiled.
+ *
+ * @param priority order of the rule among the rules of its source, lowest first
+ * @param definition conditions a BANK row of the source and a SYSTEM row must meet to be paired,
+ *     written in the rule language, e.g. {@code amount and date within 2}
+ */
+public record MatchRuleDefinition(
+    int id, int sourceId, int priority, String name, String definition) {}
@@ -0,0 +1,8 @@
+package com.anibalxyz.features.reconciliation.domain;
+
+public enum ReconciliationMode {
+  /** Every unmatched transaction is loaded and matched from scratch. */
+  FULL,
+  /** Only transactions above their source watermark are matched, against the open items. */
+  INCREMENTAL
+}
@@ -0,0 +1,100 @@
+package com.anibalxyz.features.reconciliation.domain;
+
+import com.anibalxyz.features.transactions.domain.SourceType;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+public interface ReconciliationRepository {
+
+  /**
+   * Serializes reconciliation runs for the current transaction, so two concurrent runs cannot
+   * match the same transaction twice. The lock is released on commit or rollback.
+   */
+  void lockForRun();
+
+  /**
+   * @return every transaction of the given source type that is not part of a reconciliation yet,
+   *     ordered by transaction date and id.
+   */
+  List<MatchCandidate> findUnmatched(SourceType sourceType);
+
+  /**
+   * Hands every transaction {@link #findUnmatched(SourceType)} would return to {@code action} as it
+   * is read, in the same order, without holding them all in memory.
+   */
+  void forEachUnmatched(SourceType sourceType, Consumer<MatchCandidate> action);
+
+  /**
+   * @return the number of transactions {@link #findUnmatched(SourceType)} would return.
+   */
+  long countUnmatched(SourceType sourceType);
+
+  /**
+   * Looks up unmatched transactions by reference similarity through the trigram index on {@code
+   * transactions.reference}, for runs too large to index their references in memory.
+   *
+   * @return ids of at most {@code limit} unmatched transactions of the given source type, with the
+   *     currency of {@code probe} and within the given tolerances of its amount and date, whose
+   *     reference is at least {@code minSimilarity} similar to the one of {@code probe}, most
+   *     similar first
+   */
+  List<Integer> findSimilarUnmatched(
+      SourceType sourceType,
+      MatchCandidate probe,
+      long amountToleranceCents,
+      int dayTolerance,
+      double minSimilarity,
+      int limit);
+
+  /**
+   * Matches every unmatched transaction in a single set-based statement, without loading them, and
+   * saves the pairs, their discrepancies and the watermarks of their sources.
+   *
+   * <p>BANK and SYSTEM transactions sharing currency, amount and reference are paired first, oldest
+   * with oldest. Every remaining BANK transaction then picks the closest remaining SYSTEM one
+   * within the tolerances, by amount difference and then date difference, and each SYSTEM
+   * transaction picked more than once goes to its closest pick only. The losers stay unmatched.
+   *
+   * @param tolerance whether to make the tolerance pairs, or only the exact ones
+   */
+  DatabaseMatchOutcome matchInDatabase(
+      long amountToleranceCents, int dayTolerance, boolean tolerance);
+
+  /**
+   * @return the match rules of every BANK source, ordered by source id and priority.
+   */
+  List<MatchRuleDefinition> findRules();
+
+  /**
+   * @return the unmatched transactions of the given source type whose id is above the watermark of
+   *     their source, ordered by transaction date and id.
+   */
+  List<MatchCandidate> findUnmatchedAfterWatermark(SourceType sourceType);
+
+  /**
+   * Raises the watermark of each given source to the given transaction id. Watermarks never move
+   * backwards.
+   */
+  void saveWatermarks(Map<Integer, Integer> lastTransactionIdBySource);
+
+  /**
+   * @return an opaque value that changes whenever reconciliations or watermarks are written, used
+   *     to detect whether in-memory state built from a previous run is still current.
+   */
+  String syncToken();
+
+  /**
+   * Persists the given pairs as {@code reconciliations} rows in bulk.
+   *
+   * @return the number of inserted rows.
+   */
+  int saveAll(List<MatchPair> pairs);
+
+  /**
+   * Persists the given groups as {@code reconciliation_groups} rows with their members in bulk.
+   *
+   * @return the number of inserted groups.
+   */
+  int saveGroups(List<MatchGroup> groups);
+}
@@ -0,0 +1,12 @@
+package com.anibalxyz.features.reconciliation.domain;
+
+/** How a compiled match rule pairs rows, chosen from the shape of its conditions. */
+public enum RuleStrategy {
+  /** Every condition is an equality, so rows are paired by looking up their combined key. */
+  HASH_JOIN,
+  /**
+   * One condition accepts a range, so rows sharing the equality key are sorted by that value and
+   * paired by sweeping a window over them.
+   */
+  SORT_SWEEP
+}
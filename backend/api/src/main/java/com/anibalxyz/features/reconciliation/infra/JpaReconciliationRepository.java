@@ -0,0 +1,669 @@
+package com.anibalxyz.features.reconciliation.infra;
+
+import com.anibalxyz.features.reconciliation.domain.DatabaseMatchOutcome;
+import com.anibalxyz.features.reconciliation.domain.Discrepancy;
+import com.anibalxyz.features.reconciliation.domain.MatchCandidate;
+import com.anibalxyz.features.reconciliation.domain.MatchGroup;
+import com.anibalxyz.features.reconciliation.domain.MatchPair;
+import com.anibalxyz.features.reconciliation.domain.MatchRuleDefinition;
+import com.anibalxyz.features.reconciliation.domain.ReconciliationRepository;
+import com.anibalxyz.features.transactions.domain.Currency;
+import com.anibalxyz.features.transactions.domain.SourceType;
+import com.anibalxyz.persistence.EntityManagerProvider;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.hibernate.Session;
+
+/**
+ * {@link ReconciliationRepository} backed by plain JDBC on the request-scoped session.
+ *
+ * <p>Matching works over millions of rows, so candidates are streamed with a server-side cursor
+ * straight into {@link MatchCandidate} projections instead of managed entities, and pairs are
+ * written with array-bound {@code INSERT ... SELECT unnest(...)} statements instead of one {@code
+ * merge} per row.
+ */
+public class JpaReconciliationRepository implements ReconciliationRepository {
+  /** Arbitrary application-wide key for {@code pg_advisory_xact_lock}. */
+  private static final long RUN_LOCK_KEY = 0x5245434f4e43L;
+
+  private static final int FETCH_SIZE = 10_000;
+  private static final int INSERT_CHUNK_SIZE = 10_000;
+
+  private static final String LOCK_SQL = "SELECT pg_advisory_xact_lock(?)";
+
+  private static final String CANDIDATE_COLUMNS =
+      """
+      SELECT t.id,
+             t.source_id,
+             t.currency::text,
+             (t.amount * 100)::bigint,
+             (t.transaction_date AT TIME ZONE ?)::date - DATE '1970-01-01',
+             t.reference,
+             t.description
+      """;
+
+  /** Holds for a transaction {@code t} that is not part of a reconciliation yet. */
+  private static final String NOT_RECONCILED =
+      """
+      NOT EXISTS (SELECT 1 FROM reconciliations r WHERE r.left_transaction_id = t.id)
+        AND NOT EXISTS (SELECT 1 FROM reconciliations r WHERE r.right_transaction_id = t.id)
+        AND NOT EXISTS (
+          SELECT 1 FROM reconciliation_groups g WHERE g.anchor_transaction_id = t.id)
+        AND NOT EXISTS (
+          SELECT 1 FROM reconciliation_group_members m WHERE m.transaction_id = t.id)""";
+
+  private static final String UNMATCHED_TEMPLATE =
+      """
+      FROM transactions t
+      JOIN sources s ON s.id = t.source_id
+      %%s
+      WHERE s.type = ?::source_type
+        AND %s
+        %%s
+      """
+          .formatted(NOT_RECONCILED);
+
+  private static final String CANDIDATE_ORDER = "ORDER BY t.transaction_date, t.id\n";
+
+  private static final String FIND_UNMATCHED_SQL =
+      CANDIDATE_COLUMNS + UNMATCHED_TEMPLATE.formatted("", "") + CANDIDATE_ORDER;
+
+  private static final String FIND_UNMATCHED_AFTER_WATERMARK_SQL =
+      CANDIDATE_COLUMNS
+          + UNMATCHED_TEMPLATE.formatted(
+              "LEFT JOIN reconciliation_watermarks w ON w.source_id = t.source_id",
+              "AND t.id > COALESCE(w.last_transaction_id, 0)")
+          + CANDIDATE_ORDER;
+
+  private static final String COUNT_UNMATCHED_SQL =
+      "SELECT count(*)\n" + UNMATCHED_TEMPLATE.formatted("", "");
+
+  /** Comparable form of a reference, matching the expression of the trigram index. */
+  private static final String REFERENCE_KEY = "regexp_replace(upper(%s), '[^A-Z0-9]', '', 'g')";
+
+  private static final String SIMILARITY_THRESHOLD_SQL =
+      "SELECT set_config('pg_trgm.similarity_threshold', ?, true)";
+
+  private static final String FIND_SIMILAR_UNMATCHED_SQL =
+      "SELECT t.id\n"
+          + UNMATCHED_TEMPLATE.formatted(
+              "",
+              """
+              AND t.currency = ?::currency_type
+                AND t.amount BETWEEN ? AND ?
+                AND (t.transaction_date AT TIME ZONE ?)::date - DATE '1970-01-01' BETWEEN ? AND ?
+                AND %1$s %% %2$s
+              ORDER BY similarity(%1$s, %2$s) DESC, t.id
+              LIMIT ?
+              """
+                  .formatted(REFERENCE_KEY.formatted("t.reference"), REFERENCE_KEY.formatted("?")));
+
+  private static final String FIND_RULES_SQL =
+      """
+      SELECT r.id, r.source_id, r.priority, r.name, r.definition
+      FROM reconciliation_rules r
+      JOIN sources s ON s.id = r.source_id
+      WHERE s.type = 'BANK'
+      ORDER BY r.source_id, r.priority
+      """;
+
+  /**
+   * Exact pairs are ranked within each key on both sides and joined rank to rank. The tolerance
+   * lookup of each BANK row walks the matching index once per SYSTEM source, and a window over the
+   * picked SYSTEM rows keeps the closest pick of each. Exact pairs are left out with anti-joins,
+   * which the planner can hash once instead of scanning the pairs again for every row.
+   */
+  private static final String MATCH_IN_DATABASE_SQL =
+      """
+      WITH params AS (
+        SELECT ?::text AS zone,
+               ?::numeric AS amount_tolerance,
+               ?::int AS day_tolerance,
+               ?::boolean AS tolerance
+      ),
+      candidates AS MATERIALIZED (
+        SELECT t.id,
+               t.source_id,
+               s.type,
+               t.currency,
+               t.amount,
+               t.reference,
+               t.transaction_date,
+               (t.transaction_date AT TIME ZONE p.zone)::date AS day,
+               row_number() OVER (
+                 PARTITION BY s.type, t.currency, t.amount, t.reference
+                 ORDER BY t.transaction_date, t.id) AS key_rank
+        FROM transactions t
+        JOIN sources s ON s.id = t.source_id
+        CROSS JOIN params p
+        WHERE %1$s
+      ),
+      exact AS (
+        SELECT b.id AS left_id, s.id AS right_id
+        FROM candidates b
+        JOIN candidates s
+          ON s.type = 'SYSTEM'
+         AND s.currency = b.currency
+         AND s.amount = b.amount
+         AND s.reference = b.reference
+         AND s.key_rank = b.key_rank
+        WHERE b.type = 'BANK'
+      ),
+      nearest AS (
+        SELECT b.id AS left_id, n.id AS right_id, n.amount_diff, n.day_diff
+        FROM candidates b
+        CROSS JOIN params p
+        CROSS JOIN LATERAL (
+          SELECT t.id,
+                 abs(t.amount - b.amount) AS amount_diff,
+                 abs((t.transaction_date AT TIME ZONE p.zone)::date - b.day) AS day_diff
+          FROM sources s
+          JOIN transactions t ON t.source_id = s.id
+          WHERE s.type = 'SYSTEM'
+            AND t.currency = b.currency
+            AND t.amount BETWEEN b.amount - p.amount_tolerance AND b.amount + p.amount_tolerance
+            AND t.transaction_date
+              BETWEEN b.transaction_date - make_interval(days => p.day_tolerance + 1)
+                  AND b.transaction_date + make_interval(days => p.day_tolerance + 1)
+            AND abs((t.transaction_date AT TIME ZONE p.zone)::date - b.day) <= p.day_tolerance
+            AND NOT EXISTS (SELECT 1 FROM exact e WHERE e.right_id = t.id)
+            AND %1$s
+          ORDER BY amount_diff, day_diff, t.id
+          LIMIT 1
+        ) n
+        WHERE b.type = 'BANK'
+          AND p.tolerance
+          AND NOT EXISTS (SELECT 1 FROM exact e WHERE e.left_id = b.id)
+      ),
+      tolerance AS (
+        SELECT left_id, right_id
+        FROM (
+          SELECT n.left_id,
+                 n.right_id,
+                 row_number() OVER (
+                   PARTITION BY n.right_id ORDER BY n.amount_diff, n.day_diff, n.left_id) AS pick
+          FROM nearest n
+        ) picks
+        WHERE pick = 1
+      ),
+      inserted AS (
+        INSERT INTO reconciliations (left_transaction_id, right_transaction_id)
+        SELECT left_id, right_id FROM exact
+        UNION ALL
+        SELECT left_id, right_id FROM tolerance
+        RETURNING id, left_transaction_id, right_transaction_id
+      ),
+      discrepancies AS (
+        INSERT INTO reconciliation_discrepancies (reconciliation_id, discrepancy_type_id)
+        SELECT i.id, tg.id
+        FROM inserted i
+        JOIN tolerance x ON x.left_id = i.left_transaction_id
+        JOIN candidates b ON b.id = i.left_transaction_id
+        JOIN candidates s ON s.id = i.right_transaction_id
+        CROSS JOIN LATERAL (
+          VALUES ('%2$s', b.amount <> s.amount),
+                 ('%3$s', b.day <> s.day),
+                 ('%4$s', b.reference IS DISTINCT FROM s.reference)
+        ) d(name, differs)
+        JOIN tags tg ON tg.name = d.name AND tg.type = 'DISCREPANCY'
+        WHERE d.differs
+      ),
+      watermarks AS (
+        INSERT INTO reconciliation_watermarks (source_id, last_transaction_id)
+        SELECT source_id, max(id) FROM candidates GROUP BY source_id
+        ON CONFLICT (source_id) DO UPDATE
+        SET last_transaction_id =
+          GREATEST(reconciliation_watermarks.last_transaction_id, EXCLUDED.last_transaction_id)
+      )
+      SELECT (SELECT count(*) FROM exact), (SELECT count(*) FROM tolerance)
+      """
+          .formatted(
+              NOT_RECONCILED,
+              Discrepancy.AMOUNT_MISMATCH.name(),
+              Discrepancy.DATE_MISMATCH.name(),
+              Discrepancy.REFERENCE_MISMATCH.name());
+
+  private static final String INSERT_PAIRS_SQL =
+      """
+      INSERT INTO reconciliations (left_transaction_id, right_transaction_id)
+      SELECT * FROM unnest(?::int[], ?::int[])
+      """;
+
+  private static final String INSERT_PAIRS_RETURNING_SQL =
+      INSERT_PAIRS_SQL + "RETURNING id, left_transaction_id";
+
+  private static final String ENSURE_DISCREPANCY_TAGS_SQL =
+      """
+      INSERT INTO tags (name, description, type)
+      SELECT d.name, d.description, 'DISCREPANCY'::tag_type
+      FROM unnest(?::text[], ?::text[]) AS d(name, description)
+      ON CONFLICT (name) DO NOTHING
+      """;
+
+  private static final String INSERT_DISCREPANCIES_SQL =
+      """
+      INSERT INTO reconciliation_discrepancies (reconciliation_id, discrepancy_type_id)
+      SELECT d.reconciliation_id, t.id
+      FROM unnest(?::int[], ?::text[]) AS d(reconciliation_id, name)
+      JOIN tags t ON t.name = d.name AND t.type = 'DISCREPANCY'
+      """;
+
+  private static final String INSERT_GROUPS_SQL =
+      """
+      INSERT INTO reconciliation_groups (anchor_transaction_id, amount_difference)
+      SELECT g.anchor, g.difference / 100.0
+      FROM unnest(?::int[], ?::bigint[]) AS g(anchor, difference)
+      RETURNING id, anchor_transaction_id
+      """;
+
+  private static final String INSERT_GROUP_MEMBERS_SQL =
+      """
+      INSERT INTO reconciliation_group_members (group_id, transaction_id)
+      SELECT * FROM unnest(?::int[], ?::int[])
+      """;
+
+  private static final String SAVE_WATERMARKS_SQL =
+      """
+      INSERT INTO reconciliation_watermarks (source_id, last_transaction_id)
+      SELECT * FROM unnest(?::int[], ?::int[])
+      ON CONFLICT (source_id) DO UPDATE
+      SET last_transaction_id =
+        GREATEST(reconciliation_watermarks.last_transaction_id, EXCLUDED.last_transaction_id)
+      """;
+
+  private static final String SYNC_TOKEN_SQL =
+      """
+      SELECT (SELECT COALESCE(MAX(id), 0) FROM reconciliations)
+             || ':'
+             || (SELECT COALESCE(MAX(id), 0) FROM reconciliation_groups)
+             || ':'
+             || (SELECT COALESCE(SUM(last_transaction_id), 0) FROM reconciliation_watermarks)
+      """;
+
+  private final EntityManagerProvider provider;
+  private final ZoneId zone;
+
+  public JpaReconciliationRepository(EntityManagerProvider provider, ZoneId zone) {
+    this.provider = provider;
+    this.zone = zone;
+  }
+
+  private Session session() {
+    return provider.get().unwrap(Session.class);
+  }
+
+  @Override
+  @SuppressWarnings("resource")
+  public void lockForRun() {
+    session()
+        .doWork(
+            conn -> {
+              try (PreparedStatement ps = conn.prepareStatement(LOCK_SQL)) {
+                ps.setLong(1, RUN_LOCK_KEY);
+                ps.executeQuery().close();
+              }
+            });
+  }
+
+  @Override
+  public List<MatchCandidate> findUnmatched(SourceType sourceType) {
+    List<MatchCandidate> candidates = new ArrayList<>();
+    forEachCandidate(FIND_UNMATCHED_SQL, sourceType, candidates::add);
+    return candidates;
+  }
+
+  @Override
+  public List<MatchCandidate> findUnmatchedAfterWatermark(SourceType sourceType) {
+    List<MatchCandidate> candidates = new ArrayList<>();
+    forEachCandidate(FIND_UNMATCHED_AFTER_WATERMARK_SQL, sourceType, candidates::add);
+    return candidates;
+  }
+
+  @Override
+  public void forEachUnmatched(SourceType sourceType, Consumer<MatchCandidate> action) {
+    forEachCandidate(FIND_UNMATCHED_SQL, sourceType, action);
+  }
+
+  @Override
+  @SuppressWarnings("resource")
+  public long countUnmatched(SourceType sourceType) {
+    return session()
+        .doReturningWork(
+            conn -> {
+              try (PreparedStatement ps = conn.prepareStatement(COUNT_UNMATCHED_SQL)) {
+                ps.setString(1, sourceType.name());
+                try (ResultSet rs = ps.executeQuery()) {
+                  rs.next();
+                  return rs.getLong(1);
+                }
+              }
+            });
+  }
+
+  /**
+   * The index expression only uppercases and strips symbols, without dropping bank prefixes, so the
+   * database is asked for half the requested similarity and callers check their own measure again.
+   */
+  @Override
+  @SuppressWarnings("resource")
+  public List<Integer> findSimilarUnmatched(
+      SourceType sourceType,
+      MatchCandidate probe,
+      long amountToleranceCents,
+      int dayTolerance,
+      double minSimilarity,
+      int limit) {
+    return session()
+        .doReturningWork(
+            conn -> {
+              try (PreparedStatement ps = conn.prepareStatement(SIMILARITY_THRESHOLD_SQL)) {
+                ps.setString(1, Double.toString(minSimilarity / 2));
+                ps.executeQuery().close();
+              }
+              List<Integer> ids = new ArrayList<>(limit);
+              try (PreparedStatement ps = conn.prepareStatement(FIND_SIMILAR_UNMATCHED_SQL)) {
+                ps.setString(1, sourceType.name());
+                ps.setString(2, probe.currency().name());
+                ps.setBigDecimal(
+                    3, BigDecimal.valueOf(probe.amountCents() - amountToleranceCents, 2));
+                ps.setBigDecimal(
+                    4, BigDecimal.valueOf(probe.amountCents() + amountToleranceCents, 2));
+                ps.setString(5, zone.getId());
+                ps.setInt(6, probe.epochDay() - dayTolerance);
+                ps.setInt(7, probe.epochDay() + dayTolerance);
+                ps.setString(8, probe.reference());
+                ps.setString(9, probe.reference());
+                ps.setInt(10, limit);
+                try (ResultSet rs = ps.executeQuery()) {
+                  while (rs.next()) {
+                    ids.add(rs.getInt(1));
+                  }
+                }
+              }
+              return ids;
+            });
+  }
+
+  @Override
+  @SuppressWarnings("resource")
+  public DatabaseMatchOutcome matchInDatabase(
+      long amountToleranceCents, int dayTolerance, boolean tolerance) {
+    return session()
+        .doReturningWork(
+            conn -> {
+              ensureDiscrepancyTags(conn);
+              try (PreparedStatement ps = conn.prepareStatement(MATCH_IN_DATABASE_SQL)) {
+                ps.setString(1, zone.getId());
+                ps.setBigDecimal(2, BigDecimal.valueOf(amountToleranceCents, 2));
+                ps.setInt(3, dayTolerance);
+                ps.setBoolean(4, tolerance);
+                try (ResultSet rs = ps.executeQuery()) {
+                  rs.next();
+                  return new DatabaseMatchOutcome(rs.getInt(1), rs.getInt(2));
+                }
+              }
+            });
+  }
+
+  @Override
+  @SuppressWarnings("resource")
+  public List<MatchRuleDefinition> findRules() {
+    return session()
+        .doReturningWork(
+            conn -> {
+              List<MatchRuleDefinition> rules = new ArrayList<>();
+              try (PreparedStatement ps = conn.prepareStatement(FIND_RULES_SQL);
+                  ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                  rules.add(
+                      new MatchRuleDefinition(
+                          rs.getInt(1),
+                          rs.getInt(2),
+                          rs.getInt(3),
+                          rs.getString(4),
+                          rs.getString(5)));
+                }
+              }
+              return rules;
+            });
+  }
+
+  @SuppressWarnings("resource")
+  private void forEachCandidate(
+      String sql, SourceType sourceType, Consumer<MatchCandidate> action) {
+    session()
+        .doWork(
+            conn -> {
+              try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                ps.setFetchSize(FETCH_SIZE);
+                ps.setString(1, zone.getId());
+                ps.setString(2, sourceType.name());
+                try (ResultSet rs = ps.executeQuery()) {
+                  while (rs.next()) {
+                    action.accept(
+                        new MatchCandidate(
+                            rs.getInt(1),
+                            rs.getInt(2),
+                            Currency.valueOf(rs.getString(3)),
+                            rs.getLong(4),
+                            rs.getInt(5),
+                            rs.getString(6),
+                            rs.getString(7)));
+                  }
+                }
+              }
+            });
+  }
+
+  @Override
+  @SuppressWarnings("resource")
+  public void saveWatermarks(Map<Integer, Integer> lastTransactionIdBySource) {
+    if (lastTransactionIdBySource.isEmpty()) {
+      return;
+    }
+    session()
+        .doWork(
+            conn -> {
+              try (PreparedStatement ps = conn.prepareStatement(SAVE_WATERMARKS_SQL)) {
+                ps.setArray(
+                    1, conn.createArrayOf("int4", lastTransactionIdBySource.keySet().toArray()));
+                ps.setArray(
+                    2, conn.createArrayOf("int4", lastTransactionIdBySource.values().toArray()));
+                ps.executeUpdate();
+              }
+            });
+  }
+
+  @Override
+  @SuppressWarnings("resource")
+  public String syncToken() {
+    return session()
+        .doReturningWork(
+            conn -> {
+              try (PreparedStatement ps = conn.prepareStatement(SYNC_TOKEN_SQL);
+                  ResultSet rs = ps.executeQuery()) {
+                rs.next();
+                return rs.getString(1);
+              }
+            });
+  }
+
+  /**
+   * Pairs are written in chunks. Only chunks carrying discrepancies use {@code RETURNING}, since
+   * their generated ids are needed to attach the {@code reconciliation_discrepancies} rows.
+   */
+  @Override
+  @SuppressWarnings("resource")
+  public int saveAll(List<MatchPair> pairs) {
+    if (pairs.isEmpty()) {
+      return 0;
+    }
+    return session()
+        .doReturningWork(
+            conn -> {
+              boolean tagsEnsured = false;
+              int inserted = 0;
+              for (int from = 0; from < pairs.size(); from += INSERT_CHUNK_SIZE) {
+                List<MatchPair> chunk =
+                    pairs.subList(from, Math.min(from + INSERT_CHUNK_SIZE, pairs.size()));
+                boolean hasDiscrepancies =
+                    chunk.stream().anyMatch(pair -> !pair.discrepancies().isEmpty());
+                if (!hasDiscrepancies) {
+                  inserted += insertPairs(conn, chunk);
+                  continue;
+                }
+                if (!tagsEnsured) {
+                  ensureDiscrepancyTags(conn);
+                  tagsEnsured = true;
+                }
+                Map<Integer, Integer> idsByLeft = insertPairsReturningIds(conn, chunk);
+                insertDiscrepancies(conn, chunk, idsByLeft);
+                inserted += idsByLeft.size();
+              }
+              return inserted;
+            });
+  }
+
+  /**
+   * Groups are written in chunks; each chunk returns its generated ids, keyed by anchor, to attach
+   * the member rows.
+   */
+  @Override
+  @SuppressWarnings("resource")
+  public int saveGroups(List<MatchGroup> groups) {
+    if (groups.isEmpty()) {
+      return 0;
+    }
+    return session()
+        .doReturningWork(
+            conn -> {
+              int inserted = 0;
+              for (int from = 0; from < groups.size(); from += INSERT_CHUNK_SIZE) {
+                List<MatchGroup> chunk =
+                    groups.subList(from, Math.min(from + INSERT_CHUNK_SIZE, groups.size()));
+                Map<Integer, Integer> idsByAnchor = insertGroupsReturningIds(conn, chunk);
+                insertGroupMembers(conn, chunk, idsByAnchor);
+                inserted += idsByAnchor.size();
+              }
+              return inserted;
+            });
+  }
+
+  private Map<Integer, Integer> insertGroupsReturningIds(Connection conn, List<MatchGroup> chunk)
+      throws SQLException {
+    Integer[] anchors = new Integer[chunk.size()];
+    Long[] differences = new Long[chunk.size()];
+    for (int i = 0; i < chunk.size(); i++) {
+      anchors[i] = chunk.get(i).anchorTransactionId();
+      differences[i] = chunk.get(i).amountDifferenceCents();
+    }
+    Map<Integer, Integer> idsByAnchor = HashMap.newHashMap(chunk.size());
+    try (PreparedStatement ps = conn.prepareStatement(INSERT_GROUPS_SQL)) {
+      ps.setArray(1, conn.createArrayOf("int4", anchors));
+      ps.setArray(2, conn.createArrayOf("int8", differences));
+      try (ResultSet rs = ps.executeQuery()) {
+        while (rs.next()) {
+          idsByAnchor.put(rs.getInt(2), rs.getInt(1));
+        }
+      }
+    }
+    return idsByAnchor;
+  }
+
+  private void insertGroupMembers(
+      Connection conn, List<MatchGroup> chunk, Map<Integer, Integer> idsByAnchor)
+      throws SQLException {
+    List<Integer> groupIds = new ArrayList<>();
+    List<Integer> transactionIds = new ArrayList<>();
+    for (MatchGroup group : chunk) {
+      for (int member : group.memberTransactionIds()) {
+        groupIds.add(idsByAnchor.get(group.anchorTransactionId()));
+        transactionIds.add(member);
+      }
+    }
+    try (PreparedStatement ps = conn.prepareStatement(INSERT_GROUP_MEMBERS_SQL)) {
+      ps.setArray(1, conn.createArrayOf("int4", groupIds.toArray()));
+      ps.setArray(2, conn.createArrayOf("int4", transactionIds.toArray()));
+      ps.executeUpdate();
+    }
+  }
+
+  private int insertPairs(Connection conn, List<MatchPair> chunk) throws SQLException {
+    try (PreparedStatement ps = conn.prepareStatement(INSERT_PAIRS_SQL)) {
+      bindPairs(conn, ps, chunk);
+      return ps.executeUpdate();
+    }
+  }
+
+  /**
+   * @return generated reconciliation ids keyed by left transaction id, which is unique within a run
+   *     because every BANK transaction is matched at most once.
+   */
+  private Map<Integer, Integer> insertPairsReturningIds(Connection conn, List<MatchPair> chunk)
+      throws SQLException {
+    Map<Integer, Integer> idsByLeft = HashMap.newHashMap(chunk.size());
+    try (PreparedStatement ps = conn.prepareStatement(INSERT_PAIRS_RETURNING_SQL)) {
+      bindPairs(conn, ps, chunk);
+      try (ResultSet rs = ps.executeQuery()) {
+        while (rs.next()) {
+          idsByLeft.put(rs.getInt(2), rs.getInt(1));
+        }
+      }
+    }
+    return idsByLeft;
+  }
+
+  private void bindPairs(Connection conn, PreparedStatement ps, List<MatchPair> chunk)
+      throws SQLException {
+    Integer[] left = new Integer[chunk.size()];
+    Integer[] right = new Integer[chunk.size()];
+    for (int i = 0; i < chunk.size(); i++) {
+      left[i] = chunk.get(i).leftTransactionId();
+      right[i] = chunk.get(i).rightTransactionId();
+    }
+    ps.setArray(1, conn.createArrayOf("int4", left));
+    ps.setArray(2, conn.createArrayOf("int4", right));
+  }
+
+  private void ensureDiscrepancyTags(Connection conn) throws SQLException {
+    Discrepancy[] discrepancies = Discrepancy.values();
+    String[] names = new String[discrepancies.length];
+    String[] descriptions = new String[discrepancies.length];
+    for (int i = 0; i < discrepancies.length; i++) {
+      names[i] = discrepancies[i].name();
+      descriptions[i] = discrepancies[i].description();
+    }
+    try (PreparedStatement ps = conn.prepareStatement(ENSURE_DISCREPANCY_TAGS_SQL)) {
+      ps.setArray(1, conn.createArrayOf("text", names));
+      ps.setArray(2, conn.createArrayOf("text", descriptions));
+      ps.executeUpdate();
+    }
+  }
+
+  private void insertDiscrepancies(
+      Connection conn, List<MatchPair> chunk, Map<Integer, Integer> idsByLeft)
+      throws SQLException {
+    List<Integer> reconciliationIds = new ArrayList<>();
+    List<String> names = new ArrayList<>();
+    for (MatchPair pair : chunk) {
+      for (Discrepancy discrepancy : pair.discrepancies()) {
+        reconciliationIds.add(idsByLeft.get(pair.leftTransactionId()));
+        names.add(discrepancy.name());
+      }
+    }
+    try (PreparedStatement ps = conn.prepareStatement(INSERT_DISCREPANCIES_SQL)) {
+      ps.setArray(1, conn.createArrayOf("int4", reconciliationIds.toArray()));
+      ps.setArray(2, conn.createArrayOf("text", names.toArray()));
+      ps.executeUpdate();
+    }
+  }
+}
@@ -0,0 +1,26 @@
+package com.anibalxyz.features.transactions.api;
+
+import com.anibalxyz.features.transactions.application.ImportJobs;
+import com.anibalxyz.server.config.modules.startup.StartupConfig;
+import io.javalin.config.JavalinConfig;
+import java.time.Duration;
+
+/**
+ * Ties the background import jobs to the server lifecycle, letting running imports finish when the
+ * server stops.
+ */
+public class ImportJobsConfig implements StartupConfig {
+  /** Time given to running imports to finish before they are interrupted and rolled back. */
+  private static final Duration SHUTDOWN_GRACE = Duration.ofSeconds(30);
+
+  private final ImportJobs importJobs;
+
+  public ImportJobsConfig(ImportJobs importJobs) {
+    this.importJobs = importJobs;
+  }
+
+  @Override
+  public void apply(JavalinConfig cfg) {
+    cfg.events.serverStopping(() -> importJobs.shutdown(SHUTDOWN_GRACE));
+  }
+}
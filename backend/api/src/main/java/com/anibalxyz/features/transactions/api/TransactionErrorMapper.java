@@ -0,0 +1,236 @@
+package com.anibalxyz.features.transactions.api;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+import com.anibalxyz.core.domain.error.DomainError;
+import com.anibalxyz.core.domain.error.InvalidValueError;
+import com.anibalxyz.features.common.api.ValidationErrorMapper;
+import com.anibalxyz.features.common.api.out.code.CommonErrorCode;
+import com.anibalxyz.features.common.api.out.code.ValidationErrorCode;
+import com.anibalxyz.features.common.api.out.response.error.ErrorDetail;
+import com.anibalxyz.features.common.api.out.response.error.ErrorResponse;
+import com.anibalxyz.features.transactions.application.ImportJobs;
+import com.anibalxyz.features.transactions.application.ImportTransactions;
+import com.anibalxyz.features.transactions.domain.error.*;
+import com.anibalxyz.server.api.ErrorResult;
+import com.anibalxyz.server.api.FeatureErrorMapper;
+import com.anibalxyz.server.api.LogEntry;
+import com.anibalxyz.server.exception.UnhandledErrorException;
+import com.anibalxyz.server.exception.UnreachableCodeException;
+import java.util.List;
+
+public class TransactionErrorMapper implements FeatureErrorMapper {
+
+  private static final List<Class<?>> ERROR_TYPES =
+      List.of(TransactionDomainError.class, ImportTransactions.Error.class, ImportJobs.Error.class);
+  private static final List<Class<? extends DomainError>> FIELD_ERROR_TYPES =
+      List.of(TransactionDomainError.class);
+
+  @Override
+  public List<Class<?>> errorTypes() {
+    return ERROR_TYPES;
+  }
+
+  @Override
+  public ErrorResult map(Object error) {
+    return switch (error) {
+      case ImportTransactions.Error e -> mapImportTransactionsError(e);
+      case ImportJobs.Error e -> mapImportJobsError(e);
+      case SourceNotFoundError e -> mapSourceNotFoundError(e);
+      case ImportJobNotFoundError e -> mapImportJobNotFoundError(e);
+      default -> throw new UnhandledErrorException(error);
+    };
+  }
+
+  public ErrorResult mapImportTransactionsError(ImportTransactions.Error error) {
+    return switch (error) {
+      case ImportTransactions.Error.SourceNotFound e -> mapSourceNotFoundError(e.error());
+      case ImportTransactions.Error.ValidationFailed e ->
+          ValidationErrorMapper.map(e.notification(), this::mapFieldError);
+    };
+  }
+
+  public ErrorResult mapImportJobsError(ImportJobs.Error error) {
+    return switch (error) {
+      case ImportJobs.Error.SourceNotFound e -> mapSourceNotFoundError(e.error());
+      case ImportJobs.Error.QueueFull e ->
+          new ErrorResult(
+              503,
+              new ErrorResponse(CommonErrorCode.UNAVAILABLE_SERVICE)
+                  .detail("Too many imports in progress, try again later"),
+              LogEntry.warn("Import job queue full", kv("queue_capacity", e.capacity())));
+    };
+  }
+
+  public ErrorResult mapImportJobNotFoundError(ImportJobNotFoundError error) {
+    ErrorResponse base = new ErrorResponse(CommonErrorCode.RESOURCE_NOT_FOUND);
+    return switch (error.getReason()) {
+      case ImportJobNotFoundError.Reason.ById r ->
+          new ErrorResult(
+              404,
+              base.detail("Import job with id " + r.id() + " not found"),
+              LogEntry.debug("Import job not found", kv("import_job_nf_id", r.id())));
+    };
+  }
+
+  public ErrorResult mapSourceNotFoundError(SourceNotFoundError error) {
+    ErrorResponse base = new ErrorResponse(CommonErrorCode.RESOURCE_NOT_FOUND);
+    return switch (error.getReason()) {
+      case SourceNotFoundError.Reason.ById r ->
+          new ErrorResult(
+              404,
+              base.detail("Source with id " + r.id() + " not found"),
+              LogEntry.debug("Source not found", kv("source_nf_id", r.id())));
+    };
+  }
+
+  @Override
+  public List<Class<? extends DomainError>> fieldErrorTypes() {
+    return FIELD_ERROR_TYPES;
+  }
+
+  @Override
+  public ErrorDetail mapFieldError(DomainError error) {
+    if (error instanceof TransactionDomainError tde) {
+      return switch (tde) {
+        case TransactionDomainError.InvalidValueError ive -> mapInvalidValue(ive);
+        case MalformedCsvError e -> mapMalformedCsv(e);
+        case MalformedXmlError e -> mapMalformedXml(e);
+        case SourceNotFoundError e ->
+            throw UnreachableCodeException.of(e, "not found errors are not field errors");
+        case ImportJobNotFoundError e ->
+            throw UnreachableCodeException.of(e, "not found errors are not field errors");
+      };
+    }
+    throw new UnhandledErrorException(error);
+  }
+
+  public ErrorDetail mapMalformedCsv(MalformedCsvError error) {
+    ErrorDetail base =
+        new ErrorDetail(ValidationErrorCode.INVALID_FIELD_FORMAT)
+            .with("title", ValidationErrorCode.INVALID_FIELD_FORMAT.title());
+    return switch (error.getReason()) {
+      case MalformedCsvError.Reason.MissingHeader ignored ->
+          new ErrorDetail(ValidationErrorCode.REQUIRED_FIELD)
+              .with("title", ValidationErrorCode.REQUIRED_FIELD.title())
+              .with("detail", "The statement must start with a header line");
+      case MalformedCsvError.Reason.MissingColumn r ->
+          new ErrorDetail(ValidationErrorCode.REQUIRED_FIELD)
+              .with("title", ValidationErrorCode.REQUIRED_FIELD.title())
+              .with("detail", "Missing column '" + r.column() + "'")
+              .with("column", r.column());
+      case MalformedCsvError.Reason.ColumnCount r ->
+          base.with("detail", "Expected " + r.expected() + " columns but found " + r.actual())
+              .with("expected", r.expected())
+              .with("actual", r.actual());
+      case MalformedCsvError.Reason.UnterminatedQuote ignored ->
+          base.with("detail", "Quoted value is never closed");
+      case MalformedCsvError.Reason.RecordTooLong r ->
+          new ErrorDetail(ValidationErrorCode.TOO_LONG)
+              .with("title", ValidationErrorCode.TOO_LONG.title())
+              .with("detail", "A row cannot exceed " + r.maxLength() + " characters")
+              .with("maxLength", r.maxLength());
+    };
+  }
+
+  public ErrorDetail mapMalformedXml(MalformedXmlError error) {
+    ErrorDetail base =
+        new ErrorDetail(ValidationErrorCode.INVALID_FIELD_FORMAT)
+            .with("title", ValidationErrorCode.INVALID_FIELD_FORMAT.title());
+    return switch (error.getReason()) {
+      case MalformedXmlError.Reason.NotWellFormed r ->
+          base.with("detail", "The document is not well-formed XML")
+              .with("line", r.line())
+              .with("column", r.column());
+      case MalformedXmlError.Reason.UnexpectedRoot r ->
+          base.with(
+                  "detail",
+                  "Expected a '" + r.expected() + "' document but found '" + r.actual() + "'")
+              .with("expected", r.expected())
+              .with("actual", r.actual());
+      case MalformedXmlError.Reason.MissingElement r ->
+          new ErrorDetail(ValidationErrorCode.REQUIRED_FIELD)
+              .with("title", ValidationErrorCode.REQUIRED_FIELD.title())
+              .with("detail", "Missing element '" + r.element() + "'")
+              .with("element", r.element());
+      case MalformedXmlError.Reason.ValueTooLong r ->
+          new ErrorDetail(ValidationErrorCode.TOO_LONG)
+              .with("title", ValidationErrorCode.TOO_LONG.title())
+              .with("detail", "An element value cannot exceed " + r.maxLength() + " characters")
+              .with("maxLength", r.maxLength());
+    };
+  }
+
+  public ErrorDetail mapInvalidValue(InvalidValueError error) {
+    if (error instanceof TransactionDomainError.InvalidValueError ive) {
+      return switch (ive) {
+        case InvalidAmountError e ->
+            switch (e.getReason()) {
+              case InvalidAmountError.Reason.InvalidFormat ignored ->
+                  new ErrorDetail(ValidationErrorCode.INVALID_FIELD_FORMAT)
+                      .with("title", ValidationErrorCode.INVALID_FIELD_FORMAT.title())
+                      .with("detail", "Must be a decimal number");
+              case InvalidAmountError.Reason.TooManyDecimals r ->
+                  new ErrorDetail(ValidationErrorCode.INVALID_FIELD_FORMAT)
+                      .with("title", ValidationErrorCode.INVALID_FIELD_FORMAT.title())
+                      .with("detail", "Cannot have more than " + r.maxDecimals() + " decimals")
+                      .with("maxDecimals", r.maxDecimals());
+              case InvalidAmountError.Reason.TooManyDigits r ->
+                  new ErrorDetail(ValidationErrorCode.TOO_LONG)
+                      .with("title", ValidationErrorCode.TOO_LONG.title())
+                      .with(
+                          "detail",
+                          "Cannot have more than " + r.maxIntegerDigits() + " integer digits")
+                      .with("maxIntegerDigits", r.maxIntegerDigits());
+              case InvalidAmountError.Reason.Blank ignored ->
+                  new ErrorDetail(ValidationErrorCode.BLANK_FIELD)
+                      .with("title", ValidationErrorCode.BLANK_FIELD.title());
+              case InvalidAmountError.Reason.Absent ignored ->
+                  new ErrorDetail(ValidationErrorCode.REQUIRED_FIELD)
+                      .with("title", ValidationErrorCode.REQUIRED_FIELD.title());
+            };
+        case InvalidCurrencyError e ->
+            switch (e.getReason()) {
+              case InvalidCurrencyError.Reason.Unsupported r ->
+                  new ErrorDetail(ValidationErrorCode.INVALID_FIELD_FORMAT)
+                      .with("title", ValidationErrorCode.INVALID_FIELD_FORMAT.title())
+                      .with("detail", "Unsupported currency '" + r.code() + "'");
+              case InvalidCurrencyError.Reason.Blank ignored ->
+                  new ErrorDetail(ValidationErrorCode.BLANK_FIELD)
+                      .with("title", ValidationErrorCode.BLANK_FIELD.title());
+              case InvalidCurrencyError.Reason.Absent ignored ->
+                  new ErrorDetail(ValidationErrorCode.REQUIRED_FIELD)
+                      .with("title", ValidationErrorCode.REQUIRED_FIELD.title());
+            };
+        case InvalidReferenceError e ->
+            switch (e.getReason()) {
+              case InvalidReferenceError.Reason.TooLong r ->
+                  new ErrorDetail(ValidationErrorCode.TOO_LONG)
+                      .with("title", ValidationErrorCode.TOO_LONG.title())
+                      .with("detail", "Cannot exceed " + r.maxLength() + " characters")
+                      .with("maxLength", r.maxLength());
+              case InvalidReferenceError.Reason.Blank ignored ->
+                  new ErrorDetail(ValidationErrorCode.BLANK_FIELD)
+                      .with("title", ValidationErrorCode.BLANK_FIELD.title());
+              case InvalidReferenceError.Reason.Absent ignored ->
+                  new ErrorDetail(ValidationErrorCode.REQUIRED_FIELD)
+                      .with("title", ValidationErrorCode.REQUIRED_FIELD.title());
+            };
+        case InvalidTransactionDateError e ->
+            switch (e.getReason()) {
+              case InvalidTransactionDateError.Reason.InvalidFormat ignored ->
+                  new ErrorDetail(ValidationErrorCode.INVALID_FIELD_FORMAT)
+                      .with("title", ValidationErrorCode.INVALID_FIELD_FORMAT.title())
+                      .with("detail", "Must be a date or timestamp in the statement format");
+              case InvalidTransactionDateError.Reason.Blank ignored ->
+                  new ErrorDetail(ValidationErrorCode.BLANK_FIELD)
+                      .with("title", ValidationErrorCode.BLANK_FIELD.title());
+              case InvalidTransactionDateError.Reason.Absent ignored ->
+                  new ErrorDetail(ValidationErrorCode.REQUIRED_FIELD)
+                      .with("title", ValidationErrorCode.REQUIRED_FIELD.title());
+            };
+      };
+    }
+    throw new UnhandledErrorException(error);
+  }
+}
@@ -0,0 +1,65 @@
+package com.anibalxyz.features.transactions.api;
+
+import com.anibalxyz.features.common.api.out.code.CommonErrorCode;
+import com.anibalxyz.features.common.api.out.response.error.ErrorResponse;
+import com.anibalxyz.features.transactions.api.out.ImportJobResponse;
+import com.anibalxyz.features.transactions.api.out.ImportTransactionsResponse;
+import com.anibalxyz.features.transactions.api.out.TransactionResponse;
+import com.anibalxyz.features.transactions.application.out.ImportJobProgress;
+import com.anibalxyz.features.transactions.application.out.ImportSummary;
+import com.anibalxyz.features.transactions.domain.ImportJobStatus;
+import com.anibalxyz.features.transactions.domain.StoredTransaction;
+import com.anibalxyz.server.api.ErrorMapper;
+
+/** Utility class for mapping transaction results to API response DTOs. */
+public class TransactionMapper {
+
+  private TransactionMapper() {}
+
+  public static ImportTransactionsResponse toImportResponse(ImportSummary summary) {
+    return new ImportTransactionsResponse(
+        summary.sourceId(),
+        summary.inserted(),
+        summary.updated(),
+        summary.skipped(),
+        summary.elapsed().toMillis());
+  }
+
+  public static TransactionResponse toResponse(StoredTransaction transaction) {
+    return new TransactionResponse(
+        transaction.id(),
+        transaction.sourceId(),
+        transaction.date(),
+        transaction.reference(),
+        transaction.currency(),
+        transaction.amount(),
+        transaction.description());
+  }
+
+  public static ImportJobResponse toImportJobResponse(ImportJobProgress job) {
+    return new ImportJobResponse(
+        job.id().toString(),
+        job.sourceId(),
+        job.format(),
+        job.status(),
+        job.totalBytes(),
+        job.bytesRead(),
+        job.entriesRead(),
+        job.entriesWritten(),
+        job.submittedAt(),
+        job.startedAt(),
+        job.finishedAt(),
+        job.summary() == null ? null : toImportResponse(job.summary()),
+        toImportJobError(job));
+  }
+
+  private static ErrorResponse toImportJobError(ImportJobProgress job) {
+    if (job.status() != ImportJobStatus.FAILED) {
+      return null;
+    }
+    if (job.error() == null) {
+      return new ErrorResponse(CommonErrorCode.INTERNAL_SERVER_ERROR);
+    }
+    return ErrorMapper.map(job.error()).response();
+  }
+}
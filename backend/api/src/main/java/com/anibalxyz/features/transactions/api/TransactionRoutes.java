@@ -0,0 +1,47 @@
+package com.anibalxyz.features.transactions.api;
+
+import static io.javalin.apibuilder.ApiBuilder.*;
+
+import com.anibalxyz.features.common.api.Role;
+import com.anibalxyz.features.transactions.api.handlers.GetImportJobHandler;
+import com.anibalxyz.features.transactions.api.handlers.ImportTransactionsHandler;
+import com.anibalxyz.features.transactions.api.handlers.ListTransactionsHandler;
+import com.anibalxyz.features.transactions.api.handlers.SubmitImportJobHandler;
+import com.anibalxyz.server.config.modules.startup.StartupConfig;
+import io.javalin.config.JavalinConfig;
+
+public class TransactionRoutes implements StartupConfig {
+  private final ListTransactionsHandler listTransactionsHandler;
+  private final ImportTransactionsHandler importTransactionsHandler;
+  private final SubmitImportJobHandler submitImportJobHandler;
+  private final GetImportJobHandler getImportJobHandler;
+
+  public TransactionRoutes(
+      ListTransactionsHandler listTransactionsHandler,
+      ImportTransactionsHandler importTransactionsHandler,
+      SubmitImportJobHandler submitImportJobHandler,
+      GetImportJobHandler getImportJobHandler) {
+    this.listTransactionsHandler = listTransactionsHandler;
+    this.importTransactionsHandler = importTransactionsHandler;
+    this.submitImportJobHandler = submitImportJobHandler;
+    this.getImportJobHandler = getImportJobHandler;
+  }
+
+  @Override
+  public void apply(JavalinConfig cfg) {
+    cfg.routes.apiBuilder(
+        () ->
+            path(
+                "/api/transactions",
+                () -> {
+                  get(listTransactionsHandler, Role.AUTHENTICATED);
+                  post("/import", importTransactionsHandler, Role.AUTHENTICATED);
+                  path(
+                      "/import-jobs",
+                      () -> {
+                        post(submitImportJobHandler, Role.AUTHENTICATED);
+                        get("/{jobId}", getImportJobHandler, Role.AUTHENTICATED);
+                      });
+                }));
+  }
+}
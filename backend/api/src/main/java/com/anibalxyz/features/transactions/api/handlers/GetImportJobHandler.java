@@ -0,0 +1,34 @@
+package com.anibalxyz.features.transactions.api.handlers;
+
+import com.anibalxyz.core.application.exception.FailureSignal;
+import com.anibalxyz.features.transactions.api.TransactionMapper;
+import com.anibalxyz.features.transactions.api.openapi.GetImportJobEndpoint;
+import com.anibalxyz.features.transactions.application.ImportJobs;
+import com.anibalxyz.features.transactions.application.out.ImportJobProgress;
+import io.javalin.http.BadRequestResponse;
+import io.javalin.http.Context;
+import io.javalin.http.Handler;
+import java.util.UUID;
+import org.jetbrains.annotations.NotNull;
+
+public class GetImportJobHandler implements Handler, GetImportJobEndpoint {
+  private final ImportJobs importJobs;
+
+  public GetImportJobHandler(ImportJobs importJobs) {
+    this.importJobs = importJobs;
+  }
+
+  @Override
+  public void handle(@NotNull Context ctx) {
+    UUID jobId;
+    try {
+      jobId = UUID.fromString(ctx.pathParam("jobId"));
+    } catch (IllegalArgumentException e) {
+      throw new BadRequestResponse("Invalid job ID format. Must be a UUID.");
+    }
+
+    ImportJobProgress job = importJobs.find(jobId).orThrow(FailureSignal::new);
+
+    ctx.status(200).json(TransactionMapper.toImportJobResponse(job));
+  }
+}
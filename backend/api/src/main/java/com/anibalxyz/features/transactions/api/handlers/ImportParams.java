@@ -0,0 +1,33 @@
+package com.anibalxyz.features.transactions.api.handlers;
+
+import com.anibalxyz.features.transactions.domain.StatementFormat;
+import io.javalin.http.BadRequestResponse;
+import io.javalin.http.Context;
+
+/** Query parameters shared by the transaction endpoints. */
+final class ImportParams {
+
+  private ImportParams() {}
+
+  /**
+   * @throws BadRequestResponse if the source ID is missing or not a valid integer.
+   */
+  static int sourceId(Context ctx) throws BadRequestResponse {
+    return ctx.queryParamAsClass("sourceId", Integer.class)
+        .getOrThrow(e -> new BadRequestResponse("Invalid sourceId format. Must be a number."));
+  }
+
+  /**
+   * @return the requested statement format, CSV when absent
+   * @throws BadRequestResponse if the format is unknown.
+   */
+  static StatementFormat format(Context ctx) throws BadRequestResponse {
+    String format = ctx.queryParam("format");
+    if (format == null) {
+      return StatementFormat.CSV;
+    }
+    return StatementFormat.fromCode(format)
+        .orElseThrow(
+            () -> new BadRequestResponse("Invalid format. Must be one of csv, camt053 or ofx."));
+  }
+}
@@ -0,0 +1,30 @@
+package com.anibalxyz.features.transactions.api.handlers;
+
+import com.anibalxyz.core.application.exception.FailureSignal;
+import com.anibalxyz.features.transactions.api.TransactionMapper;
+import com.anibalxyz.features.transactions.api.openapi.ImportTransactionsEndpoint;
+import com.anibalxyz.features.transactions.application.ImportTransactions;
+import com.anibalxyz.features.transactions.application.out.ImportSummary;
+import io.javalin.http.Context;
+import io.javalin.http.Handler;
+import org.jetbrains.annotations.NotNull;
+
+public class ImportTransactionsHandler implements Handler, ImportTransactionsEndpoint {
+  private final ImportTransactions importTransactions;
+
+  public ImportTransactionsHandler(ImportTransactions importTransactions) {
+    this.importTransactions = importTransactions;
+  }
+
+  @Override
+  public void handle(@NotNull Context ctx) {
+    int sourceId = ImportParams.sourceId(ctx);
+
+    ImportSummary summary =
+        importTransactions
+            .execute(sourceId, ImportParams.format(ctx), ctx.bodyInputStream())
+            .orThrow(FailureSignal::new);
+
+    ctx.status(201).json(TransactionMapper.toImportResponse(summary));
+  }
+}
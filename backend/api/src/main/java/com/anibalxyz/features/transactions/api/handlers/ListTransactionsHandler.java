@@ -0,0 +1,40 @@
+package com.anibalxyz.features.transactions.api.handlers;
+
+import com.anibalxyz.core.application.Page;
+import com.anibalxyz.features.common.api.Pagination;
+import com.anibalxyz.features.common.api.out.response.success.CollectionResponse;
+import com.anibalxyz.features.transactions.api.TransactionMapper;
+import com.anibalxyz.features.transactions.api.openapi.ListTransactionsEndpoint;
+import com.anibalxyz.features.transactions.api.out.TransactionResponse;
+import com.anibalxyz.features.transactions.application.ListTransactions;
+import com.anibalxyz.features.transactions.domain.StoredTransaction;
+import io.javalin.http.Context;
+import io.javalin.http.Handler;
+import java.time.Instant;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+
+public class ListTransactionsHandler implements Handler, ListTransactionsEndpoint {
+  private final ListTransactions listTransactions;
+
+  public ListTransactionsHandler(ListTransactions listTransactions) {
+    this.listTransactions = listTransactions;
+  }
+
+  @Override
+  public void handle(@NotNull Context ctx) {
+    Integer sourceId = ctx.queryParam("sourceId") == null ? null : ImportParams.sourceId(ctx);
+    int limit = Pagination.limit(ctx);
+    StoredTransaction.Key after =
+        Pagination.after(
+            ctx, key -> new StoredTransaction.Key(Instant.parse(key[0]), Integer.parseInt(key[1])));
+
+    Page<StoredTransaction> page = listTransactions.execute(sourceId, after, limit);
+    List<TransactionResponse> transactions =
+        page.items().stream().map(TransactionMapper::toResponse).toList();
+    String next =
+        page.hasMore() ? Pagination.cursor(page.last().date(), page.last().id()) : null;
+
+    ctx.status(200).json(CollectionResponse.ofCursorPage(transactions, next, limit));
+  }
+}
@@ -0,0 +1,32 @@
+package com.anibalxyz.features.transactions.api.handlers;
+
+import com.anibalxyz.core.application.exception.FailureSignal;
+import com.anibalxyz.features.transactions.api.TransactionMapper;
+import com.anibalxyz.features.transactions.api.openapi.SubmitImportJobEndpoint;
+import com.anibalxyz.features.transactions.application.ImportJobs;
+import com.anibalxyz.features.transactions.application.out.ImportJobProgress;
+import io.javalin.http.Context;
+import io.javalin.http.Handler;
+import org.jetbrains.annotations.NotNull;
+
+public class SubmitImportJobHandler implements Handler, SubmitImportJobEndpoint {
+  private final ImportJobs importJobs;
+
+  public SubmitImportJobHandler(ImportJobs importJobs) {
+    this.importJobs = importJobs;
+  }
+
+  @Override
+  public void handle(@NotNull Context ctx) {
+    int sourceId = ImportParams.sourceId(ctx);
+
+    ImportJobProgress job =
+        importJobs
+            .submit(sourceId, ImportParams.format(ctx), ctx.bodyInputStream())
+            .orThrow(FailureSignal::new);
+
+    ctx.header("Location", "/api/transactions/import-jobs/" + job.id())
+        .status(202)
+        .json(TransactionMapper.toImportJobResponse(job));
+  }
+}
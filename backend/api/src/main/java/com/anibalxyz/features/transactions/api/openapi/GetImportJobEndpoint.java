@@ -0,0 +1,60 @@
+package com.anibalxyz.features.transactions.api.openapi;
+
+import com.anibalxyz.features.common.api.out.response.error.ErrorResponse;
+import com.anibalxyz.features.common.api.out.response.error.ErrorResponseExamples;
+import com.anibalxyz.features.transactions.api.out.ImportJobResponse;
+import com.anibalxyz.features.transactions.api.out.TransactionsErrorResponseExamples;
+import io.javalin.http.Context;
+import io.javalin.openapi.*;
+
+public interface GetImportJobEndpoint {
+
+  @OpenApi(
+      summary = "Get an import job",
+      description =
+          "Reports the progress of a background import: bytes of the statement parsed, entries"
+              + " read and entries loaded. Once the job succeeded `result` holds the inserted,"
+              + " updated and skipped counts; once it failed `error` holds the errors a synchronous"
+              + " import would have answered with, and nothing was stored.",
+      operationId = "getImportJob",
+      path = "/transactions/import-jobs/{jobId}",
+      methods = HttpMethod.GET,
+      tags = {"Transactions"},
+      security = @OpenApiSecurity(name = "bearerAuth"),
+      pathParams = {
+        @OpenApiParam(
+            name = "jobId",
+            type = String.class,
+            description = "The job returned on upload.",
+            required = true,
+            example = "0b7e4f1c-3a52-4c8e-9d2f-6a1b5c9e8d07")
+      },
+      responses = {
+        @OpenApiResponse(
+            status = "200",
+            description = "Job progress.",
+            content = @OpenApiContent(from = ImportJobResponse.class)),
+        @OpenApiResponse(
+            status = "400",
+            description = "Invalid job ID format.",
+            content =
+                @OpenApiContent(
+                    from = ErrorResponse.class,
+                    example = TransactionsErrorResponseExamples.INVALID_IMPORT_JOB_ID)),
+        @OpenApiResponse(
+            status = "401",
+            description = "Authentication information is missing or invalid.",
+            content =
+                @OpenApiContent(
+                    from = ErrorResponse.class,
+                    example = ErrorResponseExamples.UNAUTHORIZED)),
+        @OpenApiResponse(
+            status = "404",
+            description = "Unknown job, or finished too long ago.",
+            content =
+                @OpenApiContent(
+                    from = ErrorResponse.class,
+                    example = TransactionsErrorResponseExamples.IMPORT_JOB_NOT_FOUND))
+      })
+  void handle(Context ctx);
+}
@@ -0,0 +1,80 @@
+package com.anibalxyz.features.transactions.api.openapi;
+
+import com.anibalxyz.features.common.api.out.response.error.ErrorResponse;
+import com.anibalxyz.features.common.api.out.response.error.ErrorResponseExamples;
+import com.anibalxyz.features.transactions.api.out.ImportTransactionsResponse;
+import com.anibalxyz.features.transactions.api.out.TransactionsErrorResponseExamples;
+import io.javalin.http.Context;
+import io.javalin.openapi.*;
+
+public interface ImportTransactionsEndpoint {
+
+  @OpenApi(
+      summary = "Import a statement",
+      description =
+          "Streams a statement into the given source. Three formats are accepted. CSV statements"
+              + " start with a header naming the `date`, `reference`, `currency`, `amount` and"
+              + " optional `description` columns, in any order; dates are ISO-8601, either a plain"
+              + " date or a timestamp, and amounts use a dot as decimal separator. ISO 20022"
+              + " camt.053 statements contribute their booked entries. OFX statements must be OFX"
+              + " 2.x, the XML flavour. Every format is parsed as it is read, so the statement size"
+              + " is not limited by memory. Entries are keyed on their reference within the source,"
+              + " so uploading an overlapping statement again is safe: known entries are updated"
+              + " when their values changed and they are not reconciled yet, and skipped otherwise."
+              + " The import is all or nothing: when any entry is invalid nothing is stored and the"
+              + " errors are reported by row or entry.",
+      operationId = "importTransactions",
+      path = "/transactions/import",
+      methods = HttpMethod.POST,
+      tags = {"Transactions"},
+      security = @OpenApiSecurity(name = "bearerAuth"),
+      queryParams = {
+        @OpenApiParam(
+            name = "sourceId",
+            type = Integer.class,
+            description = "The source the statement belongs to.",
+            required = true,
+            example = "1"),
+        @OpenApiParam(
+            name = "format",
+            type = String.class,
+            description = "The statement format: `csv` (default), `camt053` or `ofx`.",
+            example = "csv")
+      },
+      requestBody =
+          @OpenApiRequestBody(
+              description = "The statement file.",
+              required = true,
+              content = {
+                @OpenApiContent(type = "text/csv", from = String.class),
+                @OpenApiContent(type = "application/xml", from = String.class)
+              }),
+      responses = {
+        @OpenApiResponse(
+            status = "201",
+            description = "Statement imported, with inserted, updated and skipped counts.",
+            content = @OpenApiContent(from = ImportTransactionsResponse.class)),
+        @OpenApiResponse(
+            status = "400",
+            description = "Unknown format, malformed statement or invalid entries.",
+            content =
+                @OpenApiContent(
+                    from = ErrorResponse.class,
+                    example = TransactionsErrorResponseExamples.IMPORT_TRANSACTIONS_BAD_REQUEST)),
+        @OpenApiResponse(
+            status = "401",
+            description = "Authentication information is missing or invalid.",
+            content =
+                @OpenApiContent(
+                    from = ErrorResponse.class,
+                    example = ErrorResponseExamples.UNAUTHORIZED)),
+        @OpenApiResponse(
+            status = "404",
+            description = "Source with the specified ID not found.",
+            content =
+                @OpenApiContent(
+                    from = ErrorResponse.class,
+                    example = ErrorResponseExamples.RESOURCE_NOT_FOUND))
+      })
+  void handle(Context ctx);
+}
@@ -0,0 +1,67 @@
+package com.anibalxyz.features.transactions.api.openapi;
+
+import com.anibalxyz.features.common.api.out.response.error.ErrorResponse;
+import com.anibalxyz.features.common.api.out.response.error.ErrorResponseExamples;
+import com.anibalxyz.features.transactions.api.out.TransactionResponse;
+import io.javalin.http.Context;
+import io.javalin.openapi.*;
+
+public interface ListTransactionsEndpoint {
+
+  @OpenApi(
+      summary = "List transactions",
+      description =
+          "Lists stored transactions by date, oldest first, one page at a time. Pass the `next`"
+              + " cursor of a page as `cursor` to read the following one; it is `null` on the last"
+              + " page. A cursor only makes sense with the `sourceId` it was issued for.",
+      operationId = "listTransactions",
+      path = "/transactions",
+      methods = HttpMethod.GET,
+      tags = {"Transactions"},
+      security = @OpenApiSecurity(name = "bearerAuth"),
+      queryParams = {
+        @OpenApiParam(
+            name = "sourceId",
+            type = Integer.class,
+            description = "Only list transactions of this source.",
+            example = "1"),
+        @OpenApiParam(
+            name = "limit",
+            type = Integer.class,
+            description =
+                "The maximum number of transactions per page, from 1 to 200 (default 50).",
+            example = "50"),
+        @OpenApiParam(
+            name = "cursor",
+            type = String.class,
+            description = "The opaque `next` cursor of the previous page.")
+      },
+      responses = {
+        @OpenApiResponse(
+            status = "200",
+            description = "A page of transactions.",
+            content = @OpenApiContent(from = TransactionResponse.Collection.class)),
+        @OpenApiResponse(
+            status = "400",
+            description = "Invalid sourceId, limit or cursor.",
+            content =
+                @OpenApiContent(
+                    from = ErrorResponse.class,
+                    example = ErrorResponseExamples.INVALID_CURSOR)),
+        @OpenApiResponse(
+            status = "401",
+            description = "Authentication information is missing or invalid.",
+            content =
+                @OpenApiContent(
+                    from = ErrorResponse.class,
+                    example = ErrorResponseExamples.UNAUTHORIZED)),
+        @OpenApiResponse(
+            status = "500",
+            description = "Internal server error.",
+            content =
+                @OpenApiContent(
+                    from = ErrorResponse.class,
+                    example = ErrorResponseExamples.INTERNAL_SERVER_ERROR))
+      })
+  void handle(Context ctx);
+}
@@ -0,0 +1,80 @@
+package com.anibalxyz.features.transactions.api.openapi;
+
+import com.anibalxyz.features.common.api.out.response.error.ErrorResponse;
+import com.anibalxyz.features.common.api.out.response.error.ErrorResponseExamples;
+import com.anibalxyz.features.transactions.api.out.ImportJobResponse;
+import com.anibalxyz.features.transactions.api.out.TransactionsErrorResponseExamples;
+import io.javalin.http.Context;
+import io.javalin.openapi.*;
+
+public interface SubmitImportJobEndpoint {
+
+  @OpenApi(
+      summary = "Import a statement in the background",
+      description =
+          "Accepts the same statements as `POST /transactions/import`, but only stores the"
+              + " upload before answering; the import itself runs in the background. Poll the job"
+              + " returned in the `Location` header for its progress and outcome. Finished jobs can"
+              + " be polled for an hour. Uploads are refused while too many imports are waiting.",
+      operationId = "submitImportJob",
+      path = "/transactions/import-jobs",
+      methods = HttpMethod.POST,
+      tags = {"Transactions"},
+      security = @OpenApiSecurity(name = "bearerAuth"),
+      queryParams = {
+        @OpenApiParam(
+            name = "sourceId",
+            type = Integer.class,
+            description = "The source the statement belongs to.",
+            required = true,
+            example = "1"),
+        @OpenApiParam(
+            name = "format",
+            type = String.class,
+            description = "The statement format: `csv` (default), `camt053` or `ofx`.",
+            example = "csv")
+      },
+      requestBody =
+          @OpenApiRequestBody(
+              description = "The statement file.",
+              required = true,
+              content = {
+                @OpenApiContent(type = "text/csv", from = String.class),
+                @OpenApiContent(type = "application/xml", from = String.class)
+              }),
+      responses = {
+        @OpenApiResponse(
+            status = "202",
+            description = "Statement accepted, with the queued job.",
+            content = @OpenApiContent(from = ImportJobResponse.class)),
+        @OpenApiResponse(
+            status = "400",
+            description = "Invalid sourceId or unknown format.",
+            content =
+                @OpenApiContent(
+                    from = ErrorResponse.class,
+                    example = TransactionsErrorResponseExamples.SUBMIT_IMPORT_JOB_BAD_REQUEST)),
+        @OpenApiResponse(
+            status = "401",
+            description = "Authentication information is missing or invalid.",
+            content =
+                @OpenApiContent(
+                    from = ErrorResponse.class,
+                    example = ErrorResponseExamples.UNAUTHORIZED)),
+        @OpenApiResponse(
+            status = "404",
+            description = "Source with the specified ID not found.",
+            content =
+                @OpenApiContent(
+                    from = ErrorResponse.class,
+                    example = ErrorResponseExamples.RESOURCE_NOT_FOUND)),
+        @OpenApiResponse(
+            status = "503",
+            description = "Too many imports are waiting; try again later.",
+            content =
+                @OpenApiContent(
+                    from = ErrorResponse.class,
+                    example = TransactionsErrorResponseExamples.IMPORT_JOB_QUEUE_FULL))
+      })
+  void handle(Context ctx);
+}
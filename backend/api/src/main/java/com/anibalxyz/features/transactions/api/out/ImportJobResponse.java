@@ -0,0 +1,28 @@
+package com.anibalxyz.features.transactions.api.out;
+
+import com.anibalxyz.features.common.api.out.response.error.ErrorResponse;
+import com.anibalxyz.features.common.api.out.response.success.SuccessResponse;
+import com.anibalxyz.features.transactions.domain.ImportJobStatus;
+import com.anibalxyz.features.transactions.domain.StatementFormat;
+import io.javalin.openapi.OpenApiExample;
+import java.time.Instant;
+
+/**
+ * Progress of an import job. {@code result} is only present once the job succeeded and {@code
+ * error} once it failed, holding the same body a synchronous import would have answered with.
+ */
+public record ImportJobResponse(
+    @OpenApiExample("0b7e4f1c-3a52-4c8e-9d2f-6a1b5c9e8d07") String jobId,
+    @OpenApiExample("1") int sourceId,
+    @OpenApiExample("CSV") StatementFormat format,
+    @OpenApiExample("RUNNING") ImportJobStatus status,
+    @OpenApiExample("52428800") long totalBytes,
+    @OpenApiExample("20971520") long bytesRead,
+    @OpenApiExample("100000") long entriesRead,
+    @OpenApiExample("96000") long entriesWritten,
+    @OpenApiExample("2025-10-10T10:00:00Z") Instant submittedAt,
+    @OpenApiExample("2025-10-10T10:00:01Z") Instant startedAt,
+    Instant finishedAt,
+    ImportTransactionsResponse result,
+    ErrorResponse error)
+    implements SuccessResponse {}
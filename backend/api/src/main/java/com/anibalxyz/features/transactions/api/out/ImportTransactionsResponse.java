@@ -0,0 +1,12 @@
+package com.anibalxyz.features.transactions.api.out;
+
+import com.anibalxyz.features.common.api.out.response.success.SuccessResponse;
+import io.javalin.openapi.OpenApiExample;
+
+public record ImportTransactionsResponse(
+    @OpenApiExample("1") int sourceId,
+    @OpenApiExample("180000") long inserted,
+    @OpenApiExample("1200") long updated,
+    @OpenApiExample("68800") long skipped,
+    @OpenApiExample("1800") long elapsedMs)
+    implements SuccessResponse {}
@@ -0,0 +1,43 @@
+package com.anibalxyz.features.transactions.api.out;
+
+import com.anibalxyz.features.common.api.out.response.success.CollectionResponse;
+import com.anibalxyz.features.common.api.out.response.success.ResponseMeta;
+import com.anibalxyz.features.common.api.out.response.success.SuccessResponse;
+import com.anibalxyz.features.transactions.domain.Currency;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import io.javalin.openapi.OpenApiExample;
+import io.javalin.openapi.OpenApiName;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+public record TransactionResponse(
+    @OpenApiExample("1") int id,
+    @OpenApiExample("1") int sourceId,
+    @OpenApiExample("2025-10-10T10:00:00Z") Instant date,
+    @OpenApiExample("TRF-000123") String reference,
+    @OpenApiExample("UYU") Currency currency,
+    @OpenApiExample("-1500.50") BigDecimal amount,
+    @OpenApiExample("Supplier payment") String description)
+    implements SuccessResponse {
+
+  @JsonPropertyOrder({"data", "meta"})
+  @OpenApiName("TransactionResponseCollection")
+  public static class Collection extends CollectionResponse<TransactionResponse> {
+    public Collection(List<TransactionResponse> data, ResponseMeta meta) {
+      super(data, meta);
+    }
+
+    @Override
+    @OpenApiName("data")
+    public List<TransactionResponse> data() {
+      return super.data();
+    }
+
+    @Override
+    @OpenApiName("meta")
+    public ResponseMeta meta() {
+      return super.meta();
+    }
+  }
+}
@@ -0,0 +1,54 @@
+package com.anibalxyz.features.transactions.api.out;
+
+public final class TransactionsErrorResponseExamples {
+
+  public static final String IMPORT_TRANSACTIONS_BAD_REQUEST =
+      """
+            {
+              "title": "There was one or more validation errors",
+              "code": "VALIDATION_ERROR",
+              "type": "/api/errors/validation-error",
+              "errors": [
+                {
+                  "code": "INVALID_FIELD_FORMAT",
+                  "title": "Invalid field format",
+                  "detail": "Must be a decimal number",
+                  "field": "rows[12].amount"
+                }
+              ]
+            }""";
+
+  public static final String SUBMIT_IMPORT_JOB_BAD_REQUEST =
+      """
+            {
+              "title": "Invalid or malformed request",
+              "code": "BAD_REQUEST",
+              "detail": "Invalid format. Must be one of csv, camt053 or ofx."
+            }""";
+
+  public static final String IMPORT_JOB_QUEUE_FULL =
+      """
+            {
+              "title": "Service temporarily unavailable",
+              "code": "UNAVAILABLE_SERVICE",
+              "detail": "Too many imports in progress, try again later"
+            }""";
+
+  public static final String INVALID_IMPORT_JOB_ID =
+      """
+            {
+              "title": "Invalid or malformed request",
+              "code": "BAD_REQUEST",
+              "detail": "Invalid job ID format. Must be a UUID."
+            }""";
+
+  public static final String IMPORT_JOB_NOT_FOUND =
+      """
+            {
+              "title": "The requested resource was not found",
+              "code": "RESOURCE_NOT_FOUND",
+              "detail": "Import job with id 0b7e4f1c-3a52-4c8e-9d2f-6a1b5c9e8d07 not found"
+            }""";
+
+  private TransactionsErrorResponseExamples() {}
+}
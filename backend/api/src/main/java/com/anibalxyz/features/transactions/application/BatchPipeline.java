@@ -0,0 +1,130 @@
+package com.anibalxyz.features.transactions.application;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Connects two stages running on different threads through a bounded queue of batches.
+ *
+ * <p>The items of the upstream stage are pulled on a virtual thread of their own and handed over in
+ * batches, so the consuming thread only waits when it catches up. Once {@code capacity} batches are
+ * waiting, the producer blocks until the consumer takes one, so a slow consumer slows the producer
+ * down instead of letting the queue grow. A failure of the producer is rethrown to the consumer
+ * once the batches produced before it have been consumed.
+ *
+ * <p>Closing the pipeline stops the producer, whether or not it has finished.
+ */
+final class BatchPipeline<T> implements AutoCloseable {
+  private static final List<Object> END = List.of();
+
+  private final int batchSize;
+  private final BlockingQueue<List<T>> queue;
+
+  private Thread producer;
+  private volatile RuntimeException failure;
+
+  BatchPipeline(int batchSize, int capacity) {
+    this.batchSize = batchSize;
+    this.queue = new ArrayBlockingQueue<>(capacity);
+  }
+
+  /**
+   * Starts pulling the given items on a new thread.
+   *
+   * @return the same items, to be consumed on the calling thread
+   */
+  Iterator<T> connect(Iterator<T> upstream) {
+    if (producer != null) {
+      throw new IllegalStateException("The pipeline is already connected");
+    }
+    producer = Thread.ofVirtual().name("import-pipeline").start(() -> produce(upstream));
+    return new Downstream();
+  }
+
+  private void produce(Iterator<T> upstream) {
+    List<T> batch = new ArrayList<>(batchSize);
+    try {
+      try {
+        while (upstream.hasNext()) {
+          batch.add(upstream.next());
+          if (batch.size() == batchSize) {
+            queue.put(batch);
+            batch = new ArrayList<>(batchSize);
+          }
+        }
+      } catch (RuntimeException e) {
+        failure = e;
+      }
+      if (!batch.isEmpty()) {
+        queue.put(batch);
+      }
+      queue.put(end());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<T> end() {
+    return (List<T>) END;
+  }
+
+  @Override
+  public void close() {
+    if (producer == null) {
+      return;
+    }
+    producer.interrupt();
+    try {
+      producer.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private final class Downstream implements Iterator<T> {
+    private Iterator<T> current = List.<T>of().iterator();
+    private boolean ended;
+
+    @Override
+    public boolean hasNext() {
+      while (!current.hasNext()) {
+        if (ended) {
+          return false;
+        }
+        List<T> batch = take();
+        if (batch == END) {
+          ended = true;
+          if (failure != null) {
+            throw failure;
+          }
+          return false;
+        }
+        current = batch.iterator();
+      }
+      return true;
+    }
+
+    @Override
+    public T next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      return current.next();
+    }
+
+    private List<T> take() {
+      try {
+        return queue.take();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new CancellationException("Interrupted while waiting for the next batch");
+      }
+    }
+  }
+}
@@ -0,0 +1,127 @@
+package com.anibalxyz.features.transactions.application;
+
+import com.anibalxyz.core.application.ValidationNotification;
+import com.anibalxyz.features.transactions.domain.Transaction;
+import com.anibalxyz.features.transactions.domain.TransactionDate;
+import com.anibalxyz.features.transactions.domain.error.MalformedXmlError;
+import com.anibalxyz.features.transactions.domain.error.TransactionDomainError;
+import java.io.InputStream;
+import java.time.ZoneId;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Streaming parser for ISO 20022 bank-to-customer statements ({@code camt.053}), turning every
+ * booked {@code Ntry} into a {@link Transaction}.
+ *
+ * <ul>
+ *   <li>date: {@code BookgDt}, falling back to {@code ValDt}, either as {@code Dt} or {@code DtTm}
+ *   <li>reference: {@code AcctSvcrRef}, then {@code NtryRef}, then the first transaction detail's
+ *       {@code AcctSvcrRef} or {@code EndToEndId}
+ *   <li>currency and amount: {@code Amt} and its {@code Ccy}, negated when {@code CdtDbtInd} is
+ *       {@code DBIT}
+ *   <li>description: {@code AddtlNtryInf}, falling back to the first unstructured remittance line
+ * </ul>
+ *
+ * <p>Pending and informational entries are skipped, as they are not part of the booked balance.
+ */
+public class Camt053Reader extends XmlStatementReader {
+  private static final String BOOKED = "BOOK";
+  private static final String DEBIT = "DBIT";
+  private static final String NOT_PROVIDED = "NOTPROVIDED";
+
+  private String bookingDate;
+  private String valueDate;
+  private String accountServicerReference;
+  private String entryReference;
+  private String detailReference;
+  private String currency;
+  private String amount;
+  private String creditDebit;
+  private String status;
+  private String additionalInfo;
+  private String remittanceInfo;
+
+  public Camt053Reader(
+      InputStream input,
+      int sourceId,
+      ZoneId zone,
+      ValidationNotification<TransactionDomainError> notification,
+      int maxErrors) {
+    super(input, "Document", "Ntry", sourceId, zone, notification, maxErrors);
+  }
+
+  @Override
+  protected void resetEntry() {
+    bookingDate = null;
+    valueDate = null;
+    accountServicerReference = null;
+    entryReference = null;
+    detailReference = null;
+    currency = null;
+    amount = null;
+    creditDebit = null;
+    status = null;
+    additionalInfo = null;
+    remittanceInfo = null;
+  }
+
+  @Override
+  protected void onEntryElement(String path, XMLStreamReader xml) {
+    if (path.equals("/Amt")) {
+      currency = xml.getAttributeValue(null, "Ccy");
+    }
+  }
+
+  @Override
+  protected void onEntryValue(String path, String value) {
+    switch (path) {
+      case "/BookgDt/Dt", "/BookgDt/DtTm" -> bookingDate = value;
+      case "/ValDt/Dt", "/ValDt/DtTm" -> valueDate = value;
+      case "/AcctSvcrRef" -> accountServicerReference = value;
+      case "/NtryRef" -> entryReference = value;
+      case "/NtryDtls/TxDtls/Refs/AcctSvcrRef", "/NtryDtls/TxDtls/Refs/EndToEndId" -> {
+        if (detailReference == null && !value.isEmpty() && !NOT_PROVIDED.equals(value)) {
+          detailReference = value;
+        }
+      }
+      case "/Amt" -> amount = value;
+      case "/CdtDbtInd" -> creditDebit = value;
+      case "/Sts", "/Sts/Cd" -> status = value;
+      case "/AddtlNtryInf" -> additionalInfo = value;
+      case "/NtryDtls/TxDtls/RmtInf/Ustrd" -> {
+        if (remittanceInfo == null) {
+          remittanceInfo = value;
+        }
+      }
+      default -> {}
+    }
+  }
+
+  @Override
+  protected Transaction toTransaction() {
+    if (status != null && !BOOKED.equals(status)) {
+      return null;
+    }
+    if (creditDebit == null) {
+      addError(entryKey(), MalformedXmlError.missingElement("CdtDbtInd"));
+      return null;
+    }
+    String signedAmount = amount != null && DEBIT.equals(creditDebit) ? "-" + amount : amount;
+    return buildTransaction(
+        entryKey(),
+        TransactionDate.parse(bookingDate != null ? bookingDate : valueDate, zone),
+        firstNonBlank(accountServicerReference, entryReference, detailReference),
+        currency,
+        signedAmount,
+        firstNonBlank(additionalInfo, remittanceInfo));
+  }
+
+  private static String firstNonBlank(String... values) {
+    for (String value : values) {
+      if (value != null && !value.isBlank()) {
+        return value;
+      }
+    }
+    return null;
+  }
+}
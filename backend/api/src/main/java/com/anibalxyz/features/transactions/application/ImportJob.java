@@ -0,0 +1,93 @@
+package com.anibalxyz.features.transactions.application;
+
+import com.anibalxyz.features.transactions.application.out.ImportJobProgress;
+import com.anibalxyz.features.transactions.application.out.ImportSummary;
+import com.anibalxyz.features.transactions.domain.ImportJobStatus;
+import com.anibalxyz.features.transactions.domain.StatementFormat;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Mutable state of an import job, written by the threads running it and read by whoever polls it.
+ */
+final class ImportJob {
+  private final UUID id;
+  private final int sourceId;
+  private final StatementFormat format;
+  private final long totalBytes;
+  private final Instant submittedAt;
+
+  final AtomicLong bytesRead = new AtomicLong();
+  final AtomicLong entriesRead = new AtomicLong();
+  final AtomicLong entriesWritten = new AtomicLong();
+
+  private volatile ImportJobStatus status = ImportJobStatus.QUEUED;
+  private volatile Instant startedAt;
+  private volatile Instant finishedAt;
+  private volatile ImportSummary summary;
+  private volatile ImportTransactions.Error error;
+
+  ImportJob(UUID id, int sourceId, StatementFormat format, long totalBytes, Instant submittedAt) {
+    this.id = id;
+    this.sourceId = sourceId;
+    this.format = format;
+    this.totalBytes = totalBytes;
+    this.submittedAt = submittedAt;
+  }
+
+  UUID id() {
+    return id;
+  }
+
+  int sourceId() {
+    return sourceId;
+  }
+
+  StatementFormat format() {
+    return format;
+  }
+
+  Instant finishedAt() {
+    return finishedAt;
+  }
+
+  void start(Instant now) {
+    startedAt = now;
+    status = ImportJobStatus.RUNNING;
+  }
+
+  void succeed(ImportSummary summary, Instant now) {
+    this.summary = summary;
+    finishedAt = now;
+    status = ImportJobStatus.SUCCEEDED;
+  }
+
+  /**
+   * @param error why the statement was rejected, or {@code null} when the job broke
+   */
+  void fail(ImportTransactions.Error error, Instant now) {
+    this.error = error;
+    finishedAt = now;
+    status = ImportJobStatus.FAILED;
+  }
+
+  ImportJobProgress progress() {
+    // Status first: it is written last, so whatever it reports is already visible in the rest
+    ImportJobStatus currentStatus = status;
+    return new ImportJobProgress(
+        id,
+        sourceId,
+        format,
+        currentStatus,
+        totalBytes,
+        bytesRead.get(),
+        entriesRead.get(),
+        entriesWritten.get(),
+        submittedAt,
+        startedAt,
+        finishedAt,
+        summary,
+        error);
+  }
+}
@@ -0,0 +1,275 @@
+package com.anibalxyz.features.transactions.application;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+import com.anibalxyz.core.Result;
+import com.anibalxyz.core.application.UnitOfWork;
+import com.anibalxyz.features.transactions.application.env.ImportJobEnvironment;
+import com.anibalxyz.features.transactions.application.out.ImportJobProgress;
+import com.anibalxyz.features.transactions.application.out.ImportSummary;
+import com.anibalxyz.features.transactions.domain.StatementFormat;
+import com.anibalxyz.features.transactions.domain.Transaction;
+import com.anibalxyz.features.transactions.domain.TransactionRepository;
+import com.anibalxyz.features.transactions.domain.error.ImportJobNotFoundError;
+import com.anibalxyz.features.transactions.domain.error.SourceNotFoundError;
+import java.io.BufferedInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Imports statements in the background, so that large uploads do not hold an HTTP request for the
+ * whole import.
+ *
+ * <p>An upload is spooled to local disk and queued; the caller gets a job to poll right away. Each
+ * job runs on a virtual thread as a pipeline of two stages connected by a bounded queue: the
+ * statement is parsed and validated on one thread while the valid entries are bulk loaded on
+ * another, in its own transaction, and merged once the statement turns out to be valid. At most
+ * {@code IMPORT_JOB_WORKERS} jobs run at once and at most {@code IMPORT_JOB_QUEUE_CAPACITY} wait
+ * for a worker; further uploads are refused until one finishes.
+ *
+ * <p>Jobs live in memory, on the instance that received the upload, and are forgotten {@link
+ * #RETENTION} after they finish.
+ */
+public class ImportJobs {
+  private static final Logger log = LoggerFactory.getLogger(ImportJobs.class);
+
+  /** Entries handed over between the pipeline stages at once. */
+  static final int BATCH_SIZE = 1_000;
+
+  /** Batches the parsing stage may get ahead of the loading stage. */
+  static final int QUEUED_BATCHES = 4;
+
+  /** How long a finished job can still be polled. */
+  public static final Duration RETENTION = Duration.ofHours(1);
+
+  private final ImportTransactions importTransactions;
+  private final TransactionRepository transactionRepository;
+  private final UnitOfWork unitOfWork;
+  private final ImportJobEnvironment env;
+  private final Clock clock;
+
+  private final Map<UUID, ImportJob> jobs = new ConcurrentHashMap<>();
+  private final Semaphore admitted;
+  private final Semaphore running;
+  private final ExecutorService executor =
+      Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("import-job-", 0).factory());
+
+  public ImportJobs(
+      ImportTransactions importTransactions,
+      TransactionRepository transactionRepository,
+      UnitOfWork unitOfWork,
+      ImportJobEnvironment env,
+      Clock clock) {
+    this.importTransactions = importTransactions;
+    this.transactionRepository = transactionRepository;
+    this.unitOfWork = unitOfWork;
+    this.env = env;
+    this.clock = clock;
+    this.admitted = new Semaphore(env.IMPORT_JOB_WORKERS() + env.IMPORT_JOB_QUEUE_CAPACITY());
+    this.running = new Semaphore(env.IMPORT_JOB_WORKERS());
+  }
+
+  /**
+   * Spools the statement and queues its import. The source is looked up only once the upload is on
+   * disk, so the request does not hold a database connection while the statement streams in.
+   */
+  public Result<ImportJobProgress, Error> submit(
+      int sourceId, StatementFormat format, InputStream statement) {
+    evictFinished();
+    if (!admitted.tryAcquire()) {
+      return Result.failure(new Error.QueueFull(env.IMPORT_JOB_QUEUE_CAPACITY()));
+    }
+
+    UUID id = UUID.randomUUID();
+    Path spool = null;
+    boolean queued = false;
+    try {
+      spool =
+          Files.createTempFile(
+              Files.createDirectories(env.IMPORT_SPOOL_DIR()), "import-", ".statement");
+      long size = Files.copy(statement, spool, StandardCopyOption.REPLACE_EXISTING);
+      if (!transactionRepository.sourceExists(sourceId)) {
+        return Result.failure(new Error.SourceNotFound(SourceNotFoundError.byId(sourceId)));
+      }
+      ImportJob job = new ImportJob(id, sourceId, format, size, clock.instant());
+      jobs.put(id, job);
+      Path file = spool;
+      executor.execute(() -> run(job, file));
+      queued = true;
+      log.info(
+          "Import job submitted",
+          kv("job_id", id),
+          kv("source_id", sourceId),
+          kv("format", format),
+          kv("bytes", size));
+      return Result.success(job.progress());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } finally {
+      if (!queued) {
+        jobs.remove(id);
+        admitted.release();
+        delete(spool);
+      }
+    }
+  }
+
+  public Result<ImportJobProgress, ImportJobNotFoundError> find(UUID id) {
+    ImportJob job = jobs.get(id);
+    if (job == null) {
+      return Result.failure(ImportJobNotFoundError.byId(id));
+    }
+    return Result.success(job.progress());
+  }
+
+  /**
+   * Stops accepting jobs and waits for the running ones to finish, interrupting them once the grace
+   * period is over. Interrupted and still queued jobs fail without storing anything.
+   */
+  public void shutdown(Duration grace) {
+    executor.shutdown();
+    try {
+      if (!executor.awaitTermination(grace.toMillis(), TimeUnit.MILLISECONDS)) {
+        executor.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      executor.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void run(ImportJob job, Path spool) {
+    try {
+      running.acquire();
+    } catch (InterruptedException e) {
+      job.fail(null, clock.instant());
+      log.warn("Import job cancelled before it started", kv("job_id", job.id()));
+      admitted.release();
+      delete(spool);
+      return;
+    }
+    job.start(clock.instant());
+    try (InputStream input =
+            new CountingInputStream(
+                new BufferedInputStream(Files.newInputStream(spool)), job.bytesRead);
+        BatchPipeline<Transaction> pipeline = new BatchPipeline<>(BATCH_SIZE, QUEUED_BATCHES)) {
+      Result<ImportSummary, ImportTransactions.Error> result =
+          unitOfWork.execute(
+              () ->
+                  importTransactions.execute(
+                      job.sourceId(),
+                      job.format(),
+                      input,
+                      entries ->
+                          counting(
+                              pipeline.connect(counting(entries, job.entriesRead)),
+                              job.entriesWritten)));
+      result
+          .onSuccess(summary -> job.succeed(summary, clock.instant()))
+          .onFailure(error -> job.fail(error, clock.instant()));
+      log.info(
+          "Import job finished", kv("job_id", job.id()), kv("status", job.progress().status()));
+    } catch (IOException | RuntimeException e) {
+      job.fail(null, clock.instant());
+      log.error("Import job failed", kv("job_id", job.id()), e);
+    } finally {
+      running.release();
+      admitted.release();
+      delete(spool);
+    }
+  }
+
+  private void evictFinished() {
+    Instant threshold = clock.instant().minus(RETENTION);
+    jobs.values()
+        .removeIf(job -> job.finishedAt() != null && job.finishedAt().isBefore(threshold));
+  }
+
+  private static void delete(Path file) {
+    if (file == null) {
+      return;
+    }
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      log.warn("Could not delete spooled statement", kv("path", file), e);
+    }
+  }
+
+  private static <T> Iterator<T> counting(Iterator<T> items, AtomicLong count) {
+    return new Iterator<>() {
+      @Override
+      public boolean hasNext() {
+        return items.hasNext();
+      }
+
+      @Override
+      public T next() {
+        T item = items.next();
+        count.incrementAndGet();
+        return item;
+      }
+    };
+  }
+
+  /** Reports how far into the statement the parser is. */
+  private static final class CountingInputStream extends FilterInputStream {
+    private final AtomicLong count;
+
+    CountingInputStream(InputStream in, AtomicLong count) {
+      super(in);
+      this.count = count;
+    }
+
+    @Override
+    public int read() throws IOException {
+      int b = super.read();
+      if (b != -1) {
+        count.incrementAndGet();
+      }
+      return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      int read = super.read(b, off, len);
+      if (read > 0) {
+        count.addAndGet(read);
+      }
+      return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+      long skipped = super.skip(n);
+      count.addAndGet(skipped);
+      return skipped;
+    }
+  }
+
+  public sealed interface Error {
+    record SourceNotFound(SourceNotFoundError error) implements Error {}
+
+    /** Every worker is busy and {@code capacity} jobs are already waiting. */
+    record QueueFull(int capacity) implements Error {}
+  }
+}
@@ -0,0 +1,116 @@
+package com.anibalxyz.features.transactions.application;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+import com.anibalxyz.core.Result;
+import com.anibalxyz.core.application.ValidationNotification;
+import com.anibalxyz.features.transactions.application.out.ImportSummary;
+import com.anibalxyz.features.transactions.domain.MergeOutcome;
+import com.anibalxyz.features.transactions.domain.StatementFormat;
+import com.anibalxyz.features.transactions.domain.Transaction;
+import com.anibalxyz.features.transactions.domain.TransactionRepository;
+import com.anibalxyz.features.transactions.domain.error.SourceNotFoundError;
+import com.anibalxyz.features.transactions.domain.error.TransactionDomainError;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.Iterator;
+import java.util.function.UnaryOperator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Imports a statement into a source, streaming it from the input straight into the bulk load so
+ * that memory does not grow with the statement size.
+ *
+ * <p>Entries are staged while the statement is still being validated and only merged into the
+ * stored transactions once all of them are valid, so re-uploading an overlapping statement is
+ * idempotent: entries already stored are skipped or updated instead of failing the import. When any
+ * entry is invalid the import fails and the caller is expected to roll back the transaction,
+ * discarding the staged rows.
+ */
+public class ImportTransactions {
+  private static final Logger log = LoggerFactory.getLogger(ImportTransactions.class);
+
+  /** Validation errors collected before the import stops reading the statement. */
+  public static final int MAX_REPORTED_ERRORS = 100;
+
+  private final TransactionRepository transactionRepository;
+  private final ZoneId zone;
+
+  public ImportTransactions(TransactionRepository transactionRepository, ZoneId zone) {
+    this.transactionRepository = transactionRepository;
+    this.zone = zone;
+  }
+
+  public Result<ImportSummary, Error> execute(
+      int sourceId, StatementFormat format, InputStream statement) {
+    return execute(sourceId, format, statement, UnaryOperator.identity());
+  }
+
+  /**
+   * Same as {@link #execute(int, StatementFormat, InputStream)}, passing the validated entries
+   * through the given stage on their way to the bulk load, such as a hand-over between threads.
+   */
+  public Result<ImportSummary, Error> execute(
+      int sourceId,
+      StatementFormat format,
+      InputStream statement,
+      UnaryOperator<Iterator<Transaction>> stage) {
+    long start = System.nanoTime();
+    if (!transactionRepository.sourceExists(sourceId)) {
+      return Result.failure(new Error.SourceNotFound(SourceNotFoundError.byId(sourceId)));
+    }
+
+    ValidationNotification<TransactionDomainError> notification = new ValidationNotification<>();
+    StatementReader entries = open(format, statement, sourceId, notification);
+    long staged = transactionRepository.stageAll(stage.apply(entries));
+
+    if (notification.hasErrors()) {
+      return Result.failure(new Error.ValidationFailed(notification));
+    }
+
+    MergeOutcome merged = transactionRepository.mergeStaged();
+    long skipped = staged - merged.inserted() - merged.updated();
+
+    Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+    log.info(
+        "Transactions imported",
+        kv("source_id", sourceId),
+        kv("format", format),
+        kv("inserted", merged.inserted()),
+        kv("updated", merged.updated()),
+        kv("skipped", skipped),
+        kv("elapsed_ms", elapsed.toMillis()));
+    return Result.success(
+        new ImportSummary(sourceId, merged.inserted(), merged.updated(), skipped, elapsed));
+  }
+
+  private StatementReader open(
+      StatementFormat format,
+      InputStream statement,
+      int sourceId,
+      ValidationNotification<TransactionDomainError> notification) {
+    return switch (format) {
+      case CSV ->
+          new TransactionCsvReader(
+              new InputStreamReader(statement, StandardCharsets.UTF_8),
+              sourceId,
+              zone,
+              notification,
+              MAX_REPORTED_ERRORS);
+      case CAMT053 ->
+          new Camt053Reader(statement, sourceId, zone, notification, MAX_REPORTED_ERRORS);
+      case OFX -> new OfxReader(statement, sourceId, zone, notification, MAX_REPORTED_ERRORS);
+    };
+  }
+
+  public sealed interface Error {
+    record SourceNotFound(SourceNotFoundError error) implements Error {}
+
+    record ValidationFailed(ValidationNotification<TransactionDomainError> notification)
+        implements Error {}
+  }
+}
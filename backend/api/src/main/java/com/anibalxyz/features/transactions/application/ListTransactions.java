@@ -0,0 +1,22 @@
+package com.anibalxyz.features.transactions.application;
+
+import com.anibalxyz.core.application.Page;
+import com.anibalxyz.features.transactions.domain.StoredTransaction;
+import com.anibalxyz.features.transactions.domain.TransactionRepository;
+
+public class ListTransactions {
+  private final TransactionRepository transactionRepository;
+
+  public ListTransactions(TransactionRepository transactionRepository) {
+    this.transactionRepository = transactionRepository;
+  }
+
+  /**
+   * @param sourceId the source to list, or {@code null} for every source
+   * @param after the key of the last transaction of the previous page, or {@code null} for the
+   *     first page
+   */
+  public Page<StoredTransaction> execute(Integer sourceId, StoredTransaction.Key after, int limit) {
+    return Page.fromLookahead(transactionRepository.findPage(sourceId, after, limit + 1), limit);
+  }
+}
@@ -0,0 +1,159 @@
+package com.anibalxyz.features.transactions.application;
+
+import com.anibalxyz.core.Result;
+import com.anibalxyz.core.application.ValidationNotification;
+import com.anibalxyz.features.transactions.domain.Transaction;
+import com.anibalxyz.features.transactions.domain.error.InvalidTransactionDateError;
+import com.anibalxyz.features.transactions.domain.error.TransactionDomainError;
+import java.io.InputStream;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Streaming parser for Open Financial Exchange 2.x statements, turning every {@code STMTTRN} of a
+ * bank or credit card statement into a {@link Transaction}.
+ *
+ * <ul>
+ *   <li>date: {@code DTPOSTED}
+ *   <li>reference: {@code FITID}, falling back to {@code REFNUM}
+ *   <li>currency: the transaction's {@code CURRENCY/CURSYM}, falling back to the statement's {@code
+ *       CURDEF}
+ *   <li>amount: {@code TRNAMT}, already signed
+ *   <li>description: {@code NAME} and {@code MEMO}, joined when both are present
+ * </ul>
+ *
+ * <p>Only the XML flavour of OFX is supported; 1.x files, which are SGML, are rejected as not well
+ * formed.
+ */
+public class OfxReader extends XmlStatementReader {
+  /**
+   * OFX date-time: {@code YYYYMMDD[HHMMSS[.XXX]][[gmt offset[:tz name]]]}, the offset in hours,
+   * possibly fractional.
+   */
+  private static final Pattern DATE_TIME =
+      Pattern.compile(
+          "(\\d{4})(\\d{2})(\\d{2})(?:(\\d{2})(\\d{2})(?:(\\d{2})(?:\\.(\\d{1,3}))?)?)?"
+              + "(?:\\[([+-]?\\d{1,2}(?:\\.\\d{1,2})?)(?::[^\\]]*)?])?");
+
+  private String defaultCurrency;
+
+  private String postedDate;
+  private String transactionId;
+  private String referenceNumber;
+  private String currency;
+  private String amount;
+  private String name;
+  private String memo;
+
+  public OfxReader(
+      InputStream input,
+      int sourceId,
+      ZoneId zone,
+      ValidationNotification<TransactionDomainError> notification,
+      int maxErrors) {
+    super(input, "OFX", "STMTTRN", sourceId, zone, notification, maxErrors);
+  }
+
+  @Override
+  protected void onStatementElement(String localName, XMLStreamReader xml)
+      throws XMLStreamException {
+    if (localName.equals("CURDEF")) {
+      defaultCurrency = xml.getElementText().strip();
+    }
+  }
+
+  @Override
+  protected void resetEntry() {
+    postedDate = null;
+    transactionId = null;
+    referenceNumber = null;
+    currency = null;
+    amount = null;
+    name = null;
+    memo = null;
+  }
+
+  @Override
+  protected void onEntryValue(String path, String value) {
+    switch (path) {
+      case "/DTPOSTED" -> postedDate = value;
+      case "/FITID" -> transactionId = value;
+      case "/REFNUM" -> referenceNumber = value;
+      case "/CURRENCY/CURSYM" -> currency = value;
+      case "/TRNAMT" -> amount = value.replace(',', '.');
+      case "/NAME" -> name = value;
+      case "/MEMO" -> memo = value;
+      default -> {}
+    }
+  }
+
+  @Override
+  protected Transaction toTransaction() {
+    return buildTransaction(
+        entryKey(),
+        parseDate(postedDate, zone),
+        isBlank(transactionId) ? referenceNumber : transactionId,
+        currency != null ? currency : defaultCurrency,
+        amount,
+        description());
+  }
+
+  private String description() {
+    if (isBlank(name)) {
+      return memo;
+    }
+    if (isBlank(memo) || memo.equals(name)) {
+      return name;
+    }
+    return name + " - " + memo;
+  }
+
+  /**
+   * Parses an OFX date-time. Values without an offset are taken as local to the given zone, the
+   * same as statement dates in other formats.
+   */
+  static Result<Instant, InvalidTransactionDateError> parseDate(String value, ZoneId zone) {
+    if (value == null) return Result.failure(InvalidTransactionDateError.absent());
+    if (value.isBlank()) return Result.failure(InvalidTransactionDateError.blank());
+    Matcher matcher = DATE_TIME.matcher(value.strip());
+    if (!matcher.matches()) {
+      return Result.failure(InvalidTransactionDateError.invalidFormat());
+    }
+    try {
+      LocalDate date =
+          LocalDate.of(
+              Integer.parseInt(matcher.group(1)),
+              Integer.parseInt(matcher.group(2)),
+              Integer.parseInt(matcher.group(3)));
+      LocalTime time =
+          matcher.group(4) == null
+              ? LocalTime.MIDNIGHT
+              : LocalTime.of(
+                  Integer.parseInt(matcher.group(4)),
+                  Integer.parseInt(matcher.group(5)),
+                  matcher.group(6) == null ? 0 : Integer.parseInt(matcher.group(6)));
+      LocalDateTime dateTime = LocalDateTime.of(date, time);
+      String offset = matcher.group(8);
+      if (offset == null) {
+        return Result.success(dateTime.atZone(zone).toInstant());
+      }
+      int offsetSeconds = (int) Math.round(Double.parseDouble(offset) * 3600);
+      return Result.success(dateTime.toInstant(ZoneOffset.ofTotalSeconds(offsetSeconds)));
+    } catch (DateTimeException e) {
+      return Result.failure(InvalidTransactionDateError.invalidFormat());
+    }
+  }
+
+  private static boolean isBlank(String value) {
+    return value == null || value.isBlank();
+  }
+}
@@ -0,0 +1,158 @@
+package com.anibalxyz.features.transactions.application;
+
+import com.anibalxyz.core.Result;
+import com.anibalxyz.core.application.ValidationNotification;
+import com.anibalxyz.features.transactions.domain.Amount;
+import com.anibalxyz.features.transactions.domain.Currency;
+import com.anibalxyz.features.transactions.domain.Reference;
+import com.anibalxyz.features.transactions.domain.Transaction;
+import com.anibalxyz.features.transactions.domain.error.InvalidTransactionDateError;
+import com.anibalxyz.features.transactions.domain.error.TransactionDomainError;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Base for the streaming statement parsers, turning the entries of a statement into {@link
+ * Transaction}s one at a time so memory stays proportional to a single entry.
+ *
+ * <p>Errors are added to the given notification under a key naming the offending entry, suffixed
+ * with the transaction field for value errors. After the first error no more transactions are
+ * returned, but the remaining entries are still validated until {@code maxErrors} errors have been
+ * collected, so a single upload reports as many problems as is useful.
+ */
+public abstract class StatementReader implements Iterator<Transaction> {
+  public static final String DATE = "date";
+  public static final String REFERENCE = "reference";
+  public static final String CURRENCY = "currency";
+  public static final String AMOUNT = "amount";
+  public static final String DESCRIPTION = "description";
+
+  protected final int sourceId;
+  protected final ZoneId zone;
+  private final ValidationNotification<TransactionDomainError> notification;
+  private final int maxErrors;
+
+  private boolean started;
+  private boolean finished;
+  private int errorCount;
+  private Transaction next;
+
+  protected StatementReader(
+      int sourceId,
+      ZoneId zone,
+      ValidationNotification<TransactionDomainError> notification,
+      int maxErrors) {
+    this.sourceId = sourceId;
+    this.zone = zone;
+    this.notification = notification;
+    this.maxErrors = maxErrors;
+  }
+
+  /** Reads whatever precedes the first entry, such as a header; called once before any entry. */
+  protected void start() throws IOException {}
+
+  /**
+   * Reads the next entry of the statement.
+   *
+   * @return {@code false} at the end of the input, or when it is malformed beyond recovery
+   */
+  protected abstract boolean readEntry() throws IOException;
+
+  /**
+   * @return the transaction for the entry just read, or {@code null} when it is invalid, in which
+   *     case its errors have been added, or deliberately skipped
+   */
+  protected abstract Transaction toTransaction();
+
+  @Override
+  public boolean hasNext() {
+    if (next == null && !finished) {
+      try {
+        advance();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+    return next != null;
+  }
+
+  @Override
+  public Transaction next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    Transaction current = next;
+    next = null;
+    return current;
+  }
+
+  private void advance() throws IOException {
+    if (!started) {
+      started = true;
+      start();
+    }
+    while (!finished && errorCount < maxErrors && readEntry()) {
+      Transaction transaction = toTransaction();
+      if (transaction != null && errorCount == 0) {
+        next = transaction;
+        return;
+      }
+    }
+    finished = true;
+  }
+
+  /** Stops reading; no more entries are returned or validated. */
+  protected final void finish() {
+    finished = true;
+  }
+
+  protected final boolean hasErrors() {
+    return errorCount > 0;
+  }
+
+  protected final void addError(String field, TransactionDomainError error) {
+    if (errorCount < maxErrors) {
+      notification.add(field, error);
+    }
+    errorCount++;
+  }
+
+  /**
+   * Validates the raw values of an entry, reporting each invalid one under {@code entry.<field>}.
+   *
+   * @return the transaction, or {@code null} when any value is invalid
+   */
+  protected final Transaction buildTransaction(
+      String entry,
+      Result<Instant, InvalidTransactionDateError> date,
+      String reference,
+      String currency,
+      String amount,
+      String description) {
+    String prefix = entry + ".";
+    date.onFailure(err -> addError(prefix + DATE, err));
+    Result<Reference, ?> referenceResult =
+        Reference.of(reference).onFailure(err -> addError(prefix + REFERENCE, err));
+    Result<Currency, ?> currencyResult =
+        Currency.of(currency).onFailure(err -> addError(prefix + CURRENCY, err));
+    Result<Amount, ?> amountResult =
+        Amount.of(amount).onFailure(err -> addError(prefix + AMOUNT, err));
+    if (date.isFailure()
+        || referenceResult.isFailure()
+        || currencyResult.isFailure()
+        || amountResult.isFailure()) {
+      return null;
+    }
+    return Transaction.create(
+        sourceId,
+        date.unwrap(),
+        referenceResult.unwrap(),
+        currencyResult.unwrap(),
+        amountResult.unwrap(),
+        description);
+  }
+}
@@ -0,0 +1,221 @@
+package com.anibalxyz.features.transactions.application;
+
+import com.anibalxyz.core.application.ValidationNotification;
+import com.anibalxyz.features.transactions.domain.Transaction;
+import com.anibalxyz.features.transactions.domain.TransactionDate;
+import com.anibalxyz.features.transactions.domain.error.MalformedCsvError;
+import com.anibalxyz.features.transactions.domain.error.TransactionDomainError;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Streaming RFC 4180 parser turning the rows of a CSV statement into {@link Transaction}s.
+ *
+ * <p>The first record is a header naming the columns, in any order: {@value #DATE}, {@value
+ * #REFERENCE}, {@value #CURRENCY}, {@value #AMOUNT} and the optional {@value #DESCRIPTION}. Rows
+ * are read one at a time from a small character buffer, so memory stays flat whatever the size of
+ * the statement.
+ *
+ * <p>Errors are keyed as {@code header} or {@code rows[<line>].<column>} where {@code line} is the
+ * 1-based line of the file where the row starts.
+ */
+public class TransactionCsvReader extends StatementReader {
+  /** Longest record accepted, in characters; longer ones are rejected instead of buffered. */
+  public static final int MAX_RECORD_LENGTH = 1 << 16;
+
+  private static final int BUFFER_SIZE = 1 << 13;
+
+  private final Reader reader;
+
+  private final char[] buffer = new char[BUFFER_SIZE];
+  private int position;
+  private int limit;
+
+  private final List<String> fields = new ArrayList<>();
+  private final StringBuilder field = new StringBuilder();
+  private int recordLength;
+  private int line = 1;
+  private int recordLine;
+
+  private int columns;
+  private int dateIndex = -1;
+  private int referenceIndex = -1;
+  private int currencyIndex = -1;
+  private int amountIndex = -1;
+  private int descriptionIndex = -1;
+
+  public TransactionCsvReader(
+      Reader reader,
+      int sourceId,
+      ZoneId zone,
+      ValidationNotification<TransactionDomainError> notification,
+      int maxErrors) {
+    super(sourceId, zone, notification, maxErrors);
+    this.reader = reader;
+  }
+
+  @Override
+  protected void start() throws IOException {
+    skipByteOrderMark();
+    if (!readRecord()) {
+      addError("header", MalformedCsvError.missingHeader());
+      finish();
+      return;
+    }
+    columns = fields.size();
+    for (int i = 0; i < columns; i++) {
+      switch (fields.get(i).strip().toLowerCase(Locale.ROOT)) {
+        case DATE -> dateIndex = i;
+        case REFERENCE -> referenceIndex = i;
+        case CURRENCY -> currencyIndex = i;
+        case AMOUNT -> amountIndex = i;
+        case DESCRIPTION -> descriptionIndex = i;
+        default -> {}
+      }
+    }
+    requireColumn(dateIndex, DATE);
+    requireColumn(referenceIndex, REFERENCE);
+    requireColumn(currencyIndex, CURRENCY);
+    requireColumn(amountIndex, AMOUNT);
+    if (hasErrors()) {
+      finish();
+    }
+  }
+
+  private void requireColumn(int index, String column) {
+    if (index < 0) {
+      addError("header", MalformedCsvError.missingColumn(column));
+    }
+  }
+
+  @Override
+  protected boolean readEntry() throws IOException {
+    return readRecord();
+  }
+
+  @Override
+  protected Transaction toTransaction() {
+    String row = "rows[" + recordLine + "]";
+    if (fields.size() != columns) {
+      addError(row, MalformedCsvError.columnCount(columns, fields.size()));
+      return null;
+    }
+    return buildTransaction(
+        row,
+        TransactionDate.parse(fields.get(dateIndex), zone),
+        fields.get(referenceIndex),
+        fields.get(currencyIndex),
+        fields.get(amountIndex),
+        descriptionIndex < 0 ? null : fields.get(descriptionIndex));
+  }
+
+  /**
+   * Reads the next non-empty record into {@link #fields}.
+   *
+   * @return {@code false} at the end of the input, or when the record is malformed beyond recovery
+   */
+  private boolean readRecord() throws IOException {
+    fields.clear();
+    field.setLength(0);
+    recordLength = 0;
+    recordLine = line;
+    boolean quoted = false;
+    boolean empty = true;
+    while (true) {
+      int c = read();
+      if (c == -1) {
+        if (quoted) {
+          addError("rows[" + recordLine + "]", MalformedCsvError.unterminatedQuote());
+          return false;
+        }
+        if (empty) {
+          return false;
+        }
+        fields.add(field.toString());
+        return true;
+      }
+      if (++recordLength > MAX_RECORD_LENGTH) {
+        addError("rows[" + recordLine + "]", MalformedCsvError.recordTooLong(MAX_RECORD_LENGTH));
+        return false;
+      }
+      if (quoted) {
+        if (c == '"') {
+          if (peek() == '"') {
+            read();
+            field.append('"');
+          } else {
+            quoted = false;
+          }
+        } else {
+          if (c == '\n') {
+            line++;
+          }
+          field.append((char) c);
+        }
+        continue;
+      }
+      switch (c) {
+        case '"' -> {
+          quoted = true;
+          empty = false;
+        }
+        case ',' -> {
+          fields.add(field.toString());
+          field.setLength(0);
+          empty = false;
+        }
+        case '\r', '\n' -> {
+          if (c == '\r' && peek() == '\n') {
+            read();
+          }
+          line++;
+          if (empty) {
+            recordLine = line;
+            recordLength = 0;
+            continue;
+          }
+          fields.add(field.toString());
+          return true;
+        }
+        default -> {
+          field.append((char) c);
+          empty = false;
+        }
+      }
+    }
+  }
+
+  private void skipByteOrderMark() throws IOException {
+    if (peek() == '\uFEFF') {
+      read();
+    }
+  }
+
+  private int read() throws IOException {
+    if (position == limit && !fill()) {
+      return -1;
+    }
+    return buffer[position++];
+  }
+
+  private int peek() throws IOException {
+    if (position == limit && !fill()) {
+      return -1;
+    }
+    return buffer[position];
+  }
+
+  private boolean fill() throws IOException {
+    int read = reader.read(buffer, 0, buffer.length);
+    if (read <= 0) {
+      return false;
+    }
+    position = 0;
+    limit = read;
+    return true;
+  }
+}
@@ -0,0 +1,173 @@
+package com.anibalxyz.features.transactions.application;
+
+import com.anibalxyz.core.application.ValidationNotification;
+import com.anibalxyz.features.transactions.domain.error.MalformedXmlError;
+import com.anibalxyz.features.transactions.domain.error.TransactionDomainError;
+import java.io.InputStream;
+import java.time.ZoneId;
+import java.util.Arrays;
+import javax.xml.stream.Location;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Base for the XML statement parsers, pulling events with StAX so no DOM is ever built and memory
+ * stays proportional to a single entry.
+ *
+ * <p>Subclasses name the root element and the element wrapping each entry. Inside an entry, every
+ * element is reported by its path relative to the entry, such as {@code /BookgDt/Dt}, so that
+ * elements sharing a local name at different depths can be told apart. Elements are matched by
+ * local name, whatever their namespace, since banks differ in the schema versions they declare.
+ *
+ * <p>Errors are keyed as {@code document} for structural problems or {@code entries[<n>].<field>}
+ * where {@code n} is the 1-based position of the entry in the statement. DTDs and external entities
+ * are disabled.
+ */
+public abstract class XmlStatementReader extends StatementReader {
+  /** Longest element value accepted, in characters. */
+  public static final int MAX_VALUE_LENGTH = 1 << 16;
+
+  private static final XMLInputFactory FACTORY = createFactory();
+
+  private final InputStream input;
+  private final String rootElement;
+  private final String entryElement;
+
+  private XMLStreamReader xml;
+  private final StringBuilder path = new StringBuilder();
+  private final StringBuilder text = new StringBuilder();
+  private int[] pathLengths = new int[16];
+  private int entryIndex;
+
+  protected XmlStatementReader(
+      InputStream input,
+      String rootElement,
+      String entryElement,
+      int sourceId,
+      ZoneId zone,
+      ValidationNotification<TransactionDomainError> notification,
+      int maxErrors) {
+    super(sourceId, zone, notification, maxErrors);
+    this.input = input;
+    this.rootElement = rootElement;
+    this.entryElement = entryElement;
+  }
+
+  private static XMLInputFactory createFactory() {
+    XMLInputFactory factory = XMLInputFactory.newFactory();
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    factory.setProperty(XMLInputFactory.IS_COALESCING, false);
+    return factory;
+  }
+
+  /** Clears the values collected for the previous entry. */
+  protected abstract void resetEntry();
+
+  /** Reads the attributes of an element inside an entry; the reader is on its start tag. */
+  protected void onEntryElement(String path, XMLStreamReader xml) {}
+
+  /** Receives the text of a leaf element inside an entry. */
+  protected abstract void onEntryValue(String path, String value);
+
+  /**
+   * Receives an element outside any entry, such as a statement-wide default; the reader is on its
+   * start tag and may be advanced up to the matching end tag.
+   */
+  protected void onStatementElement(String localName, XMLStreamReader xml)
+      throws XMLStreamException {}
+
+  /** Key naming the entry just read, for error reporting. */
+  protected final String entryKey() {
+    return "entries[" + entryIndex + "]";
+  }
+
+  @Override
+  protected void start() {
+    try {
+      xml = FACTORY.createXMLStreamReader(input);
+      xml.nextTag();
+      if (!rootElement.equals(xml.getLocalName())) {
+        addError("document", MalformedXmlError.unexpectedRoot(rootElement, xml.getLocalName()));
+        finish();
+      }
+    } catch (XMLStreamException e) {
+      notWellFormed(e);
+    }
+  }
+
+  @Override
+  protected boolean readEntry() {
+    try {
+      while (xml.hasNext()) {
+        if (xml.next() != XMLStreamConstants.START_ELEMENT) {
+          continue;
+        }
+        String localName = xml.getLocalName();
+        if (entryElement.equals(localName)) {
+          entryIndex++;
+          resetEntry();
+          return readEntryElements();
+        }
+        onStatementElement(localName, xml);
+      }
+      return false;
+    } catch (XMLStreamException e) {
+      notWellFormed(e);
+      return false;
+    }
+  }
+
+  /** Walks the children of the current entry up to its end tag. */
+  private boolean readEntryElements() throws XMLStreamException {
+    path.setLength(0);
+    int depth = 0;
+    boolean leaf = false;
+    while (xml.hasNext()) {
+      switch (xml.next()) {
+        case XMLStreamConstants.START_ELEMENT -> {
+          if (depth == pathLengths.length) {
+            pathLengths = Arrays.copyOf(pathLengths, depth * 2);
+          }
+          pathLengths[depth++] = path.length();
+          path.append('/').append(xml.getLocalName());
+          text.setLength(0);
+          leaf = true;
+          onEntryElement(path.toString(), xml);
+        }
+        case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA -> {
+          if (leaf) {
+            if (text.length() + xml.getTextLength() > MAX_VALUE_LENGTH) {
+              addError(entryKey(), MalformedXmlError.valueTooLong(MAX_VALUE_LENGTH));
+              finish();
+              return false;
+            }
+            text.append(xml.getTextCharacters(), xml.getTextStart(), xml.getTextLength());
+          }
+        }
+        case XMLStreamConstants.END_ELEMENT -> {
+          if (depth == 0) {
+            return true;
+          }
+          if (leaf) {
+            onEntryValue(path.toString(), text.toString().strip());
+            leaf = false;
+          }
+          path.setLength(pathLengths[--depth]);
+        }
+        default -> {}
+      }
+    }
+    return false;
+  }
+
+  private void notWellFormed(XMLStreamException e) {
+    Location location = e.getLocation();
+    int line = location == null ? -1 : location.getLineNumber();
+    int column = location == null ? -1 : location.getColumnNumber();
+    addError("document", MalformedXmlError.notWellFormed(line, column));
+    finish();
+  }
+}
@@ -0,0 +1,14 @@
+package com.anibalxyz.features.transactions.application.env;
+
+import java.nio.file.Path;
+
+public interface ImportJobEnvironment {
+  /** Directory where uploaded statements are kept until their import job finishes. */
+  Path IMPORT_SPOOL_DIR();
+
+  /** Maximum number of import jobs running at the same time. */
+  int IMPORT_JOB_WORKERS();
+
+  /** Maximum number of import jobs waiting for a worker before new uploads are refused. */
+  int IMPORT_JOB_QUEUE_CAPACITY();
+}
@@ -0,0 +1,40 @@
+package com.anibalxyz.features.transactions.application.out;
+
+import com.anibalxyz.features.transactions.application.ImportTransactions;
+import com.anibalxyz.features.transactions.domain.ImportJobStatus;
+import com.anibalxyz.features.transactions.domain.StatementFormat;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Snapshot of an asynchronous statement import.
+ *
+ * @param id job identifier, to poll its progress
+ * @param sourceId source the statement is imported into
+ * @param format format of the statement
+ * @param status where the job is in its lifecycle
+ * @param totalBytes size of the spooled statement
+ * @param bytesRead bytes of the statement parsed so far
+ * @param entriesRead valid entries parsed so far
+ * @param entriesWritten entries loaded into the database so far
+ * @param submittedAt when the statement was uploaded
+ * @param startedAt when a worker picked the job up, {@code null} while queued
+ * @param finishedAt when the job ended, {@code null} while queued or running
+ * @param summary outcome of the import, only once it succeeded
+ * @param error why the import was rejected, only once it failed on the statement itself; a job
+ *     that failed without one broke for reasons unrelated to its statement
+ */
+public record ImportJobProgress(
+    UUID id,
+    int sourceId,
+    StatementFormat format,
+    ImportJobStatus status,
+    long totalBytes,
+    long bytesRead,
+    long entriesRead,
+    long entriesWritten,
+    Instant submittedAt,
+    Instant startedAt,
+    Instant finishedAt,
+    ImportSummary summary,
+    ImportTransactions.Error error) {}
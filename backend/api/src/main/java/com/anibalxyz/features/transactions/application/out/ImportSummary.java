@@ -0,0 +1,16 @@
+package com.anibalxyz.features.transactions.application.out;
+
+import java.time.Duration;
+
+/**
+ * Outcome of a statement import.
+ *
+ * @param sourceId source the transactions were imported into
+ * @param inserted transactions new to the source
+ * @param updated existing transactions whose values changed
+ * @param skipped entries already stored as they are, already reconciled, or repeated within the
+ *     statement
+ * @param elapsed wall time spent parsing and loading the statement
+ */
+public record ImportSummary(
+    int sourceId, long inserted, long updated, long skipped, Duration elapsed) {}
@@ -0,0 +1,71 @@
+package com.anibalxyz.features.transactions.domain;
+
+import com.anibalxyz.annotation.ExcludeFromJacocoGenerated;
+import com.anibalxyz.core.Result;
+import com.anibalxyz.features.transactions.domain.error.InvalidAmountError;
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * Signed transaction amount in major units, constrained to fit {@code NUMERIC(15,2)}.
+ *
+ * <p>Trailing zeros beyond the second decimal are accepted ({@code 10.500}); any other third
+ * decimal is rejected rather than rounded.
+ */
+public final class Amount {
+  public static final int MAX_DECIMALS = 2;
+  public static final int MAX_INTEGER_DIGITS = 13;
+  private final BigDecimal value;
+
+  private Amount(BigDecimal value) {
+    this.value = value;
+  }
+
+  public static Result<Amount, InvalidAmountError> of(String value) {
+    if (value == null) return Result.failure(InvalidAmountError.absent());
+    if (value.isBlank()) return Result.failure(InvalidAmountError.blank());
+    BigDecimal parsed;
+    try {
+      parsed = new BigDecimal(value.strip());
+    } catch (NumberFormatException e) {
+      return Result.failure(InvalidAmountError.invalidFormat());
+    }
+    return of(parsed);
+  }
+
+  public static Result<Amount, InvalidAmountError> of(BigDecimal value) {
+    if (value == null) return Result.failure(InvalidAmountError.absent());
+    BigDecimal stripped = value.stripTrailingZeros();
+    if (stripped.scale() > MAX_DECIMALS) {
+      return Result.failure(InvalidAmountError.tooManyDecimals(MAX_DECIMALS));
+    }
+    if (stripped.precision() - stripped.scale() > MAX_INTEGER_DIGITS) {
+      return Result.failure(InvalidAmountError.tooManyDigits(MAX_INTEGER_DIGITS));
+    }
+    return Result.success(new Amount(value.setScale(MAX_DECIMALS)));
+  }
+
+  public BigDecimal value() {
+    return value;
+  }
+
+  @Override
+  @ExcludeFromJacocoGenerated
+  public int hashCode() {
+    return Objects.hashCode(value);
+  }
+
+  @Override
+  @ExcludeFromJacocoGenerated
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (!(o instanceof Amount other)) return false;
+    return Objects.equals(value, other.value);
+  }
+
+  @Override
+  @ExcludeFromJacocoGenerated
+  public String toString() {
+    return value.toPlainString();
+  }
+}
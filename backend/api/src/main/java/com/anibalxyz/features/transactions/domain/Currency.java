@@ -0,0 +1,30 @@
+package com.anibalxyz.features.transactions.domain;
+
+import com.anibalxyz.core.Result;
+import com.anibalxyz.features.transactions.domain.error.InvalidCurrencyError;
+import java.util.Locale;
+
+/** Currencies supported by the platform, mirroring the {@code currency_type} database enum. */
+public enum Currency {
+  UYU,
+  USD,
+  EUR,
+  BRL,
+  ARS,
+  CLP,
+  MXN,
+  COP,
+  PEN,
+  GBP;
+
+  /** Parses an ISO 4217 code, case-insensitively. */
+  public static Result<Currency, InvalidCurrencyError> of(String code) {
+    if (code == null) return Result.failure(InvalidCurrencyError.absent());
+    if (code.isBlank()) return Result.failure(InvalidCurrencyError.blank());
+    try {
+      return Result.success(valueOf(code.strip().toUpperCase(Locale.ROOT)));
+    } catch (IllegalArgumentException e) {
+      return Result.failure(InvalidCurrencyError.unsupported(code.strip()));
+    }
+  }
+}
@@ -0,0 +1,13 @@
+package com.anibalxyz.features.transactions.domain;
+
+/** Lifecycle of an asynchronous statement import. */
+public enum ImportJobStatus {
+  /** Spooled and waiting for a free worker. */
+  QUEUED,
+  /** Being parsed and loaded. */
+  RUNNING,
+  /** Every entry was stored. */
+  SUCCEEDED,
+  /** Nothing was stored, either because the statement is invalid or because the job broke. */
+  FAILED
+}
@@ -0,0 +1,9 @@
+package com.anibalxyz.features.transactions.domain;
+
+/**
+ * Outcome of merging staged transactions into the stored ones.
+ *
+ * @param inserted transactions new to their source
+ * @param updated existing transactions whose values changed
+ */
+public record MergeOutcome(long inserted, long updated) {}
@@ -0,0 +1,57 @@
+package com.anibalxyz.features.transactions.domain;
+
+import com.anibalxyz.annotation.ExcludeFromJacocoGenerated;
+import com.anibalxyz.core.Result;
+import com.anibalxyz.features.transactions.domain.error.InvalidReferenceError;
+import java.util.Objects;
+
+/**
+ * Reference of a transaction within its source, such as a bank operation number or an invoice id.
+ * Unique per source.
+ */
+public final class Reference {
+  public static final int MAX_LENGTH = 255;
+  private final String value;
+
+  private Reference(String value) {
+    this.value = value;
+  }
+
+  public static Result<Reference, InvalidReferenceError> of(String value) {
+    return validate(value).map(v -> new Reference(value.strip()));
+  }
+
+  public static Result<Void, InvalidReferenceError> validate(String value) {
+    if (value == null) return Result.failure(InvalidReferenceError.absent());
+    if (value.isBlank()) return Result.failure(InvalidReferenceError.blank());
+    if (value.strip().length() > MAX_LENGTH) {
+      return Result.failure(InvalidReferenceError.tooLong(MAX_LENGTH));
+    }
+
+    return Result.success();
+  }
+
+  public String value() {
+    return value;
+  }
+
+  @Override
+  @ExcludeFromJacocoGenerated
+  public int hashCode() {
+    return Objects.hashCode(value);
+  }
+
+  @Override
+  @ExcludeFromJacocoGenerated
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (!(o instanceof Reference other)) return false;
+    return Objects.equals(value, other.value);
+  }
+
+  @Override
+  @ExcludeFromJacocoGenerated
+  public String toString() {
+    return value;
+  }
+}
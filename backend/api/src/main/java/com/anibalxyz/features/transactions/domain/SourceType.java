@@ -0,0 +1,7 @@
+package com.anibalxyz.features.transactions.domain;
+
+/** Origin of a transaction, mirroring the {@code source_type} database enum. */
+public enum SourceType {
+  BANK,
+  SYSTEM
+}
@@ -0,0 +1,26 @@
+package com.anibalxyz.features.transactions.domain;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/** File formats statements can be imported from. */
+public enum StatementFormat {
+  /** Comma-separated values with a header line. */
+  CSV,
+  /** ISO 20022 bank-to-customer statement ({@code camt.053}) XML. */
+  CAMT053,
+  /** Open Financial Exchange 2.x, the XML flavour of OFX. */
+  OFX;
+
+  /** Parses a format code, case-insensitively. */
+  public static Optional<StatementFormat> fromCode(String code) {
+    if (code == null) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(valueOf(code.strip().toUpperCase(Locale.ROOT)));
+    } catch (IllegalArgumentException e) {
+      return Optional.empty();
+    }
+  }
+}
@@ -0,0 +1,28 @@
+package com.anibalxyz.features.transactions.domain;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * A transaction as read back from storage for listings.
+ *
+ * <p>Values are taken as stored, without going through the validation of {@link Transaction}.
+ */
+public record StoredTransaction(
+    int id,
+    int sourceId,
+    Instant date,
+    String reference,
+    Currency currency,
+    BigDecimal amount,
+    String description) {
+
+  public Key key() {
+    return new Key(date, id);
+  }
+
+  /**
+   * Listing order of stored transactions: by date, ties broken by ID so that the order is total.
+   */
+  public record Key(Instant date, int id) {}
+}
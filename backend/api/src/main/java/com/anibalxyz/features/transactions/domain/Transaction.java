@@ -0,0 +1,76 @@
+package com.anibalxyz.features.transactions.domain;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * A bank or system movement as uploaded from a statement, before it is persisted.
+ *
+ * <p>Persisted transactions are read back as reconciliation projections or, for listings, as {@link
+ * StoredTransaction}.
+ */
+public final class Transaction {
+  private final int sourceId;
+  private final Instant date;
+  private final Reference reference;
+  private final Currency currency;
+  private final Amount amount;
+  private final String description;
+
+  private Transaction(
+      int sourceId,
+      Instant date,
+      Reference reference,
+      Currency currency,
+      Amount amount,
+      String description) {
+    Objects.requireNonNull(date, "date cannot be null");
+    Objects.requireNonNull(reference, "reference cannot be null");
+    Objects.requireNonNull(currency, "currency cannot be null");
+    Objects.requireNonNull(amount, "amount cannot be null");
+    this.sourceId = sourceId;
+    this.date = date;
+    this.reference = reference;
+    this.currency = currency;
+    this.amount = amount;
+    this.description = description;
+  }
+
+  /**
+   * @param description free text, stored as {@code null} when blank
+   */
+  public static Transaction create(
+      int sourceId,
+      Instant date,
+      Reference reference,
+      Currency currency,
+      Amount amount,
+      String description) {
+    String normalized = description == null || description.isBlank() ? null : description.strip();
+    return new Transaction(sourceId, date, reference, currency, amount, normalized);
+  }
+
+  public int sourceId() {
+    return sourceId;
+  }
+
+  public Instant date() {
+    return date;
+  }
+
+  public Reference reference() {
+    return reference;
+  }
+
+  public Currency currency() {
+    return currency;
+  }
+
+  public Amount amount() {
+    return amount;
+  }
+
+  public String description() {
+    return description;
+  }
+}
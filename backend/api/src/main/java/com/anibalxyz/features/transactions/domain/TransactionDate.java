@@ -0,0 +1,44 @@
+package com.anibalxyz.features.transactions.domain;
+
+import com.anibalxyz.core.Result;
+import com.anibalxyz.features.transactions.domain.error.InvalidTransactionDateError;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Parses transaction dates as found in statements: either an ISO-8601 date ({@code 2026-04-21}),
+ * taken as the start of that day in the given zone, or an ISO-8601 date-time ({@code
+ * 2026-04-21T10:15:00-03:00}). Date-times without offset are taken as local to the given zone.
+ */
+public final class TransactionDate {
+
+  private TransactionDate() {}
+
+  public static Result<Instant, InvalidTransactionDateError> parse(String value, ZoneId zone) {
+    if (value == null) return Result.failure(InvalidTransactionDateError.absent());
+    if (value.isBlank()) return Result.failure(InvalidTransactionDateError.blank());
+    String stripped = value.strip();
+    try {
+      if (stripped.indexOf('T') < 0) {
+        return Result.success(LocalDate.parse(stripped).atStartOfDay(zone).toInstant());
+      }
+      if (hasOffset(stripped)) {
+        return Result.success(OffsetDateTime.parse(stripped).toInstant());
+      }
+      return Result.success(LocalDateTime.parse(stripped).atZone(zone).toInstant());
+    } catch (DateTimeParseException e) {
+      return Result.failure(InvalidTransactionDateError.invalidFormat());
+    }
+  }
+
+  private static boolean hasOffset(String dateTime) {
+    int time = dateTime.indexOf('T');
+    return dateTime.endsWith("Z")
+        || dateTime.indexOf('+', time) >= 0
+        || dateTime.indexOf('-', time) >= 0;
+  }
+}
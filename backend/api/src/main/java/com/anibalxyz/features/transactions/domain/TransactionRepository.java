@@ -0,0 +1,36 @@
+package com.anibalxyz.features.transactions.domain;
+
+import java.util.Iterator;
+import java.util.List;
+
+public interface TransactionRepository {
+
+  boolean sourceExists(int sourceId);
+
+  /**
+   * Bulk-loads the transactions into a staging area private to the current transaction, pulling
+   * them from the iterator one at a time so that callers can stream rows straight from their input.
+   *
+   * @return the number of staged rows.
+   */
+  long stageAll(Iterator<Transaction> transactions);
+
+  /**
+   * Merges the staged transactions into the stored ones, keyed on source and reference. New ones
+   * are inserted; existing ones are updated when their values changed and they are not reconciled
+   * yet, and left untouched otherwise. When a reference is staged more than once, the last one
+   * wins.
+   */
+  MergeOutcome mergeStaged();
+
+  /**
+   * Reads stored transactions in {@link StoredTransaction.Key} order, seeking past {@code after}
+   * through an index so that the cost does not depend on how many transactions precede it.
+   *
+   * @param sourceId the source to list, or {@code null} for every source
+   * @param after the key of the last transaction already read, or {@code null} to start from the
+   *     first
+   * @return at most {@code limit} transactions
+   */
+  List<StoredTransaction> findPage(Integer sourceId, StoredTransaction.Key after, int limit);
+}
@@ -0,0 +1,21 @@
+package com.anibalxyz.features.transactions.domain.error;
+
+import com.anibalxyz.core.domain.error.DomainErrorReason;
+import com.anibalxyz.core.domain.error.EntityNotFoundError;
+import com.anibalxyz.core.domain.error.ReasonedError;
+import java.util.UUID;
+
+public final class ImportJobNotFoundError extends ReasonedError<ImportJobNotFoundError.Reason>
+    implements EntityNotFoundError, TransactionDomainError {
+  private ImportJobNotFoundError(Reason reason) {
+    super(reason);
+  }
+
+  public static ImportJobNotFoundError byId(UUID id) {
+    return new ImportJobNotFoundError(new Reason.ById(id));
+  }
+
+  public sealed interface Reason extends DomainErrorReason {
+    record ById(UUID id) implements Reason {}
+  }
+}
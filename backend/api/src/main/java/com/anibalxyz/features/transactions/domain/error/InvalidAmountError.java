@@ -0,0 +1,45 @@
+package com.anibalxyz.features.transactions.domain.error;
+
+import com.anibalxyz.core.domain.error.DomainErrorReason;
+import com.anibalxyz.core.domain.error.ReasonedError;
+
+/** Domain error representing an invalid transaction amount. */
+public final class InvalidAmountError extends ReasonedError<InvalidAmountError.Reason>
+    implements TransactionDomainError.InvalidValueError {
+
+  private InvalidAmountError(Reason reason) {
+    super(reason);
+  }
+
+  public static InvalidAmountError invalidFormat() {
+    return new InvalidAmountError(new Reason.InvalidFormat());
+  }
+
+  public static InvalidAmountError tooManyDecimals(int maxDecimals) {
+    return new InvalidAmountError(new Reason.TooManyDecimals(maxDecimals));
+  }
+
+  public static InvalidAmountError tooManyDigits(int maxIntegerDigits) {
+    return new InvalidAmountError(new Reason.TooManyDigits(maxIntegerDigits));
+  }
+
+  public static InvalidAmountError blank() {
+    return new InvalidAmountError(new Reason.Blank());
+  }
+
+  public static InvalidAmountError absent() {
+    return new InvalidAmountError(new Reason.Absent());
+  }
+
+  public sealed interface Reason extends DomainErrorReason {
+    record InvalidFormat() implements Reason {}
+
+    record TooManyDecimals(int maxDecimals) implements Reason {}
+
+    record TooManyDigits(int maxIntegerDigits) implements Reason {}
+
+    record Blank() implements Reason {}
+
+    record Absent() implements Reason {}
+  }
+}
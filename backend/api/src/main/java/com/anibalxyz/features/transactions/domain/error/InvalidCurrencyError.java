@@ -0,0 +1,33 @@
+package com.anibalxyz.features.transactions.domain.error;
+
+import com.anibalxyz.core.domain.error.DomainErrorReason;
+import com.anibalxyz.core.domain.error.ReasonedError;
+
+/** Domain error representing a currency code that is missing or not supported. */
+public final class InvalidCurrencyError extends ReasonedError<InvalidCurrencyError.Reason>
+    implements TransactionDomainError.InvalidValueError {
+
+  private InvalidCurrencyError(Reason reason) {
+    super(reason);
+  }
+
+  public static InvalidCurrencyError unsupported(String code) {
+    return new InvalidCurrencyError(new Reason.Unsupported(code));
+  }
+
+  public static InvalidCurrencyError blank() {
+    return new InvalidCurrencyError(new Reason.Blank());
+  }
+
+  public static InvalidCurrencyError absent() {
+    return new InvalidCurrencyError(new Reason.Absent());
+  }
+
+  public sealed interface Reason extends DomainErrorReason {
+    record Unsupported(String code) implements Reason {}
+
+    record Blank() implements Reason {}
+
+    record Absent() implements Reason {}
+  }
+}
@@ -0,0 +1,33 @@
+package com.anibalxyz.features.transactions.domain.error;
+
+import com.anibalxyz.core.domain.error.DomainErrorReason;
+import com.anibalxyz.core.domain.error.ReasonedError;
+
+/** Domain error representing an invalid transaction reference. */
+public final class InvalidReferenceError extends ReasonedError<InvalidReferenceError.Reason>
+    implements TransactionDomainError.InvalidValueError {
+
+  private InvalidReferenceError(Reason reason) {
+    super(reason);
+  }
+
+  public static InvalidReferenceError tooLong(int maxLength) {
+    return new InvalidReferenceError(new Reason.TooLong(maxLength));
+  }
+
+  public static InvalidReferenceError blank() {
+    return new InvalidReferenceError(new Reason.Blank());
+  }
+
+  public static InvalidReferenceError absent() {
+    return new InvalidReferenceError(new Reason.Absent());
+  }
+
+  public sealed interface Reason extends DomainErrorReason {
+    record TooLong(int maxLength) implements Reason {}
+
+    record Blank() implements Reason {}
+
+    record Absent() implements Reason {}
+  }
+}
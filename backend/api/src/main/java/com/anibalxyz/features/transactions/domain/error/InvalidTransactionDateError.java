@@ -0,0 +1,34 @@
+package com.anibalxyz.features.transactions.domain.error;
+
+import com.anibalxyz.core.domain.error.DomainErrorReason;
+import com.anibalxyz.core.domain.error.ReasonedError;
+
+/** Domain error representing a transaction date that is missing or cannot be parsed. */
+public final class InvalidTransactionDateError
+    extends ReasonedError<InvalidTransactionDateError.Reason>
+    implements TransactionDomainError.InvalidValueError {
+
+  private InvalidTransactionDateError(Reason reason) {
+    super(reason);
+  }
+
+  public static InvalidTransactionDateError invalidFormat() {
+    return new InvalidTransactionDateError(new Reason.InvalidFormat());
+  }
+
+  public static InvalidTransactionDateError blank() {
+    return new InvalidTransactionDateError(new Reason.Blank());
+  }
+
+  public static InvalidTransactionDateError absent() {
+    return new InvalidTransactionDateError(new Reason.Absent());
+  }
+
+  public sealed interface Reason extends DomainErrorReason {
+    record InvalidFormat() implements Reason {}
+
+    record Blank() implements Reason {}
+
+    record Absent() implements Reason {}
+  }
+}
@@ -0,0 +1,45 @@
+package com.anibalxyz.features.transactions.domain.error;
+
+import com.anibalxyz.core.domain.error.DomainErrorReason;
+import com.anibalxyz.core.domain.error.ReasonedError;
+
+/** Domain error representing a CSV statement whose structure, not its values, is invalid. */
+public final class MalformedCsvError extends ReasonedError<MalformedCsvError.Reason>
+    implements TransactionDomainError {
+
+  private MalformedCsvError(Reason reason) {
+    super(reason);
+  }
+
+  public static MalformedCsvError missingHeader() {
+    return new MalformedCsvError(new Reason.MissingHeader());
+  }
+
+  public static MalformedCsvError missingColumn(String column) {
+    return new MalformedCsvError(new Reason.MissingColumn(column));
+  }
+
+  public static MalformedCsvError columnCount(int expected, int actual) {
+    return new MalformedCsvError(new Reason.ColumnCount(expected, actual));
+  }
+
+  public static MalformedCsvError unterminatedQuote() {
+    return new MalformedCsvError(new Reason.UnterminatedQuote());
+  }
+
+  public static MalformedCsvError recordTooLong(int maxLength) {
+    return new MalformedCsvError(new Reason.RecordTooLong(maxLength));
+  }
+
+  public sealed interface Reason extends DomainErrorReason {
+    record MissingHeader() implements Reason {}
+
+    record MissingColumn(String column) implements Reason {}
+
+    record ColumnCount(int expected, int actual) implements Reason {}
+
+    record UnterminatedQuote() implements Reason {}
+
+    record RecordTooLong(int maxLength) implements Reason {}
+  }
+}
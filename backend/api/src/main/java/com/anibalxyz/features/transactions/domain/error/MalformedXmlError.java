@@ -0,0 +1,39 @@
+package com.anibalxyz.features.transactions.domain.error;
+
+import com.anibalxyz.core.domain.error.DomainErrorReason;
+import com.anibalxyz.core.domain.error.ReasonedError;
+
+/** Domain error representing an XML statement whose structure, not its values, is invalid. */
+public final class MalformedXmlError extends ReasonedError<MalformedXmlError.Reason>
+    implements TransactionDomainError {
+
+  private MalformedXmlError(Reason reason) {
+    super(reason);
+  }
+
+  public static MalformedXmlError notWellFormed(int line, int column) {
+    return new MalformedXmlError(new Reason.NotWellFormed(line, column));
+  }
+
+  public static MalformedXmlError unexpectedRoot(String expected, String actual) {
+    return new MalformedXmlError(new Reason.UnexpectedRoot(expected, actual));
+  }
+
+  public static MalformedXmlError missingElement(String element) {
+    return new MalformedXmlError(new Reason.MissingElement(element));
+  }
+
+  public static MalformedXmlError valueTooLong(int maxLength) {
+    return new MalformedXmlError(new Reason.ValueTooLong(maxLength));
+  }
+
+  public sealed interface Reason extends DomainErrorReason {
+    record NotWellFormed(int line, int column) implements Reason {}
+
+    record UnexpectedRoot(String expected, String actual) implements Reason {}
+
+    record MissingElement(String element) implements Reason {}
+
+    record ValueTooLong(int maxLength) implements Reason {}
+  }
+}
@@ -0,0 +1,20 @@
+package com.anibalxyz.features.transactions.domain.error;
+
+import com.anibalxyz.core.domain.error.DomainErrorReason;
+import com.anibalxyz.core.domain.error.EntityNotFoundError;
+import com.anibalxyz.core.domain.error.ReasonedError;
+
+public final class SourceNotFoundError extends ReasonedError<SourceNotFoundError.Reason>
+    implements EntityNotFoundError, TransactionDomainError {
+  private SourceNotFoundError(Reason reason) {
+    super(reason);
+  }
+
+  public static SourceNotFoundError byId(int id) {
+    return new SourceNotFoundError(new Reason.ById(id));
+  }
+
+  public sealed interface Reason extends DomainErrorReason {
+    record ById(int id) implements Reason {}
+  }
+}
@@ -0,0 +1,17 @@
+package com.anibalxyz.features.transactions.domain.error;
+
+import com.anibalxyz.core.domain.error.DomainError;
+
+public sealed interface TransactionDomainError extends DomainError
+    permits ImportJobNotFoundError,
+        MalformedCsvError,
+        MalformedXmlError,
+        SourceNotFoundError,
+        TransactionDomainError.InvalidValueError {
+  sealed interface InvalidValueError
+      extends com.anibalxyz.core.domain.error.InvalidValueError, TransactionDomainError
+      permits InvalidAmountError,
+          InvalidCurrencyError,
+          InvalidReferenceError,
+          InvalidTransactionDateError {}
+}
@@ -0,0 +1,276 @@
+package com.anibalxyz.features.transactions.infra;
+
+import com.anibalxyz.features.transactions.domain.Currency;
+import com.anibalxyz.features.transactions.domain.MergeOutcome;
+import com.anibalxyz.features.transactions.domain.StoredTransaction;
+import com.anibalxyz.features.transactions.domain.Transaction;
+import com.anibalxyz.features.transactions.domain.TransactionRepository;
+import com.anibalxyz.persistence.EntityManagerProvider;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import org.hibernate.Session;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+/**
+ * {@link TransactionRepository} backed by plain JDBC on the request-scoped session.
+ *
+ * <p>Statements are bulk loaded with {@code COPY ... FROM STDIN} into a temporary table: rows are
+ * encoded as CSV into a small buffer that is flushed to the server as it fills, so the load runs in
+ * a single round trip stream and never holds more than one buffer of the statement in memory.
+ * Temporary tables skip the write-ahead log, and this one is dropped on commit. The staged rows are
+ * then merged with a single {@code INSERT ... ON CONFLICT} on {@code
+ * uq_transactions_source_reference}, so re-uploading an overlapping statement costs one set-based
+ * statement instead of a constraint violation per duplicate.
+ *
+ * <p>Listings seek past the last row read with a row comparison on {@code (transaction_date, id)},
+ * which both {@code idx_transactions_date_id} and {@code idx_transactions_source_date_id} can
+ * answer with a single index range scan, so no page pays for the rows before it.
+ */
+public class JpaTransactionRepository implements TransactionRepository {
+  /** Encoded characters buffered before they are written to the copy stream. */
+  private static final int COPY_BUFFER_SIZE = 1 << 16;
+
+  private static final String SOURCE_EXISTS_SQL = "SELECT 1 FROM sources WHERE id = ?";
+
+  private static final String CREATE_STAGING_SQL =
+      """
+      CREATE TEMPORARY TABLE IF NOT EXISTS transactions_staging (
+        seq BIGINT GENERATED ALWAYS AS IDENTITY,
+        source_id INT NOT NULL,
+        transaction_date TIMESTAMPTZ NOT NULL,
+        reference VARCHAR(255) NOT NULL,
+        currency currency_type NOT NULL,
+        amount NUMERIC(15,2) NOT NULL,
+        description TEXT
+      ) ON COMMIT DROP
+      """;
+
+  private static final String TRUNCATE_STAGING_SQL = "TRUNCATE transactions_staging";
+
+  private static final String COPY_SQL =
+      """
+      COPY transactions_staging
+        (source_id, transaction_date, reference, currency, amount, description)
+      FROM STDIN WITH (FORMAT csv)
+      """;
+
+  /**
+   * Last staged row per reference wins, since {@code ON CONFLICT DO UPDATE} cannot touch a row
+   * twice. {@code xmax} is zero only on freshly inserted row versions, which tells inserts from
+   * updates. Updated rows may be open items already held by the incremental reconciliation, so the
+   * watermark of their source is rewound below them; that changes the reconciliation sync token and
+   * forces its next run to be a full one.
+   */
+  private static final String MERGE_SQL =
+      """
+      WITH incoming AS (
+        SELECT DISTINCT ON (source_id, reference)
+               source_id, transaction_date, reference, currency, amount, description
+        FROM transactions_staging
+        ORDER BY source_id, reference, seq DESC
+      ),
+      merged AS (
+        INSERT INTO transactions AS t
+          (source_id, transaction_date, reference, currency, amount, description)
+        SELECT * FROM incoming
+        ON CONFLICT ON CONSTRAINT uq_transactions_source_reference DO UPDATE
+        SET transaction_date = EXCLUDED.transaction_date,
+            currency = EXCLUDED.currency,
+            amount = EXCLUDED.amount,
+            description = EXCLUDED.description
+        WHERE (t.transaction_date, t.currency, t.amount, t.description)
+                IS DISTINCT FROM
+              (EXCLUDED.transaction_date, EXCLUDED.currency, EXCLUDED.amount, EXCLUDED.description)
+          AND NOT EXISTS (SELECT 1 FROM reconciliations r WHERE r.left_transaction_id = t.id)
+          AND NOT EXISTS (SELECT 1 FROM reconciliations r WHERE r.right_transaction_id = t.id)
+          AND NOT EXISTS (
+            SELECT 1 FROM reconciliation_groups g WHERE g.anchor_transaction_id = t.id)
+          AND NOT EXISTS (
+            SELECT 1 FROM reconciliation_group_members m WHERE m.transaction_id = t.id)
+        RETURNING t.id, t.source_id, t.xmax = 0 AS inserted
+      ),
+      rewound AS (
+        UPDATE reconciliation_watermarks w
+        SET last_transaction_id = u.first_updated_id - 1
+        FROM (
+          SELECT source_id, MIN(id) AS first_updated_id
+          FROM merged
+          WHERE NOT inserted
+          GROUP BY source_id
+        ) u
+        WHERE w.source_id = u.source_id AND w.last_transaction_id >= u.first_updated_id
+      )
+      SELECT COUNT(*) FILTER (WHERE inserted), COUNT(*) FILTER (WHERE NOT inserted) FROM merged
+      """;
+
+  private static final String FIND_PAGE_TEMPLATE =
+      """
+      SELECT id, source_id, transaction_date, reference, currency::text, amount, description
+      FROM transactions
+      WHERE %s
+      ORDER BY transaction_date, id
+      LIMIT ?
+      """;
+
+  private final EntityManagerProvider provider;
+
+  public JpaTransactionRepository(EntityManagerProvider provider) {
+    this.provider = provider;
+  }
+
+  private Session session() {
+    return provider.get().unwrap(Session.class);
+  }
+
+  @Override
+  @SuppressWarnings("resource")
+  public boolean sourceExists(int sourceId) {
+    return session()
+        .doReturningWork(
+            conn -> {
+              try (PreparedStatement ps = conn.prepareStatement(SOURCE_EXISTS_SQL)) {
+                ps.setInt(1, sourceId);
+                try (ResultSet rs = ps.executeQuery()) {
+                  return rs.next();
+                }
+              }
+            });
+  }
+
+  @Override
+  @SuppressWarnings("resource")
+  public long stageAll(Iterator<Transaction> transactions) {
+    return session()
+        .doReturningWork(
+            conn -> {
+              try (Statement statement = conn.createStatement()) {
+                statement.execute(CREATE_STAGING_SQL);
+                statement.execute(TRUNCATE_STAGING_SQL);
+              }
+              CopyIn copy = conn.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL);
+              try {
+                StringBuilder rows = new StringBuilder(COPY_BUFFER_SIZE + 1024);
+                while (transactions.hasNext()) {
+                  appendRow(rows, transactions.next());
+                  if (rows.length() >= COPY_BUFFER_SIZE) {
+                    write(copy, rows);
+                  }
+                }
+                write(copy, rows);
+                return copy.endCopy();
+              } finally {
+                if (copy.isActive()) {
+                  copy.cancelCopy();
+                }
+              }
+            });
+  }
+
+  @Override
+  @SuppressWarnings("resource")
+  public MergeOutcome mergeStaged() {
+    return session()
+        .doReturningWork(
+            conn -> {
+              try (Statement statement = conn.createStatement();
+                  ResultSet rs = statement.executeQuery(MERGE_SQL)) {
+                rs.next();
+                return new MergeOutcome(rs.getLong(1), rs.getLong(2));
+              }
+            });
+  }
+
+  @Override
+  @SuppressWarnings("resource")
+  public List<StoredTransaction> findPage(
+      Integer sourceId, StoredTransaction.Key after, int limit) {
+    List<String> conditions = new ArrayList<>();
+    if (sourceId != null) {
+      conditions.add("source_id = ?");
+    }
+    if (after != null) {
+      conditions.add("(transaction_date, id) > (?, ?)");
+    }
+    String sql =
+        FIND_PAGE_TEMPLATE.formatted(
+            conditions.isEmpty() ? "TRUE" : String.join(" AND ", conditions));
+    return session()
+        .doReturningWork(
+            conn -> {
+              try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                int index = 1;
+                if (sourceId != null) {
+                  ps.setInt(index++, sourceId);
+                }
+                if (after != null) {
+                  ps.setObject(index++, after.date().atOffset(ZoneOffset.UTC));
+                  ps.setInt(index++, after.id());
+                }
+                ps.setInt(index, limit);
+                List<StoredTransaction> page = new ArrayList<>(limit);
+                try (ResultSet rs = ps.executeQuery()) {
+                  while (rs.next()) {
+                    page.add(
+                        new StoredTransaction(
+                            rs.getInt(1),
+                            rs.getInt(2),
+                            rs.getObject(3, OffsetDateTime.class).toInstant(),
+                            rs.getString(4),
+                            Currency.valueOf(rs.getString(5)),
+                            rs.getBigDecimal(6),
+                            rs.getString(7)));
+                  }
+                }
+                return page;
+              }
+            });
+  }
+
+  private static void write(CopyIn copy, StringBuilder rows) throws SQLException {
+    if (rows.isEmpty()) {
+      return;
+    }
+    byte[] bytes = rows.toString().getBytes(StandardCharsets.UTF_8);
+    copy.writeToCopy(bytes, 0, bytes.length);
+    rows.setLength(0);
+  }
+
+  /** Appends one CSV row; an unquoted empty field is read back by {@code COPY} as {@code NULL}. */
+  private static void appendRow(StringBuilder rows, Transaction transaction) {
+    rows.append(transaction.sourceId())
+        .append(',')
+        .append(transaction.date())
+        .append(',');
+    appendQuoted(rows, transaction.reference().value());
+    rows.append(',')
+        .append(transaction.currency().name())
+        .append(',')
+        .append(transaction.amount().value().toPlainString())
+        .append(',');
+    if (transaction.description() != null) {
+      appendQuoted(rows, transaction.description());
+    }
+    rows.append('\n');
+  }
+
+  private static void appendQuoted(StringBuilder rows, String value) {
+    rows.append('"');
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '"') {
+        rows.append('"');
+      }
+      rows.append(c);
+    }
+    rows.append('"');
+  }
+}
@@ -9,6 +9,7 @@ import com.anibalxyz.features.common.api.out.code.CommonErrorCode;
 import com.anibalxyz.features.common.api.out.code.ValidationErrorCode;
 import com.anibalxyz.features.common.api.out.response.error.ErrorDetail;
 import com.anibalxyz.features.common.api.out.response.error.ErrorResponse;
+import com.anibalxyz.features.users.application.PasswordHasher;
 import com.anibalxyz.features.users.application.UpdateUserById;
 import com.anibalxyz.features.users.domain.error.*;
 import com.anibalxyz.server.api.ErrorResult;
@@ -16,12 +17,26 @@ import com.anibalxyz.server.api.FeatureErrorMapper;
 import com.anibalxyz.server.api.LogEntry;
 import com.anibalxyz.server.exception.UnhandledErrorException;
 import com.anibalxyz.server.exception.UnreachableCodeException;
+import java.util.List;
+import java.util.Map;
 
 public class UserErrorMapper implements FeatureErrorMapper {
 
+  private static final List<Class<?>> ERROR_TYPES =
+      List.of(UserDomainError.class, UpdateUserById.Error.class, PasswordHasher.Busy.class);
+  private static final List<Class<? extends DomainError>> FIELD_ERROR_TYPES =
+      List.of(UserDomainError.class);
+
+  private static final ErrorResult EMPTY_COMMAND =
+      new ErrorResult(
+          400,
+          new ErrorResponse(ValidationErrorCode.VALIDATION_ERROR)
+              .detail("At least one field (name, email, password) must be provided"),
+          LogEntry.debug("Update user with no fields provided"));
+
   @Override
-  public boolean supports(Object error) {
-    return error instanceof UserDomainError || error instanceof UpdateUserById.Error;
+  public List<Class<?>> errorTypes() {
+    return ERROR_TYPES;
   }
 
   @Override
@@ -29,24 +44,29 @@ public class UserErrorMapper implements FeatureErrorMapper {
     return switch (error) {
       case UpdateUserById.Error e -> mapUpdateUserByIdError(e);
       case UserNotFoundError e -> mapUserNotFoundError(e);
+      case PasswordHasher.Busy e -> mapPasswordHasherBusy(e);
       default -> throw new UnhandledErrorException(error);
     };
   }
 
   public ErrorResult mapUpdateUserByIdError(UpdateUserById.Error error) {
     return switch (error) {
-      case UpdateUserById.Error.EmptyCommand ignored ->
-          new ErrorResult(
-              400,
-              new ErrorResponse(ValidationErrorCode.VALIDATION_ERROR)
-                  .detail("At least one field (name, email, password) must be provided"),
-              LogEntry.debug("Update user with no fields provided"));
+      case UpdateUserById.Error.EmptyCommand ignored -> EMPTY_COMMAND;
       case UpdateUserById.Error.NotFound e -> mapUserNotFoundError(e.error());
       case UpdateUserById.Error.ValidationFailed e ->
           ValidationErrorMapper.map(e.notification(), this::mapFieldError);
     };
   }
 
+  public ErrorResult mapPasswordHasherBusy(PasswordHasher.Busy busy) {
+    return new ErrorResult(
+        503,
+        new ErrorResponse(CommonErrorCode.UNAVAILABLE_SERVICE)
+            .detail("Too many password checks in progress, try again later"),
+        LogEntry.warn("Password hashing queue full", kv("queue_capacity", busy.capacity())),
+        Map.of("Retry-After", String.valueOf(busy.retryAfter().toSeconds())));
+  }
+
   public ErrorResult mapUserNotFoundError(UserNotFoundError error) {
     ErrorResponse base = new ErrorResponse(CommonErrorCode.RESOURCE_NOT_FOUND);
     return switch (error.getReason()) {
@@ -61,8 +81,8 @@ public class UserErrorMapper implements FeatureErrorMapper {
   }
 
   @Override
-  public boolean supportsFieldError(DomainError error) {
-    return error instanceof UserDomainError;
+  public List<Class<? extends DomainError>> fieldErrorTypes() {
+    return FIELD_ERROR_TYPES;
   }
 
   @Override
@@ -1,5 +1,7 @@
 package com.anibalxyz.features.users.api.handlers;
 
+import com.anibalxyz.core.application.Page;
+import com.anibalxyz.features.common.api.Pagination;
 import com.anibalxyz.features.common.api.out.response.success.CollectionResponse;
 import com.anibalxyz.features.users.api.UserMapper;
 import com.anibalxyz.features.users.api.openapi.GetAllUsersEndpoint;
@@ -20,10 +22,15 @@ public class GetAllUsersHandler implements Handler, GetAllUsersEndpoint {
 
   @Override
   public void handle(@NotNull Context ctx) {
-    List<User> users = getAllUsers.execute();
+    int limit = Pagination.limit(ctx);
+    Integer afterId = Pagination.after(ctx, key -> Integer.valueOf(key[0]));
+
+    Page<User> page = getAllUsers.execute(afterId, limit);
     List<DetailedUserResponse> usersList =
-        users.stream().map(UserMapper::toDetailResponse).toList();
-    CollectionResponse<DetailedUserResponse> response = CollectionResponse.ofSinglePage(usersList);
+        page.items().stream().map(UserMapper::toDetailResponse).toList();
+    String next = page.hasMore() ? Pagination.cursor(page.last().id()) : null;
+    CollectionResponse<DetailedUserResponse> response =
+        CollectionResponse.ofCursorPage(usersList, next, limit);
 
     ctx.status(200).json(response);
   }
@@ -10,16 +10,37 @@ public interface GetAllUsersEndpoint {
 
   @OpenApi(
       summary = "Get all users",
+      description =
+          "Lists users in ascending ID order, one page at a time. Pass the `next` cursor of a page"
+              + " as `cursor` to read the following one; it is `null` on the last page.",
       operationId = "getAllUsers",
       path = "/users",
       methods = HttpMethod.GET,
       tags = {"Users"},
       security = @OpenApiSecurity(name = "bearerAuth"),
+      queryParams = {
+        @OpenApiParam(
+            name = "limit",
+            type = Integer.class,
+            description = "The maximum number of users per page, from 1 to 200 (default 50).",
+            example = "50"),
+        @OpenApiParam(
+            name = "cursor",
+            type = String.class,
+            description = "The opaque `next` cursor of the previous page.")
+      },
       responses = {
         @OpenApiResponse(
             status = "200",
-            description = "A list of all users.",
+            description = "A page of users.",
             content = @OpenApiContent(from = DetailedUserResponse.Collection.class)),
+        @OpenApiResponse(
+            status = "400",
+            description = "Invalid limit or cursor.",
+            content =
+                @OpenApiContent(
+                    from = ErrorResponse.class,
+                    example = ErrorResponseExamples.INVALID_CURSOR)),
         @OpenApiResponse(
             status = "401",
             description = "Authentication information is missing or invalid.",
@@ -13,10 +13,12 @@ public class CreateUser {
 
   private final Env env;
   private final UserRepository userRepository;
+  private final PasswordHasher passwordHasher;
 
-  public CreateUser(Env env, UserRepository userRepository) {
+  public CreateUser(Env env, UserRepository userRepository, PasswordHasher passwordHasher) {
     this.env = env;
     this.userRepository = userRepository;
+    this.passwordHasher = passwordHasher;
   }
 
   public Result<User, ValidationNotification<UserDomainError>> execute(CreateUserCommand command) {
@@ -42,7 +44,8 @@ public class CreateUser {
       return Result.failure(notification);
     }
 
-    PasswordHash password = PasswordHash.of(passwordResult.unwrap(), env.BCRYPT_LOG_ROUNDS());
+    PasswordHash password =
+        passwordHasher.hash(passwordResult.unwrap(), env.BCRYPT_LOG_ROUNDS());
 
     log.info("User created");
     return Result.success(
@@ -1,8 +1,8 @@
 package com.anibalxyz.features.users.application;
 
+import com.anibalxyz.core.application.Page;
 import com.anibalxyz.features.users.domain.User;
 import com.anibalxyz.features.users.domain.UserRepository;
-import java.util.List;
 
 public class GetAllUsers {
   private final UserRepository userRepository;
@@ -11,7 +11,10 @@ public class GetAllUsers {
     this.userRepository = userRepository;
   }
 
-  public List<User> execute() {
-    return userRepository.findAll();
+  /**
+   * @param afterId the ID of the last user of the previous page, or {@code null} for the first page
+   */
+  public Page<User> execute(Integer afterId, int limit) {
+    return Page.fromLookahead(userRepository.findPage(afterId, limit + 1), limit);
   }
 }
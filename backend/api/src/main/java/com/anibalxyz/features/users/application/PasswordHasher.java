@@ -0,0 +1,147 @@
+package com.anibalxyz.features.users.application;
+
+import com.anibalxyz.core.application.exception.FailureSignal;
+import com.anibalxyz.features.users.application.env.PasswordHashingEnvironment;
+import com.anibalxyz.features.users.domain.Password;
+import com.anibalxyz.features.users.domain.PasswordHash;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Runs BCrypt on a small pool of platform threads of its own.
+ *
+ * <p>Hashing is deliberately slow and CPU bound, so letting every request thread hash at once only
+ * makes all of them slower. At most {@code PASSWORD_HASH_WORKERS} hashes run at once and at most
+ * {@code PASSWORD_HASH_QUEUE_CAPACITY} wait for a thread; further ones fail right away with a
+ * {@link FailureSignal} carrying {@link Busy}, so the caller can be told to retry instead of piling
+ * up behind the queue.
+ */
+public class PasswordHasher implements MeterBinder {
+  /** How long an idle thread is kept before it is let go. */
+  private static final Duration IDLE_TIMEOUT = Duration.ofSeconds(30);
+
+  private final BlockingQueue<Runnable> queue;
+  private final ThreadPoolExecutor executor;
+  private final int queueCapacity;
+
+  private final Operation hashing = new Operation();
+  private final Operation verifying = new Operation();
+  private final LongAdder rejected = new LongAdder();
+
+  public PasswordHasher(PasswordHashingEnvironment env) {
+    this.queueCapacity = env.PASSWORD_HASH_QUEUE_CAPACITY();
+    this.queue =
+        queueCapacity == 0 ? new SynchronousQueue<>() : new ArrayBlockingQueue<>(queueCapacity);
+    this.executor =
+        new ThreadPoolExecutor(
+            env.PASSWORD_HASH_WORKERS(),
+            env.PASSWORD_HASH_WORKERS(),
+            IDLE_TIMEOUT.toMillis(),
+            TimeUnit.MILLISECONDS,
+            queue,
+            Thread.ofPlatform().name("password-hash-", 0).daemon().factory(),
+            new ThreadPoolExecutor.AbortPolicy());
+    this.executor.allowCoreThreadTimeOut(true);
+  }
+
+  /** Hashes the already-validated password, see {@link PasswordHash#of(Password, int)}. */
+  public PasswordHash hash(Password password, int saltRounds) {
+    return submit(hashing, () -> PasswordHash.of(password, saltRounds));
+  }
+
+  /** Checks the plain-text password against the hash, see {@link PasswordHash#matches(String)}. */
+  public boolean matches(PasswordHash hash, String password) {
+    return submit(verifying, () -> hash.matches(password));
+  }
+
+  private <T> T submit(Operation operation, Supplier<T> work) {
+    Future<T> future;
+    try {
+      future = executor.submit(() -> operation.time(work));
+    } catch (RejectedExecutionException e) {
+      rejected.increment();
+      throw new FailureSignal(new Busy(queueCapacity, retryAfter()));
+    }
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new CancellationException("Interrupted while waiting for the password hash");
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException cause) throw cause;
+      if (e.getCause() instanceof Error cause) throw cause;
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  /**
+   * Estimates how long a full queue takes to drain from the average time of the hashes so far,
+   * rounded up to whole seconds.
+   */
+  private Duration retryAfter() {
+    long done = hashing.count.sum() + verifying.count.sum();
+    double totalNanos = hashing.totalNanos.doubleValue() + verifying.totalNanos.doubleValue();
+    double averageNanos = done == 0 ? 0 : totalNanos / done;
+    double waiting = (double) queue.size() / executor.getMaximumPoolSize() + 1;
+    long seconds = (long) Math.ceil(averageNanos * waiting / TimeUnit.SECONDS.toNanos(1));
+    return Duration.ofSeconds(Math.max(1, seconds));
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder("auth.password.hash.queue", queue, BlockingQueue::size)
+        .description("Password hashes waiting for a thread")
+        .register(registry);
+    FunctionCounter.builder("auth.password.hash.rejected", rejected, LongAdder::doubleValue)
+        .description("Password hashes refused because every thread was busy and the queue full")
+        .register(registry);
+    hashing.bindTo(registry, "hash");
+    verifying.bindTo(registry, "verify");
+  }
+
+  /** Every worker is busy and {@code capacity} hashes are already waiting. */
+  public record Busy(int capacity, Duration retryAfter) {}
+
+  private static final class Operation {
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+
+    <T> T time(Supplier<T> work) {
+      long start = System.nanoTime();
+      try {
+        return work.get();
+      } finally {
+        totalNanos.add(System.nanoTime() - start);
+        count.increment();
+      }
+    }
+
+    void bindTo(MeterRegistry registry, String operation) {
+      FunctionTimer.builder(
+              "auth.password.hash.duration",
+              this,
+              op -> op.count.sum(),
+              op -> op.totalNanos.doubleValue(),
+              TimeUnit.NANOSECONDS)
+          .description("Time spent running BCrypt, without the time waiting for a thread")
+          .tag("operation", operation)
+          .register(registry);
+    }
+  }
+}
@@ -15,10 +15,12 @@ public class UpdateUserById {
 
   private final Env env;
   private final UserRepository userRepository;
+  private final PasswordHasher passwordHasher;
 
-  public UpdateUserById(Env env, UserRepository userRepository) {
+  public UpdateUserById(Env env, UserRepository userRepository, PasswordHasher passwordHasher) {
     this.env = env;
     this.userRepository = userRepository;
+    this.passwordHasher = passwordHasher;
   }
 
   public Result<User, Error> execute(Integer id, UpdateUserCommand command) {
@@ -104,7 +106,7 @@ public class UpdateUserById {
     user = data.email().map(user::withEmail).orElse(user);
     user =
         data.password()
-            .map(password -> PasswordHash.of(password, env.BCRYPT_LOG_ROUNDS()))
+            .map(password -> passwordHasher.hash(password, env.BCRYPT_LOG_ROUNDS()))
             .map(user::withPasswordHash)
             .orElse(user);
     return user;
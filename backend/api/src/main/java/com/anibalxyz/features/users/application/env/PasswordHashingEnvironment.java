@@ -0,0 +1,9 @@
+package com.anibalxyz.features.users.application.env;
+
+public interface PasswordHashingEnvironment {
+  /** Number of threads hashing and verifying passwords. */
+  int PASSWORD_HASH_WORKERS();
+
+  /** Maximum number of hashes waiting for a thread before new ones are refused. */
+  int PASSWORD_HASH_QUEUE_CAPACITY();
+}
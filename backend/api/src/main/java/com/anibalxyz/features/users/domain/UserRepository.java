@@ -5,7 +5,14 @@ import java.util.Optional;
 
 public interface UserRepository {
 
-  List<User> findAll();
+  /**
+   * Reads users in ascending ID order, seeking past {@code afterId} through the primary key so that
+   * the cost does not depend on how many users precede it.
+   *
+   * @param afterId the ID of the last user already read, or {@code null} to start from the first
+   * @return at most {@code limit} users
+   */
+  List<User> findPage(Integer afterId, int limit);
 
   Optional<User> findById(Integer id);
 
@@ -6,6 +6,7 @@ import com.anibalxyz.features.users.domain.UserRepository;
 import com.anibalxyz.persistence.EntityManagerProvider;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.NoResultException;
+import jakarta.persistence.TypedQuery;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,9 +20,15 @@ public class JpaUserRepository implements UserRepository {
 
   @Override
   @SuppressWarnings("resource")
-  public List<User> findAll() {
-    List<UserEntity> userEntityList =
-        em().createQuery("SELECT u FROM UserEntity u", UserEntity.class).getResultList();
+  public List<User> findPage(Integer afterId, int limit) {
+    TypedQuery<UserEntity> query =
+        afterId == null
+            ? em().createQuery("SELECT u FROM UserEntity u ORDER BY u.id", UserEntity.class)
+            : em().createQuery(
+                    "SELECT u FROM UserEntity u WHERE u.id > :afterId ORDER BY u.id",
+                    UserEntity.class)
+                .setParameter("afterId", afterId);
+    List<UserEntity> userEntityList = query.setMaxResults(limit).getResultList();
     return userEntityList.stream().map(UserEntity::toDomain).toList();
   }
 
@@ -7,26 +7,46 @@ public class DatabaseVariables {
   public final String url;
   public final String user;
   public final String password;
+  public final String replicaUrl;
 
-  private DatabaseVariables(String url, String user, String password) {
+  private DatabaseVariables(String url, String user, String password, String replicaUrl) {
     this.url = url;
     this.user = user;
     this.password = password;
+    this.replicaUrl = replicaUrl;
   }
 
   /**
+   * @param replicaHost host of a read replica of the same database, or {@code null} when there is
+   *     none
+   * @param replicaPort port of the read replica, {@code port} when {@code null}
    * @throws IllegalStateException if any of the required variables are null.
    */
   public static DatabaseVariables generate(
-      String host, String port, String name, String user, String password)
+      String host,
+      String port,
+      String name,
+      String user,
+      String password,
+      String replicaHost,
+      String replicaPort)
       throws IllegalStateException {
     if (host == null || name == null || user == null || password == null) {
       throw new IllegalStateException(
           "Missing required database environment variables (DB_HOST, DB_NAME, DB_USER, DB_PASSWORD)");
     }
     String url = "jdbc:postgresql://" + host + ":" + port + "/" + name;
+    String replicaUrl =
+        replicaHost == null
+            ? null
+            : "jdbc:postgresql://"
+                + replicaHost
+                + ":"
+                + (replicaPort == null ? port : replicaPort)
+                + "/"
+                + name;
 
-    return new DatabaseVariables(url, user, password);
+    return new DatabaseVariables(url, user, password, replicaUrl);
   }
 
   public String url() {
@@ -41,12 +61,28 @@ public class DatabaseVariables {
     return password;
   }
 
+  /**
+   * @return the JDBC URL of the read replica, or {@code null} when reads go to the primary
+   */
+  public String replicaUrl() {
+    return replicaUrl;
+  }
+
   /**
    * @return The string representation of the object, masking the password for security.
    */
   @NotNull
   @Override
   public String toString() {
-    return "DatabaseVariables[" + "jdbcUrl=" + url + ", " + "user=" + user + ", password=********]";
+    return "DatabaseVariables["
+        + "jdbcUrl="
+        + url
+        + ", "
+        + "replicaJdbcUrl="
+        + replicaUrl
+        + ", "
+        + "user="
+        + user
+        + ", password=********]";
   }
 }
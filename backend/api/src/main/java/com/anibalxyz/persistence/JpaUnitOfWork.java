@@ -0,0 +1,52 @@
+package com.anibalxyz.persistence;
+
+import com.anibalxyz.core.application.UnitOfWork;
+import jakarta.persistence.EntityManager;
+import java.util.function.Supplier;
+
+/**
+ * {@link UnitOfWork} backed by an {@link EntityManager} of its own.
+ *
+ * <p>The entity manager is bound to the calling thread while the work runs, so repositories reach
+ * it through the same {@link EntityManagerProvider} they use within a request.
+ */
+public class JpaUnitOfWork implements UnitOfWork {
+  private static final ThreadLocal<EntityManager> current = new ThreadLocal<>();
+
+  private final PersistenceManager persistenceManager;
+
+  public JpaUnitOfWork(PersistenceManager persistenceManager) {
+    this.persistenceManager = persistenceManager;
+  }
+
+  /**
+   * @return the {@link EntityManager} of the unit of work running on the current thread, or {@code
+   *     null} when there is none
+   */
+  public static EntityManager current() {
+    return current.get();
+  }
+
+  @Override
+  public <T> T execute(Supplier<T> work) {
+    if (current.get() != null) {
+      throw new IllegalStateException("A unit of work is already running on this thread");
+    }
+    EntityManager em = persistenceManager.emf().createEntityManager();
+    current.set(em);
+    try {
+      em.getTransaction().begin();
+      T result = work.get();
+      em.getTransaction().commit();
+      return result;
+    } catch (RuntimeException | Error e) {
+      if (em.getTransaction().isActive()) {
+        em.getTransaction().rollback();
+      }
+      throw e;
+    } finally {
+      current.remove();
+      em.close();
+    }
+  }
+}
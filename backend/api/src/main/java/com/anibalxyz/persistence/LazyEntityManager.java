@@ -0,0 +1,72 @@
+package com.anibalxyz.persistence;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+
+/**
+ * Request-scoped {@link EntityManager} opened on first use.
+ *
+ * <p>Creating the entity manager and beginning its transaction borrows a pooled connection, so
+ * requests that never reach a repository, such as metric scrapes, static assets, preflights or
+ * routes that only check the JWT, never take one from the pool.
+ *
+ * <p>A read-only one loads entities read-only and never flushes, so Hibernate keeps no snapshots
+ * to dirty check, and runs on a read-only JDBC connection, so the database refuses any write.
+ *
+ * <p>Not thread-safe: it belongs to the thread handling the request.
+ */
+public class LazyEntityManager {
+  private final EntityManagerFactory emf;
+  private final boolean readOnly;
+  private EntityManager em;
+
+  public LazyEntityManager(EntityManagerFactory emf, boolean readOnly) {
+    this.emf = emf;
+    this.readOnly = readOnly;
+  }
+
+  /**
+   * @return the entity manager of this scope, opened with an active transaction on the first call
+   */
+  public EntityManager get() {
+    if (em == null) {
+      em = emf.createEntityManager();
+      if (readOnly) {
+        Session session = em.unwrap(Session.class);
+        session.setDefaultReadOnly(true);
+        session.setHibernateFlushMode(FlushMode.MANUAL);
+        em.getTransaction().begin();
+        // Still allowed: the driver only sends BEGIN along with the first statement
+        session.doWork(connection -> connection.setReadOnly(true));
+      } else {
+        em.getTransaction().begin();
+      }
+    }
+    return em;
+  }
+
+  /**
+   * Ends the transaction, if one is still active, and closes the entity manager. Does nothing when
+   * it was never opened.
+   *
+   * @param commit whether to commit rather than roll back
+   */
+  public void close(boolean commit) {
+    if (em == null || !em.isOpen()) {
+      return;
+    }
+    try {
+      if (em.getTransaction().isActive()) {
+        if (commit) {
+          em.getTransaction().commit();
+        } else {
+          em.getTransaction().rollback();
+        }
+      }
+    } finally {
+      em.close();
+    }
+  }
+}
@@ -16,16 +16,28 @@ import org.slf4j.LoggerFactory;
  * <p>This class is responsible for initializing the persistence layer. It configures and creates a
  * singleton {@code EntityManagerFactory} using Hibernate and a HikariCP connection pool. It also
  * provides a graceful shutdown mechanism.
+ *
+ * <p>When a read replica is configured, a second factory with a pool of read-only connections to it
+ * serves {@link #readOnlyEmf()}; otherwise reads share the primary factory.
  */
 public class PersistenceManager {
   private static final Logger log = LoggerFactory.getLogger(PersistenceManager.class);
   private final EntityManagerFactory emf;
+  private final EntityManagerFactory readOnlyEmf;
   private final DatabaseVariables dbConfig;
 
   public PersistenceManager(DatabaseVariables dbConfig) {
     this.dbConfig = dbConfig;
     log.info("Initializing database connection pool: {}", dbConfig);
-    emf = getProperties().createEntityManagerFactory();
+    emf = getProperties("reconcilerPU", dbConfig.url()).createEntityManagerFactory();
+    if (dbConfig.replicaUrl() == null) {
+      readOnlyEmf = emf;
+    } else {
+      readOnlyEmf =
+          getProperties("reconcilerReadOnlyPU", dbConfig.replicaUrl())
+              .property(HikariCPSettings.HIKARI_READ_ONLY, "true")
+              .createEntityManagerFactory();
+    }
     log.info("Database connection pool initialized successfully");
   }
 
@@ -33,8 +45,20 @@ public class PersistenceManager {
     return emf;
   }
 
-  /** Closes the {@link EntityManagerFactory} to release all database resources. */
+  /**
+   * @return the factory for work that only reads, backed by the read replica when there is one.
+   *     Replicas lag behind the primary, so reads that must see a write just made belong on {@link
+   *     #emf()}.
+   */
+  public EntityManagerFactory readOnlyEmf() {
+    return readOnlyEmf;
+  }
+
+  /** Closes the {@link EntityManagerFactory} instances to release all database resources. */
   public void shutdown() {
+    if (readOnlyEmf != emf && readOnlyEmf.isOpen()) {
+      readOnlyEmf.close();
+    }
     if (emf != null && emf.isOpen()) {
       emf.close();
     }
@@ -43,10 +67,10 @@ public class PersistenceManager {
   /**
    * @return the programmatically configured {@link HibernatePersistenceConfiguration}.
    */
-  private HibernatePersistenceConfiguration getProperties() {
+  private HibernatePersistenceConfiguration getProperties(String name, String jdbcUrl) {
     // TODO: set these values dynamically using env variables
-    return new HibernatePersistenceConfiguration("reconcilerPU")
-        .jdbcUrl(dbConfig.url())
+    return new HibernatePersistenceConfiguration(name)
+        .jdbcUrl(jdbcUrl)
         .jdbcCredentials(dbConfig.user(), dbConfig.password())
         .provider(HikariCPConnectionProvider.class.getName())
         .property(HikariCPSettings.HIKARI_MAX_SIZE, "20")
@@ -92,10 +92,15 @@ public class Application {
       container.systemRoutes().apply(javalinConfig);
       container.userRoutes().apply(javalinConfig);
       container.authRoutes().apply(javalinConfig);
+      container.reconciliationRoutes().apply(javalinConfig);
+      container.transactionRoutes().apply(javalinConfig);
 
       container.accessLogConfig().apply(javalinConfig);
       container.metricsConfig().apply(javalinConfig);
       container.schedulerConfig().apply(javalinConfig);
+      container.importJobsConfig().apply(javalinConfig);
+      container.refreshTokenIndexConfig().apply(javalinConfig);
+      container.spillFilesConfig().apply(javalinConfig);
 
       container.jwtMiddleware().apply(javalinConfig);
 
@@ -4,13 +4,41 @@ import com.anibalxyz.features.auth.api.AuthApi;
 import com.anibalxyz.features.auth.api.AuthController;
 import com.anibalxyz.features.auth.api.AuthRoutes;
 import com.anibalxyz.features.auth.api.JwtMiddleware;
+import com.anibalxyz.features.auth.api.RefreshTokenIndexConfig;
 import com.anibalxyz.features.auth.application.AuthService;
+import com.anibalxyz.features.auth.application.ExpiredTokenCleanup;
 import com.anibalxyz.features.auth.application.JwtService;
 import com.anibalxyz.features.auth.application.RefreshTokenService;
 import com.anibalxyz.features.auth.domain.RefreshTokenRepository;
 import com.anibalxyz.features.auth.infra.JpaRefreshTokenRepository;
+import com.anibalxyz.features.reconciliation.api.ReconciliationRoutes;
+import com.anibalxyz.features.reconciliation.api.SpillFilesConfig;
+import com.anibalxyz.features.reconciliation.api.handlers.RunReconciliationHandler;
+import com.anibalxyz.features.reconciliation.application.DatabaseMatcher;
+import com.anibalxyz.features.reconciliation.application.ExactMatcher;
+import com.anibalxyz.features.reconciliation.application.GroupMatcher;
+import com.anibalxyz.features.reconciliation.application.OpenItemIndex;
+import com.anibalxyz.features.reconciliation.application.PartitionedMatcher;
+import com.anibalxyz.features.reconciliation.application.ReconcileTransactions;
+import com.anibalxyz.features.reconciliation.application.ReferenceMatcher;
+import com.anibalxyz.features.reconciliation.application.RuleMatcher;
+import com.anibalxyz.features.reconciliation.application.SpillingMatcher;
+import com.anibalxyz.features.reconciliation.application.ToleranceMatcher;
+import com.anibalxyz.features.reconciliation.domain.ReconciliationRepository;
+import com.anibalxyz.features.reconciliation.infra.JpaReconciliationRepository;
 import com.anibalxyz.features.system.api.SystemController;
 import com.anibalxyz.features.system.api.SystemRoutes;
+import com.anibalxyz.features.transactions.api.ImportJobsConfig;
+import com.anibalxyz.features.transactions.api.TransactionRoutes;
+import com.anibalxyz.features.transactions.api.handlers.GetImportJobHandler;
+import com.anibalxyz.features.transactions.api.handlers.ImportTransactionsHandler;
+import com.anibalxyz.features.transactions.api.handlers.ListTransactionsHandler;
+import com.anibalxyz.features.transactions.api.handlers.SubmitImportJobHandler;
+import com.anibalxyz.features.transactions.application.ImportJobs;
+import com.anibalxyz.features.transactions.application.ImportTransactions;
+import com.anibalxyz.features.transactions.application.ListTransactions;
+import com.anibalxyz.features.transactions.domain.TransactionRepository;
+import com.anibalxyz.features.transactions.infra.JpaTransactionRepository;
 import com.anibalxyz.features.users.api.UserRoutes;
 import com.anibalxyz.features.users.api.handlers.*;
 import com.anibalxyz.features.users.api.openapi.*;
@@ -18,6 +46,7 @@ import com.anibalxyz.features.users.application.*;
 import com.anibalxyz.features.users.domain.UserRepository;
 import com.anibalxyz.features.users.infra.JpaUserRepository;
 import com.anibalxyz.persistence.EntityManagerProvider;
+import com.anibalxyz.persistence.JpaUnitOfWork;
 import com.anibalxyz.persistence.PersistenceManager;
 import com.anibalxyz.server.config.environment.AppEnvironmentSource;
 import com.anibalxyz.server.config.environment.ApplicationConfiguration;
@@ -56,8 +85,13 @@ public final class DependencyContainer {
   private final SystemRoutes systemRoutes;
   private final UserRoutes userRoutes;
   private final AuthRoutes authRoutes;
+  private final ReconciliationRoutes reconciliationRoutes;
+  private final TransactionRoutes transactionRoutes;
 
   private final SchedulerConfig schedulerConfig;
+  private final ImportJobsConfig importJobsConfig;
+  private final RefreshTokenIndexConfig refreshTokenIndexConfig;
+  private final SpillFilesConfig spillFilesConfig;
 
   public DependencyContainer(ApplicationConfiguration config, Clock clock) {
     // 1. Infrastructure
@@ -83,20 +117,75 @@ public final class DependencyContainer {
     // 3. Repositories
     UserRepository userRepository = new JpaUserRepository(emProvider);
     RefreshTokenRepository refreshTokenRepository = new JpaRefreshTokenRepository(emProvider);
+    ReconciliationRepository reconciliationRepository =
+        new JpaReconciliationRepository(emProvider, clock.getZone());
+    TransactionRepository transactionRepository = new JpaTransactionRepository(emProvider);
 
     // 4. Services
     // Use Cases (temporary)
     GetAllUsers getAllUsers = new GetAllUsers(userRepository);
     GetUserByEmail getUserByEmail = new GetUserByEmail(userRepository);
     GetUserById getUserById = new GetUserById(userRepository);
-    CreateUser createUser = new CreateUser(env, userRepository);
-    UpdateUserById updateUserById = new UpdateUserById(env, userRepository);
+    PasswordHasher passwordHasher = new PasswordHasher(env);
+    passwordHasher.bindTo(prometheusMeterRegistry);
+    CreateUser createUser = new CreateUser(env, userRepository, passwordHasher);
+    UpdateUserById updateUserById = new UpdateUserById(env, userRepository, passwordHasher);
     DeleteUserById deleteUserById = new DeleteUserById(userRepository);
 
-    RefreshTokenService refreshTokenService = new RefreshTokenService(refreshTokenRepository);
+    RefreshTokenService refreshTokenService = new RefreshTokenService(refreshTokenRepository, env);
+    refreshTokenService.bindTo(prometheusMeterRegistry);
+    ExpiredTokenCleanup expiredTokenCleanup =
+        new ExpiredTokenCleanup(
+            refreshTokenRepository, new JpaUnitOfWork(persistenceManager), env, clock);
+    expiredTokenCleanup.bindTo(prometheusMeterRegistry);
     JwtService jwtService = new JwtService(env, clock);
+    jwtService.bindTo(prometheusMeterRegistry);
     AuthService authService =
-        new AuthService(env, clock, getUserByEmail, jwtService, refreshTokenService);
+        new AuthService(
+            env,
+            clock,
+            getUserByEmail,
+            new JpaUnitOfWork(persistenceManager),
+            jwtService,
+            refreshTokenService,
+            passwordHasher);
+
+    ExactMatcher exactMatcher = new ExactMatcher();
+    RuleMatcher ruleMatcher = new RuleMatcher();
+    ReferenceMatcher referenceMatcher = new ReferenceMatcher(env);
+    ToleranceMatcher toleranceMatcher = new ToleranceMatcher(env);
+    PartitionedMatcher partitionedMatcher = new PartitionedMatcher(env);
+    SpillingMatcher spillingMatcher =
+        new SpillingMatcher(
+            env,
+            partitionedMatcher,
+            exactMatcher,
+            ruleMatcher,
+            referenceMatcher,
+            toleranceMatcher);
+    ReconcileTransactions reconcileTransactions =
+        new ReconcileTransactions(
+            reconciliationRepository,
+            exactMatcher,
+            ruleMatcher,
+            referenceMatcher,
+            toleranceMatcher,
+            partitionedMatcher,
+            new GroupMatcher(env),
+            new OpenItemIndex(env),
+            spillingMatcher,
+            new DatabaseMatcher(env));
+
+    ListTransactions listTransactions = new ListTransactions(transactionRepository);
+    ImportTransactions importTransactions =
+        new ImportTransactions(transactionRepository, clock.getZone());
+    ImportJobs importJobs =
+        new ImportJobs(
+            importTransactions,
+            transactionRepository,
+            new JpaUnitOfWork(persistenceManager),
+            env,
+            clock);
 
     // 5. Handlers and Middlewares
     // Handlers
@@ -105,6 +194,13 @@ public final class DependencyContainer {
     CreateUserHandler createUserHandler = new CreateUserHandler(createUser);
     UpdateUserByIdHandler updateUserByIdHandler = new UpdateUserByIdHandler(updateUserById);
     DeleteUserByIdHandler deleteUserByIdHandler = new DeleteUserByIdHandler(deleteUserById);
+    RunReconciliationHandler runReconciliationHandler =
+        new RunReconciliationHandler(reconcileTransactions);
+    ListTransactionsHandler listTransactionsHandler = new ListTransactionsHandler(listTransactions);
+    ImportTransactionsHandler importTransactionsHandler =
+        new ImportTransactionsHandler(importTransactions);
+    SubmitImportJobHandler submitImportJobHandler = new SubmitImportJobHandler(importJobs);
+    GetImportJobHandler getImportJobHandler = new GetImportJobHandler(importJobs);
 
     AuthApi authController = new AuthController(env, authService, refreshTokenService, clock);
     SystemController systemController = new SystemController(persistenceManager);
@@ -123,9 +219,20 @@ public final class DependencyContainer {
             updateUserByIdHandler,
             deleteUserByIdHandler);
     authRoutes = new AuthRoutes(authController);
+    reconciliationRoutes = new ReconciliationRoutes(runReconciliationHandler);
+    transactionRoutes =
+        new TransactionRoutes(
+            listTransactionsHandler,
+            importTransactionsHandler,
+            submitImportJobHandler,
+            getImportJobHandler);
 
     // Events
-    schedulerConfig = new SchedulerConfig(refreshTokenService);
+    schedulerConfig = new SchedulerConfig(expiredTokenCleanup);
+    importJobsConfig = new ImportJobsConfig(importJobs);
+    refreshTokenIndexConfig =
+        new RefreshTokenIndexConfig(refreshTokenService, new JpaUnitOfWork(persistenceManager));
+    spillFilesConfig = new SpillFilesConfig(spillingMatcher);
   }
 
   public PersistenceManager persistenceManager() {
@@ -176,7 +283,27 @@ public final class DependencyContainer {
     return authRoutes;
   }
 
+  public ReconciliationRoutes reconciliationRoutes() {
+    return reconciliationRoutes;
+  }
+
+  public TransactionRoutes transactionRoutes() {
+    return transactionRoutes;
+  }
+
   public SchedulerConfig schedulerConfig() {
     return schedulerConfig;
   }
+
+  public ImportJobsConfig importJobsConfig() {
+    return importJobsConfig;
+  }
+
+  public RefreshTokenIndexConfig refreshTokenIndexConfig() {
+    return refreshTokenIndexConfig;
+  }
+
+  public SpillFilesConfig spillFilesConfig() {
+    return spillFilesConfig;
+  }
 }
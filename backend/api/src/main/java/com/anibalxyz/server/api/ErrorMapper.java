@@ -5,13 +5,26 @@ import com.anibalxyz.core.domain.error.DomainError;
 import com.anibalxyz.features.auth.api.AuthErrorMapper;
 import com.anibalxyz.features.common.api.ValidationErrorMapper;
 import com.anibalxyz.features.common.api.out.response.error.ErrorDetail;
+import com.anibalxyz.features.transactions.api.TransactionErrorMapper;
 import com.anibalxyz.features.users.api.UserErrorMapper;
 import com.anibalxyz.server.exception.UnregisteredMapperException;
 import java.util.List;
+import java.util.function.Function;
 
+/**
+ * Routes an error to the {@link FeatureErrorMapper} that declares its type.
+ *
+ * <p>The mapper for each concrete error class is looked up once, taking the first registered
+ * mapper that declares the class or one of its supertypes, and remembered for that class.
+ */
 public class ErrorMapper {
   private static final List<FeatureErrorMapper> mappers =
-      List.of(new UserErrorMapper(), new AuthErrorMapper());
+      List.of(new UserErrorMapper(), new AuthErrorMapper(), new TransactionErrorMapper());
+
+  private static final ClassValue<FeatureErrorMapper> byErrorType =
+      dispatchTable(FeatureErrorMapper::errorTypes);
+  private static final ClassValue<FeatureErrorMapper> byFieldErrorType =
+      dispatchTable(FeatureErrorMapper::fieldErrorTypes);
 
   private ErrorMapper() {}
 
@@ -19,18 +32,30 @@ public class ErrorMapper {
     if (error instanceof ValidationNotification<?> n) {
       return ValidationErrorMapper.map(n, ErrorMapper::mapFieldError);
     }
-    return mappers.stream()
-        .filter(m -> m.supports(error))
-        .findFirst()
-        .orElseThrow(() -> new UnregisteredMapperException(error))
-        .map(error);
+    FeatureErrorMapper mapper = byErrorType.get(error.getClass());
+    if (mapper == null) throw new UnregisteredMapperException(error);
+    return mapper.map(error);
   }
 
   public static <E extends DomainError> ErrorDetail mapFieldError(E error) {
-    return mappers.stream()
-        .filter(m -> m.supportsFieldError(error))
-        .findFirst()
-        .orElseThrow(() -> new UnregisteredMapperException(error))
-        .mapFieldError(error);
+    FeatureErrorMapper mapper = byFieldErrorType.get(error.getClass());
+    if (mapper == null) throw new UnregisteredMapperException(error);
+    return mapper.mapFieldError(error);
+  }
+
+  /** The value for a class with no mapper is {@code null}. */
+  private static ClassValue<FeatureErrorMapper> dispatchTable(
+      Function<FeatureErrorMapper, List<? extends Class<?>>> types) {
+    return new ClassValue<>() {
+      @Override
+      protected FeatureErrorMapper computeValue(Class<?> errorClass) {
+        for (FeatureErrorMapper mapper : mappers) {
+          for (Class<?> type : types.apply(mapper)) {
+            if (type.isAssignableFrom(errorClass)) return mapper;
+          }
+        }
+        return null;
+      }
+    };
   }
 }
@@ -1,10 +1,34 @@
 package com.anibalxyz.server.api;
 
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
 import com.anibalxyz.features.common.api.out.response.error.ErrorResponse;
+import java.util.Map;
+
+/**
+ * The response for an error, along with what to log about it.
+ *
+ * <p>Results are immutable, so those that never vary can be built once and sent for every
+ * occurrence. The response's error code is added to the log entry as {@code error_code} when the
+ * result is built rather than each time it is logged.
+ *
+ * @param headers response headers to send along with the error, such as {@code Retry-After}
+ */
+public record ErrorResult(
+    int status, ErrorResponse response, LogEntry logEntry, Map<String, String> headers) {
 
-public record ErrorResult(int status, ErrorResponse response, LogEntry logEntry) {
+  public ErrorResult {
+    String errorCode = response.code();
+    if (logEntry != null && errorCode != null && !errorCode.isEmpty()) {
+      logEntry = logEntry.with(kv("error_code", errorCode));
+    }
+  }
 
   public ErrorResult(int status, ErrorResponse response) {
     this(status, response, null);
   }
+
+  public ErrorResult(int status, ErrorResponse response, LogEntry logEntry) {
+    this(status, response, logEntry, Map.of());
+  }
 }
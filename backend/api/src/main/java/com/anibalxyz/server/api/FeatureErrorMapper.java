@@ -2,13 +2,35 @@ package com.anibalxyz.server.api;
 
 import com.anibalxyz.core.domain.error.DomainError;
 import com.anibalxyz.features.common.api.out.response.error.ErrorDetail;
+import java.util.List;
 
+/**
+ * Maps the errors of one feature to HTTP responses.
+ *
+ * <p>{@link ErrorMapper} picks a mapper by the types it declares rather than by asking every mapper
+ * in turn, so {@link #errorTypes()} and {@link #fieldErrorTypes()} must list every type {@link
+ * #map(Object)} and {@link #mapFieldError(DomainError)} handle, subtypes included.
+ */
 public interface FeatureErrorMapper {
-  boolean supports(Object error);
+  List<Class<?>> errorTypes();
 
-  ErrorResult map(Object error);
+  List<Class<? extends DomainError>> fieldErrorTypes();
 
-  boolean supportsFieldError(DomainError error);
+  ErrorResult map(Object error);
 
   ErrorDetail mapFieldError(DomainError error);
+
+  default boolean supports(Object error) {
+    for (Class<?> type : errorTypes()) {
+      if (type.isInstance(error)) return true;
+    }
+    return false;
+  }
+
+  default boolean supportsFieldError(DomainError error) {
+    for (Class<? extends DomainError> type : fieldErrorTypes()) {
+      if (type.isInstance(error)) return true;
+    }
+    return false;
+  }
 }
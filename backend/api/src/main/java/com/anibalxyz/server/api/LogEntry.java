@@ -1,5 +1,6 @@
 package com.anibalxyz.server.api;
 
+import java.util.Arrays;
 import org.slf4j.event.Level;
 
 public class LogEntry {
@@ -21,6 +22,15 @@ public class LogEntry {
     return new LogEntry(Level.DEBUG, message, args);
   }
 
+  /**
+   * @return a new entry with the same level and message and {@code arg} after the current args
+   */
+  public LogEntry with(Object arg) {
+    Object[] extended = Arrays.copyOf(args, args.length + 1);
+    extended[args.length] = arg;
+    return new LogEntry(level, message, extended);
+  }
+
   public Level level() {
     return level;
   }
@@ -3,11 +3,17 @@ package com.anibalxyz.server.config.environment;
 import com.anibalxyz.features.auth.api.env.AuthApiEnvironment;
 import com.anibalxyz.features.auth.application.env.AuthEnvironment;
 import com.anibalxyz.features.auth.application.env.JwtEnvironment;
+import com.anibalxyz.features.auth.application.env.RefreshTokenIndexEnvironment;
+import com.anibalxyz.features.auth.application.env.TokenCleanupEnvironment;
+import com.anibalxyz.features.reconciliation.application.env.ReconciliationEnvironment;
+import com.anibalxyz.features.transactions.application.env.ImportJobEnvironment;
 import com.anibalxyz.features.users.application.CreateUser;
 import com.anibalxyz.features.users.application.UpdateUserById;
+import com.anibalxyz.features.users.application.env.PasswordHashingEnvironment;
 import com.anibalxyz.server.config.AppEnv;
 import com.anibalxyz.server.config.modules.startup.ServerEnvironment;
 import io.javalin.http.SameSite;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
@@ -32,6 +38,8 @@ public record AppEnvironmentSource(
     String[] CORS_ALLOWED_ORIGINS,
     String CONTACT_EMAIL,
     int BCRYPT_LOG_ROUNDS,
+    int PASSWORD_HASH_WORKERS,
+    int PASSWORD_HASH_QUEUE_CAPACITY,
     SecretKey JWT_KEY,
     String JWT_ISSUER,
     long JWT_ACCESS_EXPIRATION_TIME_MINUTES,
@@ -40,13 +48,35 @@ public record AppEnvironmentSource(
     String AUTH_COOKIE_DOMAIN,
     SameSite AUTH_COOKIE_SAMESITE,
     String AUTH_COOKIE_PATH,
+    int REFRESH_TOKEN_CLEANUP_BATCH_SIZE,
+    Duration REFRESH_TOKEN_CLEANUP_PAUSE,
+    boolean REFRESH_TOKEN_INDEX_SINGLE_INSTANCE,
+    long RECONCILIATION_AMOUNT_TOLERANCE_CENTS,
+    int RECONCILIATION_DATE_TOLERANCE_DAYS,
+    int RECONCILIATION_WORKERS,
+    int RECONCILIATION_DATE_BUCKET_DAYS,
+    int RECONCILIATION_GROUP_DATE_WINDOW_DAYS,
+    int RECONCILIATION_GROUP_MAX_CANDIDATES,
+    int RECONCILIATION_GROUP_TIME_BUDGET_MS,
+    Path RECONCILIATION_SPILL_DIR,
+    int RECONCILIATION_SPILL_THRESHOLD,
+    int RECONCILIATION_DATABASE_THRESHOLD,
+    double RECONCILIATION_REFERENCE_SIMILARITY,
+    Path IMPORT_SPOOL_DIR,
+    int IMPORT_JOB_WORKERS,
+    int IMPORT_JOB_QUEUE_CAPACITY,
     Boolean SWAGGER_ENABLED)
     implements UpdateUserById.Env,
         CreateUser.Env,
+        PasswordHashingEnvironment,
         ServerEnvironment,
         JwtEnvironment,
         AuthApiEnvironment,
-        AuthEnvironment {
+        AuthEnvironment,
+        TokenCleanupEnvironment,
+        RefreshTokenIndexEnvironment,
+        ReconciliationEnvironment,
+        ImportJobEnvironment {
   @Override
   public @NonNull String toString() {
     return "AppEnvironmentSource["
@@ -18,6 +18,7 @@ public record ApplicationConfiguration(AppEnvironmentSource env, DatabaseVariabl
 
     Map<String, Object> databaseMap = new LinkedHashMap<>();
     databaseMap.put("url", database.url());
+    databaseMap.put("replicaUrl", database.replicaUrl());
     databaseMap.put("user", database.user());
     configSummary.put("database", databaseMap);
 
@@ -29,12 +30,37 @@ public record ApplicationConfiguration(AppEnvironmentSource env, DatabaseVariabl
 
     Map<String, Object> auth = new LinkedHashMap<>();
     auth.put("bcryptLogRounds", env.BCRYPT_LOG_ROUNDS());
+    auth.put("passwordHashWorkers", env.PASSWORD_HASH_WORKERS());
+    auth.put("passwordHashQueueCapacity", env.PASSWORD_HASH_QUEUE_CAPACITY());
     auth.put("cookieSecure", env.AUTH_COOKIE_SECURE());
     auth.put("cookieDomain", env.AUTH_COOKIE_DOMAIN());
     auth.put("cookieSameSite", env.AUTH_COOKIE_SAMESITE());
     auth.put("cookiePath", env.AUTH_COOKIE_PATH());
+    auth.put("refreshTokenCleanupBatchSize", env.REFRESH_TOKEN_CLEANUP_BATCH_SIZE());
+    auth.put("refreshTokenCleanupPauseMs", env.REFRESH_TOKEN_CLEANUP_PAUSE().toMillis());
+    auth.put("refreshTokenIndexSingleInstance", env.REFRESH_TOKEN_INDEX_SINGLE_INSTANCE());
     configSummary.put("auth", auth);
 
+    Map<String, Object> reconciliation = new LinkedHashMap<>();
+    reconciliation.put("amountToleranceCents", env.RECONCILIATION_AMOUNT_TOLERANCE_CENTS());
+    reconciliation.put("dateToleranceDays", env.RECONCILIATION_DATE_TOLERANCE_DAYS());
+    reconciliation.put("workers", env.RECONCILIATION_WORKERS());
+    reconciliation.put("dateBucketDays", env.RECONCILIATION_DATE_BUCKET_DAYS());
+    reconciliation.put("groupDateWindowDays", env.RECONCILIATION_GROUP_DATE_WINDOW_DAYS());
+    reconciliation.put("groupMaxCandidates", env.RECONCILIATION_GROUP_MAX_CANDIDATES());
+    reconciliation.put("groupTimeBudgetMs", env.RECONCILIATION_GROUP_TIME_BUDGET_MS());
+    reconciliation.put("spillDir", env.RECONCILIATION_SPILL_DIR().toString());
+    reconciliation.put("spillThreshold", env.RECONCILIATION_SPILL_THRESHOLD());
+    reconciliation.put("databaseThreshold", env.RECONCILIATION_DATABASE_THRESHOLD());
+    reconciliation.put("referenceSimilarity", env.RECONCILIATION_REFERENCE_SIMILARITY());
+    configSummary.put("reconciliation", reconciliation);
+
+    Map<String, Object> importJobs = new LinkedHashMap<>();
+    importJobs.put("spoolDir", env.IMPORT_SPOOL_DIR().toString());
+    importJobs.put("workers", env.IMPORT_JOB_WORKERS());
+    importJobs.put("queueCapacity", env.IMPORT_JOB_QUEUE_CAPACITY());
+    configSummary.put("importJobs", importJobs);
+
     return configSummary;
   }
 }
@@ -10,6 +10,7 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
@@ -120,6 +121,14 @@ public class ConfigurationFactory {
     String dbPassword = getEnvVar("DB_PASSWORD", callback);
     String dbPort = getEnvVar("DB_PORT", callback);
     String dbHost = getEnvVar("DB_HOST", callback);
+    String dbReplicaHost =
+        Optional.ofNullable(getEnvVar("DB_REPLICA_HOST", callback, true))
+            .filter(s -> !s.isBlank())
+            .orElse(null);
+    String dbReplicaPort =
+        Optional.ofNullable(getEnvVar("DB_REPLICA_PORT", callback, true))
+            .filter(s -> !s.isBlank())
+            .orElse(null);
     String apiProtocol = getEnvVar("API_PROTOCOL", callback, true);
     if (apiProtocol == null || apiProtocol.isBlank()) {
       apiProtocol = appEnv == AppEnv.PROD ? "https" : "http";
@@ -174,6 +183,33 @@ public class ConfigurationFactory {
         Duration.ofDays(Long.parseLong(getEnvVar("JWT_REFRESH_EXPIRATION_TIME_DAYS", callback)));
 
     int bcryptLogRounds = Integer.parseInt(getEnvVar("BCRYPT_LOG_ROUNDS", callback));
+    String hashWorkersRaw = getEnvVar("PASSWORD_HASH_WORKERS", callback, true);
+    int passwordHashWorkers =
+        (hashWorkersRaw == null || hashWorkersRaw.isBlank())
+            ? Runtime.getRuntime().availableProcessors()
+            : Integer.parseInt(hashWorkersRaw);
+    String hashQueueRaw = getEnvVar("PASSWORD_HASH_QUEUE_CAPACITY", callback, true);
+    if (hashQueueRaw == null || hashQueueRaw.isBlank()) hashQueueRaw = "64";
+    int passwordHashQueueCapacity = Integer.parseInt(hashQueueRaw);
+    if (passwordHashWorkers < 1 || passwordHashQueueCapacity < 0) {
+      throw new IllegalArgumentException(
+          "PASSWORD_HASH_WORKERS must be at least 1 and PASSWORD_HASH_QUEUE_CAPACITY not negative");
+    }
+
+    String cleanupBatchRaw = getEnvVar("REFRESH_TOKEN_CLEANUP_BATCH_SIZE", callback, true);
+    if (cleanupBatchRaw == null || cleanupBatchRaw.isBlank()) cleanupBatchRaw = "1000";
+    int refreshTokenCleanupBatchSize = Integer.parseInt(cleanupBatchRaw);
+    String cleanupPauseRaw = getEnvVar("REFRESH_TOKEN_CLEANUP_PAUSE_MS", callback, true);
+    if (cleanupPauseRaw == null || cleanupPauseRaw.isBlank()) cleanupPauseRaw = "100";
+    Duration refreshTokenCleanupPause = Duration.ofMillis(Long.parseLong(cleanupPauseRaw));
+    if (refreshTokenCleanupBatchSize < 1 || refreshTokenCleanupPause.isNegative()) {
+      throw new IllegalArgumentException(
+          "REFRESH_TOKEN_CLEANUP_BATCH_SIZE must be at least 1"
+              + " and REFRESH_TOKEN_CLEANUP_PAUSE_MS not negative");
+    }
+    String singleInstanceRaw = getEnvVar("REFRESH_TOKEN_INDEX_SINGLE_INSTANCE", callback, true);
+    if (singleInstanceRaw == null || singleInstanceRaw.isBlank()) singleInstanceRaw = "false";
+    boolean refreshTokenIndexSingleInstance = Boolean.parseBoolean(singleInstanceRaw);
 
     String authCookieDomain = getEnvVar("AUTH_COOKIE_DOMAIN", callback, true);
     Boolean authCookieSecure = appEnv == AppEnv.PROD;
@@ -188,6 +224,90 @@ public class ConfigurationFactory {
       throw new IllegalStateException("Invalid value for AUTH_COOKIE_SAMESITE: " + e.getMessage());
     }
 
+    // Reconciliation configuration
+    String amountToleranceRaw = getEnvVar("RECONCILIATION_AMOUNT_TOLERANCE_CENTS", callback, true);
+    if (amountToleranceRaw == null || amountToleranceRaw.isBlank()) amountToleranceRaw = "1";
+    long reconciliationAmountToleranceCents = Long.parseLong(amountToleranceRaw);
+    String dateToleranceRaw = getEnvVar("RECONCILIATION_DATE_TOLERANCE_DAYS", callback, true);
+    if (dateToleranceRaw == null || dateToleranceRaw.isBlank()) dateToleranceRaw = "3";
+    int reconciliationDateToleranceDays = Integer.parseInt(dateToleranceRaw);
+    if (reconciliationAmountToleranceCents < 0 || reconciliationDateToleranceDays < 0) {
+      throw new IllegalArgumentException("Reconciliation tolerances must not be negative");
+    }
+    String workersRaw = getEnvVar("RECONCILIATION_WORKERS", callback, true);
+    int reconciliationWorkers =
+        (workersRaw == null || workersRaw.isBlank())
+            ? Runtime.getRuntime().availableProcessors()
+            : Integer.parseInt(workersRaw);
+    String dateBucketRaw = getEnvVar("RECONCILIATION_DATE_BUCKET_DAYS", callback, true);
+    if (dateBucketRaw == null || dateBucketRaw.isBlank()) dateBucketRaw = "7";
+    int reconciliationDateBucketDays = Integer.parseInt(dateBucketRaw);
+    if (reconciliationWorkers < 1 || reconciliationDateBucketDays < 1) {
+      throw new IllegalArgumentException(
+          "RECONCILIATION_WORKERS and RECONCILIATION_DATE_BUCKET_DAYS must be at least 1");
+    }
+    String groupWindowRaw = getEnvVar("RECONCILIATION_GROUP_DATE_WINDOW_DAYS", callback, true);
+    if (groupWindowRaw == null || groupWindowRaw.isBlank()) groupWindowRaw = "3";
+    int reconciliationGroupDateWindowDays = Integer.parseInt(groupWindowRaw);
+    if (reconciliationGroupDateWindowDays < 0) {
+      throw new IllegalArgumentException(
+          "RECONCILIATION_GROUP_DATE_WINDOW_DAYS must not be negative");
+    }
+    String groupCandidatesRaw = getEnvVar("RECONCILIATION_GROUP_MAX_CANDIDATES", callback, true);
+    if (groupCandidatesRaw == null || groupCandidatesRaw.isBlank()) groupCandidatesRaw = "20";
+    int reconciliationGroupMaxCandidates = Integer.parseInt(groupCandidatesRaw);
+    if (reconciliationGroupMaxCandidates < 0 || reconciliationGroupMaxCandidates > 32) {
+      throw new IllegalArgumentException(
+          "RECONCILIATION_GROUP_MAX_CANDIDATES must be between 0 and 32");
+    }
+    String groupBudgetRaw = getEnvVar("RECONCILIATION_GROUP_TIME_BUDGET_MS", callback, true);
+    if (groupBudgetRaw == null || groupBudgetRaw.isBlank()) groupBudgetRaw = "5";
+    int reconciliationGroupTimeBudgetMs = Integer.parseInt(groupBudgetRaw);
+    if (reconciliationGroupTimeBudgetMs < 1) {
+      throw new IllegalArgumentException("RECONCILIATION_GROUP_TIME_BUDGET_MS must be at least 1");
+    }
+    String spillDirRaw = getEnvVar("RECONCILIATION_SPILL_DIR", callback, true);
+    Path reconciliationSpillDir =
+        (spillDirRaw == null || spillDirRaw.isBlank())
+            ? Path.of(System.getProperty("java.io.tmpdir"), "reconciler-spill")
+            : Path.of(spillDirRaw);
+    String spillThresholdRaw = getEnvVar("RECONCILIATION_SPILL_THRESHOLD", callback, true);
+    if (spillThresholdRaw == null || spillThresholdRaw.isBlank()) spillThresholdRaw = "2000000";
+    int reconciliationSpillThreshold = Integer.parseInt(spillThresholdRaw);
+    if (reconciliationSpillThreshold < 0) {
+      throw new IllegalArgumentException("RECONCILIATION_SPILL_THRESHOLD must not be negative");
+    }
+    String dbThresholdRaw = getEnvVar("RECONCILIATION_DATABASE_THRESHOLD", callback, true);
+    if (dbThresholdRaw == null || dbThresholdRaw.isBlank()) dbThresholdRaw = "1000000";
+    int reconciliationDatabaseThreshold = Integer.parseInt(dbThresholdRaw);
+    if (reconciliationDatabaseThreshold < 0) {
+      throw new IllegalArgumentException("RECONCILIATION_DATABASE_THRESHOLD must not be negative");
+    }
+    String similarityRaw = getEnvVar("RECONCILIATION_REFERENCE_SIMILARITY", callback, true);
+    if (similarityRaw == null || similarityRaw.isBlank()) similarityRaw = "0.5";
+    double reconciliationReferenceSimilarity = Double.parseDouble(similarityRaw);
+    if (!(reconciliationReferenceSimilarity >= 0 && reconciliationReferenceSimilarity <= 1)) {
+      throw new IllegalArgumentException(
+          "RECONCILIATION_REFERENCE_SIMILARITY must be between 0 and 1");
+    }
+
+    // Import jobs configuration
+    String spoolDirRaw = getEnvVar("IMPORT_SPOOL_DIR", callback, true);
+    Path importSpoolDir =
+        (spoolDirRaw == null || spoolDirRaw.isBlank())
+            ? Path.of(System.getProperty("java.io.tmpdir"), "reconciler-imports")
+            : Path.of(spoolDirRaw);
+    String importWorkersRaw = getEnvVar("IMPORT_JOB_WORKERS", callback, true);
+    if (importWorkersRaw == null || importWorkersRaw.isBlank()) importWorkersRaw = "2";
+    int importJobWorkers = Integer.parseInt(importWorkersRaw);
+    String importQueueRaw = getEnvVar("IMPORT_JOB_QUEUE_CAPACITY", callback, true);
+    if (importQueueRaw == null || importQueueRaw.isBlank()) importQueueRaw = "16";
+    int importJobQueueCapacity = Integer.parseInt(importQueueRaw);
+    if (importJobWorkers < 1 || importJobQueueCapacity < 0) {
+      throw new IllegalArgumentException(
+          "IMPORT_JOB_WORKERS must be at least 1 and IMPORT_JOB_QUEUE_CAPACITY not negative");
+    }
+
     // Feature Flags
     // TODO: add separate inner record for feature flags
     String swaggerEnabledRaw = getEnvVar("SWAGGER_ENABLED", callback, true);
@@ -206,6 +326,8 @@ public class ConfigurationFactory {
             corsAllowedOrigins,
             contactEmail,
             bcryptLogRounds,
+            passwordHashWorkers,
+            passwordHashQueueCapacity,
             jwtKey,
             jwtIssuer,
             jwtAccessExpirationTimeMinutes,
@@ -214,11 +336,30 @@ public class ConfigurationFactory {
             authCookieDomain.isBlank() ? null : authCookieDomain,
             authCookieSameSite,
             authCookiePath,
+            refreshTokenCleanupBatchSize,
+            refreshTokenCleanupPause,
+            refreshTokenIndexSingleInstance,
+            reconciliationAmountToleranceCents,
+            reconciliationDateToleranceDays,
+            reconciliationWorkers,
+            reconciliationDateBucketDays,
+            reconciliationGroupDateWindowDays,
+            reconciliationGroupMaxCandidates,
+            reconciliationGroupTimeBudgetMs,
+            reconciliationSpillDir,
+            reconciliationSpillThreshold,
+            reconciliationDatabaseThreshold,
+            reconciliationReferenceSimilarity,
+            importSpoolDir,
+            importJobWorkers,
+            importJobQueueCapacity,
             swaggerEnabled);
 
     ApplicationConfiguration result =
         new ApplicationConfiguration(
-            env, DatabaseVariables.generate(dbHost, dbPort, dbName, dbUser, dbPassword));
+            env,
+            DatabaseVariables.generate(
+                dbHost, dbPort, dbName, dbUser, dbPassword, dbReplicaHost, dbReplicaPort));
 
     log.info("Configuration loaded", v("config", result.toMap()));
     return result;
@@ -33,6 +33,7 @@ public class ExceptionsConfig implements StartupConfig {
           MDC.put("status", String.valueOf(result.status()));
           emitLogEntry(result);
 
+          result.headers().forEach(ctx::header);
           ctx.status(result.status()).json(result.response().instance(requestId));
         });
 
@@ -72,22 +73,17 @@ public class ExceptionsConfig implements StartupConfig {
           kv("error_code", result.response().code()));
     }
 
+    result.headers().forEach(ctx::header);
     ctx.status(result.status()).json(result.response().instance(requestId));
   }
 
   private void emitLogEntry(ErrorResult result) {
     LogEntry entry = result.logEntry();
     if (entry == null) return;
-    String errorCode = result.response().code();
     Level level = entry.level();
     String message = entry.message();
     Object[] args = entry.args();
 
-    if (errorCode != null && !errorCode.isEmpty()) {
-      args = java.util.Arrays.copyOf(args, args.length + 1);
-      args[args.length - 1] = kv("error_code", errorCode);
-    }
-
     switch (level) {
       case WARN -> log.warn(message, args);
       case DEBUG -> log.debug(message, args);
@@ -1,11 +1,15 @@
 package com.anibalxyz.server.config.modules.runtime;
 
+import com.anibalxyz.persistence.LazyEntityManager;
 import com.anibalxyz.persistence.PersistenceManager;
 import com.anibalxyz.server.config.modules.startup.StartupConfig;
 import com.anibalxyz.server.context.ContextProvider;
+import com.anibalxyz.server.context.JavalinContextEntityManagerProvider;
 import com.anibalxyz.server.context.RequestContext;
 import io.javalin.config.JavalinConfig;
+import io.javalin.http.HandlerType;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 
 /**
  * This class hooks into Javalin's request lifecycle to handle resources that need to be created and
@@ -26,39 +30,38 @@ public class LifecycleConfig implements StartupConfig {
   }
 
   /**
-   * Manage the JPA {@link EntityManager}, ensuring that one is created at the beginning of a
-   * request and properly closed at the end, whether the request succeeds or fails.
+   * Manage the JPA {@link EntityManager} of each request. It is only opened, with its transaction,
+   * when a repository first asks for it, and properly closed at the end, whether the request
+   * succeeds or fails. Safe methods only read, so they get a read-only one from {@link
+   * PersistenceManager#readOnlyEmf()}.
    */
   private void setEntityManagerLifecycle(JavalinConfig cfg) {
     cfg.routes.before(
         ctx -> {
           ContextProvider.set(ctx);
-          EntityManager em = persistenceManager.emf().createEntityManager();
-          em.getTransaction().begin();
-          ctx.attribute("em", em);
+          boolean readOnly = isSafe(ctx.method());
+          EntityManagerFactory emf =
+              readOnly ? persistenceManager.readOnlyEmf() : persistenceManager.emf();
+          ctx.attribute(
+              JavalinContextEntityManagerProvider.ATTRIBUTE, new LazyEntityManager(emf, readOnly));
         });
     cfg.routes.after(
         ctx -> {
-          EntityManager em = ctx.attribute("em");
-          boolean existsEm = em != null && em.isOpen();
+          LazyEntityManager em = ctx.attribute(JavalinContextEntityManagerProvider.ATTRIBUTE);
           try {
-            if (!existsEm || !em.getTransaction().isActive()) {
-              return;
+            if (em != null) {
+              em.close(ctx.status().getCode() < 400);
             }
-
-            if (ctx.status().getCode() >= 400) {
-              em.getTransaction().rollback();
-            } else {
-              em.getTransaction().commit();
-            }
-
           } finally {
-            if (existsEm) em.close();
             ContextProvider.clear();
           }
         });
   }
 
+  private static boolean isSafe(HandlerType method) {
+    return HandlerType.GET.equals(method) || HandlerType.HEAD.equals(method);
+  }
+
   private void setMDCLifecycle(JavalinConfig cfg) {
     cfg.routes.before(
         ctx -> {
@@ -2,7 +2,7 @@ package com.anibalxyz.server.config.modules.runtime;
 
 import static net.logstash.logback.argument.StructuredArguments.kv;
 
-import com.anibalxyz.features.auth.application.RefreshTokenService;
+import com.anibalxyz.features.auth.application.ExpiredTokenCleanup;
 import com.anibalxyz.server.config.modules.startup.StartupConfig;
 import io.javalin.config.JavalinConfig;
 import java.util.concurrent.Executors;
@@ -21,11 +21,11 @@ import org.slf4j.LoggerFactory;
 public class SchedulerConfig implements StartupConfig {
 
   private static final Logger log = LoggerFactory.getLogger(SchedulerConfig.class);
-  private final RefreshTokenService refreshTokenService;
+  private final ExpiredTokenCleanup expiredTokenCleanup;
   private ScheduledExecutorService scheduler;
 
-  public SchedulerConfig(RefreshTokenService refreshTokenService) {
-    this.refreshTokenService = refreshTokenService;
+  public SchedulerConfig(ExpiredTokenCleanup expiredTokenCleanup) {
+    this.expiredTokenCleanup = expiredTokenCleanup;
   }
 
   /** Initializes schedules and registers shutdown hooks. */
@@ -35,8 +35,13 @@ public class SchedulerConfig implements StartupConfig {
 
     scheduler.scheduleAtFixedRate(
         () -> {
-          int deletedCount = refreshTokenService.cleanupExpiredTokens();
-          log.info("Finished scheduled refresh token cleanup", kv("deleted_count", deletedCount));
+          try {
+            int deletedCount = expiredTokenCleanup.run();
+            log.info("Finished scheduled refresh token cleanup", kv("deleted_count", deletedCount));
+          } catch (RuntimeException e) {
+            // An escaping exception would cancel every later run
+            log.error("Scheduled refresh token cleanup failed", e);
+          }
         },
         0,
         24,
@@ -44,13 +49,13 @@ public class SchedulerConfig implements StartupConfig {
 
     cfg.events.serverStopping(
         () -> {
-          scheduler.shutdown();
+          // Interrupts a running cleanup between batches; the batch in flight still commits
+          scheduler.shutdownNow();
           try {
             if (!scheduler.awaitTermination(5, TimeUnit.SECONDS)) {
-              scheduler.shutdownNow();
+              log.warn("Scheduled tasks still running after shutdown");
             }
           } catch (InterruptedException e) {
-            scheduler.shutdownNow();
             Thread.currentThread().interrupt();
           }
         });
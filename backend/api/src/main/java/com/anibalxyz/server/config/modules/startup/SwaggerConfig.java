@@ -144,6 +144,19 @@ systems. Built with clean architecture principles, domain-driven design, and com
         new TextNode("Endpoints for user authentication, including login and logout."));
     tagsArray.add(authTag);
 
+    var reconciliationsTag = content.objectNode();
+    reconciliationsTag.set("name", new TextNode("Reconciliations"));
+    reconciliationsTag.set(
+        "description",
+        new TextNode("Matching of bank statements against internal system transactions."));
+    tagsArray.add(reconciliationsTag);
+
+    var transactionsTag = content.objectNode();
+    transactionsTag.set("name", new TextNode("Transactions"));
+    transactionsTag.set(
+        "description", new TextNode("Import of bank and system transaction statements."));
+    tagsArray.add(transactionsTag);
+
     var systemTag = content.objectNode();
     systemTag.set("name", new TextNode("System"));
     systemTag.set(
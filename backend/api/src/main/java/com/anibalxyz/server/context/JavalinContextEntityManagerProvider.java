@@ -1,18 +1,34 @@
 package com.anibalxyz.server.context;
 
 import com.anibalxyz.persistence.EntityManagerProvider;
+import com.anibalxyz.persistence.JpaUnitOfWork;
+import com.anibalxyz.persistence.LazyEntityManager;
+import io.javalin.http.Context;
 import jakarta.persistence.EntityManager;
 
 /**
  * Bridges Javalin's request context with the persistence layer.
  *
  * <p>Retrieves the request-scoped {@link EntityManager} from {@link ContextProvider} to avoid
- * direct dependencies on Javalin in repositories or services.
+ * direct dependencies on Javalin in repositories or services, opening it on first use. A {@link
+ * JpaUnitOfWork} running on the current thread takes precedence, so work a request hands to one,
+ * and work outside a request, gets the entity manager of that unit of work.
  */
 public class JavalinContextEntityManagerProvider implements EntityManagerProvider {
+  /** Context attribute holding the {@link LazyEntityManager} of the request. */
+  public static final String ATTRIBUTE = "em";
 
   @Override
   public EntityManager get() {
-    return ContextProvider.get().attribute("em");
+    EntityManager unitOfWork = JpaUnitOfWork.current();
+    if (unitOfWork != null) {
+      return unitOfWork;
+    }
+    Context ctx = ContextProvider.get();
+    if (ctx == null) {
+      return null;
+    }
+    LazyEntityManager em = ctx.attribute(ATTRIBUTE);
+    return em != null ? em.get() : null;
   }
 }
@@ -42,6 +42,12 @@ public class AuthErrorMapperTest {
       assertThat(result.response())
           .isEqualTo(new ErrorResponse(CommonErrorCode.UNAUTHORIZED).detail("Invalid credentials"));
     }
+
+    @Test
+    @DisplayName("given repeated calls, then return the same prebuilt result")
+    public void repeatedCalls_returnSameResult() {
+      assertThat(mapper.mapInvalidCredentialsError()).isSameAs(mapper.mapInvalidCredentialsError());
+    }
   }
 
   @Nested
@@ -71,7 +71,7 @@ public class AuthRoutesIT extends IntegrationTest {
   @BeforeEach
   public void deps() {
     var refreshTokenRepository = new JpaRefreshTokenRepository(() -> em);
-    refreshTokenService = new RefreshTokenService(refreshTokenRepository);
+    refreshTokenService = new RefreshTokenService(refreshTokenRepository, APP_CONFIG.env());
   }
 
   private LoginResult loginUser(String email, String password) {
@@ -4,9 +4,12 @@ import static com.anibalxyz.shared.Constants.Auth.VALID_JWT_STRING;
 import static com.anibalxyz.shared.Constants.Auth.VALID_REFRESH_TOKEN_STRING;
 import static com.anibalxyz.shared.Constants.Users.*;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import com.anibalxyz.core.Result;
+import com.anibalxyz.core.application.UnitOfWork;
 import com.anibalxyz.core.application.ValidationNotification;
 import com.anibalxyz.features.auth.application.env.AuthEnvironment;
 import com.anibalxyz.features.auth.application.in.LoginCommand;
@@ -15,12 +18,16 @@ import com.anibalxyz.features.auth.domain.RefreshToken;
 import com.anibalxyz.features.auth.domain.error.InvalidCredentialsError;
 import com.anibalxyz.features.auth.domain.error.InvalidRefreshTokenError;
 import com.anibalxyz.features.users.application.GetUserByEmail;
+import com.anibalxyz.features.users.application.PasswordHasher;
 import com.anibalxyz.features.users.domain.User;
 import com.anibalxyz.features.users.domain.error.UserNotFoundError;
+import com.anibalxyz.shared.Constants;
 import com.anibalxyz.shared.ResultAsserts;
 import com.anibalxyz.shared.UnitTest;
 import java.time.*;
 import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -38,15 +45,40 @@ class AuthServiceTest extends UnitTest {
   private static final Duration DURATION = Duration.ofDays(7);
   private static final AuthEnvironmentStub env = new AuthEnvironmentStub(DURATION);
   private static final Clock clock = Clock.fixed(FIXED_INSTANT, ZONE);
+  private static final PasswordHasher passwordHasher = new PasswordHasher(Constants.APP_ENV);
 
   @Mock private GetUserByEmail getUserByEmail;
   @Mock private JwtService jwtService;
   @Mock private RefreshTokenService refreshTokenService;
+  private final TrackingUnitOfWork unitOfWork = new TrackingUnitOfWork();
   private AuthService authService;
 
   @BeforeEach
   void deps() {
-    authService = new AuthService(env, clock, getUserByEmail, jwtService, refreshTokenService);
+    authService =
+        new AuthService(
+            env,
+            clock,
+            getUserByEmail,
+            unitOfWork,
+            jwtService,
+            refreshTokenService,
+            passwordHasher);
+  }
+
+  /** Runs the work directly, recording whether some is running as a real one holds a connection. */
+  private static final class TrackingUnitOfWork implements UnitOfWork {
+    private boolean running;
+
+    @Override
+    public <T> T execute(Supplier<T> work) {
+      running = true;
+      try {
+        return work.get();
+      } finally {
+        running = false;
+      }
+    }
   }
 
   private RefreshToken buildRefreshToken(Instant expiryDate) {
@@ -235,7 +267,14 @@ class AuthServiceTest extends UnitTest {
       Clock clockOutsideWindow =
           Clock.fixed(SATURDAY_MORNING.toInstant(), SATURDAY_MORNING.getZone());
       var serviceOutsideWindow =
-          new AuthService(env, clockOutsideWindow, getUserByEmail, jwtService, refreshTokenService);
+          new AuthService(
+              env,
+              clockOutsideWindow,
+              getUserByEmail,
+              unitOfWork,
+              jwtService,
+              refreshTokenService,
+              passwordHasher);
 
       var result = serviceOutsideWindow.authenticateUser(command);
       assertThat(ResultAsserts.failure(result))
@@ -289,6 +328,44 @@ class AuthServiceTest extends UnitTest {
       AuthResult authResult = ResultAsserts.success(result);
       assertThat(authResult).isEqualTo(expectedResult);
     }
+
+    @Test
+    @DisplayName("given a login waiting to hash, then load the user without holding a connection")
+    void loginWaitingToHash_holdNoConnection() {
+      User user = VALID_USER;
+      LoginCommand command = new LoginCommand(VALID_EMAIL_STRING, VALID_PASSWORD_STRING);
+      PasswordHasher queuedHasher = mock(PasswordHasher.class);
+      var service =
+          new AuthService(
+              env,
+              clock,
+              getUserByEmail,
+              unitOfWork,
+              jwtService,
+              refreshTokenService,
+              queuedHasher);
+      AtomicBoolean heldWhileLoading = new AtomicBoolean();
+      AtomicBoolean heldWhileHashing = new AtomicBoolean();
+      when(getUserByEmail.execute(command.email()))
+          .thenAnswer(
+              invocation -> {
+                heldWhileLoading.set(unitOfWork.running);
+                return Result.success(user);
+              });
+      when(queuedHasher.matches(user.passwordHash(), command.password()))
+          .thenAnswer(
+              invocation -> {
+                heldWhileHashing.set(unitOfWork.running);
+                return true;
+              });
+      when(refreshTokenService.createRefreshToken(any(), any()))
+          .thenReturn(buildRefreshToken(FIXED_INSTANT));
+
+      ResultAsserts.success(service.authenticateUser(command));
+
+      assertThat(heldWhileLoading).isTrue();
+      assertThat(heldWhileHashing).isFalse();
+    }
   }
 
   @Nested
@@ -301,7 +378,14 @@ class AuthServiceTest extends UnitTest {
       Clock clockOutsideWindow =
           Clock.fixed(SATURDAY_MORNING.toInstant(), SATURDAY_MORNING.getZone());
       var serviceOutsideWindow =
-          new AuthService(env, clockOutsideWindow, getUserByEmail, jwtService, refreshTokenService);
+          new AuthService(
+              env,
+              clockOutsideWindow,
+              getUserByEmail,
+              unitOfWork,
+              jwtService,
+              refreshTokenService,
+              passwordHasher);
 
       var result = serviceOutsideWindow.refreshTokens(VALID_REFRESH_TOKEN_STRING);
       assertThat(ResultAsserts.failure(result))
@@ -0,0 +1,99 @@
+package com.anibalxyz.features.auth.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.anibalxyz.core.application.UnitOfWork;
+import com.anibalxyz.features.auth.application.env.TokenCleanupEnvironment;
+import com.anibalxyz.features.auth.domain.RefreshTokenRepository;
+import com.anibalxyz.shared.UnitTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests for ExpiredTokenCleanup")
+public class ExpiredTokenCleanupTest extends UnitTest {
+  private static final int BATCH_SIZE = 2;
+  private static final Clock CLOCK =
+      Clock.fixed(Instant.parse("2025-11-25T10:00:00Z"), ZoneOffset.UTC);
+  private static final UnitOfWork DIRECT =
+      new UnitOfWork() {
+        @Override
+        public <T> T execute(Supplier<T> work) {
+          return work.get();
+        }
+      };
+  private static final TokenCleanupEnvironment ENV =
+      new TokenCleanupEnvironment() {
+        @Override
+        public int REFRESH_TOKEN_CLEANUP_BATCH_SIZE() {
+          return BATCH_SIZE;
+        }
+
+        @Override
+        public Duration REFRESH_TOKEN_CLEANUP_PAUSE() {
+          return Duration.ofMillis(1);
+        }
+      };
+
+  @Mock private RefreshTokenRepository refreshTokenRepository;
+  private ExpiredTokenCleanup cleanup;
+
+  @BeforeEach
+  void deps() {
+    cleanup = new ExpiredTokenCleanup(refreshTokenRepository, DIRECT, ENV, CLOCK);
+  }
+
+  @AfterEach
+  void clearInterrupt() {
+    Thread.interrupted();
+  }
+
+  @Test
+  @DisplayName("run: given a backlog, then delete batches until one is not full")
+  public void run_backlog_deleteBatchesUntilOneIsNotFull() {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    cleanup.bindTo(registry);
+    when(refreshTokenRepository.deleteExpiredBatch(CLOCK.instant(), BATCH_SIZE))
+        .thenReturn(2, 2, 1);
+
+    int deleted = cleanup.run();
+
+    assertThat(deleted).isEqualTo(5);
+    verify(refreshTokenRepository, times(3)).deleteExpiredBatch(CLOCK.instant(), BATCH_SIZE);
+    assertThat(registry.get("auth.refresh_token.cleanup.batch").functionTimer().count())
+        .isEqualTo(3);
+    assertThat(registry.get("auth.refresh_token.cleanup.deleted").functionCounter().count())
+        .isEqualTo(5);
+  }
+
+  @Test
+  @DisplayName("run: given an interrupt, then stop after the batch in progress")
+  public void run_interrupted_stopAfterBatchInProgress() {
+    when(refreshTokenRepository.deleteExpiredBatch(CLOCK.instant(), BATCH_SIZE))
+        .thenAnswer(
+            invocation -> {
+              Thread.currentThread().interrupt();
+              return BATCH_SIZE;
+            });
+
+    int deleted = cleanup.run();
+
+    assertThat(deleted).isEqualTo(BATCH_SIZE);
+    verify(refreshTokenRepository).deleteExpiredBatch(CLOCK.instant(), BATCH_SIZE);
+    assertThat(Thread.currentThread().isInterrupted()).isTrue();
+  }
+}
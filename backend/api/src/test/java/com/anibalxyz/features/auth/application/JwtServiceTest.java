@@ -4,10 +4,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.anibalxyz.core.Result;
 import com.anibalxyz.features.auth.application.env.JwtEnvironment;
+import com.anibalxyz.shared.MutableClock;
 import com.anibalxyz.shared.ResultAsserts;
 import com.anibalxyz.shared.UnitTest;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.nio.charset.StandardCharsets;
 import java.time.*;
 import javax.crypto.SecretKey;
@@ -113,6 +115,60 @@ class JwtServiceTest extends UnitTest {
     assertThat(failure).isInstanceOf(JwtService.JwtValidationError.Invalid.class);
   }
 
+  private static double cacheCount(SimpleMeterRegistry registry, String result) {
+    return registry.get("auth.jwt.claims.cache").tag("result", result).functionCounter().count();
+  }
+
+  @Test
+  @DisplayName("validateToken: given a token validated before, then count a cache hit")
+  void validateToken_tokenValidatedBefore_countCacheHit() {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    jwtService.bindTo(registry);
+    String token = jwtService.generateToken(USER_ID);
+
+    Claims first = ResultAsserts.success(jwtService.validateToken(token));
+    Claims second = ResultAsserts.success(jwtService.validateToken(token));
+
+    assertThat(second).isSameAs(first);
+    assertThat(cacheCount(registry, "hit")).isEqualTo(1);
+    assertThat(cacheCount(registry, "miss")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("validateToken: given a full claims cache, then evict the least recently used token")
+  void validateToken_fullClaimsCache_evictLeastRecentlyUsed() {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    jwtService.bindTo(registry);
+    String oldest = jwtService.generateToken(0);
+    ResultAsserts.success(jwtService.validateToken(oldest));
+    for (int i = 1; i < VerifiedClaimsCache.MAX_ENTRIES; i++) {
+      ResultAsserts.success(jwtService.validateToken(jwtService.generateToken(i)));
+    }
+    String newest = jwtService.generateToken(VerifiedClaimsCache.MAX_ENTRIES);
+
+    Claims first = ResultAsserts.success(jwtService.validateToken(newest));
+    Claims second = ResultAsserts.success(jwtService.validateToken(newest));
+    ResultAsserts.success(jwtService.validateToken(oldest));
+
+    assertThat(second).isSameAs(first);
+    assertThat(cacheCount(registry, "hit")).isEqualTo(1);
+    assertThat(cacheCount(registry, "miss")).isEqualTo(VerifiedClaimsCache.MAX_ENTRIES + 2);
+  }
+
+  @Test
+  @DisplayName("validateToken: given a cached token past its expiry, then return Expired")
+  void validateToken_cachedTokenPastExpiry_returnFailureWithExpired() {
+    MutableClock clock = new MutableClock(testClock.instant(), testClock.getZone());
+    JwtService service = new JwtService(env, clock);
+    String token = service.generateToken(USER_ID);
+    ResultAsserts.success(service.validateToken(token));
+
+    clock.advanceBy(Duration.ofMinutes(JWT_EXPIRATION_MINUTES));
+    var failure = ResultAsserts.failure(service.validateToken(token));
+
+    assertThat(failure).isInstanceOf(JwtService.JwtValidationError.Expired.class);
+  }
+
   @ParameterizedTest
   @NullAndEmptySource
   @ValueSource(strings = {" "})
@@ -0,0 +1,114 @@
+package com.anibalxyz.features.auth.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.anibalxyz.features.auth.domain.RefreshTokenRepository.TokenState;
+import com.anibalxyz.features.auth.domain.error.InvalidRefreshTokenError;
+import com.anibalxyz.shared.UnitTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Tests for RefreshTokenIndex")
+public class RefreshTokenIndexTest extends UnitTest {
+  private static final Instant NOW = Instant.parse("2025-11-25T10:00:00Z");
+  private static final Instant LATER = NOW.plusSeconds(3600);
+
+  private static RefreshTokenIndex loaded(TokenState... tokens) {
+    RefreshTokenIndex index = new RefreshTokenIndex(true);
+    index.load(List.of(tokens));
+    return index;
+  }
+
+  @Test
+  @DisplayName("reject: given the index not loaded yet, then look every token up")
+  public void reject_notLoaded_lookEveryTokenUp() {
+    RefreshTokenIndex index = new RefreshTokenIndex(true);
+    index.revoked("revoked", null);
+
+    assertThat(index.reject("unknown", NOW)).isNull();
+    assertThat(index.reject("revoked", NOW)).isNull();
+  }
+
+  @Test
+  @DisplayName("reject: given an unknown token, then return NotFound")
+  public void reject_unknownToken_returnNotFound() {
+    RefreshTokenIndex index = loaded(new TokenState("active", LATER, false));
+
+    assertThat(index.reject("unknown", NOW).getReason())
+        .isInstanceOf(InvalidRefreshTokenError.Reason.NotFound.class);
+  }
+
+  @Test
+  @DisplayName("reject: given several instances, then look unknown tokens up, not revoked ones")
+  public void reject_severalInstances_lookUnknownUpButRejectRevoked() {
+    RefreshTokenIndex index = new RefreshTokenIndex(false);
+    index.load(List.of(new TokenState("stored", LATER, true)));
+
+    assertThat(index.reject("issued-elsewhere", NOW)).isNull();
+    assertThat(index.reject("stored", NOW).getReason())
+        .isInstanceOf(InvalidRefreshTokenError.Reason.Revoked.class);
+  }
+
+  @Test
+  @DisplayName("reject: given a stored or issued active token, then look it up")
+  public void reject_activeToken_lookItUp() {
+    RefreshTokenIndex index = loaded(new TokenState("stored", LATER, false));
+    index.added("issued");
+
+    assertThat(index.reject("stored", NOW)).isNull();
+    assertThat(index.reject("issued", NOW)).isNull();
+  }
+
+  @Test
+  @DisplayName("reject: given a revoked token, then return Revoked, or Expired once it expired")
+  public void reject_revokedToken_returnRevokedOrExpired() {
+    RefreshTokenIndex index =
+        loaded(new TokenState("stored", LATER, true), new TokenState("expired", NOW, true));
+    index.added("logged-out");
+    index.revoked("logged-out", null);
+
+    assertThat(index.reject("stored", NOW).getReason())
+        .isInstanceOf(InvalidRefreshTokenError.Reason.Revoked.class);
+    assertThat(index.reject("logged-out", NOW).getReason())
+        .isInstanceOf(InvalidRefreshTokenError.Reason.Revoked.class);
+    assertThat(index.reject("expired", NOW).getReason())
+        .isInstanceOf(InvalidRefreshTokenError.Reason.Expired.class);
+  }
+
+  @Test
+  @DisplayName("bindTo: given lookups, then export their outcome and the false positive rate")
+  public void bindTo_lookups_exportOutcomeAndFalsePositiveRate() {
+    RefreshTokenIndex index =
+        loaded(
+            IntStream.range(0, 1_000)
+                .mapToObj(i -> new TokenState(UUID.randomUUID().toString(), LATER, false))
+                .toArray(TokenState[]::new));
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    index.bindTo(registry);
+
+    index.reject("unknown", NOW);
+    index.notFound();
+
+    assertThat(
+            registry
+                .get("auth.refresh_token.index")
+                .tag("result", "rejected")
+                .functionCounter()
+                .count())
+        .isEqualTo(1);
+    assertThat(
+            registry
+                .get("auth.refresh_token.index")
+                .tag("result", "false_positive")
+                .functionCounter()
+                .count())
+        .isEqualTo(1);
+    assertThat(registry.get("auth.refresh_token.index.false_positive_rate").gauge().value())
+        .isBetween(0.0, RefreshTokenIndex.TARGET_FALSE_POSITIVE_RATE);
+  }
+}
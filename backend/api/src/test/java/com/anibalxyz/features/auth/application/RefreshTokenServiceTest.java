@@ -3,7 +3,6 @@ package com.anibalxyz.features.auth.application;
 import static com.anibalxyz.shared.Constants.Auth.VALID_REFRESH_TOKEN_STRING;
 import static com.anibalxyz.shared.Constants.Users.VALID_USER;
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.assertj.core.api.Assertions.fail;
 import static org.mockito.Mockito.*;
 
 import com.anibalxyz.features.auth.domain.RefreshToken;
@@ -13,11 +12,13 @@ import com.anibalxyz.shared.ResultAsserts;
 import com.anibalxyz.shared.UnitTest;
 import java.time.*;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -32,7 +33,7 @@ class RefreshTokenServiceTest extends UnitTest {
 
   @BeforeEach
   void deps() {
-    refreshTokenService = new RefreshTokenService(refreshTokenRepository);
+    refreshTokenService = new RefreshTokenService(refreshTokenRepository, () -> false);
   }
 
   private RefreshToken buildToken(Instant expiryDate, boolean revoked) {
@@ -146,13 +147,7 @@ class RefreshTokenServiceTest extends UnitTest {
 
     when(refreshTokenRepository.findByToken(refreshToken.token()))
         .thenReturn(Optional.of(refreshToken));
-    Function<RefreshToken, Boolean> isRevokedToken =
-        r ->
-            Objects.equals(r.id(), refreshToken.id())
-                && Objects.equals(r.token(), refreshToken.token())
-                && Objects.equals(r.user(), refreshToken.user())
-                && Objects.equals(r.expiryDate(), refreshToken.expiryDate())
-                && r.revoked();
+    when(refreshTokenRepository.revoke(refreshToken.token())).thenReturn(true);
     Function<RefreshToken, Boolean> wasCorrectlyUpdated =
         r ->
             r.id() == null
@@ -161,27 +156,11 @@ class RefreshTokenServiceTest extends UnitTest {
                 && !r.revoked();
 
     long newId = refreshToken.id() + 1;
-    when(refreshTokenRepository.save(any(RefreshToken.class)))
-        .thenAnswer(
-            i -> {
-              RefreshToken arg = i.getArgument(0);
-              // 1) revokeToken() internal call
-              if (isRevokedToken.apply(arg)) {
-                return arg;
-              }
-              // 2) createRefreshToken() internal call
-              if (wasCorrectlyUpdated.apply(arg)) {
-                return persistToken(newId, arg);
-              }
-
-              return fail("Method called with an unexpected argument: ", arg);
-            });
+    when(refreshTokenRepository.save(argThat(wasCorrectlyUpdated::apply)))
+        .thenAnswer(i -> persistToken(newId, i.getArgument(0)));
 
     var result = refreshTokenService.verifyAndRotate(refreshToken.token(), now, newExpiryDate);
 
-    verify(refreshTokenRepository).save(argThat(isRevokedToken::apply));
-    verify(refreshTokenRepository).save(argThat(wasCorrectlyUpdated::apply));
-
     RefreshToken newRefreshToken = ResultAsserts.success(result);
 
     assertThat(newRefreshToken.id()).isEqualTo(newId);
@@ -191,54 +170,93 @@ class RefreshTokenServiceTest extends UnitTest {
   }
 
   @Test
-  @DisplayName("revokeToken: given no token, then do nothing")
-  void revokeToken_noToken_doNothing() {
-    refreshTokenService.revokeToken(null);
-    refreshTokenService.revokeToken("");
+  @DisplayName(
+      "verifyAndRotate: given the token revoked meanwhile, then return Revoked without a new one")
+  void verifyAndRotate_revokedMeanwhile_returnRevoked() {
+    Instant now = FIXED_NOW;
+    RefreshToken refreshToken = buildToken(now.plus(10, ChronoUnit.MINUTES), false);
+    when(refreshTokenRepository.findByToken(refreshToken.token()))
+        .thenReturn(Optional.of(refreshToken));
+    when(refreshTokenRepository.revoke(refreshToken.token())).thenReturn(false);
+
+    var result =
+        refreshTokenService.verifyAndRotate(refreshToken.token(), now, now.plusSeconds(10));
 
+    assertThat(ResultAsserts.failure(result).getReason())
+        .isInstanceOf(InvalidRefreshTokenError.Reason.Revoked.class);
     verify(refreshTokenRepository, never()).save(any());
+  }
+
+  @Test
+  @DisplayName(
+      "verifyRefreshToken: given a single instance and an unknown token, then skip the lookup")
+  void verifyRefreshToken_singleInstanceAndUnknownToken_skipLookup() {
+    RefreshTokenService singleInstance =
+        new RefreshTokenService(refreshTokenRepository, () -> true);
+    when(refreshTokenRepository.findAllStates()).thenReturn(List.of());
+    singleInstance.loadIndex();
+
+    var result = singleInstance.verifyRefreshToken(VALID_REFRESH_TOKEN_STRING, FIXED_NOW);
+
+    assertThat(ResultAsserts.failure(result).getReason())
+        .isInstanceOf(InvalidRefreshTokenError.Reason.NotFound.class);
     verify(refreshTokenRepository, never()).findByToken(any());
   }
 
   @Test
-  @DisplayName("revokeToken: given token not found, then do nothing")
-  void revokeToken_tokenNotFound_doNothing() {
+  @DisplayName(
+      "verifyRefreshToken: given several instances and a token issued elsewhere, then look it up")
+  void verifyRefreshToken_severalInstancesAndTokenIssuedElsewhere_lookItUp() {
+    RefreshToken token = buildToken(FIXED_NOW.plus(1, ChronoUnit.DAYS), false);
+    when(refreshTokenRepository.findAllStates()).thenReturn(List.of());
+    refreshTokenService.loadIndex();
     when(refreshTokenRepository.findByToken(VALID_REFRESH_TOKEN_STRING))
-        .thenReturn(Optional.empty());
+        .thenReturn(Optional.of(token));
 
-    refreshTokenService.revokeToken(VALID_REFRESH_TOKEN_STRING);
+    var result = refreshTokenService.verifyRefreshToken(VALID_REFRESH_TOKEN_STRING, FIXED_NOW);
 
-    verify(refreshTokenRepository, never()).save(any());
+    assertThat(ResultAsserts.success(result)).isEqualTo(token);
   }
 
   @Test
-  @DisplayName("revokeToken: given valid token, then revoke it")
-  void revokeToken_validToken_revokeIt() {
-    RefreshToken refreshToken = buildToken(FIXED_NOW, false);
-    when(refreshTokenRepository.findByToken(refreshToken.token()))
-        .thenReturn(Optional.of(refreshToken));
+  @DisplayName("revokeToken: given a loaded index, then reject it from memory once committed")
+  void revokeToken_indexLoaded_rejectFromMemoryOnceCommitted() {
+    RefreshToken token = buildToken(FIXED_NOW.plus(1, ChronoUnit.DAYS), false);
+    when(refreshTokenRepository.findAllStates()).thenReturn(List.of());
+    refreshTokenService.loadIndex();
+    when(refreshTokenRepository.revoke(VALID_REFRESH_TOKEN_STRING)).thenReturn(true);
+    when(refreshTokenRepository.findByToken(VALID_REFRESH_TOKEN_STRING))
+        .thenReturn(Optional.of(token));
+    ArgumentCaptor<Runnable> afterCommit = ArgumentCaptor.forClass(Runnable.class);
 
     refreshTokenService.revokeToken(VALID_REFRESH_TOKEN_STRING);
-
-    verify(refreshTokenRepository)
-        .save(
-            argThat(
-                r ->
-                    Objects.equals(r.id(), refreshToken.id())
-                        && Objects.equals(r.token(), refreshToken.token())
-                        && Objects.equals(r.user(), refreshToken.user())
-                        && Objects.equals(r.expiryDate(), refreshToken.expiryDate())
-                        && r.revoked()));
+    verify(refreshTokenRepository).afterCommit(afterCommit.capture());
+    var beforeCommit =
+        refreshTokenService.verifyRefreshToken(VALID_REFRESH_TOKEN_STRING, FIXED_NOW);
+    afterCommit.getValue().run();
+    var committed = refreshTokenService.verifyRefreshToken(VALID_REFRESH_TOKEN_STRING, FIXED_NOW);
+
+    ResultAsserts.success(beforeCommit);
+    assertThat(ResultAsserts.failure(committed).getReason())
+        .isInstanceOf(InvalidRefreshTokenError.Reason.Revoked.class);
+    verify(refreshTokenRepository, times(1)).findByToken(VALID_REFRESH_TOKEN_STRING);
   }
 
   @Test
-  @DisplayName("cleanupExpiredTokens: once called, then return count of deleted tokens")
-  void cleanupExpiredTokens_returnCount() {
-    int expectedCount = 213;
-    when(refreshTokenRepository.deleteExpiredTokens()).thenReturn(expectedCount);
+  @DisplayName("revokeToken: given no token, then do nothing")
+  void revokeToken_noToken_doNothing() {
+    refreshTokenService.revokeToken(null);
+    refreshTokenService.revokeToken("");
 
-    int actualCount = refreshTokenService.cleanupExpiredTokens();
+    verify(refreshTokenRepository, never()).revoke(any());
+  }
 
-    assertThat(actualCount).isEqualTo(expectedCount);
+  @Test
+  @DisplayName("revokeToken: given a token, then revoke it without loading it")
+  void revokeToken_token_revokeWithoutLoading() {
+    refreshTokenService.revokeToken(VALID_REFRESH_TOKEN_STRING);
+
+    verify(refreshTokenRepository).revoke(VALID_REFRESH_TOKEN_STRING);
+    verify(refreshTokenRepository, never()).findByToken(any());
   }
 }
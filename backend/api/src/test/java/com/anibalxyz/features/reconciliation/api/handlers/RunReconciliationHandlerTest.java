@@ -0,0 +1,88 @@
+package com.anibalxyz.features.reconciliation.api.handlers;
+
+import static com.anibalxyz.shared.Helpers.stubStatusChaining;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.anibalxyz.features.reconciliation.api.out.ReconciliationRuleResponse;
+import com.anibalxyz.features.reconciliation.api.out.ReconciliationRunResponse;
+import com.anibalxyz.features.reconciliation.application.ReconcileTransactions;
+import com.anibalxyz.features.reconciliation.application.out.ReconciliationSummary;
+import com.anibalxyz.features.reconciliation.application.out.RuleSummary;
+import com.anibalxyz.features.reconciliation.domain.ReconciliationMode;
+import com.anibalxyz.features.reconciliation.domain.RuleStrategy;
+import com.anibalxyz.shared.UnitTest;
+import io.javalin.http.Context;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests for RunReconciliationHandler")
+public class RunReconciliationHandlerTest extends UnitTest {
+  @Mock private ReconcileTransactions reconcileTransactions;
+  @Mock private Context ctx;
+  @InjectMocks private RunReconciliationHandler runReconciliationHandler;
+
+  @Test
+  @DisplayName("runReconciliation: given a finished run, then respond 200 with its summary")
+  public void runReconciliation_finishedRun_respond200WithSummary() {
+    stubStatusChaining(ctx);
+    when(reconcileTransactions.execute(false))
+        .thenReturn(
+            new ReconciliationSummary(
+                ReconciliationMode.INCREMENTAL,
+                3,
+                3,
+                1,
+                1,
+                0,
+                1,
+                0,
+                List.of(
+                    new RuleSummary(
+                        7, 1, "invoice", RuleStrategy.HASH_JOIN, 1, Duration.ofMillis(2))),
+                Duration.ofMillis(15)));
+
+    runReconciliationHandler.handle(ctx);
+
+    verify(ctx).status(200);
+    verify(ctx)
+        .json(
+            new ReconciliationRunResponse(
+                ReconciliationMode.INCREMENTAL,
+                3,
+                3,
+                1,
+                1,
+                0,
+                1,
+                0,
+                List.of(
+                    new ReconciliationRuleResponse(7, 1, "invoice", RuleStrategy.HASH_JOIN, 1, 2)),
+                15));
+  }
+
+  @Test
+  @DisplayName("runReconciliation: given full=true, then force a full run")
+  public void runReconciliation_fullQueryParam_forceFullRun() {
+    stubStatusChaining(ctx);
+    when(ctx.queryParam("full")).thenReturn("true");
+    when(reconcileTransactions.execute(true))
+        .thenReturn(
+            new ReconciliationSummary(
+                ReconciliationMode.FULL, 0, 0, 0, 0, 0, 0, 0, List.of(), Duration.ofMillis(3)));
+
+    runReconciliationHandler.handle(ctx);
+
+    verify(ctx)
+        .json(
+            new ReconciliationRunResponse(
+                ReconciliationMode.FULL, 0, 0, 0, 0, 0, 0, 0, List.of(), 3));
+  }
+}
@@ -0,0 +1,228 @@
+package com.anibalxyz.features.reconciliation.api.routes;
+
+import static com.anibalxyz.shared.Helpers.createJwtHeader;
+import static com.anibalxyz.shared.Helpers.persistRule;
+import static com.anibalxyz.shared.Helpers.persistSource;
+import static com.anibalxyz.shared.Helpers.persistTransaction;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.anibalxyz.features.reconciliation.api.out.ReconciliationRuleResponse;
+import com.anibalxyz.features.reconciliation.api.out.ReconciliationRunResponse;
+import com.anibalxyz.features.reconciliation.domain.Discrepancy;
+import com.anibalxyz.features.reconciliation.domain.ReconciliationMode;
+import com.anibalxyz.features.reconciliation.domain.RuleStrategy;
+import com.anibalxyz.features.transactions.domain.Currency;
+import com.anibalxyz.features.transactions.domain.SourceType;
+import com.anibalxyz.shared.IntegrationTest;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import okhttp3.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Tests for POST /reconciliations/run")
+public class RunReconciliationIT extends IntegrationTest {
+
+  @SuppressWarnings("unchecked")
+  private List<Object[]> persistedPairs() {
+    return em.createNativeQuery(
+            "SELECT left_transaction_id, right_transaction_id FROM reconciliations ORDER BY id")
+        .getResultList();
+  }
+
+  @Test
+  @DisplayName(
+      "POST /reconciliations/run: given matching transactions, then return 200 and persist pairs")
+  public void POST_reconciliationsRun_matchingTransactions_return200AndPersistPairs() {
+    int bank = persistSource(em, "BANK-1", SourceType.BANK);
+    int system = persistSource(em, "ERP", SourceType.SYSTEM);
+    Instant date = FIXED_NOW.toInstant();
+    int bankTx =
+        persistTransaction(em, bank, date, "REF-1", Currency.UYU, new BigDecimal("100.25"));
+    persistTransaction(em, bank, date, "REF-2", Currency.UYU, new BigDecimal("50.00"));
+    int systemTx =
+        persistTransaction(em, system, date, "REF-1", Currency.UYU, new BigDecimal("100.25"));
+
+    Response response = http.post("/reconciliations/run", Map.of(), createJwtHeader(validJwt));
+
+    assertThat(response.code()).isEqualTo(200);
+    ReconciliationRunResponse body = http.parseBody(response, ReconciliationRunResponse.class);
+    assertThat(body.bankCandidates()).isEqualTo(2);
+    assertThat(body.systemCandidates()).isEqualTo(1);
+    assertThat(body.exactMatches()).isEqualTo(1);
+    List<Object[]> pairs = persistedPairs();
+    assertThat(pairs).hasSize(1);
+    assertThat(((Number) pairs.getFirst()[0]).intValue()).isEqualTo(bankTx);
+    assertThat(((Number) pairs.getFirst()[1]).intValue()).isEqualTo(systemTx);
+  }
+
+  @Test
+  @DisplayName(
+      "POST /reconciliations/run: given an already reconciled pair, then do not match it again")
+  public void POST_reconciliationsRun_alreadyReconciled_doNotMatchAgain() {
+    int bank = persistSource(em, "BANK-1", SourceType.BANK);
+    int system = persistSource(em, "ERP", SourceType.SYSTEM);
+    Instant date = FIXED_NOW.toInstant();
+    persistTransaction(em, bank, date, "REF-1", Currency.USD, new BigDecimal("10.00"));
+    persistTransaction(em, system, date, "REF-1", Currency.USD, new BigDecimal("10.00"));
+
+    http.post("/reconciliations/run", Map.of(), createJwtHeader(validJwt));
+    Response response = http.post("/reconciliations/run", Map.of(), createJwtHeader(validJwt));
+
+    assertThat(response.code()).isEqualTo(200);
+    ReconciliationRunResponse body = http.parseBody(response, ReconciliationRunResponse.class);
+    assertThat(body.mode()).isEqualTo(ReconciliationMode.INCREMENTAL);
+    assertThat(body.bankCandidates()).isZero();
+    assertThat(body.exactMatches()).isZero();
+    assertThat(persistedPairs()).hasSize(1);
+  }
+
+  @Test
+  @DisplayName(
+      "POST /reconciliations/run: given a new upload, then match it against earlier open items")
+  public void POST_reconciliationsRun_newUpload_matchAgainstOpenItems() {
+    int bank = persistSource(em, "BANK-1", SourceType.BANK);
+    int system = persistSource(em, "ERP", SourceType.SYSTEM);
+    Instant date = FIXED_NOW.toInstant();
+    int bankTx =
+        persistTransaction(em, bank, date, "REF-1", Currency.USD, new BigDecimal("10.00"));
+    http.post("/reconciliations/run", Map.of(), createJwtHeader(validJwt));
+    int systemTx =
+        persistTransaction(em, system, date, "REF-1", Currency.USD, new BigDecimal("10.00"));
+
+    Response response = http.post("/reconciliations/run", Map.of(), createJwtHeader(validJwt));
+
+    assertThat(response.code()).isEqualTo(200);
+    ReconciliationRunResponse body = http.parseBody(response, ReconciliationRunResponse.class);
+    assertThat(body.mode()).isEqualTo(ReconciliationMode.INCREMENTAL);
+    assertThat(body.bankCandidates()).isZero();
+    assertThat(body.systemCandidates()).isEqualTo(1);
+    assertThat(body.exactMatches()).isEqualTo(1);
+    List<Object[]> pairs = persistedPairs();
+    assertThat(pairs).hasSize(1);
+    assertThat(((Number) pairs.getFirst()[0]).intValue()).isEqualTo(bankTx);
+    assertThat(((Number) pairs.getFirst()[1]).intValue()).isEqualTo(systemTx);
+  }
+
+  @Test
+  @DisplayName("POST /reconciliations/run: given full=true, then re-examine every open item")
+  public void POST_reconciliationsRun_fullTrue_reexamineEveryOpenItem() {
+    int bank = persistSource(em, "BANK-1", SourceType.BANK);
+    Instant date = FIXED_NOW.toInstant();
+    persistTransaction(em, bank, date, "REF-1", Currency.USD, new BigDecimal("10.00"));
+    http.post("/reconciliations/run", Map.of(), createJwtHeader(validJwt));
+
+    Response response =
+        http.post("/reconciliations/run?full=true", Map.of(), createJwtHeader(validJwt));
+
+    assertThat(response.code()).isEqualTo(200);
+    ReconciliationRunResponse body = http.parseBody(response, ReconciliationRunResponse.class);
+    assertThat(body.mode()).isEqualTo(ReconciliationMode.FULL);
+    assertThat(body.bankCandidates()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName(
+      "POST /reconciliations/run: given rows within tolerance, then persist pair and discrepancies")
+  public void POST_reconciliationsRun_withinTolerance_persistPairAndDiscrepancies() {
+    int bank = persistSource(em, "BANK-1", SourceType.BANK);
+    int system = persistSource(em, "ERP", SourceType.SYSTEM);
+    Instant date = FIXED_NOW.toInstant();
+    persistTransaction(em, bank, date, "TRF 0001", Currency.UYU, new BigDecimal("100.00"));
+    persistTransaction(
+        em, system, date.plus(Duration.ofDays(1)), "INV-1", Currency.UYU, new BigDecimal("100.01"));
+
+    Response response = http.post("/reconciliations/run", Map.of(), createJwtHeader(validJwt));
+
+    assertThat(response.code()).isEqualTo(200);
+    ReconciliationRunResponse body = http.parseBody(response, ReconciliationRunResponse.class);
+    assertThat(body.exactMatches()).isZero();
+    assertThat(body.toleranceMatches()).isEqualTo(1);
+    assertThat(persistedPairs()).hasSize(1);
+    @SuppressWarnings("unchecked")
+    List<String> discrepancies =
+        em.createNativeQuery(
+                "SELECT t.name FROM reconciliation_discrepancies d"
+                    + " JOIN tags t ON t.id = d.discrepancy_type_id ORDER BY t.name")
+            .getResultList();
+    assertThat(discrepancies)
+        .containsExactly(
+            Discrepancy.AMOUNT_MISMATCH.name(),
+            Discrepancy.DATE_MISMATCH.name(),
+            Discrepancy.REFERENCE_MISMATCH.name());
+  }
+
+  @Test
+  @DisplayName("POST /reconciliations/run: given a source rule, then match by it and report it")
+  public void POST_reconciliationsRun_sourceRule_matchByItAndReportIt() {
+    int bank = persistSource(em, "BANK-1", SourceType.BANK);
+    int system = persistSource(em, "ERP", SourceType.SYSTEM);
+    int ruleId = persistRule(em, bank, 1, "invoice", "reference matches 'INV(\\d+)' and amount");
+    Instant date = FIXED_NOW.toInstant();
+    int bankTx =
+        persistTransaction(
+            em, bank, date, "PAGO/INV0042/ACME", Currency.UYU, new BigDecimal("100.00"));
+    int systemTx =
+        persistTransaction(em, system, date, "0042", Currency.UYU, new BigDecimal("100.00"));
+
+    Response response = http.post("/reconciliations/run", Map.of(), createJwtHeader(validJwt));
+
+    assertThat(response.code()).isEqualTo(200);
+    ReconciliationRunResponse body = http.parseBody(response, ReconciliationRunResponse.class);
+    assertThat(body.ruleMatches()).isEqualTo(1);
+    assertThat(body.rules())
+        .extracting(
+            ReconciliationRuleResponse::ruleId,
+            ReconciliationRuleResponse::strategy,
+            ReconciliationRuleResponse::matches)
+        .containsExactly(tuple(ruleId, RuleStrategy.HASH_JOIN, 1));
+    List<Object[]> pairs = persistedPairs();
+    assertThat(pairs).hasSize(1);
+    assertThat(((Number) pairs.getFirst()[0]).intValue()).isEqualTo(bankTx);
+    assertThat(((Number) pairs.getFirst()[1]).intValue()).isEqualTo(systemTx);
+  }
+
+  @Test
+  @DisplayName(
+      "POST /reconciliations/run: given a settlement of several entries, then persist a group")
+  public void POST_reconciliationsRun_settlementOfSeveralEntries_persistGroup() {
+    int bank = persistSource(em, "BANK-1", SourceType.BANK);
+    int system = persistSource(em, "ERP", SourceType.SYSTEM);
+    Instant date = FIXED_NOW.toInstant();
+    int settlementTx =
+        persistTransaction(em, bank, date, "SETTLEMENT", Currency.UYU, new BigDecimal("100.00"));
+    int firstTx =
+        persistTransaction(em, system, date, "INV-1", Currency.UYU, new BigDecimal("60.00"));
+    int secondTx =
+        persistTransaction(em, system, date, "INV-2", Currency.UYU, new BigDecimal("40.00"));
+
+    Response response = http.post("/reconciliations/run", Map.of(), createJwtHeader(validJwt));
+
+    assertThat(response.code()).isEqualTo(200);
+    ReconciliationRunResponse body = http.parseBody(response, ReconciliationRunResponse.class);
+    assertThat(body.groupMatches()).isEqualTo(1);
+    assertThat(persistedPairs()).isEmpty();
+    @SuppressWarnings("unchecked")
+    List<Object[]> members =
+        em.createNativeQuery(
+                "SELECT g.anchor_transaction_id, m.transaction_id FROM reconciliation_groups g"
+                    + " JOIN reconciliation_group_members m ON m.group_id = g.id"
+                    + " ORDER BY m.transaction_id")
+            .getResultList();
+    assertThat(members)
+        .extracting(row -> ((Number) row[0]).intValue(), row -> ((Number) row[1]).intValue())
+        .containsExactly(tuple(settlementTx, firstTx), tuple(settlementTx, secondTx));
+  }
+
+  @Test
+  @DisplayName("POST /reconciliations/run: given no JWT, then return 401")
+  public void POST_reconciliationsRun_noJwt_return401() {
+    Response response = http.post("/reconciliations/run", Map.of());
+
+    assertThat(response.code()).isEqualTo(401);
+  }
+}
@@ -0,0 +1,67 @@
+package com.anibalxyz.features.reconciliation.application;
+
+import static com.anibalxyz.shared.Constants.Reconciliation.DEFAULT_ENV;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.anibalxyz.features.reconciliation.domain.DatabaseMatchOutcome;
+import com.anibalxyz.features.reconciliation.domain.ReconciliationRepository;
+import com.anibalxyz.shared.UnitTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests for DatabaseMatcher")
+public class DatabaseMatcherTest extends UnitTest {
+  private static final int DATABASE_THRESHOLD = 100;
+
+  @Mock private ReconciliationRepository reconciliationRepository;
+
+  private static DatabaseMatcher databaseMatcher(int threshold) {
+    return new DatabaseMatcher(
+        DEFAULT_ENV
+            .withRECONCILIATION_AMOUNT_TOLERANCE_CENTS(5)
+            .withRECONCILIATION_DATE_TOLERANCE_DAYS(2)
+            .withRECONCILIATION_DATABASE_THRESHOLD(threshold));
+  }
+
+  @Test
+  @DisplayName("shouldMatch: given more candidates than the threshold, then return true")
+  public void shouldMatch_overThreshold_returnTrue() {
+    assertThat(databaseMatcher(DATABASE_THRESHOLD).shouldMatch(DATABASE_THRESHOLD + 1)).isTrue();
+  }
+
+  @ParameterizedTest
+  @ValueSource(longs = {0, 1, DATABASE_THRESHOLD})
+  @DisplayName("shouldMatch: given up to the threshold of candidates, then return false")
+  public void shouldMatch_upToThreshold_returnFalse(long candidates) {
+    assertThat(databaseMatcher(DATABASE_THRESHOLD).shouldMatch(candidates)).isFalse();
+  }
+
+  @Test
+  @DisplayName("shouldMatch: given a threshold of 0, then never match in the database")
+  public void shouldMatch_zeroThreshold_neverMatch() {
+    DatabaseMatcher disabled = databaseMatcher(0);
+
+    assertThat(disabled.isEnabled()).isFalse();
+    assertThat(disabled.shouldMatch(Long.MAX_VALUE)).isFalse();
+  }
+
+  @Test
+  @DisplayName("match: given the configured tolerances, then pass them to the repository")
+  public void match_configuredTolerances_passThemToRepository() {
+    when(reconciliationRepository.matchInDatabase(5L, 2, true))
+        .thenReturn(new DatabaseMatchOutcome(3, 2));
+
+    DatabaseMatchOutcome outcome =
+        databaseMatcher(DATABASE_THRESHOLD).match(reconciliationRepository, false);
+
+    assertThat(outcome.exactMatches()).isEqualTo(3);
+    assertThat(outcome.matches()).isEqualTo(5);
+  }
+}
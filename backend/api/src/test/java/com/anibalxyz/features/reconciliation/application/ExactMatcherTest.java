@@ -0,0 +1,92 @@
+package com.anibalxyz.features.reconciliation.application;
+
+import static com.anibalxyz.shared.Constants.Reconciliation.VALID_EPOCH_DAY;
+import static com.anibalxyz.shared.Constants.Reconciliation.buildCandidate;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.anibalxyz.features.reconciliation.domain.MatchCandidate;
+import com.anibalxyz.features.reconciliation.domain.MatchOutcome;
+import com.anibalxyz.features.reconciliation.domain.MatchPair;
+import com.anibalxyz.features.transactions.domain.Currency;
+import com.anibalxyz.shared.UnitTest;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Tests for ExactMatcher")
+public class ExactMatcherTest extends UnitTest {
+  private final ExactMatcher exactMatcher = new ExactMatcher();
+
+  @Test
+  @DisplayName("match: given equal currency, amount and reference, then pair them")
+  public void match_equalKey_pairThem() {
+    List<MatchCandidate> bank = List.of(buildCandidate(1, 1000, "REF-1"));
+    List<MatchCandidate> system = List.of(buildCandidate(2, 1000, "REF-1"));
+
+    MatchOutcome outcome = exactMatcher.match(bank, system);
+
+    assertThat(outcome.pairs()).containsExactly(new MatchPair(1, 2));
+    assertThat(outcome.unmatchedBank()).isEmpty();
+    assertThat(outcome.unmatchedSystem()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("match: given any key component differs, then leave both sides unmatched")
+  public void match_keyDiffers_leaveUnmatched() {
+    List<MatchCandidate> bank =
+        List.of(
+            buildCandidate(1, 1000, "REF-1"),
+            buildCandidate(2, 2000, "REF-2"),
+            buildCandidate(3, Currency.USD, 3000, VALID_EPOCH_DAY, "REF-3"));
+    List<MatchCandidate> system =
+        List.of(
+            buildCandidate(4, 1001, "REF-1"),
+            buildCandidate(5, 2000, "ref-2"),
+            buildCandidate(6, Currency.UYU, 3000, VALID_EPOCH_DAY, "REF-3"));
+
+    MatchOutcome outcome = exactMatcher.match(bank, system);
+
+    assertThat(outcome.pairs()).isEmpty();
+    assertThat(outcome.unmatchedBank()).containsExactlyElementsOf(bank);
+    assertThat(outcome.unmatchedSystem()).containsExactlyElementsOf(system);
+  }
+
+  @Test
+  @DisplayName("match: given the date differs, then still pair them")
+  public void match_dateDiffers_pairThem() {
+    List<MatchCandidate> bank =
+        List.of(buildCandidate(1, Currency.UYU, 1000, VALID_EPOCH_DAY + 3, "REF-1"));
+    List<MatchCandidate> system = List.of(buildCandidate(2, 1000, "REF-1"));
+
+    assertThat(exactMatcher.match(bank, system).pairs()).containsExactly(new MatchPair(1, 2));
+  }
+
+  @Test
+  @DisplayName("match: given duplicated keys, then pair them one to one in input order")
+  public void match_duplicatedKeys_pairOneToOneInOrder() {
+    List<MatchCandidate> bank =
+        List.of(buildCandidate(1, 1000, "REF-1"), buildCandidate(2, 1000, "REF-1"));
+    List<MatchCandidate> system =
+        List.of(
+            buildCandidate(3, 1000, "REF-1"),
+            buildCandidate(4, 1000, "REF-1"),
+            buildCandidate(5, 1000, "REF-1"));
+
+    MatchOutcome outcome = exactMatcher.match(bank, system);
+
+    assertThat(outcome.pairs()).containsExactly(new MatchPair(1, 3), new MatchPair(2, 4));
+    assertThat(outcome.unmatchedBank()).isEmpty();
+    assertThat(outcome.unmatchedSystem()).containsExactly(system.get(2));
+  }
+
+  @Test
+  @DisplayName("match: given one side is empty, then return the other side as unmatched")
+  public void match_oneSideEmpty_returnOtherSideUnmatched() {
+    List<MatchCandidate> system = List.of(buildCandidate(1, 1000, "REF-1"));
+
+    MatchOutcome outcome = exactMatcher.match(List.of(), system);
+
+    assertThat(outcome.pairs()).isEmpty();
+    assertThat(outcome.unmatchedSystem()).containsExactlyElementsOf(system);
+  }
+}
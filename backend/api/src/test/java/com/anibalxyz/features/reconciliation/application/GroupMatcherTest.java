@@ -0,0 +1,143 @@
+package com.anibalxyz.features.reconciliation.application;
+
+import static com.anibalxyz.shared.Constants.Reconciliation.DEFAULT_ENV;
+import static com.anibalxyz.shared.Constants.Reconciliation.buildCandidate;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.anibalxyz.features.reconciliation.domain.GroupMatchOutcome;
+import com.anibalxyz.features.reconciliation.domain.MatchCandidate;
+import com.anibalxyz.features.reconciliation.domain.MatchGroup;
+import com.anibalxyz.shared.UnitTest;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Tests for GroupMatcher")
+public class GroupMatcherTest extends UnitTest {
+  private static final int DATE_WINDOW = 3;
+
+  private final GroupMatcher groupMatcher =
+      new GroupMatcher(
+          DEFAULT_ENV
+              .withRECONCILIATION_AMOUNT_TOLERANCE_CENTS(1)
+              .withRECONCILIATION_GROUP_DATE_WINDOW_DAYS(DATE_WINDOW));
+
+  @Test
+  @DisplayName("match: given SYSTEM rows adding up to a BANK row, then group them under it")
+  public void match_systemRowsAddUp_groupUnderBankRow() {
+    List<MatchCandidate> bank = List.of(buildCandidate(1, 10000, 0, "REF-1"));
+    List<MatchCandidate> system =
+        List.of(
+            buildCandidate(2, 2500, 0, "REF-2"),
+            buildCandidate(3, 3300, 1, "REF-3"),
+            buildCandidate(4, 4200, -2, "REF-4"));
+
+    GroupMatchOutcome outcome = groupMatcher.match(bank, system, List.of(), List.of());
+
+    assertThat(outcome.groups()).containsExactly(new MatchGroup(1, List.of(4, 2, 3), 0));
+    assertThat(outcome.unmatchedBank()).isEmpty();
+    assertThat(outcome.unmatchedSystem()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("match: given BANK rows adding up to a SYSTEM row, then group them under it")
+  public void match_bankRowsAddUp_groupUnderSystemRow() {
+    List<MatchCandidate> bank =
+        List.of(buildCandidate(1, 700, 0, "REF-1"), buildCandidate(2, 301, 0, "REF-2"));
+    List<MatchCandidate> system = List.of(buildCandidate(3, 1000, 0, "REF-3"));
+
+    GroupMatchOutcome outcome = groupMatcher.match(bank, system, List.of(), List.of());
+
+    assertThat(outcome.groups()).containsExactly(new MatchGroup(3, List.of(1, 2), 1));
+  }
+
+  @Test
+  @DisplayName("match: given rows outside the date window, then leave them out of the group")
+  public void match_outsideDateWindow_leaveOut() {
+    List<MatchCandidate> bank = List.of(buildCandidate(1, 1000, 0, "REF-1"));
+    List<MatchCandidate> system =
+        List.of(
+            buildCandidate(2, 500, 0, "REF-2"),
+            buildCandidate(3, 500, DATE_WINDOW + 1, "REF-3"));
+
+    GroupMatchOutcome outcome = groupMatcher.match(bank, system, List.of(), List.of());
+
+    assertThat(outcome.groups()).isEmpty();
+    assertThat(outcome.unmatchedSystem()).hasSize(2);
+  }
+
+  @Test
+  @DisplayName("match: given open items completing a group, then report them as matched")
+  public void match_openItemsCompleteGroup_reportMatched() {
+    List<MatchCandidate> bank = List.of(buildCandidate(1, 1000, 0, "REF-1"));
+    List<MatchCandidate> openSystem =
+        List.of(buildCandidate(2, 250, 0, "REF-2"), buildCandidate(3, 750, 0, "REF-3"));
+
+    GroupMatchOutcome outcome = groupMatcher.match(bank, List.of(), List.of(), openSystem);
+
+    assertThat(outcome.groups()).containsExactly(new MatchGroup(1, List.of(2, 3), 0));
+    assertThat(outcome.matchedOpenItems()).containsExactlyElementsOf(openSystem);
+  }
+
+  @Test
+  @DisplayName("match: given only open items, then never use them as anchors")
+  public void match_onlyOpenItems_neverAnchor() {
+    GroupMatchOutcome outcome =
+        groupMatcher.match(
+            List.of(),
+            List.of(),
+            List.of(buildCandidate(1, 1000, 0, "REF-1")),
+            List.of(buildCandidate(2, 400, 0, "REF-2"), buildCandidate(3, 600, 0, "REF-3")));
+
+    assertThat(outcome.groups()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("match: given more candidates than the budget, then only search the closest dates")
+  public void match_moreCandidatesThanBudget_searchClosestDates() {
+    GroupMatcher budgeted =
+        new GroupMatcher(
+            DEFAULT_ENV
+                .withRECONCILIATION_GROUP_DATE_WINDOW_DAYS(DATE_WINDOW)
+                .withRECONCILIATION_GROUP_MAX_CANDIDATES(2));
+    List<MatchCandidate> bank = List.of(buildCandidate(1, 1000, 0, "REF-1"));
+    List<MatchCandidate> system =
+        List.of(
+            buildCandidate(2, 400, 0, "REF-2"),
+            buildCandidate(3, 100, 1, "REF-3"),
+            buildCandidate(4, 600, 2, "REF-4"));
+
+    GroupMatchOutcome outcome = budgeted.match(bank, system, List.of(), List.of());
+
+    assertThat(outcome.groups()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("searchSubset: given several subsets within tolerance, then prefer the closest sum")
+  public void searchSubset_severalWithinTolerance_preferClosestSum() {
+    long mask = GroupMatcher.searchSubset(new long[] {300, 699, 700, 5}, 1000, 1, Long.MAX_VALUE);
+
+    assertThat(mask).isEqualTo(0b0101);
+  }
+
+  @Test
+  @DisplayName("searchSubset: given a single amount equal to the target, then find no group")
+  public void searchSubset_singleAmountEqualsTarget_noGroup() {
+    long mask = GroupMatcher.searchSubset(new long[] {1000, 3}, 1000, 0, Long.MAX_VALUE);
+
+    assertThat(mask).isNegative();
+  }
+
+  @Test
+  @DisplayName("searchSubset: given an expired deadline, then give up")
+  public void searchSubset_expiredDeadline_giveUp() {
+    long[] amounts = new long[32];
+    for (int i = 0; i < amounts.length; i++) {
+      amounts[i] = (i + 1) * 7L;
+    }
+
+    long mask = GroupMatcher.searchSubset(amounts, 35, 0, System.nanoTime() - 1);
+
+    assertThat(mask).isNegative();
+  }
+}
@@ -0,0 +1,89 @@
+package com.anibalxyz.features.reconciliation.application;
+
+import static com.anibalxyz.shared.Constants.Reconciliation.buildCandidate;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.anibalxyz.features.reconciliation.domain.MatchCandidate;
+import com.anibalxyz.shared.UnitTest;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Tests for OpenItemColumns")
+public class OpenItemColumnsTest extends UnitTest {
+  private final OpenItemColumns columns = new OpenItemColumns();
+
+  @Test
+  @DisplayName("pollExact: given several rows with the same key, then take the oldest first")
+  public void pollExact_sameKey_takeOldestFirst() {
+    columns.addAll(List.of(buildCandidate(1, 1000, 0, "R"), buildCandidate(2, 1000, 1, "R")));
+
+    assertThat(columns.pollExact(buildCandidate(9, 1000, 0, "R")).id()).isEqualTo(1);
+    assertThat(columns.pollExact(buildCandidate(9, 1000, 0, "R")).id()).isEqualTo(2);
+    assertThat(columns.pollExact(buildCandidate(9, 1000, 0, "R"))).isNull();
+  }
+
+  @Test
+  @DisplayName("pollExact: given a null or unknown reference, then match only the same reference")
+  public void pollExact_nullOrUnknownReference_matchSameReference() {
+    columns.addAll(List.of(buildCandidate(1, 1000, 0, null)));
+
+    assertThat(columns.pollExact(buildCandidate(9, 1000, 0, "UNKNOWN"))).isNull();
+    assertThat(columns.pollExact(buildCandidate(9, 1000, 0, null)))
+        .isEqualTo(buildCandidate(1, 1000, 0, null));
+  }
+
+  @Test
+  @DisplayName("pollClosest: given equally close amounts, then take the lowest amount")
+  public void pollClosest_equallyCloseAmounts_takeLowestAmount() {
+    columns.addAll(List.of(buildCandidate(1, 1001, 0, "A"), buildCandidate(2, 999, 0, "B")));
+
+    assertThat(columns.pollClosest(buildCandidate(9, 1000, 0, "C"), 1, 0).id()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("pollClosest: given a tolerance wider than the open amounts, then still match")
+  public void pollClosest_wideTolerance_stillMatch() {
+    columns.addAll(List.of(buildCandidate(1, 5000, 0, "A"), buildCandidate(2, 1200, 0, "B")));
+
+    assertThat(columns.pollClosest(buildCandidate(9, 1000, 0, "C"), 1_000_000, 0).id())
+        .isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("remove: given most rows removed, then keep the rest in insertion order")
+  public void remove_mostRowsRemoved_keepRestInOrder() {
+    List<MatchCandidate> added = new ArrayList<>();
+    for (int id = 0; id < 3000; id++) {
+      added.add(buildCandidate(id, 1000 + id % 7, 0, "REF-" + id % 10));
+    }
+    columns.addAll(added);
+
+    for (int id = 0; id < 3000; id++) {
+      if (id % 3 != 0) {
+        assertThat(columns.remove(added.get(id))).isTrue();
+      }
+    }
+
+    assertThat(columns.size()).isEqualTo(1000);
+    assertThat(columns.snapshot())
+        .extracting(MatchCandidate::id)
+        .isSortedAccordingTo(Integer::compare)
+        .allMatch(id -> id % 3 == 0);
+    assertThat(columns.remove(added.get(1))).isFalse();
+  }
+
+  @Test
+  @DisplayName("footprintBytes: given unique references, then stay under 64 bytes per open item")
+  public void footprintBytes_uniqueReferences_under64BytesPerItem() {
+    // References are unique per source, like uq_transactions_source_reference makes them
+    List<MatchCandidate> added = new ArrayList<>();
+    for (int id = 0; id < 100_000; id++) {
+      added.add(buildCandidate(id, 1000 + id % 5000, id % 30, "REF-" + id));
+    }
+    columns.addAll(added);
+
+    assertThat(columns.footprintBytes()).isLessThan(64L * added.size());
+  }
+}
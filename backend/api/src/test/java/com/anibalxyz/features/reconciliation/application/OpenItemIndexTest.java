@@ -0,0 +1,92 @@
+package com.anibalxyz.features.reconciliation.application;
+
+import static com.anibalxyz.shared.Constants.Reconciliation.DEFAULT_ENV;
+import static com.anibalxyz.shared.Constants.Reconciliation.buildCandidate;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.anibalxyz.features.reconciliation.domain.Discrepancy;
+import com.anibalxyz.features.reconciliation.domain.MatchCandidate;
+import com.anibalxyz.features.reconciliation.domain.MatchOutcome;
+import com.anibalxyz.features.reconciliation.domain.MatchPair;
+import com.anibalxyz.shared.UnitTest;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Tests for OpenItemIndex")
+public class OpenItemIndexTest extends UnitTest {
+  private final OpenItemIndex openItemIndex =
+      new OpenItemIndex(
+          DEFAULT_ENV
+              .withRECONCILIATION_AMOUNT_TOLERANCE_CENTS(5)
+              .withRECONCILIATION_DATE_TOLERANCE_DAYS(2));
+
+  @Test
+  @DisplayName("matchExact: given new rows matching open items, then pair them in both directions")
+  public void matchExact_newRowsMatchOpenItems_pairInBothDirections() {
+    openItemIndex.add(
+        List.of(buildCandidate(1, 1000, 0, "REF-1")), List.of(buildCandidate(2, 500, 0, "R2")));
+
+    MatchOutcome outcome =
+        openItemIndex.matchExact(
+            List.of(buildCandidate(3, 500, 0, "R2")), List.of(buildCandidate(4, 1000, 0, "REF-1")));
+
+    assertThat(outcome.pairs()).containsExactly(new MatchPair(3, 2), new MatchPair(1, 4));
+    assertThat(openItemIndex.openBankCount()).isZero();
+    assertThat(openItemIndex.openSystemCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("matchExact: given new rows without counterpart, then leave them unmatched")
+  public void matchExact_noCounterpart_leaveUnmatched() {
+    openItemIndex.add(List.of(buildCandidate(1, 1000, 0, "REF-1")), List.of());
+
+    MatchOutcome outcome =
+        openItemIndex.matchExact(List.of(), List.of(buildCandidate(2, 1000, 0, "REF-2")));
+
+    assertThat(outcome.pairs()).isEmpty();
+    assertThat(outcome.unmatchedSystem()).extracting(MatchCandidate::id).containsExactly(2);
+    assertThat(openItemIndex.openBankCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("matchTolerance: given several open items in range, then take the closest amount")
+  public void matchTolerance_severalInRange_takeClosestAmount() {
+    openItemIndex.add(
+        List.of(buildCandidate(1, 1004, 0, "A"), buildCandidate(2, 1001, 1, "B")),
+        List.of(buildCandidate(3, 2000, 0, "C")));
+
+    MatchOutcome outcome =
+        openItemIndex.matchTolerance(List.of(), List.of(buildCandidate(4, 1000, 0, "B")));
+
+    assertThat(outcome.pairs())
+        .containsExactly(
+            new MatchPair(2, 4, Set.of(Discrepancy.AMOUNT_MISMATCH, Discrepancy.DATE_MISMATCH)));
+    assertThat(openItemIndex.openBankCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("matchTolerance: given an open item beyond the date tolerance, then skip it")
+  public void matchTolerance_beyondDateTolerance_skip() {
+    openItemIndex.add(List.of(), List.of(buildCandidate(1, 1000, 3, "A")));
+
+    MatchOutcome outcome =
+        openItemIndex.matchTolerance(List.of(buildCandidate(2, 1000, 0, "A")), List.of());
+
+    assertThat(outcome.pairs()).isEmpty();
+    assertThat(outcome.unmatchedBank()).extracting(MatchCandidate::id).containsExactly(2);
+  }
+
+  @Test
+  @DisplayName("isInSync: given an invalidated index, then report it out of sync")
+  public void isInSync_invalidated_outOfSync() {
+    openItemIndex.add(List.of(buildCandidate(1, 1000, 0, "A")), List.of());
+    openItemIndex.markSynced("1:1");
+
+    openItemIndex.invalidate();
+
+    assertThat(openItemIndex.isInSync("1:1")).isFalse();
+    assertThat(openItemIndex.openBankCount()).isZero();
+  }
+}
@@ -0,0 +1,113 @@
+package com.anibalxyz.features.reconciliation.application;
+
+import static com.anibalxyz.shared.Constants.Reconciliation.DEFAULT_ENV;
+import static com.anibalxyz.shared.Constants.Reconciliation.buildCandidate;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.anibalxyz.features.reconciliation.application.env.ReconciliationEnvironment;
+import com.anibalxyz.features.reconciliation.domain.MatchCandidate;
+import com.anibalxyz.features.reconciliation.domain.MatchOutcome;
+import com.anibalxyz.features.reconciliation.domain.MatchPair;
+import com.anibalxyz.features.transactions.domain.Currency;
+import com.anibalxyz.shared.UnitTest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Tests for PartitionedMatcher")
+public class PartitionedMatcherTest extends UnitTest {
+  private static final int ROWS = PartitionedMatcher.SEQUENTIAL_THRESHOLD;
+  private static final int DAY_TOLERANCE = 2;
+  private static final int BUCKET_DAYS = 7;
+
+  private final ReconciliationEnvironment env =
+      DEFAULT_ENV
+          .withRECONCILIATION_DATE_TOLERANCE_DAYS(DAY_TOLERANCE)
+          .withRECONCILIATION_WORKERS(4)
+          .withRECONCILIATION_DATE_BUCKET_DAYS(BUCKET_DAYS);
+  private final PartitionedMatcher partitionedMatcher = new PartitionedMatcher(env);
+
+  @Test
+  @DisplayName("matchByExactKey: given a large input, then match the same as a sequential run")
+  public void matchByExactKey_largeInput_matchSameAsSequential() {
+    List<MatchCandidate> bank = new ArrayList<>();
+    List<MatchCandidate> system = new ArrayList<>();
+    Currency[] currencies = Currency.values();
+    for (int i = 0; i < ROWS; i++) {
+      Currency currency = currencies[i % currencies.length];
+      bank.add(buildCandidate(i, currency, i % 50, 0, "REF-" + (i % 300)));
+      system.add(buildCandidate(ROWS + i, currency, i % 50, 0, "REF-" + (i % 310)));
+    }
+    Collections.shuffle(system, new Random(42));
+
+    ExactMatcher exactMatcher = new ExactMatcher();
+    MatchOutcome partitioned = partitionedMatcher.matchByExactKey(bank, system, exactMatcher);
+    MatchOutcome sequential = exactMatcher.match(bank, system);
+
+    assertThat(partitioned.pairs()).hasSameSizeAs(sequential.pairs());
+    assertThat(partitioned.pairs()).doesNotHaveDuplicates();
+    assertThat(partitioned.unmatchedBank())
+        .containsExactlyInAnyOrderElementsOf(sequential.unmatchedBank());
+    assertThat(partitioned.unmatchedSystem())
+        .containsExactlyInAnyOrderElementsOf(sequential.unmatchedSystem());
+  }
+
+  @Test
+  @DisplayName("matchByDateBucket: given pairs straddling bucket edges, then still match them")
+  public void matchByDateBucket_pairsStraddlingEdges_stillMatch() {
+    List<MatchCandidate> bank = new ArrayList<>();
+    List<MatchCandidate> system = new ArrayList<>();
+    for (int i = 0; i < ROWS / 2; i++) {
+      // Last day of a bucket on the BANK side, first day of the next one on the SYSTEM side
+      int edge = (i % 100) * BUCKET_DAYS + BUCKET_DAYS - 1;
+      bank.add(buildCandidate(i, Currency.UYU, 1000L + i, edge, "BANK-" + i));
+      system.add(buildCandidate(ROWS + i, Currency.UYU, 1000L + i, edge + 1, "SYS-" + i));
+    }
+
+    MatchOutcome outcome =
+        partitionedMatcher.matchByDateBucket(bank, system, new ToleranceMatcher(env));
+
+    assertThat(outcome.pairs()).hasSize(ROWS / 2);
+    assertThat(outcome.pairs())
+        .allMatch(pair -> pair.rightTransactionId() == pair.leftTransactionId() + ROWS);
+    assertThat(outcome.unmatchedBank()).isEmpty();
+    assertThat(outcome.unmatchedSystem()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("matchByDateBucket: given a small input, then delegate to the stage directly")
+  public void matchByDateBucket_smallInput_delegateToStage() {
+    List<MatchCandidate> bank = List.of(buildCandidate(1, 1000, "REF-1"));
+    List<MatchCandidate> system = List.of(buildCandidate(2, 1000, "REF-1"));
+    MatchOutcome expected = new MatchOutcome(List.of(new MatchPair(1, 2)), List.of(), List.of());
+
+    assertThat(partitionedMatcher.matchByDateBucket(bank, system, (b, s) -> expected))
+        .isSameAs(expected);
+  }
+
+  @Test
+  @DisplayName("matchByExactKey: given a failing partition, then propagate its exception")
+  public void matchByExactKey_failingPartition_propagateException() {
+    List<MatchCandidate> bank = new ArrayList<>();
+    List<MatchCandidate> system = new ArrayList<>();
+    for (int i = 0; i < ROWS; i++) {
+      bank.add(buildCandidate(i, 1000, "REF-" + i));
+      system.add(buildCandidate(ROWS + i, 1000, "REF-" + i));
+    }
+
+    assertThatThrownBy(
+            () ->
+                partitionedMatcher.matchByExactKey(
+                    bank,
+                    system,
+                    (b, s) -> {
+                      throw new IllegalArgumentException("boom");
+                    }))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("boom");
+  }
+}
@@ -0,0 +1,213 @@
+package com.anibalxyz.features.reconciliation.application;
+
+import static com.anibalxyz.shared.Constants.Reconciliation.DEFAULT_ENV;
+import static com.anibalxyz.shared.Helpers.cleanDatabase;
+import static com.anibalxyz.shared.Helpers.persistRule;
+import static com.anibalxyz.shared.Helpers.persistSource;
+import static com.anibalxyz.shared.Helpers.persistTransaction;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.anibalxyz.features.reconciliation.application.env.ReconciliationEnvironment;
+import com.anibalxyz.features.reconciliation.application.out.ReconciliationSummary;
+import com.anibalxyz.features.reconciliation.domain.Discrepancy;
+import com.anibalxyz.features.reconciliation.infra.JpaReconciliationRepository;
+import com.anibalxyz.features.transactions.domain.Currency;
+import com.anibalxyz.features.transactions.domain.SourceType;
+import com.anibalxyz.shared.IntegrationTest;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Tests for ReconcileTransactions against the database")
+public class ReconcileTransactionsIT extends IntegrationTest {
+  private static final long AMOUNT_TOLERANCE = 100;
+  private static final int DAY_TOLERANCE = 2;
+
+  private int bankSource;
+  private int systemSource;
+  private int lastBankTx;
+  private int lastSystemTx;
+
+  private record PersistedPair(int left, int right, String discrepancies) {}
+
+  private ReconcileTransactions reconcileTransactions(int databaseThreshold) {
+    ReconciliationEnvironment env =
+        DEFAULT_ENV
+            .withRECONCILIATION_AMOUNT_TOLERANCE_CENTS(AMOUNT_TOLERANCE)
+            .withRECONCILIATION_DATE_TOLERANCE_DAYS(DAY_TOLERANCE)
+            .withRECONCILIATION_DATABASE_THRESHOLD(databaseThreshold);
+    ExactMatcher exactMatcher = new ExactMatcher();
+    ReferenceMatcher referenceMatcher = new ReferenceMatcher(env);
+    ToleranceMatcher toleranceMatcher = new ToleranceMatcher(env);
+    PartitionedMatcher partitionedMatcher = new PartitionedMatcher(env);
+    return new ReconcileTransactions(
+        new JpaReconciliationRepository(() -> em, FIXED_NOW.getZone()),
+        exactMatcher,
+        new RuleMatcher(),
+        referenceMatcher,
+        toleranceMatcher,
+        partitionedMatcher,
+        new GroupMatcher(env),
+        new OpenItemIndex(env),
+        new SpillingMatcher(
+            env,
+            partitionedMatcher,
+            exactMatcher,
+            new RuleMatcher(),
+            referenceMatcher,
+            toleranceMatcher),
+        new DatabaseMatcher(env));
+  }
+
+  private ReconciliationSummary runFull(int databaseThreshold) {
+    ReconcileTransactions reconcileTransactions = reconcileTransactions(databaseThreshold);
+    em.getTransaction().begin();
+    ReconciliationSummary summary = reconcileTransactions.execute(true);
+    em.getTransaction().commit();
+    em.clear();
+    return summary;
+  }
+
+  /**
+   * Persists two exact pairs on a shared key, one plain exact pair, two pairs within tolerance and
+   * rows of both sides left without counterpart. Rows are inserted in date order, so ids follow
+   * the order both paths consume repeated keys in.
+   */
+  private void persistTransactions() {
+    bankSource = persistSource(em, "BANK-1", SourceType.BANK);
+    systemSource = persistSource(em, "ERP", SourceType.SYSTEM);
+    Instant today = FIXED_NOW.toInstant();
+    Instant tomorrow = FIXED_NOW.plusDays(1).toInstant();
+    Instant later = FIXED_NOW.plusDays(10).toInstant();
+
+    bank(today, "REF-1", "100.00");
+    bank(today, "REF-2", "50.00");
+    bank(tomorrow, "REF-2", "50.00");
+    bank(today, "REF-3", "200.00");
+    bank(today, "REF-4", "300.00");
+    bank(today, "FAR", "400.00");
+    lastBankTx = bank(today, "LONE", "999.99");
+    system(today, "REF-1", "100.00");
+    system(today, "REF-2", "50.00");
+    system(tomorrow, "REF-2", "50.00");
+    system(tomorrow, "OTHER-3", "200.50");
+    system(today, "REF-4", "300.40");
+    lastSystemTx = system(later, "FAR-AWAY", "400.00");
+  }
+
+  /**
+   * Persists a rule pairing payments with the invoice their reference names, and a payment whose
+   * amount also sits exactly on an unrelated SYSTEM row. Only the rule stage running before the
+   * tolerance one pairs the payment with its invoice.
+   */
+  private void persistRuleTransactions() {
+    persistRule(
+        em, bankSource, 1, "payments", "reference matches 'PAY-(\\d+)' and amount within 100");
+    Instant today = FIXED_NOW.toInstant();
+    bank(today, "PAY-77", "500.00");
+    system(today, "77", "500.80");
+    system(today, "Z-1", "500.00");
+  }
+
+  private int bank(Instant date, String reference, String amount) {
+    return persistTransaction(
+        em, bankSource, date, reference, Currency.UYU, new BigDecimal(amount));
+  }
+
+  private int system(Instant date, String reference, String amount) {
+    return persistTransaction(
+        em, systemSource, date, reference, Currency.UYU, new BigDecimal(amount));
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<PersistedPair> persistedPairs() {
+    List<Object[]> rows =
+        em.createNativeQuery(
+                "SELECT r.left_transaction_id, r.right_transaction_id,"
+                    + " COALESCE(string_agg(t.name, ',' ORDER BY t.name), '')"
+                    + " FROM reconciliations r"
+                    + " LEFT JOIN reconciliation_discrepancies d ON d.reconciliation_id = r.id"
+                    + " LEFT JOIN tags t ON t.id = d.discrepancy_type_id"
+                    + " GROUP BY r.id ORDER BY r.left_transaction_id")
+            .getResultList();
+    return rows.stream()
+        .map(
+            row ->
+                new PersistedPair(
+                    ((Number) row[0]).intValue(), ((Number) row[1]).intValue(), (String) row[2]))
+        .toList();
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<Integer, Integer> persistedWatermarks() {
+    List<Object[]> rows =
+        em.createNativeQuery(
+                "SELECT source_id, last_transaction_id FROM reconciliation_watermarks")
+            .getResultList();
+    return rows.stream()
+        .collect(
+            Collectors.toMap(
+                row -> ((Number) row[0]).intValue(), row -> ((Number) row[1]).intValue()));
+  }
+
+  @Test
+  @DisplayName("execute: given a full run over the database threshold, then match in the database")
+  public void execute_fullRunOverDatabaseThreshold_matchInDatabase() {
+    persistTransactions();
+
+    ReconciliationSummary summary = runFull(1);
+
+    assertThat(summary.bankCandidates()).isEqualTo(7);
+    assertThat(summary.systemCandidates()).isEqualTo(6);
+    assertThat(summary.exactMatches()).isEqualTo(3);
+    assertThat(summary.toleranceMatches()).isEqualTo(2);
+    assertThat(summary.groupMatches()).isZero();
+    String allMismatches =
+        String.join(
+            ",",
+            Discrepancy.AMOUNT_MISMATCH.name(),
+            Discrepancy.DATE_MISMATCH.name(),
+            Discrepancy.REFERENCE_MISMATCH.name());
+    assertThat(persistedPairs())
+        .containsExactly(
+            new PersistedPair(1, 8, ""),
+            new PersistedPair(2, 9, ""),
+            new PersistedPair(3, 10, ""),
+            new PersistedPair(4, 11, allMismatches),
+            new PersistedPair(5, 12, Discrepancy.AMOUNT_MISMATCH.name()));
+    assertThat(persistedWatermarks())
+        .isEqualTo(Map.of(bankSource, lastBankTx, systemSource, lastSystemTx));
+  }
+
+  @Test
+  @DisplayName("execute: given the same rows, then match in the database as in memory")
+  public void execute_sameRows_matchInDatabaseAsInMemory() {
+    persistTransactions();
+    persistRuleTransactions();
+    ReconciliationSummary inMemory = runFull(0);
+    List<PersistedPair> inMemoryPairs = persistedPairs();
+    Map<Integer, Integer> inMemoryWatermarks = persistedWatermarks();
+
+    // Identities restart, so the same rows get the same ids
+    cleanDatabase(em);
+    persistTransactions();
+    persistRuleTransactions();
+    ReconciliationSummary inDatabase = runFull(1);
+
+    assertThat(inMemory.ruleMatches()).isEqualTo(1);
+    assertThat(inDatabase)
+        .usingRecursiveComparison()
+        .ignoringFieldsMatchingRegexes(".*elapsed")
+        .isEqualTo(inMemory);
+    assertThat(persistedPairs())
+        .isEqualTo(inMemoryPairs)
+        .extracting(PersistedPair::left, PersistedPair::right)
+        .contains(tuple(14, 15));
+    assertThat(persistedWatermarks()).isEqualTo(inMemoryWatermarks);
+  }
+}
@@ -0,0 +1,290 @@
+package com.anibalxyz.features.reconciliation.application;
+
+import static com.anibalxyz.shared.Constants.Reconciliation.VALID_EPOCH_DAY;
+import static com.anibalxyz.shared.Constants.Reconciliation.buildCandidate;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.*;
+
+import com.anibalxyz.features.reconciliation.application.env.ReconciliationEnvironment;
+import com.anibalxyz.features.reconciliation.application.out.ReconciliationSummary;
+import com.anibalxyz.features.reconciliation.application.out.RuleSummary;
+import com.anibalxyz.features.reconciliation.domain.DatabaseMatchOutcome;
+import com.anibalxyz.features.reconciliation.domain.Discrepancy;
+import com.anibalxyz.features.reconciliation.domain.MatchCandidate;
+import com.anibalxyz.features.reconciliation.domain.MatchGroup;
+import com.anibalxyz.features.reconciliation.domain.MatchPair;
+import com.anibalxyz.features.reconciliation.domain.MatchRuleDefinition;
+import com.anibalxyz.features.reconciliation.domain.ReconciliationMode;
+import com.anibalxyz.features.reconciliation.domain.ReconciliationRepository;
+import com.anibalxyz.features.transactions.domain.SourceType;
+import com.anibalxyz.shared.UnitTest;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests for ReconcileTransactions service")
+public class ReconcileTransactionsTest extends UnitTest {
+  @Mock private ReconciliationRepository reconciliationRepository;
+  @Mock private ReconciliationEnvironment reconciliationEnv;
+
+  private ReconcileTransactions reconcileTransactions;
+
+  @BeforeEach
+  public void setUp() {
+    ExactMatcher exactMatcher = new ExactMatcher();
+    ReferenceMatcher referenceMatcher = new ReferenceMatcher(reconciliationEnv);
+    ToleranceMatcher toleranceMatcher = new ToleranceMatcher(reconciliationEnv);
+    PartitionedMatcher partitionedMatcher = new PartitionedMatcher(reconciliationEnv);
+    reconcileTransactions =
+        new ReconcileTransactions(
+            reconciliationRepository,
+            exactMatcher,
+            new RuleMatcher(),
+            referenceMatcher,
+            toleranceMatcher,
+            partitionedMatcher,
+            new GroupMatcher(reconciliationEnv),
+            new OpenItemIndex(reconciliationEnv),
+            new SpillingMatcher(
+                reconciliationEnv,
+                partitionedMatcher,
+                exactMatcher,
+                new RuleMatcher(),
+                referenceMatcher,
+                toleranceMatcher),
+            new DatabaseMatcher(reconciliationEnv));
+  }
+
+  @Test
+  @DisplayName("execute: given matching candidates, then lock, save the pairs and summarize")
+  public void execute_matchingCandidates_lockSaveAndSummarize() {
+    List<MatchCandidate> bank =
+        List.of(buildCandidate(1, 1000, "REF-1"), buildCandidate(2, 500, "REF-2"));
+    List<MatchCandidate> system = List.of(buildCandidate(3, 1000, "REF-1"));
+    when(reconciliationRepository.findUnmatched(SourceType.BANK)).thenReturn(bank);
+    when(reconciliationRepository.findUnmatched(SourceType.SYSTEM)).thenReturn(system);
+
+    ReconciliationSummary summary = reconcileTransactions.execute(false);
+
+    InOrder inOrder = inOrder(reconciliationRepository);
+    inOrder.verify(reconciliationRepository).lockForRun();
+    inOrder.verify(reconciliationRepository).saveAll(List.of(new MatchPair(1, 3)));
+    inOrder.verify(reconciliationRepository).saveWatermarks(Map.of(1, 3));
+    assertThat(summary.mode()).isEqualTo(ReconciliationMode.FULL);
+    assertThat(summary.bankCandidates()).isEqualTo(2);
+    assertThat(summary.systemCandidates()).isEqualTo(1);
+    assertThat(summary.exactMatches()).isEqualTo(1);
+    assertThat(summary.toleranceMatches()).isZero();
+  }
+
+  @Test
+  @DisplayName("execute: given exact leftovers within tolerance, then save both kinds of pairs")
+  public void execute_leftoversWithinTolerance_saveBothKindsOfPairs() {
+    when(reconciliationEnv.RECONCILIATION_AMOUNT_TOLERANCE_CENTS()).thenReturn(5L);
+    when(reconciliationEnv.RECONCILIATION_DATE_TOLERANCE_DAYS()).thenReturn(0);
+    List<MatchCandidate> bank =
+        List.of(buildCandidate(1, 1000, "REF-1"), buildCandidate(2, 500, "REF-2"));
+    List<MatchCandidate> system =
+        List.of(buildCandidate(3, 1000, "REF-1"), buildCandidate(4, 503, "REF-2"));
+    when(reconciliationRepository.findUnmatched(SourceType.BANK)).thenReturn(bank);
+    when(reconciliationRepository.findUnmatched(SourceType.SYSTEM)).thenReturn(system);
+
+    ReconciliationSummary summary = reconcileTransactions.execute(false);
+
+    verify(reconciliationRepository)
+        .saveAll(
+            List.of(
+                new MatchPair(1, 3), new MatchPair(2, 4, Set.of(Discrepancy.AMOUNT_MISMATCH))));
+    assertThat(summary.exactMatches()).isEqualTo(1);
+    assertThat(summary.toleranceMatches()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("execute: given a full run over the threshold, then match in the database first")
+  public void execute_fullRunOverThreshold_matchInDatabaseFirst() {
+    when(reconciliationEnv.RECONCILIATION_DATABASE_THRESHOLD()).thenReturn(4);
+    when(reconciliationRepository.countUnmatched(SourceType.BANK)).thenReturn(3L);
+    when(reconciliationRepository.countUnmatched(SourceType.SYSTEM)).thenReturn(3L);
+    when(reconciliationRepository.matchInDatabase(0L, 0, true))
+        .thenReturn(new DatabaseMatchOutcome(1, 1));
+    when(reconciliationRepository.findUnmatched(SourceType.BANK))
+        .thenReturn(List.of(buildCandidate(1, 1000, "REF-1")));
+    when(reconciliationRepository.findUnmatched(SourceType.SYSTEM))
+        .thenReturn(List.of(buildCandidate(2, 1000, "REF-1")));
+
+    ReconciliationSummary summary = reconcileTransactions.execute(false);
+
+    InOrder inOrder = inOrder(reconciliationRepository);
+    inOrder.verify(reconciliationRepository).matchInDatabase(0L, 0, true);
+    inOrder.verify(reconciliationRepository).findUnmatched(SourceType.BANK);
+    inOrder.verify(reconciliationRepository).saveAll(List.of(new MatchPair(1, 2)));
+    assertThat(summary.bankCandidates()).isEqualTo(3);
+    assertThat(summary.systemCandidates()).isEqualTo(3);
+    assertThat(summary.exactMatches()).isEqualTo(2);
+    assertThat(summary.toleranceMatches()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("execute: given a full run under the threshold, then match it in memory")
+  public void execute_fullRunUnderThreshold_matchInMemory() {
+    when(reconciliationEnv.RECONCILIATION_DATABASE_THRESHOLD()).thenReturn(4);
+    when(reconciliationRepository.countUnmatched(any())).thenReturn(2L);
+    when(reconciliationRepository.findUnmatched(any())).thenReturn(List.of());
+
+    reconcileTransactions.execute(false);
+
+    verify(reconciliationRepository, never()).matchInDatabase(anyLong(), anyInt(), anyBoolean());
+  }
+
+  @Test
+  @DisplayName("execute: given source rules, then leave only the exact stage to the database")
+  public void execute_sourceRulesOverThreshold_matchOnlyExactInDatabase() {
+    when(reconciliationEnv.RECONCILIATION_DATABASE_THRESHOLD()).thenReturn(4);
+    when(reconciliationRepository.countUnmatched(any())).thenReturn(3L);
+    when(reconciliationRepository.findRules())
+        .thenReturn(List.of(new MatchRuleDefinition(7, 1, 1, "same", "reference")));
+    when(reconciliationRepository.matchInDatabase(0L, 0, false))
+        .thenReturn(new DatabaseMatchOutcome(1, 0));
+    when(reconciliationRepository.findUnmatched(any())).thenReturn(List.of());
+
+    ReconciliationSummary summary = reconcileTransactions.execute(false);
+
+    verify(reconciliationRepository).matchInDatabase(0L, 0, false);
+    assertThat(summary.exactMatches()).isEqualTo(1);
+    assertThat(summary.toleranceMatches()).isZero();
+  }
+
+  @Test
+  @DisplayName("execute: given a source rule, then match by it before the tolerance stage")
+  public void execute_sourceRule_matchByItBeforeTolerance() {
+    List<MatchCandidate> bank =
+        List.of(buildCandidate(1, 1, 1000, VALID_EPOCH_DAY, "TRF 1", "Pago INV-0042"));
+    List<MatchCandidate> system =
+        List.of(buildCandidate(2, 2, 1003, VALID_EPOCH_DAY + 1, "0042", null));
+    when(reconciliationRepository.findUnmatched(SourceType.BANK)).thenReturn(bank);
+    when(reconciliationRepository.findUnmatched(SourceType.SYSTEM)).thenReturn(system);
+    when(reconciliationRepository.findRules())
+        .thenReturn(
+            List.of(
+                new MatchRuleDefinition(
+                    7, 1, 1, "invoice", "description matches 'INV-(\\d+)' and amount within 5")));
+
+    ReconciliationSummary summary = reconcileTransactions.execute(false);
+
+    verify(reconciliationRepository)
+        .saveAll(
+            List.of(
+                new MatchPair(
+                    1,
+                    2,
+                    Set.of(
+                        Discrepancy.AMOUNT_MISMATCH,
+                        Discrepancy.DATE_MISMATCH,
+                        Discrepancy.REFERENCE_MISMATCH))));
+    assertThat(summary.ruleMatches()).isEqualTo(1);
+    assertThat(summary.toleranceMatches()).isZero();
+    assertThat(summary.rules())
+        .extracting(RuleSummary::ruleId, RuleSummary::matches)
+        .containsExactly(tuple(7, 1));
+  }
+
+  @Test
+  @DisplayName("execute: given no candidates, then save nothing and report zero matches")
+  public void execute_noCandidates_reportZeroMatches() {
+    when(reconciliationRepository.findUnmatched(any())).thenReturn(List.of());
+
+    ReconciliationSummary summary = reconcileTransactions.execute(false);
+
+    verify(reconciliationRepository).saveAll(List.of());
+    verify(reconciliationRepository).saveGroups(List.of());
+    assertThat(summary.exactMatches()).isZero();
+    assertThat(summary.groupMatches()).isZero();
+  }
+
+  @Test
+  @DisplayName("execute: given an index in sync, then match only new rows against open items")
+  public void execute_indexInSync_matchNewRowsAgainstOpenItems() {
+    when(reconciliationRepository.syncToken()).thenReturn("1:3");
+    when(reconciliationRepository.findUnmatched(SourceType.BANK))
+        .thenReturn(List.of(buildCandidate(1, 1000, "REF-1"), buildCandidate(2, 500, "REF-2")));
+    when(reconciliationRepository.findUnmatched(SourceType.SYSTEM))
+        .thenReturn(List.of(buildCandidate(3, 1000, "REF-1")));
+    reconcileTransactions.execute(false);
+    when(reconciliationRepository.findUnmatchedAfterWatermark(SourceType.BANK))
+        .thenReturn(List.of());
+    when(reconciliationRepository.findUnmatchedAfterWatermark(SourceType.SYSTEM))
+        .thenReturn(List.of(buildCandidate(5, 500, "REF-2")));
+
+    ReconciliationSummary summary = reconcileTransactions.execute(false);
+
+    verify(reconciliationRepository, times(1)).findUnmatched(SourceType.BANK);
+    verify(reconciliationRepository).saveAll(List.of(new MatchPair(2, 5)));
+    verify(reconciliationRepository).saveWatermarks(Map.of(1, 5));
+    assertThat(summary.mode()).isEqualTo(ReconciliationMode.INCREMENTAL);
+    assertThat(summary.bankCandidates()).isZero();
+    assertThat(summary.systemCandidates()).isEqualTo(1);
+    assertThat(summary.exactMatches()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("execute: given a full run is forced, then reload every unmatched transaction")
+  public void execute_forceFull_reloadEveryUnmatchedTransaction() {
+    when(reconciliationRepository.syncToken()).thenReturn("0:0");
+    when(reconciliationRepository.findUnmatched(any())).thenReturn(List.of());
+    reconcileTransactions.execute(false);
+
+    ReconciliationSummary summary = reconcileTransactions.execute(true);
+
+    verify(reconciliationRepository, times(2)).findUnmatched(SourceType.BANK);
+    verify(reconciliationRepository, never()).findUnmatchedAfterWatermark(any());
+    assertThat(summary.mode()).isEqualTo(ReconciliationMode.FULL);
+  }
+
+  @Test
+  @DisplayName("execute: given a failed run, then run the next one in full")
+  public void execute_failedRun_runNextOneInFull() {
+    when(reconciliationRepository.syncToken()).thenReturn("0:0");
+    when(reconciliationRepository.findUnmatched(any())).thenReturn(List.of());
+    reconcileTransactions.execute(false);
+    when(reconciliationRepository.saveAll(any()))
+        .thenThrow(new IllegalStateException("boom"))
+        .thenReturn(0);
+    when(reconciliationRepository.findUnmatchedAfterWatermark(any())).thenReturn(List.of());
+
+    assertThatThrownBy(() -> reconcileTransactions.execute(false))
+        .isInstanceOf(IllegalStateException.class);
+    ReconciliationSummary summary = reconcileTransactions.execute(false);
+
+    assertThat(summary.mode()).isEqualTo(ReconciliationMode.FULL);
+  }
+
+  @Test
+  @DisplayName("execute: given a settlement covering several ledger entries, then save a group")
+  public void execute_settlementCoveringEntries_saveGroup() {
+    when(reconciliationEnv.RECONCILIATION_GROUP_MAX_CANDIDATES()).thenReturn(20);
+    when(reconciliationEnv.RECONCILIATION_GROUP_TIME_BUDGET_MS()).thenReturn(1_000);
+    when(reconciliationRepository.findUnmatched(SourceType.BANK))
+        .thenReturn(List.of(buildCandidate(1, 1000, "SETTLEMENT")));
+    when(reconciliationRepository.findUnmatched(SourceType.SYSTEM))
+        .thenReturn(
+            List.of(
+                buildCandidate(2, 600, "INV-1"),
+                buildCandidate(3, 400, "INV-2"),
+                buildCandidate(4, 50, "INV-3")));
+
+    ReconciliationSummary summary = reconcileTransactions.execute(false);
+
+    verify(reconciliationRepository).saveGroups(List.of(new MatchGroup(1, List.of(2, 3), 0)));
+    assertThat(summary.groupMatches()).isEqualTo(1);
+  }
+}
@@ -0,0 +1,130 @@
+package com.anibalxyz.features.reconciliation.application;
+
+import static com.anibalxyz.shared.Constants.Reconciliation.DEFAULT_ENV;
+import static com.anibalxyz.shared.Constants.Reconciliation.buildCandidate;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.anibalxyz.features.reconciliation.application.env.ReconciliationEnvironment;
+import com.anibalxyz.features.reconciliation.domain.Discrepancy;
+import com.anibalxyz.features.reconciliation.domain.MatchCandidate;
+import com.anibalxyz.features.reconciliation.domain.MatchOutcome;
+import com.anibalxyz.features.reconciliation.domain.MatchPair;
+import com.anibalxyz.shared.UnitTest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Tests for ReferenceMatcher")
+public class ReferenceMatcherTest extends UnitTest {
+  private static final long AMOUNT_TOLERANCE = 5;
+  private static final int DAY_TOLERANCE = 2;
+
+  private final ReferenceMatcher referenceMatcher = new ReferenceMatcher(env(0.5));
+
+  private static ReconciliationEnvironment env(double referenceSimilarity) {
+    return DEFAULT_ENV
+        .withRECONCILIATION_AMOUNT_TOLERANCE_CENTS(AMOUNT_TOLERANCE)
+        .withRECONCILIATION_DATE_TOLERANCE_DAYS(DAY_TOLERANCE)
+        .withRECONCILIATION_REFERENCE_SIMILARITY(referenceSimilarity);
+  }
+
+  @Test
+  @DisplayName("match: given a bank prefix, casing and punctuation, then pair the references")
+  public void match_prefixCasingAndPunctuation_pairReferences() {
+    List<MatchCandidate> bank = List.of(buildCandidate(1, 1000, "Transf. ref: inv-2024/0012"));
+    List<MatchCandidate> system = List.of(buildCandidate(2, 1003, "INV 2024 0012"));
+
+    MatchOutcome outcome = referenceMatcher.match(bank, system);
+
+    assertThat(outcome.pairs())
+        .containsExactly(
+            new MatchPair(
+                1, 2, Set.of(Discrepancy.AMOUNT_MISMATCH, Discrepancy.REFERENCE_MISMATCH)));
+    assertThat(outcome.unmatchedBank()).isEmpty();
+    assertThat(outcome.unmatchedSystem()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("match: given a truncated reference, then prefer it over a closer unrelated amount")
+  public void match_truncatedReference_preferOverCloserAmount() {
+    List<MatchCandidate> bank = List.of(buildCandidate(1, 1000, "INV-2024-0012"));
+    MatchCandidate unrelated = buildCandidate(2, 1000, "OTHER-55");
+    List<MatchCandidate> system = List.of(unrelated, buildCandidate(3, 1004, "INV-2024-001"));
+
+    MatchOutcome outcome = referenceMatcher.match(bank, system);
+
+    assertThat(outcome.pairs()).extracting(MatchPair::rightTransactionId).containsExactly(3);
+    assertThat(outcome.unmatchedSystem()).containsExactly(unrelated);
+  }
+
+  @Test
+  @DisplayName("match: given references below the threshold, then leave them to tolerance matching")
+  public void match_belowThreshold_leaveUnmatched() {
+    List<MatchCandidate> bank = List.of(buildCandidate(1, 1000, "TRF 0001"));
+    List<MatchCandidate> system = List.of(buildCandidate(2, 1000, "INV-1"));
+
+    MatchOutcome outcome = referenceMatcher.match(bank, system);
+
+    assertThat(outcome.pairs()).isEmpty();
+    assertThat(outcome.unmatchedBank()).containsExactlyElementsOf(bank);
+    assertThat(outcome.unmatchedSystem()).containsExactlyElementsOf(system);
+  }
+
+  @Test
+  @DisplayName("match: given a lookup returning rows out of tolerance, then check them again")
+  public void match_lookupOutOfTolerance_checkAgain() {
+    List<MatchCandidate> bank = List.of(buildCandidate(1, 1000, "INV-2024-0012"));
+    List<MatchCandidate> system =
+        List.of(
+            buildCandidate(2, 1000 + AMOUNT_TOLERANCE + 1, "INV-2024-0012"),
+            buildCandidate(3, 1000, "OTHER-55"),
+            buildCandidate(4, 1002, "INV-2024-0012"));
+
+    MatchOutcome outcome =
+        referenceMatcher.match(bank, system, (probe, probeGrams, limit) -> new int[] {0, 1, 2});
+
+    assertThat(outcome.pairs()).extracting(MatchPair::rightTransactionId).containsExactly(4);
+  }
+
+  @Test
+  @DisplayName("match: given a lookup whose top rows are all taken, then ask it for more")
+  public void match_lookupTopRowsTaken_askForMore() {
+    List<MatchCandidate> bank = new ArrayList<>();
+    List<MatchCandidate> system = new ArrayList<>();
+    for (int i = 1; i <= ReferenceMatcher.TOP_K + 1; i++) {
+      bank.add(buildCandidate(i, 1000, "INV-2024-0012"));
+      system.add(buildCandidate(100 + i, 1000, "INV-2024-0012"));
+    }
+
+    // Like the database: taken rows are still returned, and a row of another range comes first
+    MatchOutcome outcome =
+        referenceMatcher.match(
+            bank,
+            system,
+            (probe, probeGrams, limit) ->
+                IntStream.range(-1, Math.min(limit, system.size() + 1) - 1).toArray());
+
+    assertThat(outcome.pairs())
+        .hasSize(ReferenceMatcher.TOP_K + 1)
+        .allSatisfy(
+            pair ->
+                assertThat(pair.rightTransactionId()).isEqualTo(pair.leftTransactionId() + 100));
+    assertThat(outcome.unmatchedBank()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("match: given a similarity of 0, then pass every candidate through")
+  public void match_similarityZero_passThrough() {
+    List<MatchCandidate> bank = List.of(buildCandidate(1, 1000, "INV-2024-0012"));
+    List<MatchCandidate> system = List.of(buildCandidate(2, 1000, "INV-2024-0012"));
+
+    MatchOutcome outcome = new ReferenceMatcher(env(0)).match(bank, system);
+
+    assertThat(outcome.pairs()).isEmpty();
+    assertThat(outcome.unmatchedBank()).containsExactlyElementsOf(bank);
+    assertThat(outcome.unmatchedSystem()).containsExactlyElementsOf(system);
+  }
+}
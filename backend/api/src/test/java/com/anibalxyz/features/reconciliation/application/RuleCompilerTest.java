@@ -0,0 +1,59 @@
+package com.anibalxyz.features.reconciliation.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.anibalxyz.features.reconciliation.domain.MatchRuleDefinition;
+import com.anibalxyz.features.reconciliation.domain.RuleStrategy;
+import com.anibalxyz.shared.UnitTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@DisplayName("Tests for RuleCompiler")
+public class RuleCompilerTest extends UnitTest {
+
+  private static MatchRule compile(String definition) {
+    return RuleCompiler.compile(new MatchRuleDefinition(1, 1, 1, "rule", definition));
+  }
+
+  @Test
+  @DisplayName("compile: given equality conditions only, then choose a hash join")
+  public void compile_equalityConditions_chooseHashJoin() {
+    assertThat(compile("reference and amount and date").strategy())
+        .isEqualTo(RuleStrategy.HASH_JOIN);
+    assertThat(compile("reference matches 'X''Y' and amount").strategy())
+        .isEqualTo(RuleStrategy.HASH_JOIN);
+  }
+
+  @Test
+  @DisplayName("compile: given a range condition, then choose a sort-sweep")
+  public void compile_rangeCondition_chooseSortSweep() {
+    assertThat(compile("reference and date within 2").strategy())
+        .isEqualTo(RuleStrategy.SORT_SWEEP);
+    assertThat(compile("amount within 100 and date within 2").strategy())
+        .isEqualTo(RuleStrategy.SORT_SWEEP);
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "",
+        "amount and",
+        "amount or date",
+        "amount amount",
+        "amount and amount within 5",
+        "reference and description matches 'A'",
+        "description",
+        "date within",
+        "amount within 99999999999999999999",
+        "reference matches '('",
+        "reference matches 'unterminated",
+        "amount; date"
+      })
+  @DisplayName("compile: given an invalid definition, then throw IllegalArgumentException")
+  public void compile_invalidDefinition_throwIllegalArgumentException(String definition) {
+    assertThatThrownBy(() -> compile(definition)).isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,144 @@
+package com.anibalxyz.features.reconciliation.application;
+
+import static com.anibalxyz.shared.Constants.Reconciliation.VALID_EPOCH_DAY;
+import static com.anibalxyz.shared.Constants.Reconciliation.buildCandidate;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.anibalxyz.features.reconciliation.application.out.RuleSummary;
+import com.anibalxyz.features.reconciliation.domain.Discrepancy;
+import com.anibalxyz.features.reconciliation.domain.MatchCandidate;
+import com.anibalxyz.features.reconciliation.domain.MatchPair;
+import com.anibalxyz.features.reconciliation.domain.MatchRuleDefinition;
+import com.anibalxyz.features.reconciliation.domain.RuleStrategy;
+import com.anibalxyz.shared.UnitTest;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Tests for RuleMatcher")
+public class RuleMatcherTest extends UnitTest {
+  private static final int BANK_SOURCE = 1;
+  private static final int OTHER_BANK_SOURCE = 3;
+
+  private final RuleMatcher ruleMatcher = new RuleMatcher();
+
+  private static MatchRuleDefinition rule(int id, int priority, String definition) {
+    return new MatchRuleDefinition(id, BANK_SOURCE, priority, "rule-" + id, definition);
+  }
+
+  private static MatchCandidate bank(int id, long amountCents, int days, String description) {
+    return buildCandidate(
+        id, BANK_SOURCE, amountCents, VALID_EPOCH_DAY + days, "TRF-" + id, description);
+  }
+
+  private static MatchCandidate system(int id, long amountCents, int days, String reference) {
+    return buildCandidate(id, 2, amountCents, VALID_EPOCH_DAY + days, reference, null);
+  }
+
+  @Test
+  @DisplayName("match: given only equality conditions, then hash join the oldest rows on them")
+  public void match_equalityConditions_hashJoin() {
+    List<MatchCandidate> bank = List.of(bank(1, 1000, 0, null), bank(2, 500, 0, null));
+    List<MatchCandidate> system =
+        List.of(system(3, 500, 0, "A"), system(4, 1000, 0, "B"), system(5, 1000, 0, "C"));
+
+    RuleMatcher.Outcome outcome =
+        ruleMatcher.match(bank, system, List.of(rule(7, 1, "AMOUNT and Date")));
+
+    assertThat(outcome.pairs())
+        .containsExactly(
+            new MatchPair(1, 4, Set.of(Discrepancy.REFERENCE_MISMATCH)),
+            new MatchPair(2, 3, Set.of(Discrepancy.REFERENCE_MISMATCH)));
+    assertThat(outcome.unmatchedSystem()).extracting(MatchCandidate::id).containsExactly(5);
+    assertThat(outcome.rules())
+        .extracting(RuleSummary::ruleId, RuleSummary::strategy, RuleSummary::matches)
+        .containsExactly(tuple(7, RuleStrategy.HASH_JOIN, 2));
+  }
+
+  @Test
+  @DisplayName("match: given amount and date ranges, then sweep to the closest amount within both")
+  public void match_amountAndDateRanges_sweepToClosestAmount() {
+    List<MatchCandidate> bank = List.of(bank(1, 1000, 0, null));
+    List<MatchCandidate> system =
+        List.of(system(2, 1001, 3, "A"), system(3, 1004, 2, "B"), system(4, 1009, 0, "C"));
+
+    RuleMatcher.Outcome outcome =
+        ruleMatcher.match(bank, system, List.of(rule(7, 1, "amount within 5 and date within 2")));
+
+    assertThat(outcome.pairs()).extracting(MatchPair::rightTransactionId).containsExactly(3);
+    assertThat(outcome.rules())
+        .extracting(RuleSummary::strategy)
+        .containsExactly(RuleStrategy.SORT_SWEEP);
+  }
+
+  @Test
+  @DisplayName("match: given a description pattern, then pair on the text it extracts")
+  public void match_descriptionPattern_pairOnExtractedText() {
+    List<MatchCandidate> bank =
+        List.of(bank(1, 1000, 0, "Pago factura INV-0042 gracias"), bank(2, 1000, 0, "Sin datos"));
+    List<MatchCandidate> system = List.of(system(3, 1000, 5, "0042"), system(4, 1000, 0, "0043"));
+
+    RuleMatcher.Outcome outcome =
+        ruleMatcher.match(
+            bank, system, List.of(rule(7, 1, "description matches 'INV-(\\d+)' and amount")));
+
+    assertThat(outcome.pairs())
+        .containsExactly(
+            new MatchPair(1, 3, Set.of(Discrepancy.DATE_MISMATCH, Discrepancy.REFERENCE_MISMATCH)));
+    assertThat(outcome.unmatchedBank()).extracting(MatchCandidate::id).containsExactly(2);
+  }
+
+  @Test
+  @DisplayName("match: given several rules, then run them by priority over what is left")
+  public void match_severalRules_runByPriorityOverLeftovers() {
+    List<MatchCandidate> bank = List.of(bank(1, 1000, 0, null), bank(2, 2000, 1, null));
+    List<MatchCandidate> system = List.of(system(3, 1000, 0, "A"), system(4, 2002, 0, "B"));
+
+    RuleMatcher.Outcome outcome =
+        ruleMatcher.match(
+            bank,
+            system,
+            List.of(
+                rule(7, 1, "amount and date"), rule(8, 2, "amount within 5 and date within 1")));
+
+    assertThat(outcome.pairs())
+        .extracting(MatchPair::leftTransactionId, MatchPair::rightTransactionId)
+        .containsExactly(tuple(1, 3), tuple(2, 4));
+    assertThat(outcome.rules())
+        .extracting(RuleSummary::ruleId, RuleSummary::matches)
+        .containsExactly(tuple(7, 1), tuple(8, 1));
+    assertThat(outcome.unmatchedBank()).isEmpty();
+    assertThat(outcome.unmatchedSystem()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("match: given a rule of another source, then leave the rows of this one alone")
+  public void match_ruleOfOtherSource_leaveRowsAlone() {
+    List<MatchCandidate> bank = List.of(bank(1, 1000, 0, null));
+    List<MatchCandidate> system = List.of(system(2, 1000, 0, "A"));
+    MatchRuleDefinition otherSource =
+        new MatchRuleDefinition(7, OTHER_BANK_SOURCE, 1, "other", "amount");
+
+    RuleMatcher.Outcome outcome = ruleMatcher.match(bank, system, List.of(otherSource));
+
+    assertThat(outcome.pairs()).isEmpty();
+    assertThat(outcome.unmatchedBank()).containsExactlyElementsOf(bank);
+    assertThat(outcome.rules()).extracting(RuleSummary::matches).containsExactly(0);
+  }
+
+  @Test
+  @DisplayName("match: given an invalid rule, then skip it and run the others")
+  public void match_invalidRule_skipIt() {
+    List<MatchCandidate> bank = List.of(bank(1, 1000, 0, null));
+    List<MatchCandidate> system = List.of(system(2, 1000, 0, "A"));
+
+    RuleMatcher.Outcome outcome =
+        ruleMatcher.match(
+            bank, system, List.of(rule(7, 1, "amount or date"), rule(8, 2, "amount")));
+
+    assertThat(outcome.pairs()).extracting(MatchPair::rightTransactionId).containsExactly(2);
+    assertThat(outcome.rules()).extracting(RuleSummary::ruleId).containsExactly(8);
+  }
+}
@@ -0,0 +1,241 @@
+package com.anibalxyz.features.reconciliation.application;
+
+import static com.anibalxyz.shared.Constants.Reconciliation.DEFAULT_ENV;
+import static com.anibalxyz.shared.Constants.Reconciliation.VALID_EPOCH_DAY;
+import static com.anibalxyz.shared.Constants.Reconciliation.buildCandidate;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+
+import com.anibalxyz.features.reconciliation.application.env.ReconciliationEnvironment;
+import com.anibalxyz.features.reconciliation.application.out.RuleSummary;
+import com.anibalxyz.features.reconciliation.domain.MatchCandidate;
+import com.anibalxyz.features.reconciliation.domain.MatchPair;
+import com.anibalxyz.features.reconciliation.domain.MatchRuleDefinition;
+import com.anibalxyz.features.reconciliation.domain.ReconciliationRepository;
+import com.anibalxyz.features.transactions.domain.Currency;
+import com.anibalxyz.features.transactions.domain.SourceType;
+import com.anibalxyz.shared.UnitTest;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests for SpillingMatcher")
+public class SpillingMatcherTest extends UnitTest {
+  private static final int SPILL_THRESHOLD = 4;
+
+  @Mock private ReconciliationRepository reconciliationRepository;
+
+  @TempDir private Path spillDir;
+
+  private final List<MatchCandidate> bank = new ArrayList<>();
+  private final List<MatchCandidate> system = new ArrayList<>();
+  private final List<MatchPair> savedPairs = new ArrayList<>();
+  private SpillingMatcher spillingMatcher;
+
+  @BeforeEach
+  public void setUp() {
+    ReconciliationEnvironment env =
+        DEFAULT_ENV
+            .withRECONCILIATION_AMOUNT_TOLERANCE_CENTS(1)
+            .withRECONCILIATION_DATE_TOLERANCE_DAYS(2)
+            .withRECONCILIATION_SPILL_DIR(spillDir)
+            .withRECONCILIATION_SPILL_THRESHOLD(SPILL_THRESHOLD);
+    PartitionedMatcher partitionedMatcher = new PartitionedMatcher(env);
+    spillingMatcher =
+        new SpillingMatcher(
+            env,
+            partitionedMatcher,
+            new ExactMatcher(),
+            new RuleMatcher(),
+            new ReferenceMatcher(env),
+            new ToleranceMatcher(env));
+
+    // Every third day; odd rows only match within tolerance, two days later in the next range
+    for (int i = 0; i < 10; i++) {
+      int day = VALID_EPOCH_DAY + 3 * i + 1;
+      bank.add(buildCandidate(i + 1, Currency.UYU, 1000 + 10 * i, day, "REF-" + i));
+      system.add(
+          i % 2 == 0
+              ? buildCandidate(101 + i, Currency.UYU, 1000 + 10 * i, day, "REF-" + i)
+              : buildCandidate(101 + i, Currency.UYU, 1001 + 10 * i, day + 2, "OTHER-" + i));
+    }
+    bank.add(buildCandidate(50, Currency.UYU, 9999, VALID_EPOCH_DAY, "LONE"));
+  }
+
+  private void stubCandidates() {
+    doAnswer(invocation -> feed(bank, invocation.getArgument(1)))
+        .when(reconciliationRepository)
+        .forEachUnmatched(eq(SourceType.BANK), any());
+    doAnswer(invocation -> feed(system, invocation.getArgument(1)))
+        .when(reconciliationRepository)
+        .forEachUnmatched(eq(SourceType.SYSTEM), any());
+  }
+
+  private static Void feed(List<MatchCandidate> candidates, Consumer<MatchCandidate> action) {
+    candidates.forEach(action);
+    return null;
+  }
+
+  @Test
+  @DisplayName("match: given a run above the threshold, then save every pair and return the rest")
+  public void match_runAboveThreshold_saveEveryPairAndReturnRest() {
+    stubCandidates();
+    doAnswer(invocation -> savedPairs.addAll(invocation.getArgument(0)) ? 1 : 0)
+        .when(reconciliationRepository)
+        .saveAll(any());
+
+    SpillingMatcher.Outcome outcome =
+        spillingMatcher.match(reconciliationRepository, bank.size() + system.size(), List.of());
+
+    assertThat(outcome.bankCandidates()).isEqualTo(11);
+    assertThat(outcome.systemCandidates()).isEqualTo(10);
+    assertThat(outcome.exactMatches()).isEqualTo(5);
+    assertThat(outcome.toleranceMatches()).isEqualTo(5);
+    assertThat(savedPairs)
+        .hasSize(10)
+        .allSatisfy(
+            pair ->
+                assertThat(pair.rightTransactionId()).isEqualTo(pair.leftTransactionId() + 100));
+    assertThat(outcome.unmatchedBank()).extracting(MatchCandidate::id).containsExactly(50);
+    assertThat(outcome.unmatchedSystem()).isEmpty();
+    assertThat(outcome.lastTransactionIdBySource()).isEqualTo(Map.of(1, 110));
+    assertThat(spillDir).isEmptyDirectory();
+  }
+
+  @Test
+  @DisplayName("match: given a source rule, then pair by it across ranges before tolerance")
+  public void match_sourceRule_pairAcrossRangesBeforeTolerance() {
+    system.add(buildCandidate(150, Currency.UYU, 9999, VALID_EPOCH_DAY + 40, "PAID-LONE"));
+    stubCandidates();
+    doAnswer(invocation -> savedPairs.addAll(invocation.getArgument(0)) ? 1 : 0)
+        .when(reconciliationRepository)
+        .saveAll(any());
+
+    SpillingMatcher.Outcome outcome =
+        spillingMatcher.match(
+            reconciliationRepository,
+            bank.size() + system.size(),
+            List.of(new MatchRuleDefinition(7, 1, 1, "same amount", "amount")));
+
+    assertThat(outcome.exactMatches()).isEqualTo(5);
+    assertThat(outcome.ruleMatches()).isEqualTo(1);
+    assertThat(outcome.toleranceMatches()).isEqualTo(5);
+    assertThat(outcome.rules())
+        .extracting(RuleSummary::ruleId, RuleSummary::matches)
+        .containsExactly(tuple(7, 1));
+    assertThat(savedPairs)
+        .extracting(MatchPair::leftTransactionId, MatchPair::rightTransactionId)
+        .contains(tuple(50, 150));
+    assertThat(outcome.unmatchedBank()).isEmpty();
+    assertThat(outcome.unmatchedSystem()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("match: given an oversized date range, then look references up in the repository")
+  public void match_oversizedDateRange_lookUpReferencesInRepository() {
+    ReconciliationEnvironment env =
+        DEFAULT_ENV
+            .withRECONCILIATION_AMOUNT_TOLERANCE_CENTS(2)
+            .withRECONCILIATION_DATE_TOLERANCE_DAYS(2)
+            .withRECONCILIATION_SPILL_DIR(spillDir)
+            .withRECONCILIATION_SPILL_THRESHOLD(SPILL_THRESHOLD)
+            .withRECONCILIATION_REFERENCE_SIMILARITY(0.5);
+    spillingMatcher =
+        new SpillingMatcher(
+            env,
+            new PartitionedMatcher(env),
+            new ExactMatcher(),
+            new RuleMatcher(),
+            new ReferenceMatcher(env),
+            new ToleranceMatcher(env));
+    // By amount alone the tolerance stage would cross these pairs
+    bank.clear();
+    bank.add(buildCandidate(1, Currency.UYU, 1000, VALID_EPOCH_DAY, "Transf. INV-0001"));
+    bank.add(buildCandidate(2, Currency.UYU, 1002, VALID_EPOCH_DAY, "Transf. INV-0002"));
+    system.clear();
+    system.add(buildCandidate(101, Currency.UYU, 1002, VALID_EPOCH_DAY, "INV0001"));
+    system.add(buildCandidate(102, Currency.UYU, 1000, VALID_EPOCH_DAY, "INV0002"));
+    system.add(buildCandidate(103, Currency.UYU, 5000, VALID_EPOCH_DAY, "LONE"));
+    stubCandidates();
+    doAnswer(invocation -> List.of(((MatchCandidate) invocation.getArgument(1)).id() + 100))
+        .when(reconciliationRepository)
+        .findSimilarUnmatched(
+            eq(SourceType.SYSTEM), any(), eq(2L), eq(2), eq(0.5), eq(ReferenceMatcher.TOP_K));
+    doAnswer(invocation -> savedPairs.addAll(invocation.getArgument(0)) ? 1 : 0)
+        .when(reconciliationRepository)
+        .saveAll(any());
+
+    SpillingMatcher.Outcome outcome = spillingMatcher.match(reconciliationRepository, 5, List.of());
+
+    assertThat(outcome.referenceMatches()).isEqualTo(2);
+    assertThat(outcome.toleranceMatches()).isZero();
+    assertThat(savedPairs)
+        .extracting(MatchPair::leftTransactionId, MatchPair::rightTransactionId)
+        .containsExactly(tuple(1, 101), tuple(2, 102));
+    assertThat(outcome.unmatchedSystem()).extracting(MatchCandidate::id).containsExactly(103);
+  }
+
+  @Test
+  @DisplayName("match: given a stopping server, then abort the run and delete its spill files")
+  public void match_serverStopping_abortAndDeleteSpillFiles() {
+    stubCandidates();
+    spillingMatcher.shutdown();
+
+    assertThatThrownBy(() -> spillingMatcher.match(reconciliationRepository, 21, List.of()))
+        .isInstanceOf(IllegalStateException.class);
+    assertThat(spillDir).isEmptyDirectory();
+  }
+
+  @Test
+  @DisplayName("maxPartitions: given a threshold, then keep the write buffers within a partition")
+  public void maxPartitions_threshold_keepWriteBuffersWithinPartition() {
+    int threshold = 200_000;
+
+    int partitions = SpillingMatcher.maxPartitions(threshold);
+
+    assertThat(4L * partitions * SpillFile.BUFFER_BYTES)
+        .isLessThanOrEqualTo((long) threshold / 2 * SpillingMatcher.CANDIDATE_BYTES);
+    assertThat(SpillingMatcher.maxPartitions(SPILL_THRESHOLD))
+        .isEqualTo(SpillingMatcher.MIN_PARTITIONS);
+    assertThat(SpillingMatcher.maxPartitions(Integer.MAX_VALUE))
+        .isEqualTo(SpillingMatcher.MAX_PARTITIONS);
+  }
+
+  @Test
+  @DisplayName("dateRanges: given a crowded day, then give it a range and keep the rest together")
+  public void dateRanges_crowdedDay_giveItOwnRange() {
+    Map<Integer, Integer> rowsByDay =
+        Map.of(
+            VALID_EPOCH_DAY, 2,
+            VALID_EPOCH_DAY + 1, 3,
+            VALID_EPOCH_DAY + 9, 50,
+            VALID_EPOCH_DAY + 10, 1,
+            VALID_EPOCH_DAY + 20, 4);
+
+    int[] starts = SpillingMatcher.dateRanges(rowsByDay, 5);
+
+    assertThat(starts)
+        .containsExactly(VALID_EPOCH_DAY, VALID_EPOCH_DAY + 9, VALID_EPOCH_DAY + 10);
+  }
+
+  @Test
+  @DisplayName("shouldSpill: given candidates up to the threshold, then keep the run in memory")
+  public void shouldSpill_upToThreshold_keepInMemory() {
+    assertThat(spillingMatcher.shouldSpill(SPILL_THRESHOLD)).isFalse();
+    assertThat(spillingMatcher.shouldSpill(SPILL_THRESHOLD + 1)).isTrue();
+  }
+}
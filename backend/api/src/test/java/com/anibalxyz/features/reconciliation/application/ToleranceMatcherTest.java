@@ -0,0 +1,120 @@
+package com.anibalxyz.features.reconciliation.application;
+
+import static com.anibalxyz.shared.Constants.Reconciliation.DEFAULT_ENV;
+import static com.anibalxyz.shared.Constants.Reconciliation.VALID_EPOCH_DAY;
+import static com.anibalxyz.shared.Constants.Reconciliation.buildCandidate;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.anibalxyz.features.reconciliation.domain.Discrepancy;
+import com.anibalxyz.features.reconciliation.domain.MatchCandidate;
+import com.anibalxyz.features.reconciliation.domain.MatchOutcome;
+import com.anibalxyz.features.reconciliation.domain.MatchPair;
+import com.anibalxyz.features.transactions.domain.Currency;
+import com.anibalxyz.shared.UnitTest;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Tests for ToleranceMatcher")
+public class ToleranceMatcherTest extends UnitTest {
+  private static final long AMOUNT_TOLERANCE = 5;
+  private static final int DAY_TOLERANCE = 2;
+
+  private final ToleranceMatcher toleranceMatcher =
+      new ToleranceMatcher(
+          DEFAULT_ENV
+              .withRECONCILIATION_AMOUNT_TOLERANCE_CENTS(AMOUNT_TOLERANCE)
+              .withRECONCILIATION_DATE_TOLERANCE_DAYS(DAY_TOLERANCE));
+
+  @Test
+  @DisplayName("match: given rows within both tolerances, then pair them with their discrepancies")
+  public void match_withinTolerances_pairWithDiscrepancies() {
+    List<MatchCandidate> bank = List.of(buildCandidate(1, 1000, 0, "REF-1"));
+    List<MatchCandidate> system = List.of(buildCandidate(2, 1003, DAY_TOLERANCE, "REF-2"));
+
+    MatchOutcome outcome = toleranceMatcher.match(bank, system);
+
+    assertThat(outcome.pairs())
+        .containsExactly(
+            new MatchPair(
+                1,
+                2,
+                Set.of(
+                    Discrepancy.AMOUNT_MISMATCH,
+                    Discrepancy.DATE_MISMATCH,
+                    Discrepancy.REFERENCE_MISMATCH)));
+    assertThat(outcome.unmatchedBank()).isEmpty();
+    assertThat(outcome.unmatchedSystem()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("match: given only the reference differs, then report a reference discrepancy")
+  public void match_onlyReferenceDiffers_reportReferenceDiscrepancy() {
+    List<MatchCandidate> bank = List.of(buildCandidate(1, 1000, 0, "REF-1"));
+    List<MatchCandidate> system = List.of(buildCandidate(2, 1000, 0, "REF-2"));
+
+    assertThat(toleranceMatcher.match(bank, system).pairs())
+        .containsExactly(new MatchPair(1, 2, Set.of(Discrepancy.REFERENCE_MISMATCH)));
+  }
+
+  @Test
+  @DisplayName("match: given rows outside the amount or date tolerance, then leave them unmatched")
+  public void match_outsideTolerances_leaveUnmatched() {
+    List<MatchCandidate> bank =
+        List.of(buildCandidate(1, 1000, 0, "REF-1"), buildCandidate(2, 5000, 0, "REF-2"));
+    List<MatchCandidate> system =
+        List.of(
+            buildCandidate(3, 1000 + AMOUNT_TOLERANCE + 1, 0, "REF-3"),
+            buildCandidate(4, 5000, DAY_TOLERANCE + 1, "REF-4"));
+
+    MatchOutcome outcome = toleranceMatcher.match(bank, system);
+
+    assertThat(outcome.pairs()).isEmpty();
+    assertThat(outcome.unmatchedBank()).containsExactlyInAnyOrderElementsOf(bank);
+    assertThat(outcome.unmatchedSystem()).containsExactlyInAnyOrderElementsOf(system);
+  }
+
+  @Test
+  @DisplayName("match: given several rows in the window, then pick the closest amount, then date")
+  public void match_severalInWindow_pickClosest() {
+    List<MatchCandidate> bank = List.of(buildCandidate(1, 1000, 0, "REF-1"));
+    List<MatchCandidate> system =
+        List.of(
+            buildCandidate(2, 996, 0, "REF-2"),
+            buildCandidate(3, 1002, 2, "REF-3"),
+            buildCandidate(4, 1002, 1, "REF-4"));
+
+    MatchOutcome outcome = toleranceMatcher.match(bank, system);
+
+    assertThat(outcome.pairs()).extracting(MatchPair::rightTransactionId).containsExactly(4);
+    assertThat(outcome.unmatchedSystem()).extracting(MatchCandidate::id).containsExactly(2, 3);
+  }
+
+  @Test
+  @DisplayName("match: given a SYSTEM row already taken, then pair the next BANK row elsewhere")
+  public void match_systemRowTaken_pairNextElsewhere() {
+    List<MatchCandidate> bank =
+        List.of(buildCandidate(1, 1000, 0, "REF-1"), buildCandidate(2, 1001, 0, "REF-2"));
+    List<MatchCandidate> system =
+        List.of(buildCandidate(3, 1000, 0, "REF-3"), buildCandidate(4, 1004, 0, "REF-4"));
+
+    MatchOutcome outcome = toleranceMatcher.match(bank, system);
+
+    assertThat(outcome.pairs())
+        .extracting(MatchPair::leftTransactionId, MatchPair::rightTransactionId)
+        .containsExactly(tuple(1, 3), tuple(2, 4));
+  }
+
+  @Test
+  @DisplayName("match: given different currencies, then never pair them")
+  public void match_differentCurrencies_neverPair() {
+    List<MatchCandidate> bank =
+        List.of(buildCandidate(1, Currency.USD, 1000, VALID_EPOCH_DAY, "REF"));
+    List<MatchCandidate> system =
+        List.of(buildCandidate(2, Currency.EUR, 1000, VALID_EPOCH_DAY, "REF"));
+
+    assertThat(toleranceMatcher.match(bank, system).pairs()).isEmpty();
+  }
+}
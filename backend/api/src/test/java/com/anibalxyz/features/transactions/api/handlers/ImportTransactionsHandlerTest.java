@@ -0,0 +1,107 @@
+package com.anibalxyz.features.transactions.api.handlers;
+
+import static com.anibalxyz.shared.Helpers.stubStatusChaining;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.anibalxyz.core.Result;
+import com.anibalxyz.core.application.exception.FailureSignal;
+import com.anibalxyz.features.transactions.api.out.ImportTransactionsResponse;
+import com.anibalxyz.features.transactions.application.ImportTransactions;
+import com.anibalxyz.features.transactions.application.out.ImportSummary;
+import com.anibalxyz.features.transactions.domain.StatementFormat;
+import com.anibalxyz.features.transactions.domain.error.SourceNotFoundError;
+import com.anibalxyz.shared.UnitTest;
+import io.javalin.http.BadRequestResponse;
+import io.javalin.http.Context;
+import io.javalin.validation.Validator;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests for ImportTransactionsHandler")
+public class ImportTransactionsHandlerTest extends UnitTest {
+  private static final int SOURCE_ID = 1;
+
+  @Mock private ImportTransactions importTransactions;
+  @Mock private Context ctx;
+  @InjectMocks private ImportTransactionsHandler importTransactionsHandler;
+
+  @SuppressWarnings("unchecked")
+  private Validator<Integer> mockSourceIdValidator() {
+    Validator<Integer> validator = (Validator<Integer>) mock(Validator.class);
+    when(validator.getOrThrow(any())).thenReturn(SOURCE_ID);
+    return validator;
+  }
+
+  private InputStream stubRequest() {
+    Validator<Integer> validator = mockSourceIdValidator();
+    when(ctx.queryParamAsClass("sourceId", Integer.class)).thenReturn(validator);
+    InputStream body = new ByteArrayInputStream(new byte[0]);
+    when(ctx.bodyInputStream()).thenReturn(body);
+    return body;
+  }
+
+  @Test
+  @DisplayName("importTransactions: given a valid statement, then respond 201 with its summary")
+  public void importTransactions_validStatement_respond201WithSummary() {
+    stubStatusChaining(ctx);
+    InputStream body = stubRequest();
+    when(importTransactions.execute(SOURCE_ID, StatementFormat.CSV, body))
+        .thenReturn(
+            Result.success(new ImportSummary(SOURCE_ID, 40, 1, 1, Duration.ofMillis(9))));
+
+    importTransactionsHandler.handle(ctx);
+
+    verify(ctx).status(201);
+    verify(ctx).json(new ImportTransactionsResponse(SOURCE_ID, 40, 1, 1, 9));
+  }
+
+  @Test
+  @DisplayName("importTransactions: given a format, then import the statement in that format")
+  public void importTransactions_format_importInThatFormat() {
+    stubStatusChaining(ctx);
+    InputStream body = stubRequest();
+    when(ctx.queryParam("format")).thenReturn("camt053");
+    when(importTransactions.execute(SOURCE_ID, StatementFormat.CAMT053, body))
+        .thenReturn(Result.success(new ImportSummary(SOURCE_ID, 1, 0, 0, Duration.ofMillis(2))));
+
+    importTransactionsHandler.handle(ctx);
+
+    verify(ctx).json(new ImportTransactionsResponse(SOURCE_ID, 1, 0, 0, 2));
+  }
+
+  @Test
+  @DisplayName("importTransactions: given an unknown format, then throw BadRequestResponse")
+  public void importTransactions_unknownFormat_throwBadRequest() {
+    Validator<Integer> validator = mockSourceIdValidator();
+    when(ctx.queryParamAsClass("sourceId", Integer.class)).thenReturn(validator);
+    when(ctx.queryParam("format")).thenReturn("qif");
+
+    assertThatThrownBy(() -> importTransactionsHandler.handle(ctx))
+        .isInstanceOf(BadRequestResponse.class);
+  }
+
+  @Test
+  @DisplayName("importTransactions: given a failed import, then throw a FailureSignal")
+  public void importTransactions_failedImport_throwFailureSignal() {
+    InputStream body = stubRequest();
+    when(importTransactions.execute(SOURCE_ID, StatementFormat.CSV, body))
+        .thenReturn(
+            Result.failure(
+                new ImportTransactions.Error.SourceNotFound(SourceNotFoundError.byId(SOURCE_ID))));
+
+    assertThatThrownBy(() -> importTransactionsHandler.handle(ctx))
+        .isInstanceOf(FailureSignal.class);
+  }
+}
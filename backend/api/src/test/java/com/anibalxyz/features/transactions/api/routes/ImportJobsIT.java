@@ -0,0 +1,116 @@
+package com.anibalxyz.features.transactions.api.routes;
+
+import static com.anibalxyz.shared.Helpers.createJwtHeader;
+import static com.anibalxyz.shared.Helpers.persistSource;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.anibalxyz.features.transactions.api.out.ImportJobResponse;
+import com.anibalxyz.features.transactions.domain.ImportJobStatus;
+import com.anibalxyz.features.transactions.domain.SourceType;
+import com.anibalxyz.shared.IntegrationTest;
+import java.time.Duration;
+import java.util.UUID;
+import okhttp3.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Tests for /transactions/import-jobs")
+public class ImportJobsIT extends IntegrationTest {
+  private static final Duration POLL_TIMEOUT = Duration.ofSeconds(10);
+
+  private long countTransactions() {
+    return ((Number) em.createNativeQuery("SELECT count(*) FROM transactions").getSingleResult())
+        .longValue();
+  }
+
+  /** Polls the job until it finishes. */
+  private ImportJobResponse awaitFinished(String jobId) throws InterruptedException {
+    long deadline = System.nanoTime() + POLL_TIMEOUT.toNanos();
+    while (true) {
+      Response response =
+          http.get("/transactions/import-jobs/" + jobId, createJwtHeader(validJwt));
+      assertThat(response.code()).isEqualTo(200);
+      ImportJobResponse job = http.parseBody(response, ImportJobResponse.class);
+      if (job.status() == ImportJobStatus.SUCCEEDED || job.status() == ImportJobStatus.FAILED) {
+        return job;
+      }
+      assertThat(System.nanoTime()).as("job finished in time").isLessThan(deadline);
+      Thread.sleep(50);
+    }
+  }
+
+  @Test
+  @DisplayName(
+      "POST /transactions/import-jobs: given a valid statement, then return 202 and import it")
+  public void POST_transactionsImportJobs_validStatement_return202AndImport()
+      throws InterruptedException {
+    int bank = persistSource(em, "BANK-1", SourceType.BANK);
+    String statement =
+        "date,reference,currency,amount\n2025-01-02,REF-1,UYU,100.25\n2025-01-03,REF-2,USD,-7\n";
+
+    Response response =
+        http.post(
+            "/transactions/import-jobs?sourceId=" + bank, statement, createJwtHeader(validJwt));
+
+    assertThat(response.code()).isEqualTo(202);
+    ImportJobResponse submitted = http.parseBody(response, ImportJobResponse.class);
+    assertThat(response.header("Location"))
+        .isEqualTo("/api/transactions/import-jobs/" + submitted.jobId());
+    assertThat(submitted.sourceId()).isEqualTo(bank);
+    assertThat(submitted.totalBytes()).isEqualTo(statement.length());
+    ImportJobResponse job = awaitFinished(submitted.jobId());
+    assertThat(job.status()).isEqualTo(ImportJobStatus.SUCCEEDED);
+    assertThat(job.result().inserted()).isEqualTo(2);
+    assertThat(job.entriesWritten()).isEqualTo(2);
+    assertThat(job.bytesRead()).isEqualTo(statement.length());
+    assertThat(job.error()).isNull();
+    assertThat(countTransactions()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName(
+      "POST /transactions/import-jobs: given an invalid row, then fail the job and store nothing")
+  public void POST_transactionsImportJobs_invalidRow_failJobAndStoreNothing()
+      throws InterruptedException {
+    int bank = persistSource(em, "BANK-1", SourceType.BANK);
+
+    Response response =
+        http.post(
+            "/transactions/import-jobs?sourceId=" + bank,
+            "date,reference,currency,amount\n2025-01-02,REF-1,UYU,1\n2025-01-03,REF-2,UYU,abc\n",
+            createJwtHeader(validJwt));
+
+    assertThat(response.code()).isEqualTo(202);
+    ImportJobResponse job =
+        awaitFinished(http.parseBody(response, ImportJobResponse.class).jobId());
+    assertThat(job.status()).isEqualTo(ImportJobStatus.FAILED);
+    assertThat(job.result()).isNull();
+    assertThat(job.error().code()).isEqualTo("VALIDATION_ERROR");
+    assertThat(job.error().errors())
+        .singleElement()
+        .extracting(detail -> detail.extensions().get("field"))
+        .isEqualTo("rows[3].amount");
+    assertThat(countTransactions()).isZero();
+  }
+
+  @Test
+  @DisplayName("POST /transactions/import-jobs: given an unknown source, then return 404")
+  public void POST_transactionsImportJobs_unknownSource_return404() {
+    Response response =
+        http.post(
+            "/transactions/import-jobs?sourceId=999",
+            "date,reference,currency,amount\n",
+            createJwtHeader(validJwt));
+
+    assertThat(response.code()).isEqualTo(404);
+  }
+
+  @Test
+  @DisplayName("GET /transactions/import-jobs/{jobId}: given an unknown job, then return 404")
+  public void GET_transactionsImportJobs_unknownJob_return404() {
+    Response response =
+        http.get("/transactions/import-jobs/" + UUID.randomUUID(), createJwtHeader(validJwt));
+
+    assertThat(response.code()).isEqualTo(404);
+  }
+}
@@ -0,0 +1,177 @@
+package com.anibalxyz.features.transactions.api.routes;
+
+import static com.anibalxyz.shared.Helpers.createJwtHeader;
+import static com.anibalxyz.shared.Helpers.persistSource;
+import static com.anibalxyz.shared.Helpers.persistTransaction;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.anibalxyz.features.transactions.api.out.ImportTransactionsResponse;
+import com.anibalxyz.features.transactions.domain.Currency;
+import com.anibalxyz.features.transactions.domain.SourceType;
+import com.anibalxyz.shared.IntegrationTest;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import okhttp3.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Tests for POST /transactions/import")
+public class ImportTransactionsIT extends IntegrationTest {
+
+  @SuppressWarnings("unchecked")
+  private List<Object[]> persistedTransactions() {
+    return em.createNativeQuery(
+            "SELECT reference, currency::text, amount, description FROM transactions ORDER BY id")
+        .getResultList();
+  }
+
+  @Test
+  @DisplayName(
+      "POST /transactions/import: given a valid statement, then return 201 and persist its rows")
+  public void POST_transactionsImport_validStatement_return201AndPersistRows() {
+    int bank = persistSource(em, "BANK-1", SourceType.BANK);
+    String csv =
+        """
+        date,reference,currency,amount,description
+        2025-01-02,REF-1,UYU,100.25,"Coffee, large"
+        2025-01-03,"REF ""2""\",USD,-5,
+        """;
+
+    Response response =
+        http.post("/transactions/import?sourceId=" + bank, csv, createJwtHeader(validJwt));
+
+    assertThat(response.code()).isEqualTo(201);
+    ImportTransactionsResponse body = http.parseBody(response, ImportTransactionsResponse.class);
+    assertThat(body.sourceId()).isEqualTo(bank);
+    assertThat(body.inserted()).isEqualTo(2);
+    List<Object[]> rows = persistedTransactions();
+    assertThat(rows).hasSize(2);
+    assertThat(rows.getFirst())
+        .containsExactly("REF-1", "UYU", new BigDecimal("100.25"), "Coffee, large");
+    assertThat(rows.get(1)).containsExactly("REF \"2\"", "USD", new BigDecimal("-5.00"), null);
+  }
+
+  @Test
+  @DisplayName(
+      "POST /transactions/import: given a camt.053 statement, then return 201 and persist entries")
+  public void POST_transactionsImport_camt053Statement_return201AndPersistEntries() {
+    int bank = persistSource(em, "BANK-1", SourceType.BANK);
+    String xml =
+        """
+        <?xml version="1.0" encoding="UTF-8"?>
+        <Document xmlns="urn:iso:std:iso:20022:tech:xsd:camt.053.001.02">
+          <BkToCstmrStmt><Stmt><Ntry>
+            <Amt Ccy="USD">10.00</Amt><CdtDbtInd>DBIT</CdtDbtInd><Sts>BOOK</Sts>
+            <BookgDt><Dt>2025-01-02</Dt></BookgDt><AcctSvcrRef>ASR-1</AcctSvcrRef>
+          </Ntry></Stmt></BkToCstmrStmt>
+        </Document>
+        """;
+
+    Response response =
+        http.post(
+            "/transactions/import?format=camt053&sourceId=" + bank,
+            xml,
+            createJwtHeader(validJwt));
+
+    assertThat(response.code()).isEqualTo(201);
+    assertThat(persistedTransactions())
+        .singleElement()
+        .satisfies(
+            row -> assertThat(row).containsExactly("ASR-1", "USD", new BigDecimal("-10.00"), null));
+  }
+
+  @Test
+  @DisplayName(
+      "POST /transactions/import: given an overlapping statement, then insert, update or skip rows")
+  public void POST_transactionsImport_overlappingStatement_insertUpdateOrSkipRows() {
+    int bank = persistSource(em, "BANK-1", SourceType.BANK);
+    String path = "/transactions/import?sourceId=" + bank;
+    http.post(
+        path,
+        "date,reference,currency,amount\n2025-01-02,REF-1,UYU,1\n2025-01-02,REF-2,UYU,2\n",
+        createJwtHeader(validJwt));
+
+    Response response =
+        http.post(
+            path,
+            """
+            date,reference,currency,amount
+            2025-01-02,REF-1,UYU,1
+            2025-01-02,REF-2,UYU,20
+            2025-01-02,REF-3,UYU,3
+            2025-01-02,REF-3,UYU,30
+            """,
+            createJwtHeader(validJwt));
+
+    assertThat(response.code()).isEqualTo(201);
+    ImportTransactionsResponse body = http.parseBody(response, ImportTransactionsResponse.class);
+    assertThat(body.inserted()).isEqualTo(1);
+    assertThat(body.updated()).isEqualTo(1);
+    assertThat(body.skipped()).isEqualTo(2);
+    assertThat(persistedTransactions())
+        .extracting(row -> row[0], row -> row[2])
+        .containsExactly(
+            tuple("REF-1", new BigDecimal("1.00")),
+            tuple("REF-2", new BigDecimal("20.00")),
+            tuple("REF-3", new BigDecimal("30.00")));
+  }
+
+  @Test
+  @DisplayName("POST /transactions/import: given a reconciled row changed, then leave it untouched")
+  public void POST_transactionsImport_reconciledRowChanged_leaveUntouched() {
+    int bank = persistSource(em, "BANK-1", SourceType.BANK);
+    int system = persistSource(em, "ERP", SourceType.SYSTEM);
+    Instant date = FIXED_NOW.toInstant();
+    persistTransaction(em, bank, date, "REF-1", Currency.UYU, BigDecimal.ONE);
+    persistTransaction(em, system, date, "REF-1", Currency.UYU, BigDecimal.ONE);
+    http.post("/reconciliations/run", Map.of(), createJwtHeader(validJwt));
+
+    Response response =
+        http.post(
+            "/transactions/import?sourceId=" + bank,
+            "date,reference,currency,amount\n2025-01-02,REF-1,UYU,5\n",
+            createJwtHeader(validJwt));
+
+    assertThat(response.code()).isEqualTo(201);
+    ImportTransactionsResponse body = http.parseBody(response, ImportTransactionsResponse.class);
+    assertThat(body.updated()).isZero();
+    assertThat(body.skipped()).isEqualTo(1);
+    assertThat(persistedTransactions())
+        .extracting(row -> row[2])
+        .containsExactly(new BigDecimal("1.00"), new BigDecimal("1.00"));
+  }
+
+  @Test
+  @DisplayName(
+      "POST /transactions/import: given an invalid row, then return 400 and persist nothing")
+  public void POST_transactionsImport_invalidRow_return400AndPersistNothing() {
+    int bank = persistSource(em, "BANK-1", SourceType.BANK);
+    String csv =
+        """
+        date,reference,currency,amount
+        2025-01-02,REF-1,UYU,1
+        2025-01-02,REF-2,UYU,not-a-number
+        """;
+
+    Response response =
+        http.post("/transactions/import?sourceId=" + bank, csv, createJwtHeader(validJwt));
+
+    assertThat(response.code()).isEqualTo(400);
+    assertThat(persistedTransactions()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("POST /transactions/import: given an unknown source, then return 404")
+  public void POST_transactionsImport_unknownSource_return404() {
+    Response response =
+        http.post(
+            "/transactions/import?sourceId=999",
+            "date,reference,currency,amount\n",
+            createJwtHeader(validJwt));
+
+    assertThat(response.code()).isEqualTo(404);
+  }
+}
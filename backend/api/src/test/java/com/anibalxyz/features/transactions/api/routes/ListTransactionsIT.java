@@ -0,0 +1,85 @@
+package com.anibalxyz.features.transactions.api.routes;
+
+import static com.anibalxyz.shared.Helpers.createJwtHeader;
+import static com.anibalxyz.shared.Helpers.persistSource;
+import static com.anibalxyz.shared.Helpers.persistTransaction;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.anibalxyz.features.common.api.out.response.success.CollectionResponse;
+import com.anibalxyz.features.transactions.api.out.TransactionResponse;
+import com.anibalxyz.features.transactions.domain.Currency;
+import com.anibalxyz.features.transactions.domain.SourceType;
+import com.anibalxyz.shared.IntegrationTest;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import okhttp3.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tools.jackson.core.type.TypeReference;
+
+@DisplayName("Tests for GET /transactions")
+public class ListTransactionsIT extends IntegrationTest {
+  private static final Instant DAY_1 = Instant.parse("2025-01-01T10:00:00Z");
+  private static final Instant DAY_2 = Instant.parse("2025-01-02T10:00:00Z");
+
+  private CollectionResponse<TransactionResponse> getPage(String query) {
+    Response response = http.get("/transactions" + query, createJwtHeader(validJwt));
+    assertThat(response.code()).isEqualTo(200);
+    return http.parseBody(response, new TypeReference<>() {});
+  }
+
+  @Test
+  @DisplayName(
+      "GET /transactions: given more transactions than the limit, then page through them by date")
+  public void GET_transactions_moreThanLimit_pageThroughByDate() {
+    int bank = persistSource(em, "BANK-1", SourceType.BANK);
+    int sameDayFirst = persistTransaction(em, bank, DAY_2, "REF-B", Currency.UYU, BigDecimal.ONE);
+    int sameDaySecond = persistTransaction(em, bank, DAY_2, "REF-C", Currency.UYU, BigDecimal.TEN);
+    int earliest = persistTransaction(em, bank, DAY_1, "REF-A", Currency.USD, BigDecimal.TWO);
+
+    List<Integer> listed = new ArrayList<>();
+    String query = "?limit=2";
+    CollectionResponse<TransactionResponse> page;
+    do {
+      page = getPage(query);
+      page.data().forEach(transaction -> listed.add(transaction.id()));
+      query = "?limit=2&cursor=" + page.meta().pagination().next();
+    } while (page.meta().pagination().next() != null);
+
+    assertThat(listed).containsExactly(earliest, sameDayFirst, sameDaySecond);
+  }
+
+  @Test
+  @DisplayName("GET /transactions: given a sourceId, then only list transactions of that source")
+  public void GET_transactions_sourceId_onlyListThatSource() {
+    int bank = persistSource(em, "BANK-1", SourceType.BANK);
+    int system = persistSource(em, "SYS-1", SourceType.SYSTEM);
+    persistTransaction(em, bank, DAY_1, "REF-1", Currency.UYU, BigDecimal.ONE);
+    int kept = persistTransaction(em, system, DAY_2, "REF-1", Currency.UYU, BigDecimal.ONE);
+
+    CollectionResponse<TransactionResponse> page = getPage("?sourceId=" + system);
+
+    assertThat(page.data())
+        .singleElement()
+        .satisfies(
+            transaction -> {
+              assertThat(transaction.id()).isEqualTo(kept);
+              assertThat(transaction.sourceId()).isEqualTo(system);
+              assertThat(transaction.date()).isEqualTo(DAY_2);
+              assertThat(transaction.reference()).isEqualTo("REF-1");
+              assertThat(transaction.amount()).isEqualByComparingTo("1");
+            });
+    assertThat(page.meta().pagination().next()).isNull();
+  }
+
+  @Test
+  @DisplayName("GET /transactions: given a malformed cursor, then return 400")
+  public void GET_transactions_malformedCursor_return400() {
+    Response response =
+        http.get("/transactions?cursor=bm90LWEta2V5", createJwtHeader(validJwt));
+
+    assertThat(response.code()).isEqualTo(400);
+  }
+}
@@ -0,0 +1,95 @@
+package com.anibalxyz.features.transactions.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.anibalxyz.shared.UnitTest;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Tests for BatchPipeline")
+public class BatchPipelineTest extends UnitTest {
+
+  /** Endless upstream counting how many items were pulled from it. */
+  private static Iterator<Integer> endless(AtomicLong pulled) {
+    return new Iterator<>() {
+      @Override
+      public boolean hasNext() {
+        return true;
+      }
+
+      @Override
+      public Integer next() {
+        return (int) pulled.incrementAndGet();
+      }
+    };
+  }
+
+  @Test
+  @DisplayName("connect: given more items than a batch, then deliver all of them in order")
+  public void connect_moreItemsThanBatch_deliverAllInOrder() {
+    List<Integer> items = IntStream.range(0, 2_500).boxed().toList();
+    List<Integer> consumed = new ArrayList<>();
+
+    try (BatchPipeline<Integer> pipeline = new BatchPipeline<>(1_000, 2)) {
+      pipeline.connect(items.iterator()).forEachRemaining(consumed::add);
+    }
+
+    assertThat(consumed).isEqualTo(items);
+  }
+
+  @Test
+  @DisplayName("connect: given a failing upstream, then rethrow after the items produced before")
+  public void connect_failingUpstream_rethrowAfterProducedItems() {
+    Iterator<Integer> failing =
+        new Iterator<>() {
+          private int next;
+
+          @Override
+          public boolean hasNext() {
+            return true;
+          }
+
+          @Override
+          public Integer next() {
+            if (next == 3) {
+              throw new IllegalStateException("broken statement");
+            }
+            return next++;
+          }
+        };
+    List<Integer> consumed = new ArrayList<>();
+
+    try (BatchPipeline<Integer> pipeline = new BatchPipeline<>(2, 2)) {
+      Iterator<Integer> downstream = pipeline.connect(failing);
+      assertThatThrownBy(() -> downstream.forEachRemaining(consumed::add))
+          .isInstanceOf(IllegalStateException.class)
+          .hasMessage("broken statement");
+    }
+
+    assertThat(consumed).containsExactly(0, 1, 2);
+  }
+
+  @Test
+  @DisplayName("close: given a consumer that stops early, then stop the producer within the bound")
+  public void close_consumerStopsEarly_stopProducerWithinBound() {
+    AtomicLong pulled = new AtomicLong();
+
+    try (BatchPipeline<Integer> pipeline = new BatchPipeline<>(10, 2)) {
+      Iterator<Integer> downstream = pipeline.connect(endless(pulled));
+      for (int i = 0; i < 5; i++) {
+        downstream.next();
+      }
+    }
+    long afterClose = pulled.get();
+
+    // The batch being consumed, the queued ones and the one the producer was filling
+    assertThat(afterClose).isLessThanOrEqualTo(10 * (1 + 2 + 1));
+    assertThat(pulled.get()).isEqualTo(afterClose);
+  }
+}
@@ -0,0 +1,176 @@
+package com.anibalxyz.features.transactions.application;
+
+import static com.anibalxyz.shared.NotificationAssert.assertThatNotification;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.anibalxyz.core.application.ValidationNotification;
+import com.anibalxyz.features.transactions.domain.Currency;
+import com.anibalxyz.features.transactions.domain.Transaction;
+import com.anibalxyz.features.transactions.domain.error.InvalidCurrencyError;
+import com.anibalxyz.features.transactions.domain.error.MalformedXmlError;
+import com.anibalxyz.features.transactions.domain.error.TransactionDomainError;
+import com.anibalxyz.shared.UnitTest;
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Tests for Camt053Reader")
+public class Camt053ReaderTest extends UnitTest {
+  private static final int SOURCE_ID = 7;
+
+  private final ValidationNotification<TransactionDomainError> notification =
+      new ValidationNotification<>();
+
+  private List<Transaction> readAll(String xml) {
+    Camt053Reader reader =
+        new Camt053Reader(
+            new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)),
+            SOURCE_ID,
+            ZoneOffset.UTC,
+            notification,
+            10);
+    List<Transaction> transactions = new ArrayList<>();
+    reader.forEachRemaining(transactions::add);
+    return transactions;
+  }
+
+  private static String statement(String entries) {
+    return """
+        <?xml version="1.0" encoding="UTF-8"?>
+        <Document xmlns="urn:iso:std:iso:20022:tech:xsd:camt.053.001.08">
+          <BkToCstmrStmt><Stmt>
+            <Bal><Amt Ccy="EUR">1000.00</Amt></Bal>
+            %s
+          </Stmt></BkToCstmrStmt>
+        </Document>
+        """
+        .formatted(entries);
+  }
+
+  @Test
+  @DisplayName("next: given booked entries, then map them onto transactions")
+  public void next_bookedEntries_mapOntoTransactions() {
+    String xml =
+        statement(
+            """
+            <Ntry>
+              <NtryRef>N-1</NtryRef>
+              <Amt Ccy="EUR">12.50</Amt>
+              <CdtDbtInd>DBIT</CdtDbtInd>
+              <Sts><Cd>BOOK</Cd></Sts>
+              <BookgDt><Dt>2025-01-15</Dt></BookgDt>
+              <AcctSvcrRef>ASR-1</AcctSvcrRef>
+              <NtryDtls><TxDtls>
+                <AmtDtls><TxAmt><Amt Ccy="USD">13.00</Amt></TxAmt></AmtDtls>
+                <RmtInf><Ustrd>Invoice 1</Ustrd></RmtInf>
+              </TxDtls></NtryDtls>
+            </Ntry>
+            <Ntry>
+              <Amt Ccy="USD">3</Amt>
+              <CdtDbtInd>CRDT</CdtDbtInd>
+              <Sts>BOOK</Sts>
+              <ValDt><DtTm>2025-01-16T10:00:00Z</DtTm></ValDt>
+              <NtryDtls><TxDtls><Refs>
+                <EndToEndId>NOTPROVIDED</EndToEndId>
+                <AcctSvcrRef>TX-2</AcctSvcrRef>
+              </Refs></TxDtls></NtryDtls>
+              <AddtlNtryInf>Transfer &amp; fee</AddtlNtryInf>
+            </Ntry>
+            """);
+
+    List<Transaction> transactions = readAll(xml);
+
+    assertThat(notification.hasErrors()).isFalse();
+    assertThat(transactions).hasSize(2);
+    Transaction debit = transactions.getFirst();
+    assertThat(debit.sourceId()).isEqualTo(SOURCE_ID);
+    assertThat(debit.date()).isEqualTo(Instant.parse("2025-01-15T00:00:00Z"));
+    assertThat(debit.reference().value()).isEqualTo("ASR-1");
+    assertThat(debit.currency()).isEqualTo(Currency.EUR);
+    assertThat(debit.amount().value()).isEqualTo(new BigDecimal("-12.50"));
+    assertThat(debit.description()).isEqualTo("Invoice 1");
+    Transaction credit = transactions.get(1);
+    assertThat(credit.date()).isEqualTo(Instant.parse("2025-01-16T10:00:00Z"));
+    assertThat(credit.reference().value()).isEqualTo("TX-2");
+    assertThat(credit.amount().value()).isEqualTo(new BigDecimal("3.00"));
+    assertThat(credit.description()).isEqualTo("Transfer & fee");
+  }
+
+  @Test
+  @DisplayName("next: given a pending entry, then skip it")
+  public void next_pendingEntry_skip() {
+    String xml =
+        statement(
+            """
+            <Ntry>
+              <NtryRef>P-1</NtryRef><Amt Ccy="USD">3</Amt><CdtDbtInd>CRDT</CdtDbtInd>
+              <Sts>PDNG</Sts><BookgDt><Dt>2025-01-16</Dt></BookgDt>
+            </Ntry>
+            """);
+
+    assertThat(readAll(xml)).isEmpty();
+    assertThat(notification.hasErrors()).isFalse();
+  }
+
+  @Test
+  @DisplayName("next: given an invalid entry, then report it by position")
+  public void next_invalidEntry_reportByPosition() {
+    String xml =
+        statement(
+            """
+            <Ntry>
+              <NtryRef>E-1</NtryRef><Amt Ccy="XXX">3</Amt><CdtDbtInd>CRDT</CdtDbtInd>
+              <BookgDt><Dt>2025-01-16</Dt></BookgDt>
+            </Ntry>
+            """);
+
+    assertThat(readAll(xml)).isEmpty();
+    assertThatNotification(notification)
+        .hasErrorOn("entries[1].currency", InvalidCurrencyError.class);
+  }
+
+  @Test
+  @DisplayName("next: given an entry without credit or debit indicator, then report it")
+  public void next_missingCreditDebitIndicator_report() {
+    String xml =
+        statement(
+            """
+            <Ntry>
+              <NtryRef>E-1</NtryRef><Amt Ccy="USD">3</Amt>
+              <BookgDt><Dt>2025-01-16</Dt></BookgDt>
+            </Ntry>
+            """);
+
+    readAll(xml);
+
+    assertThatNotification(notification).hasErrorOn("entries[1]", MalformedXmlError.class);
+  }
+
+  @Test
+  @DisplayName("next: given another kind of document, then report the unexpected root")
+  public void next_otherDocument_reportUnexpectedRoot() {
+    readAll("<OFX></OFX>");
+
+    assertThatNotification(notification).hasErrorOn("document", MalformedXmlError.class);
+  }
+
+  @Test
+  @DisplayName("next: given a document declaring external entities, then refuse to resolve them")
+  public void next_externalEntities_refuse() {
+    String xml =
+        """
+        <?xml version="1.0"?>
+        <!DOCTYPE Document [<!ENTITY e SYSTEM "file:///etc/passwd">]>
+        <Document><Ntry><NtryRef>&e;</NtryRef></Ntry></Document>
+        """;
+
+    assertThat(readAll(xml)).isEmpty();
+    assertThatNotification(notification).hasErrorOn("document", MalformedXmlError.class);
+  }
+}
@@ -0,0 +1,237 @@
+package com.anibalxyz.features.transactions.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import com.anibalxyz.core.Result;
+import com.anibalxyz.core.application.UnitOfWork;
+import com.anibalxyz.core.application.ValidationNotification;
+import com.anibalxyz.features.transactions.application.env.ImportJobEnvironment;
+import com.anibalxyz.features.transactions.application.out.ImportJobProgress;
+import com.anibalxyz.features.transactions.application.out.ImportSummary;
+import com.anibalxyz.features.transactions.domain.ImportJobStatus;
+import com.anibalxyz.features.transactions.domain.StatementFormat;
+import com.anibalxyz.features.transactions.domain.TransactionRepository;
+import com.anibalxyz.features.transactions.domain.error.ImportJobNotFoundError;
+import com.anibalxyz.features.transactions.domain.error.TransactionDomainError;
+import com.anibalxyz.shared.ResultAsserts;
+import com.anibalxyz.shared.UnitTest;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests for ImportJobs service")
+public class ImportJobsTest extends UnitTest {
+  private static final int SOURCE_ID = 3;
+  private static final String CSV = "date,reference,currency,amount\n2025-01-02,A,UYU,1\n";
+  private static final Clock CLOCK =
+      Clock.fixed(Instant.parse("2025-01-02T10:00:00Z"), ZoneOffset.UTC);
+  private static final UnitOfWork DIRECT =
+      new UnitOfWork() {
+        @Override
+        public <T> T execute(Supplier<T> work) {
+          return work.get();
+        }
+      };
+
+  @Mock private ImportTransactions importTransactions;
+  @Mock private TransactionRepository transactionRepository;
+
+  @TempDir private Path spoolDir;
+
+  private ImportJobs importJobs;
+
+  private ImportJobs importJobs(int workers, int queueCapacity) {
+    ImportJobEnvironment env =
+        new ImportJobEnvironment() {
+          @Override
+          public Path IMPORT_SPOOL_DIR() {
+            return spoolDir;
+          }
+
+          @Override
+          public int IMPORT_JOB_WORKERS() {
+            return workers;
+          }
+
+          @Override
+          public int IMPORT_JOB_QUEUE_CAPACITY() {
+            return queueCapacity;
+          }
+        };
+    importJobs = new ImportJobs(importTransactions, transactionRepository, DIRECT, env, CLOCK);
+    return importJobs;
+  }
+
+  @AfterEach
+  void shutdown() {
+    if (importJobs != null) {
+      importJobs.shutdown(Duration.ofSeconds(5));
+    }
+  }
+
+  private static InputStream statement(String content) {
+    return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /** Waits for every submitted job to finish and returns the final state of the given one. */
+  private ImportJobProgress finished(ImportJobProgress job) {
+    importJobs.shutdown(Duration.ofSeconds(5));
+    return ResultAsserts.success(importJobs.find(job.id()));
+  }
+
+  private static void drain(InputStream input) {
+    try {
+      input.transferTo(OutputStream.nullOutputStream());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Test
+  @DisplayName("submit: given a valid statement, then run the job to success and drop the spool")
+  public void submit_validStatement_runToSuccessAndDropSpool() throws IOException {
+    ImportJobs jobs = importJobs(1, 1);
+    when(transactionRepository.sourceExists(SOURCE_ID)).thenReturn(true);
+    ImportSummary summary = new ImportSummary(SOURCE_ID, 1, 0, 0, Duration.ofMillis(3));
+    when(importTransactions.execute(eq(SOURCE_ID), eq(StatementFormat.CSV), any(), any()))
+        .thenAnswer(
+            invocation -> {
+              drain(invocation.getArgument(2));
+              return Result.success(summary);
+            });
+
+    ImportJobProgress submitted =
+        ResultAsserts.success(jobs.submit(SOURCE_ID, StatementFormat.CSV, statement(CSV)));
+
+    assertThat(submitted.totalBytes()).isEqualTo(CSV.length());
+    assertThat(submitted.submittedAt()).isEqualTo(CLOCK.instant());
+    ImportJobProgress job = finished(submitted);
+    assertThat(job.status()).isEqualTo(ImportJobStatus.SUCCEEDED);
+    assertThat(job.summary()).isEqualTo(summary);
+    assertThat(job.error()).isNull();
+    assertThat(job.bytesRead()).isEqualTo(CSV.length());
+    assertThat(job.finishedAt()).isEqualTo(CLOCK.instant());
+    try (var spooled = Files.list(spoolDir)) {
+      assertThat(spooled).isEmpty();
+    }
+  }
+
+  @Test
+  @DisplayName("submit: given an invalid statement, then fail the job with its errors")
+  public void submit_invalidStatement_failWithErrors() {
+    ImportJobs jobs = importJobs(1, 1);
+    when(transactionRepository.sourceExists(SOURCE_ID)).thenReturn(true);
+    var error =
+        new ImportTransactions.Error.ValidationFailed(
+            new ValidationNotification<TransactionDomainError>());
+    when(importTransactions.execute(eq(SOURCE_ID), eq(StatementFormat.CSV), any(), any()))
+        .thenReturn(Result.failure(error));
+
+    ImportJobProgress job =
+        finished(
+            ResultAsserts.success(jobs.submit(SOURCE_ID, StatementFormat.CSV, statement(CSV))));
+
+    assertThat(job.status()).isEqualTo(ImportJobStatus.FAILED);
+    assertThat(job.error()).isSameAs(error);
+    assertThat(job.summary()).isNull();
+  }
+
+  @Test
+  @DisplayName("submit: given an import that breaks, then fail the job without errors")
+  public void submit_importBreaks_failWithoutErrors() {
+    ImportJobs jobs = importJobs(1, 1);
+    when(transactionRepository.sourceExists(SOURCE_ID)).thenReturn(true);
+    when(importTransactions.execute(eq(SOURCE_ID), eq(StatementFormat.CSV), any(), any()))
+        .thenThrow(new IllegalStateException("connection lost"));
+
+    ImportJobProgress job =
+        finished(
+            ResultAsserts.success(jobs.submit(SOURCE_ID, StatementFormat.CSV, statement(CSV))));
+
+    assertThat(job.status()).isEqualTo(ImportJobStatus.FAILED);
+    assertThat(job.error()).isNull();
+  }
+
+  @Test
+  @DisplayName("submit: given an unknown source, then check it after spooling and drop the spool")
+  public void submit_unknownSource_checkAfterSpoolingAndDropSpool() throws IOException {
+    ImportJobs jobs = importJobs(1, 1);
+    List<Long> spooledAtCheck = new ArrayList<>();
+    when(transactionRepository.sourceExists(SOURCE_ID))
+        .thenAnswer(
+            invocation -> {
+              try (var spooled = Files.list(spoolDir)) {
+                spooledAtCheck.add(spooled.mapToLong(file -> file.toFile().length()).sum());
+              }
+              return false;
+            });
+
+    var error =
+        ResultAsserts.failure(jobs.submit(SOURCE_ID, StatementFormat.CSV, statement(CSV)));
+
+    assertThat(error).isInstanceOf(ImportJobs.Error.SourceNotFound.class);
+    assertThat(spooledAtCheck).containsExactly((long) CSV.length());
+    try (var spooled = Files.list(spoolDir)) {
+      assertThat(spooled).isEmpty();
+    }
+  }
+
+  @Test
+  @DisplayName("submit: given every worker busy and a full queue, then return QueueFull")
+  public void submit_workersBusyAndQueueFull_returnQueueFull() throws InterruptedException {
+    ImportJobs jobs = importJobs(1, 0);
+    when(transactionRepository.sourceExists(SOURCE_ID)).thenReturn(true);
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    when(importTransactions.execute(eq(SOURCE_ID), eq(StatementFormat.CSV), any(), any()))
+        .thenAnswer(
+            invocation -> {
+              started.countDown();
+              release.await();
+              return Result.success(new ImportSummary(SOURCE_ID, 1, 0, 0, Duration.ZERO));
+            });
+    ResultAsserts.success(jobs.submit(SOURCE_ID, StatementFormat.CSV, statement(CSV)));
+    started.await();
+
+    var error =
+        ResultAsserts.failure(jobs.submit(SOURCE_ID, StatementFormat.CSV, statement(CSV)));
+
+    assertThat(error).isEqualTo(new ImportJobs.Error.QueueFull(0));
+    release.countDown();
+  }
+
+  @Test
+  @DisplayName("find: given an unknown job, then return ImportJobNotFoundError")
+  public void find_unknownJob_returnNotFound() {
+    ImportJobs jobs = importJobs(1, 1);
+
+    var error = ResultAsserts.failure(jobs.find(UUID.randomUUID()));
+
+    assertThat(error).isInstanceOf(ImportJobNotFoundError.class);
+  }
+}
@@ -0,0 +1,163 @@
+package com.anibalxyz.features.transactions.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.anibalxyz.features.transactions.application.out.ImportSummary;
+import com.anibalxyz.features.transactions.domain.MergeOutcome;
+import com.anibalxyz.features.transactions.domain.StatementFormat;
+import com.anibalxyz.features.transactions.domain.Transaction;
+import com.anibalxyz.features.transactions.domain.TransactionRepository;
+import com.anibalxyz.features.transactions.domain.error.InvalidAmountError;
+import com.anibalxyz.features.transactions.domain.error.SourceNotFoundError;
+import com.anibalxyz.shared.ResultAsserts;
+import com.anibalxyz.shared.UnitTest;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests for ImportTransactions service")
+public class ImportTransactionsTest extends UnitTest {
+  private static final int SOURCE_ID = 3;
+
+  @Mock private TransactionRepository transactionRepository;
+
+  private ImportTransactions importTransactions;
+
+  @BeforeEach
+  void deps() {
+    importTransactions = new ImportTransactions(transactionRepository, ZoneOffset.UTC);
+  }
+
+  private static InputStream statement(String content) {
+    return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /** Drains the rows like the real repository would, returning how many were consumed. */
+  private void stubStageAllDraining(List<Transaction> staged) {
+    when(transactionRepository.stageAll(any()))
+        .thenAnswer(
+            invocation -> {
+              Iterator<Transaction> rows = invocation.getArgument(0);
+              rows.forEachRemaining(staged::add);
+              return (long) staged.size();
+            });
+  }
+
+  @Test
+  @DisplayName("execute: given a valid statement, then stage every row and merge them")
+  public void execute_validStatement_stageRowsAndMerge() {
+    when(transactionRepository.sourceExists(SOURCE_ID)).thenReturn(true);
+    List<Transaction> staged = new ArrayList<>();
+    stubStageAllDraining(staged);
+    when(transactionRepository.mergeStaged()).thenReturn(new MergeOutcome(2, 0));
+
+    var result =
+        importTransactions.execute(
+            SOURCE_ID,
+            StatementFormat.CSV,
+            statement("date,reference,currency,amount\n2025-01-02,A,UYU,1\n2025-01-02,B,UYU,2\n"));
+
+    ImportSummary summary = ResultAsserts.success(result);
+    assertThat(summary.sourceId()).isEqualTo(SOURCE_ID);
+    assertThat(summary.inserted()).isEqualTo(2);
+    assertThat(summary.updated()).isZero();
+    assertThat(summary.skipped()).isZero();
+    assertThat(staged).extracting(t -> t.reference().value()).containsExactly("A", "B");
+  }
+
+  @Test
+  @DisplayName("execute: given rows already stored, then report them as updated or skipped")
+  public void execute_rowsAlreadyStored_reportUpdatedOrSkipped() {
+    when(transactionRepository.sourceExists(SOURCE_ID)).thenReturn(true);
+    stubStageAllDraining(new ArrayList<>());
+    when(transactionRepository.mergeStaged()).thenReturn(new MergeOutcome(1, 1));
+
+    var result =
+        importTransactions.execute(
+            SOURCE_ID,
+            StatementFormat.CSV,
+            statement(
+                "date,reference,currency,amount\n"
+                    + "2025-01-02,A,UYU,1\n2025-01-02,B,UYU,2\n2025-01-02,C,UYU,3\n"));
+
+    ImportSummary summary = ResultAsserts.success(result);
+    assertThat(summary.inserted()).isEqualTo(1);
+    assertThat(summary.updated()).isEqualTo(1);
+    assertThat(summary.skipped()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("execute: given an OFX statement, then parse it as OFX")
+  public void execute_ofxStatement_parseAsOfx() {
+    when(transactionRepository.sourceExists(SOURCE_ID)).thenReturn(true);
+    List<Transaction> staged = new ArrayList<>();
+    stubStageAllDraining(staged);
+    when(transactionRepository.mergeStaged()).thenReturn(new MergeOutcome(1, 0));
+
+    var result =
+        importTransactions.execute(
+            SOURCE_ID,
+            StatementFormat.OFX,
+            statement(
+                "<OFX><CURDEF>USD</CURDEF><STMTTRN><DTPOSTED>20250102</DTPOSTED>"
+                    + "<TRNAMT>-1.50</TRNAMT><FITID>F1</FITID></STMTTRN></OFX>"));
+
+    assertThat(ResultAsserts.success(result).inserted()).isEqualTo(1);
+    assertThat(staged).extracting(t -> t.reference().value()).containsExactly("F1");
+  }
+
+  @Test
+  @DisplayName("execute: given an unknown source, then return SourceNotFound without reading")
+  public void execute_unknownSource_returnSourceNotFound() {
+    when(transactionRepository.sourceExists(SOURCE_ID)).thenReturn(false);
+
+    var result = importTransactions.execute(SOURCE_ID, StatementFormat.CSV, statement(""));
+
+    var failure = ResultAsserts.failure(result);
+    assertThat(failure)
+        .isInstanceOf(ImportTransactions.Error.SourceNotFound.class)
+        .extracting(e -> ((ImportTransactions.Error.SourceNotFound) e).error().getReason())
+        .isEqualTo(new SourceNotFoundError.Reason.ById(SOURCE_ID));
+    verify(transactionRepository, never()).stageAll(any());
+  }
+
+  @Test
+  @DisplayName("execute: given an invalid row, then return ValidationFailed with its errors")
+  public void execute_invalidRow_returnValidationFailed() {
+    when(transactionRepository.sourceExists(SOURCE_ID)).thenReturn(true);
+    stubStageAllDraining(new ArrayList<>());
+
+    var result =
+        importTransactions.execute(
+            SOURCE_ID,
+            StatementFormat.CSV,
+            statement("date,reference,currency,amount\n2025-01-02,A,UYU,abc\n"));
+
+    var failure = ResultAsserts.failure(result);
+    assertThat(failure).isInstanceOf(ImportTransactions.Error.ValidationFailed.class);
+    verify(transactionRepository, never()).mergeStaged();
+    var notification = ((ImportTransactions.Error.ValidationFailed) failure).notification();
+    assertThat(notification.getErrors())
+        .singleElement()
+        .satisfies(
+            e -> {
+              assertThat(e.field()).isEqualTo("rows[2].amount");
+              assertThat(e.error()).isInstanceOf(InvalidAmountError.class);
+            });
+  }
+}
@@ -0,0 +1,119 @@
+package com.anibalxyz.features.transactions.application;
+
+import static com.anibalxyz.shared.NotificationAssert.assertThatNotification;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.anibalxyz.core.application.ValidationNotification;
+import com.anibalxyz.features.transactions.domain.Currency;
+import com.anibalxyz.features.transactions.domain.Transaction;
+import com.anibalxyz.features.transactions.domain.error.InvalidTransactionDateError;
+import com.anibalxyz.features.transactions.domain.error.MalformedXmlError;
+import com.anibalxyz.features.transactions.domain.error.TransactionDomainError;
+import com.anibalxyz.shared.ResultAsserts;
+import com.anibalxyz.shared.UnitTest;
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+@DisplayName("Tests for OfxReader")
+public class OfxReaderTest extends UnitTest {
+  private static final ZoneOffset ZONE = ZoneOffset.ofHours(-3);
+
+  private final ValidationNotification<TransactionDomainError> notification =
+      new ValidationNotification<>();
+
+  private List<Transaction> readAll(String xml) {
+    OfxReader reader =
+        new OfxReader(
+            new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)),
+            7,
+            ZONE,
+            notification,
+            10);
+    List<Transaction> transactions = new ArrayList<>();
+    reader.forEachRemaining(transactions::add);
+    return transactions;
+  }
+
+  @Test
+  @DisplayName("next: given statement transactions, then map them onto transactions")
+  public void next_statementTransactions_mapOntoTransactions() {
+    String xml =
+        """
+        <?xml version="1.0" encoding="UTF-8"?>
+        <?OFX OFXHEADER="200" VERSION="220" SECURITY="NONE" OLDFILEUID="NONE" NEWFILEUID="NONE"?>
+        <OFX><BANKMSGSRSV1><STMTTRNRS><STMTRS>
+          <CURDEF>USD</CURDEF>
+          <BANKTRANLIST>
+            <STMTTRN>
+              <TRNTYPE>DEBIT</TRNTYPE><DTPOSTED>20250115120000.000[-5:EST]</DTPOSTED>
+              <TRNAMT>-42.10</TRNAMT><FITID>F-1</FITID><NAME>Shop</NAME><MEMO>Card 1234</MEMO>
+            </STMTTRN>
+            <STMTTRN>
+              <TRNTYPE>CREDIT</TRNTYPE><DTPOSTED>20250116</DTPOSTED><TRNAMT>5,5</TRNAMT>
+              <REFNUM>R-2</REFNUM><MEMO>Refund</MEMO>
+              <CURRENCY><CURRATE>1.1</CURRATE><CURSYM>EUR</CURSYM></CURRENCY>
+            </STMTTRN>
+          </BANKTRANLIST>
+        </STMTRS></STMTTRNRS></BANKMSGSRSV1></OFX>
+        """;
+
+    List<Transaction> transactions = readAll(xml);
+
+    assertThat(notification.hasErrors()).isFalse();
+    assertThat(transactions).hasSize(2);
+    Transaction debit = transactions.getFirst();
+    assertThat(debit.date()).isEqualTo(Instant.parse("2025-01-15T17:00:00Z"));
+    assertThat(debit.reference().value()).isEqualTo("F-1");
+    assertThat(debit.currency()).isEqualTo(Currency.USD);
+    assertThat(debit.amount().value()).isEqualTo(new BigDecimal("-42.10"));
+    assertThat(debit.description()).isEqualTo("Shop - Card 1234");
+    Transaction credit = transactions.get(1);
+    assertThat(credit.date()).isEqualTo(Instant.parse("2025-01-16T03:00:00Z"));
+    assertThat(credit.reference().value()).isEqualTo("R-2");
+    assertThat(credit.currency()).isEqualTo(Currency.EUR);
+    assertThat(credit.amount().value()).isEqualTo(new BigDecimal("5.50"));
+    assertThat(credit.description()).isEqualTo("Refund");
+  }
+
+  @Test
+  @DisplayName("next: given an SGML statement, then report it as not well-formed")
+  public void next_sgmlStatement_reportNotWellFormed() {
+    String sgml = "OFXHEADER:100\nDATA:OFXSGML\n\n<OFX><STMTTRN><TRNAMT>1\n</OFX>";
+
+    assertThat(readAll(sgml)).isEmpty();
+    assertThatNotification(notification).hasErrorOn("document", MalformedXmlError.class);
+  }
+
+  @Test
+  @DisplayName("next: given an invalid posted date, then report it by position")
+  public void next_invalidPostedDate_reportByPosition() {
+    readAll(
+        "<OFX><CURDEF>USD</CURDEF><STMTTRN><DTPOSTED>2025-01-15</DTPOSTED>"
+            + "<TRNAMT>1</TRNAMT><FITID>F</FITID></STMTTRN></OFX>");
+
+    assertThatNotification(notification)
+        .hasErrorOn("entries[1].date", InvalidTransactionDateError.class);
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+    "20250115, 2025-01-15T03:00:00Z",
+    "20250115083000, 2025-01-15T11:30:00Z",
+    "20250115083000.123[0:GMT], 2025-01-15T08:30:00Z",
+    "20250115083000[+5.5:IST], 2025-01-15T03:00:00Z"
+  })
+  @DisplayName("parseDate: given an OFX date-time, then honour its offset or the zone")
+  public void parseDate_ofxDateTime_honourOffsetOrZone(String value, String expected) {
+    Instant actual = ResultAsserts.success(OfxReader.parseDate(value, ZONE));
+    assertThat(actual).isEqualTo(Instant.parse(expected));
+  }
+}
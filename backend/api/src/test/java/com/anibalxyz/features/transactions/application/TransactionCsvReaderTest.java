@@ -0,0 +1,147 @@
+package com.anibalxyz.features.transactions.application;
+
+import static com.anibalxyz.shared.NotificationAssert.assertThatNotification;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.anibalxyz.core.application.ValidationNotification;
+import com.anibalxyz.features.transactions.domain.Currency;
+import com.anibalxyz.features.transactions.domain.Transaction;
+import com.anibalxyz.features.transactions.domain.error.InvalidAmountError;
+import com.anibalxyz.features.transactions.domain.error.InvalidCurrencyError;
+import com.anibalxyz.features.transactions.domain.error.MalformedCsvError;
+import com.anibalxyz.features.transactions.domain.error.TransactionDomainError;
+import com.anibalxyz.shared.UnitTest;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Tests for TransactionCsvReader")
+public class TransactionCsvReaderTest extends UnitTest {
+  private static final int SOURCE_ID = 7;
+
+  private final ValidationNotification<TransactionDomainError> notification =
+      new ValidationNotification<>();
+
+  private List<Transaction> readAll(String csv, int maxErrors) {
+    TransactionCsvReader reader =
+        new TransactionCsvReader(
+            new StringReader(csv), SOURCE_ID, ZoneOffset.UTC, notification, maxErrors);
+    List<Transaction> transactions = new ArrayList<>();
+    reader.forEachRemaining(transactions::add);
+    return transactions;
+  }
+
+  @Test
+  @DisplayName("next: given valid rows, then return them as transactions")
+  public void next_validRows_returnTransactions() {
+    String csv =
+        "\uFEFF"
+            + """
+            date,reference,currency,amount,description
+            2025-01-02,REF-1,UYU,100.5,Coffee
+            2025-01-03T10:00:00-03:00,REF-2,usd,-20,
+            """;
+
+    List<Transaction> transactions = readAll(csv, 10);
+
+    assertThat(notification.hasErrors()).isFalse();
+    assertThat(transactions).hasSize(2);
+    Transaction first = transactions.getFirst();
+    assertThat(first.sourceId()).isEqualTo(SOURCE_ID);
+    assertThat(first.date()).isEqualTo(Instant.parse("2025-01-02T00:00:00Z"));
+    assertThat(first.reference().value()).isEqualTo("REF-1");
+    assertThat(first.amount().value()).isEqualTo(new BigDecimal("100.50"));
+    assertThat(first.description()).isEqualTo("Coffee");
+    Transaction second = transactions.get(1);
+    assertThat(second.date()).isEqualTo(Instant.parse("2025-01-03T13:00:00Z"));
+    assertThat(second.currency()).isEqualTo(Currency.USD);
+    assertThat(second.description()).isNull();
+  }
+
+  @Test
+  @DisplayName("next: given reordered columns, then map values by header name")
+  public void next_reorderedColumns_mapByHeaderName() {
+    String csv = "Amount,reference,DATE,currency\n\"1,000.00\",X,2025-01-02,UYU\n";
+
+    List<Transaction> transactions = readAll(csv, 10);
+
+    assertThat(transactions).isEmpty();
+    assertThatNotification(notification).hasErrorOn("rows[2].amount", InvalidAmountError.class);
+  }
+
+  @Test
+  @DisplayName("next: given quoted values with separators, then keep them whole")
+  public void next_quotedValuesWithSeparators_keepWhole() {
+    String csv =
+        "amount,reference,date,currency\r\n"
+            + "10,\"multi\nline \"\"ref\"\", x\",2025-01-02,UYU\r\n";
+
+    List<Transaction> transactions = readAll(csv, 10);
+
+    assertThat(notification.hasErrors()).isFalse();
+    assertThat(transactions)
+        .singleElement()
+        .extracting(t -> t.reference().value())
+        .isEqualTo("multi\nline \"ref\", x");
+  }
+
+  @Test
+  @DisplayName("next: given a missing required column, then report it on the header")
+  public void next_missingColumn_reportOnHeader() {
+    List<Transaction> transactions = readAll("date,reference,amount\n2025-01-02,R,1\n", 10);
+
+    assertThat(transactions).isEmpty();
+    assertThatNotification(notification).hasErrorOn("header", MalformedCsvError.class);
+  }
+
+  @Test
+  @DisplayName("next: given invalid rows, then report them by line and stop returning rows")
+  public void next_invalidRows_reportByLineAndStop() {
+    String csv =
+        """
+        date,reference,currency,amount
+        2025-01-02,REF-1,UYU,1
+
+        2025-01-02,REF-2,JPY,1
+        2025-01-02,REF-3,UYU
+        2025-01-02,REF-4,UYU,1
+        """;
+
+    List<Transaction> transactions = readAll(csv, 10);
+
+    assertThat(transactions).hasSize(1);
+    assertThat(notification.getErrors())
+        .satisfiesExactly(
+            e -> {
+              assertThat(e.field()).isEqualTo("rows[4].currency");
+              assertThat(e.error()).isInstanceOf(InvalidCurrencyError.class);
+            },
+            e -> {
+              assertThat(e.field()).isEqualTo("rows[5]");
+              assertThat(e.error()).isInstanceOf(MalformedCsvError.class);
+            });
+  }
+
+  @Test
+  @DisplayName("next: given more errors than the limit, then stop collecting at the limit")
+  public void next_moreErrorsThanLimit_stopAtLimit() {
+    String csv = "date,reference,currency,amount\n" + "x,R,UYU,1\n".repeat(5);
+
+    readAll(csv, 2);
+
+    assertThat(notification.getErrors()).hasSize(2);
+  }
+
+  @Test
+  @DisplayName("next: given an unterminated quote, then report the row where it starts")
+  public void next_unterminatedQuote_reportRow() {
+    readAll("date,reference,currency,amount\n2025-01-02,\"REF,UYU,1\n", 10);
+
+    assertThatNotification(notification).hasErrorOn("rows[2]", MalformedCsvError.class);
+  }
+}
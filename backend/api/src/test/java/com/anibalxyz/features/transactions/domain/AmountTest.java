@@ -0,0 +1,61 @@
+package com.anibalxyz.features.transactions.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.anibalxyz.features.transactions.domain.error.InvalidAmountError;
+import com.anibalxyz.shared.ResultAsserts;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@DisplayName("Tests for Amount Value Object")
+public class AmountTest {
+
+  @ParameterizedTest
+  @CsvSource({"100, 100.00", "-12.5, -12.50", " 0.01 , 0.01", "1.500, 1.50"})
+  @DisplayName("of: given a valid amount, then return it with two decimals")
+  public void of_validAmount_returnWithTwoDecimals(String amount, String expected) {
+    Amount actual = ResultAsserts.success(Amount.of(amount));
+    assertThat(actual.value()).isEqualTo(new BigDecimal(expected));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"12,50", "abc", "1.2.3"})
+  @DisplayName("of: given a non numeric amount, then return a failed Result with InvalidFormat")
+  public void of_nonNumericAmount_returnFailureWithInvalidFormat(String amount) {
+    var failure = ResultAsserts.failure(Amount.of(amount));
+    assertThat(failure.getReason()).isInstanceOf(InvalidAmountError.Reason.InvalidFormat.class);
+  }
+
+  @Test
+  @DisplayName("of: given more than two decimals, then return a failed Result with TooManyDecimals")
+  public void of_tooManyDecimals_returnFailureWithTooManyDecimals() {
+    var failure = ResultAsserts.failure(Amount.of("1.001"));
+    assertThat(failure.getReason()).isInstanceOf(InvalidAmountError.Reason.TooManyDecimals.class);
+  }
+
+  @Test
+  @DisplayName("of: given too many integer digits, then return a failed Result with TooManyDigits")
+  public void of_tooManyDigits_returnFailureWithTooManyDigits() {
+    String amount = "9".repeat(Amount.MAX_INTEGER_DIGITS + 1);
+    var failure = ResultAsserts.failure(Amount.of(amount));
+    assertThat(failure.getReason()).isInstanceOf(InvalidAmountError.Reason.TooManyDigits.class);
+  }
+
+  @Test
+  @DisplayName("of: given a blank amount, then return a failed Result with Blank reason")
+  public void of_blankAmount_returnFailureWithBlank() {
+    var failure = ResultAsserts.failure(Amount.of(" "));
+    assertThat(failure.getReason()).isInstanceOf(InvalidAmountError.Reason.Blank.class);
+  }
+
+  @Test
+  @DisplayName("of: given an absent amount, then return a failed Result with Absent reason")
+  public void of_absentAmount_returnFailureWithAbsent() {
+    var failure = ResultAsserts.failure(Amount.of((String) null));
+    assertThat(failure.getReason()).isInstanceOf(InvalidAmountError.Reason.Absent.class);
+  }
+}
@@ -2,14 +2,18 @@ package com.anibalxyz.features.users.api.handlers;
 
 import static com.anibalxyz.shared.Constants.Users.buildUser;
 import static com.anibalxyz.shared.Helpers.stubStatusChaining;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.anibalxyz.core.application.Page;
+import com.anibalxyz.features.common.api.Pagination;
 import com.anibalxyz.features.common.api.out.response.success.CollectionResponse;
 import com.anibalxyz.features.users.api.UserMapper;
 import com.anibalxyz.features.users.application.GetAllUsers;
 import com.anibalxyz.features.users.domain.User;
 import com.anibalxyz.shared.UnitTest;
+import io.javalin.http.BadRequestResponse;
 import io.javalin.http.Context;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
@@ -32,26 +36,69 @@ public class GetAllUsersHandlerTest extends UnitTest {
     List<User> fakeUsers = List.of(buildUser(1), buildUser(2));
 
     stubStatusChaining(ctx);
-    when(getAllUsers.execute()).thenReturn(fakeUsers);
+    when(getAllUsers.execute(null, Pagination.DEFAULT_LIMIT))
+        .thenReturn(new Page<>(fakeUsers, false));
     getAllUsersHandler.handle(ctx);
 
     verify(ctx).status(200);
     var expected =
-        CollectionResponse.ofSinglePage(
-            fakeUsers.stream().map(UserMapper::toDetailResponse).toList());
+        CollectionResponse.ofCursorPage(
+            fakeUsers.stream().map(UserMapper::toDetailResponse).toList(),
+            null,
+            Pagination.DEFAULT_LIMIT);
+    verify(ctx).json(expected);
+  }
+
+  @Test
+  @DisplayName("getAllUsers: given a cursor and more users, then respond 200 with the next cursor")
+  public void getAllUsers_cursorAndMoreUsers_respond200WithNextCursor() {
+    List<User> fakeUsers = List.of(buildUser(3), buildUser(4));
+
+    stubStatusChaining(ctx);
+    when(ctx.queryParam("limit")).thenReturn("2");
+    when(ctx.queryParam("cursor")).thenReturn(Pagination.cursor(2));
+    when(getAllUsers.execute(2, 2)).thenReturn(new Page<>(fakeUsers, true));
+    getAllUsersHandler.handle(ctx);
+
+    verify(ctx).status(200);
+    var expected =
+        CollectionResponse.ofCursorPage(
+            fakeUsers.stream().map(UserMapper::toDetailResponse).toList(),
+            Pagination.cursor(4),
+            2);
     verify(ctx).json(expected);
   }
 
   @Test
   @DisplayName("getAllUsers: given there are no users, then respond 200 with empty list")
   public void getAllUsers_thereAreNoUsers_respond200WithEmptyList() {
-    List<User> fakeUsers = List.of();
-
     stubStatusChaining(ctx);
-    when(getAllUsers.execute()).thenReturn(fakeUsers);
+    when(getAllUsers.execute(null, Pagination.DEFAULT_LIMIT))
+        .thenReturn(new Page<>(List.of(), false));
     getAllUsersHandler.handle(ctx);
 
     verify(ctx).status(200);
-    verify(ctx).json(CollectionResponse.ofSinglePage(List.of()));
+    verify(ctx)
+        .json(CollectionResponse.ofCursorPage(List.of(), null, Pagination.DEFAULT_LIMIT));
+  }
+
+  @Test
+  @DisplayName("getAllUsers: given a malformed cursor, then throw BadRequestResponse")
+  public void getAllUsers_malformedCursor_throwBadRequest() {
+    when(ctx.queryParam("limit")).thenReturn(null);
+    when(ctx.queryParam("cursor")).thenReturn("not a cursor");
+
+    assertThatThrownBy(() -> getAllUsersHandler.handle(ctx))
+        .isInstanceOf(BadRequestResponse.class)
+        .hasMessage("Invalid cursor.");
+  }
+
+  @Test
+  @DisplayName("getAllUsers: given a limit over the maximum, then throw BadRequestResponse")
+  public void getAllUsers_limitOverMaximum_throwBadRequest() {
+    when(ctx.queryParam("limit")).thenReturn(String.valueOf(Pagination.MAX_LIMIT + 1));
+
+    assertThatThrownBy(() -> getAllUsersHandler.handle(ctx))
+        .isInstanceOf(BadRequestResponse.class);
   }
 }
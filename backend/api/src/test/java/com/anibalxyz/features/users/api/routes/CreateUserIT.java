@@ -77,7 +77,7 @@ public class CreateUserIT extends UsersIT {
     ErrorResponse actual = http.parseBody(response, ErrorResponse.class);
     assertThat(actual.instance()).isNotNull();
     assertThat(actual.instance(null)).isEqualTo(expectedResult.response());
-    assertThat(userRepository.findAll()).hasSize(1);
+    assertThat(userRepository.findPage(null, 2)).hasSize(1);
   }
 
   @Test
@@ -4,6 +4,7 @@ import static com.anibalxyz.shared.Helpers.createJwtHeader;
 import static com.anibalxyz.shared.Helpers.persistUser;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.anibalxyz.features.common.api.Pagination;
 import com.anibalxyz.features.common.api.out.response.success.CollectionResponse;
 import com.anibalxyz.features.users.api.UserMapper;
 import com.anibalxyz.features.users.api.out.DetailedUserResponse;
@@ -25,8 +26,10 @@ public class GetAllUsersIT extends UsersIT {
             persistUser(em, "Name", "name@mail.com"),
             persistUser(em, "Alfredo", "alfredo@mail.com"));
     CollectionResponse<DetailedUserResponse> expected =
-        CollectionResponse.ofSinglePage(
-            persisted.stream().map(u -> UserMapper.toDetailResponse(u.toDomain())).toList());
+        CollectionResponse.ofCursorPage(
+            persisted.stream().map(u -> UserMapper.toDetailResponse(u.toDomain())).toList(),
+            null,
+            Pagination.DEFAULT_LIMIT);
 
     Response response = http.get("/users", createJwtHeader(validJwt));
     assertThat(response.code()).isEqualTo(200);
@@ -35,6 +38,40 @@ public class GetAllUsersIT extends UsersIT {
     assertThat(actual).isEqualTo(expected);
   }
 
+  @Test
+  @DisplayName("GET /users: given more users than the limit, then page through them by cursor")
+  public void GET_users_moreUsersThanLimit_pageThroughByCursor() {
+    List<Integer> ids =
+        List.of(
+            persistUser(em, "Ana", "ana@mail.com").toDomain().id(),
+            persistUser(em, "Bruno", "bruno@mail.com").toDomain().id(),
+            persistUser(em, "Carla", "carla@mail.com").toDomain().id());
+
+    Response first = http.get("/users?limit=2", createJwtHeader(validJwt));
+    assertThat(first.code()).isEqualTo(200);
+    CollectionResponse<DetailedUserResponse> firstPage =
+        http.parseBody(first, new TypeReference<>() {});
+    assertThat(firstPage.data()).extracting(DetailedUserResponse::id).isEqualTo(ids.subList(0, 2));
+    assertThat(firstPage.meta().pagination().next()).isNotNull();
+
+    Response second =
+        http.get(
+            "/users?limit=2&cursor=" + firstPage.meta().pagination().next(),
+            createJwtHeader(validJwt));
+    assertThat(second.code()).isEqualTo(200);
+    CollectionResponse<DetailedUserResponse> secondPage =
+        http.parseBody(second, new TypeReference<>() {});
+    assertThat(secondPage.data()).extracting(DetailedUserResponse::id).isEqualTo(ids.subList(2, 3));
+    assertThat(secondPage.meta().pagination().next()).isNull();
+  }
+
+  @Test
+  @DisplayName("GET /users: given a malformed cursor, then return 400")
+  public void GET_users_malformedCursor_return400() {
+    Response response = http.get("/users?cursor=not-a-cursor", createJwtHeader(validJwt));
+    assertThat(response.code()).isEqualTo(400);
+  }
+
   @Test
   @DisplayName("GET /users: given no users exist, then return 200 and an empty list")
   public void GET_users_noUsersExist_return200AndEmptyList() {
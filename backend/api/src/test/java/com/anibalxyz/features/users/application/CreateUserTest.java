@@ -32,7 +32,7 @@ public class CreateUserTest extends UnitTest {
   @BeforeEach
   void deps() {
     CreateUser.Env env = Constants.APP_ENV;
-    createUser = new CreateUser(env, userRepository);
+    createUser = new CreateUser(env, userRepository, new PasswordHasher(Constants.APP_ENV));
   }
 
   @Nested
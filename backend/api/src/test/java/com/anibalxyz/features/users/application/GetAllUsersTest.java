@@ -4,6 +4,7 @@ import static com.anibalxyz.shared.Constants.Users.buildUser;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
 
+import com.anibalxyz.core.application.Page;
 import com.anibalxyz.features.users.domain.User;
 import com.anibalxyz.features.users.domain.UserRepository;
 import com.anibalxyz.shared.UnitTest;
@@ -23,19 +24,31 @@ public class GetAllUsersTest extends UnitTest {
   @InjectMocks private GetAllUsers getAllUsers;
 
   @Test
-  @DisplayName("getAllUsers: given users exist, then return a list of all users")
-  public void getAllUsers_usersExist_returnListOfUsers() {
+  @DisplayName("getAllUsers: given fewer users than the limit, then return the last page")
+  public void getAllUsers_fewerUsersThanLimit_returnLastPage() {
     List<User> expectedUsers = List.of(buildUser(1), buildUser(2));
-    when(userRepository.findAll()).thenReturn(expectedUsers);
+    when(userRepository.findPage(null, 3)).thenReturn(expectedUsers);
 
-    assertThat(getAllUsers.execute()).isEqualTo(expectedUsers);
+    assertThat(getAllUsers.execute(null, 2)).isEqualTo(new Page<>(expectedUsers, false));
   }
 
   @Test
-  @DisplayName("getAllUsers: given no users exist, then return an empty list")
-  public void getAllUsers_noUsersExist_returnEmptyList() {
-    when(userRepository.findAll()).thenReturn(List.of());
+  @DisplayName("getAllUsers: given more users than the limit, then drop the lookahead user")
+  public void getAllUsers_moreUsersThanLimit_dropLookaheadUser() {
+    when(userRepository.findPage(1, 3))
+        .thenReturn(List.of(buildUser(2), buildUser(3), buildUser(4)));
 
-    assertThat(getAllUsers.execute()).isEmpty();
+    Page<User> page = getAllUsers.execute(1, 2);
+
+    assertThat(page.items()).containsExactly(buildUser(2), buildUser(3));
+    assertThat(page.hasMore()).isTrue();
+  }
+
+  @Test
+  @DisplayName("getAllUsers: given no users exist, then return an empty page")
+  public void getAllUsers_noUsersExist_returnEmptyPage() {
+    when(userRepository.findPage(null, 51)).thenReturn(List.of());
+
+    assertThat(getAllUsers.execute(null, 50).items()).isEmpty();
   }
 }
@@ -0,0 +1,105 @@
+package com.anibalxyz.features.users.application;
+
+import static com.anibalxyz.shared.Constants.Users.VALID_PASSWORD;
+import static com.anibalxyz.shared.Constants.Users.VALID_PASSWORD_STRING;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.anibalxyz.core.application.exception.FailureSignal;
+import com.anibalxyz.features.users.application.env.PasswordHashingEnvironment;
+import com.anibalxyz.features.users.domain.PasswordHash;
+import com.anibalxyz.shared.UnitTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Tests for PasswordHasher")
+public class PasswordHasherTest extends UnitTest {
+  private static final int SALT_ROUNDS = 4;
+
+  private static PasswordHasher passwordHasher(int workers, int queueCapacity) {
+    return new PasswordHasher(
+        new PasswordHashingEnvironment() {
+          @Override
+          public int PASSWORD_HASH_WORKERS() {
+            return workers;
+          }
+
+          @Override
+          public int PASSWORD_HASH_QUEUE_CAPACITY() {
+            return queueCapacity;
+          }
+        });
+  }
+
+  @Test
+  @DisplayName("hash: given a password, then return a hash only that password matches")
+  public void hash_password_returnHashOnlyItMatches() {
+    PasswordHasher hasher = passwordHasher(1, 1);
+
+    PasswordHash hash = hasher.hash(VALID_PASSWORD, SALT_ROUNDS);
+
+    assertThat(hasher.matches(hash, VALID_PASSWORD_STRING)).isTrue();
+    assertThat(hasher.matches(hash, VALID_PASSWORD_STRING + "x")).isFalse();
+  }
+
+  @Test
+  @DisplayName("hash: given some hashes done, then export their count and time per operation")
+  public void hash_someHashesDone_exportCountAndTime() {
+    PasswordHasher hasher = passwordHasher(1, 1);
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    hasher.bindTo(registry);
+
+    PasswordHash hash = hasher.hash(VALID_PASSWORD, SALT_ROUNDS);
+    hasher.matches(hash, VALID_PASSWORD_STRING);
+    hasher.matches(hash, VALID_PASSWORD_STRING);
+
+    var hashing =
+        registry.get("auth.password.hash.duration").tag("operation", "hash").functionTimer();
+    var verifying =
+        registry.get("auth.password.hash.duration").tag("operation", "verify").functionTimer();
+    assertThat(hashing.count()).isEqualTo(1);
+    assertThat(verifying.count()).isEqualTo(2);
+    assertThat(hashing.totalTime(TimeUnit.NANOSECONDS)).isPositive();
+    assertThat(registry.get("auth.password.hash.queue").gauge().value()).isZero();
+  }
+
+  @Test
+  @DisplayName("matches: given every worker busy and a full queue, then fail fast with Busy")
+  public void matches_workersBusyAndQueueFull_failWithBusy() throws InterruptedException {
+    PasswordHasher hasher = passwordHasher(1, 0);
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    hasher.bindTo(registry);
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    PasswordHash slow = mock(PasswordHash.class);
+    when(slow.matches(VALID_PASSWORD_STRING))
+        .thenAnswer(
+            invocation -> {
+              started.countDown();
+              release.await();
+              return true;
+            });
+    Thread busy = Thread.ofVirtual().start(() -> hasher.matches(slow, VALID_PASSWORD_STRING));
+    started.await();
+
+    try {
+      assertThatThrownBy(() -> hasher.matches(slow, VALID_PASSWORD_STRING))
+          .isInstanceOfSatisfying(
+              FailureSignal.class,
+              signal ->
+                  assertThat(signal.getError())
+                      .isEqualTo(new PasswordHasher.Busy(0, Duration.ofSeconds(1))));
+    } finally {
+      release.countDown();
+      busy.join();
+    }
+    assertThat(registry.get("auth.password.hash.rejected").functionCounter().count())
+        .isEqualTo(1);
+  }
+}
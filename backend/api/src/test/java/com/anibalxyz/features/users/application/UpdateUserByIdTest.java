@@ -34,7 +34,7 @@ public class UpdateUserByIdTest extends UnitTest {
   @BeforeEach
   void deps() {
     UpdateUserById.Env env = Constants.APP_ENV;
-    updateUserById = new UpdateUserById(env, userRepository);
+    updateUserById = new UpdateUserById(env, userRepository, new PasswordHasher(Constants.APP_ENV));
   }
 
   @Nested
@@ -0,0 +1,122 @@
+package com.anibalxyz.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.anibalxyz.shared.UnitTest;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityTransaction;
+import java.sql.Connection;
+import java.sql.SQLException;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.jdbc.Work;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests for LazyEntityManager")
+public class LazyEntityManagerTest extends UnitTest {
+  @Mock private EntityManagerFactory emf;
+  @Mock private EntityManager em;
+  @Mock private EntityTransaction transaction;
+
+  private LazyEntityManager lazyEntityManager;
+
+  @BeforeEach
+  void setUp() {
+    lazyEntityManager = new LazyEntityManager(emf, false);
+  }
+
+  private void stubOpening() {
+    when(emf.createEntityManager()).thenReturn(em);
+    when(em.getTransaction()).thenReturn(transaction);
+  }
+
+  @Test
+  @DisplayName("close: given it was never used, then never open an entity manager")
+  public void close_neverUsed_neverOpen() {
+    lazyEntityManager.close(true);
+
+    verifyNoInteractions(emf);
+  }
+
+  @Test
+  @DisplayName("get: given repeated calls, then open one entity manager and begin once")
+  public void get_repeatedCalls_openOnceAndBegin() {
+    stubOpening();
+
+    EntityManager first = lazyEntityManager.get();
+    EntityManager second = lazyEntityManager.get();
+
+    assertThat(first).isSameAs(em).isSameAs(second);
+    verify(emf, times(1)).createEntityManager();
+    verify(transaction, times(1)).begin();
+  }
+
+  @Test
+  @DisplayName("get: given a read-only scope, then skip flushes and use a read-only connection")
+  public void get_readOnlyScope_skipFlushesAndUseReadOnlyConnection() throws SQLException {
+    Session session = mock(Session.class);
+    Connection connection = mock(Connection.class);
+    when(emf.createEntityManager()).thenReturn(session);
+    when(session.unwrap(Session.class)).thenReturn(session);
+    when(session.getTransaction()).thenReturn(transaction);
+    ArgumentCaptor<Work> work = ArgumentCaptor.forClass(Work.class);
+
+    new LazyEntityManager(emf, true).get();
+
+    verify(session).setDefaultReadOnly(true);
+    verify(session).setHibernateFlushMode(FlushMode.MANUAL);
+    InOrder order = inOrder(transaction, session);
+    order.verify(transaction).begin();
+    order.verify(session).doWork(work.capture());
+    work.getValue().execute(connection);
+    verify(connection).setReadOnly(true);
+  }
+
+  @Test
+  @DisplayName("close: given an active transaction and commit, then commit and close")
+  public void close_activeTransactionAndCommit_commitAndClose() {
+    stubOpening();
+    when(em.isOpen()).thenReturn(true);
+    when(transaction.isActive()).thenReturn(true);
+    lazyEntityManager.get();
+
+    lazyEntityManager.close(true);
+
+    InOrder order = inOrder(transaction, em);
+    order.verify(transaction).commit();
+    order.verify(em).close();
+    verify(transaction, never()).rollback();
+  }
+
+  @Test
+  @DisplayName("close: given an active transaction and no commit, then roll back and close")
+  public void close_activeTransactionAndNoCommit_rollBackAndClose() {
+    stubOpening();
+    when(em.isOpen()).thenReturn(true);
+    when(transaction.isActive()).thenReturn(true);
+    lazyEntityManager.get();
+
+    lazyEntityManager.close(false);
+
+    InOrder order = inOrder(transaction, em);
+    order.verify(transaction).rollback();
+    order.verify(em).close();
+    verify(transaction, never()).commit();
+  }
+}
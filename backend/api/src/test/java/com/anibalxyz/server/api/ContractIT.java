@@ -126,6 +126,6 @@ public class ContractIT extends IntegrationTest {
     assertThat(actual.code()).isEqualTo(expected.code());
     assertThat(actual.title()).isEqualTo(expected.title());
     assertThat(actual.instance()).isNotNull();
-    assertThat(userRepository.findAll()).isEmpty();
+    assertThat(userRepository.findPage(null, 1)).isEmpty();
   }
 }
@@ -6,6 +6,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import com.anibalxyz.core.application.ValidationNotification;
 import com.anibalxyz.core.domain.error.DomainError;
 import com.anibalxyz.core.domain.error.InvalidValueError;
+import com.anibalxyz.features.auth.domain.error.InvalidCredentialsError;
 import com.anibalxyz.features.users.domain.error.InvalidEmailError;
 import com.anibalxyz.features.users.domain.error.UserNotFoundError;
 import com.anibalxyz.server.exception.UnregisteredMapperException;
@@ -22,6 +23,25 @@ public class ErrorMapperTest {
     assertThat(result).isNotNull();
   }
 
+  @Test
+  @DisplayName("map: given errors of the same class, then route them to the same mapper")
+  public void map_sameErrorClass_routeToSameMapper() {
+    ErrorResult first = ErrorMapper.map(UserNotFoundError.byId(1));
+    ErrorResult second = ErrorMapper.map(UserNotFoundError.byId(2));
+
+    assertThat(first.response().detail()).isEqualTo("User with id 1 not found");
+    assertThat(second.response().detail()).isEqualTo("User with id 2 not found");
+  }
+
+  @Test
+  @DisplayName("map: given a parameterless error, then return a result only differing by instance")
+  public void map_parameterlessError_returnResultOnlyDifferingByInstance() {
+    ErrorResult result = ErrorMapper.map(new InvalidCredentialsError());
+
+    assertThat(ErrorMapper.map(new InvalidCredentialsError())).isSameAs(result);
+    assertThat(result.response().instance("req-1").instance(null)).isEqualTo(result.response());
+  }
+
   @Test
   @DisplayName(
       "map: given an error with no registered mapper, then throw UnregisteredMapperException")
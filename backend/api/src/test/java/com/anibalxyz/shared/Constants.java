@@ -3,10 +3,14 @@ package com.anibalxyz.shared;
 import static com.anibalxyz.shared.Constants.Users.VALID_USER;
 
 import com.anibalxyz.features.auth.domain.RefreshToken;
+import com.anibalxyz.features.reconciliation.application.env.ReconciliationEnvironment;
+import com.anibalxyz.features.reconciliation.domain.MatchCandidate;
+import com.anibalxyz.features.transactions.domain.Currency;
 import com.anibalxyz.features.users.domain.*;
 import com.anibalxyz.server.config.environment.AppEnvironmentSource;
 import com.anibalxyz.server.config.environment.ApplicationConfiguration;
 import com.anibalxyz.server.config.environment.ConfigurationFactory;
+import java.nio.file.Path;
 import java.time.Instant;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -83,4 +87,234 @@ public class Constants {
       return new RefreshToken(1L, "token-value", VALID_USER, expiryDate, false);
     }
   }
+
+  public static final class Reconciliation {
+    /** 2026-04-21, matching {@code IntegrationTest.FIXED_NOW}. */
+    public static final int VALID_EPOCH_DAY = 20564;
+
+    private static final Path DEFAULT_SPILL_DIR =
+        Path.of(System.getProperty("java.io.tmpdir"), "reconciler-spill-test");
+
+    /**
+     * Tolerances of 0, a single worker, weekly buckets and every spill, database and reference
+     * stage disabled; tests override what they exercise through the {@code with} methods.
+     */
+    public static final ReconciliationEnvironmentStub DEFAULT_ENV =
+        new ReconciliationEnvironmentStub(0, 0, 1, 7, 3, 20, 1_000, DEFAULT_SPILL_DIR, 0, 0, 0);
+
+    public static MatchCandidate buildCandidate(int id, long amountCents, String reference) {
+      return buildCandidate(id, Currency.UYU, amountCents, VALID_EPOCH_DAY, reference);
+    }
+
+    /** A UYU candidate {@code dayOffset} days after {@link #VALID_EPOCH_DAY}. */
+    public static MatchCandidate buildCandidate(
+        int id, long amountCents, int dayOffset, String reference) {
+      return buildCandidate(id, Currency.UYU, amountCents, VALID_EPOCH_DAY + dayOffset, reference);
+    }
+
+    public static MatchCandidate buildCandidate(
+        int id, Currency currency, long amountCents, int epochDay, String reference) {
+      return new MatchCandidate(id, 1, currency, amountCents, epochDay, reference, null);
+    }
+
+    public static MatchCandidate buildCandidate(
+        int id,
+        int sourceId,
+        long amountCents,
+        int epochDay,
+        String reference,
+        String description) {
+      return new MatchCandidate(
+          id, sourceId, Currency.UYU, amountCents, epochDay, reference, description);
+    }
+
+    public record ReconciliationEnvironmentStub(
+        long RECONCILIATION_AMOUNT_TOLERANCE_CENTS,
+        int RECONCILIATION_DATE_TOLERANCE_DAYS,
+        int RECONCILIATION_WORKERS,
+        int RECONCILIATION_DATE_BUCKET_DAYS,
+        int RECONCILIATION_GROUP_DATE_WINDOW_DAYS,
+        int RECONCILIATION_GROUP_MAX_CANDIDATES,
+        int RECONCILIATION_GROUP_TIME_BUDGET_MS,
+        Path RECONCILIATION_SPILL_DIR,
+        int RECONCILIATION_SPILL_THRESHOLD,
+        int RECONCILIATION_DATABASE_THRESHOLD,
+        double RECONCILIATION_REFERENCE_SIMILARITY)
+        implements ReconciliationEnvironment {
+      public ReconciliationEnvironmentStub withRECONCILIATION_AMOUNT_TOLERANCE_CENTS(
+          long RECONCILIATION_AMOUNT_TOLERANCE_CENTS) {
+        return new ReconciliationEnvironmentStub(
+            RECONCILIATION_AMOUNT_TOLERANCE_CENTS,
+            this.RECONCILIATION_DATE_TOLERANCE_DAYS,
+            this.RECONCILIATION_WORKERS,
+            this.RECONCILIATION_DATE_BUCKET_DAYS,
+            this.RECONCILIATION_GROUP_DATE_WINDOW_DAYS,
+            this.RECONCILIATION_GROUP_MAX_CANDIDATES,
+            this.RECONCILIATION_GROUP_TIME_BUDGET_MS,
+            this.RECONCILIATION_SPILL_DIR,
+            this.RECONCILIATION_SPILL_THRESHOLD,
+            this.RECONCILIATION_DATABASE_THRESHOLD,
+            this.RECONCILIATION_REFERENCE_SIMILARITY);
+      }
+
+      public ReconciliationEnvironmentStub withRECONCILIATION_DATE_TOLERANCE_DAYS(
+          int RECONCILIATION_DATE_TOLERANCE_DAYS) {
+        return new ReconciliationEnvironmentStub(
+            this.RECONCILIATION_AMOUNT_TOLERANCE_CENTS,
+            RECONCILIATION_DATE_TOLERANCE_DAYS,
+            this.RECONCILIATION_WORKERS,
+            this.RECONCILIATION_DATE_BUCKET_DAYS,
+            this.RECONCILIATION_GROUP_DATE_WINDOW_DAYS,
+            this.RECONCILIATION_GROUP_MAX_CANDIDATES,
+            this.RECONCILIATION_GROUP_TIME_BUDGET_MS,
+            this.RECONCILIATION_SPILL_DIR,
+            this.RECONCILIATION_SPILL_THRESHOLD,
+            this.RECONCILIATION_DATABASE_THRESHOLD,
+            this.RECONCILIATION_REFERENCE_SIMILARITY);
+      }
+
+      public ReconciliationEnvironmentStub withRECONCILIATION_WORKERS(int RECONCILIATION_WORKERS) {
+        return new ReconciliationEnvironmentStub(
+            this.RECONCILIATION_AMOUNT_TOLERANCE_CENTS,
+            this.RECONCILIATION_DATE_TOLERANCE_DAYS,
+            RECONCILIATION_WORKERS,
+            this.RECONCILIATION_DATE_BUCKET_DAYS,
+            this.RECONCILIATION_GROUP_DATE_WINDOW_DAYS,
+            this.RECONCILIATION_GROUP_MAX_CANDIDATES,
+            this.RECONCILIATION_GROUP_TIME_BUDGET_MS,
+            this.RECONCILIATION_SPILL_DIR,
+            this.RECONCILIATION_SPILL_THRESHOLD,
+            this.RECONCILIATION_DATABASE_THRESHOLD,
+            this.RECONCILIATION_REFERENCE_SIMILARITY);
+      }
+
+      public ReconciliationEnvironmentStub withRECONCILIATION_DATE_BUCKET_DAYS(
+          int RECONCILIATION_DATE_BUCKET_DAYS) {
+        return new ReconciliationEnvironmentStub(
+            this.RECONCILIATION_AMOUNT_TOLERANCE_CENTS,
+            this.RECONCILIATION_DATE_TOLERANCE_DAYS,
+            this.RECONCILIATION_WORKERS,
+            RECONCILIATION_DATE_BUCKET_DAYS,
+            this.RECONCILIATION_GROUP_DATE_WINDOW_DAYS,
+            this.RECONCILIATION_GROUP_MAX_CANDIDATES,
+            this.RECONCILIATION_GROUP_TIME_BUDGET_MS,
+            this.RECONCILIATION_SPILL_DIR,
+            this.RECONCILIATION_SPILL_THRESHOLD,
+            this.RECONCILIATION_DATABASE_THRESHOLD,
+            this.RECONCILIATION_REFERENCE_SIMILARITY);
+      }
+
+      public ReconciliationEnvironmentStub withRECONCILIATION_GROUP_DATE_WINDOW_DAYS(
+          int RECONCILIATION_GROUP_DATE_WINDOW_DAYS) {
+        return new ReconciliationEnvironmentStub(
+            this.RECONCILIATION_AMOUNT_TOLERANCE_CENTS,
+            this.RECONCILIATION_DATE_TOLERANCE_DAYS,
+            this.RECONCILIATION_WORKERS,
+            this.RECONCILIATION_DATE_BUCKET_DAYS,
+            RECONCILIATION_GROUP_DATE_WINDOW_DAYS,
+            this.RECONCILIATION_GROUP_MAX_CANDIDATES,
+            this.RECONCILIATION_GROUP_TIME_BUDGET_MS,
+            this.RECONCILIATION_SPILL_DIR,
+            this.RECONCILIATION_SPILL_THRESHOLD,
+            this.RECONCILIATION_DATABASE_THRESHOLD,
+            this.RECONCILIATION_REFERENCE_SIMILARITY);
+      }
+
+      public ReconciliationEnvironmentStub withRECONCILIATION_GROUP_MAX_CANDIDATES(
+          int RECONCILIATION_GROUP_MAX_CANDIDATES) {
+        return new ReconciliationEnvironmentStub(
+            this.RECONCILIATION_AMOUNT_TOLERANCE_CENTS,
+            this.RECONCILIATION_DATE_TOLERANCE_DAYS,
+            this.RECONCILIATION_WORKERS,
+            this.RECONCILIATION_DATE_BUCKET_DAYS,
+            this.RECONCILIATION_GROUP_DATE_WINDOW_DAYS,
+            RECONCILIATION_GROUP_MAX_CANDIDATES,
+            this.RECONCILIATION_GROUP_TIME_BUDGET_MS,
+            this.RECONCILIATION_SPILL_DIR,
+            this.RECONCILIATION_SPILL_THRESHOLD,
+            this.RECONCILIATION_DATABASE_THRESHOLD,
+            this.RECONCILIATION_REFERENCE_SIMILARITY);
+      }
+
+      public ReconciliationEnvironmentStub withRECONCILIATION_GROUP_TIME_BUDGET_MS(
+          int RECONCILIATION_GROUP_TIME_BUDGET_MS) {
+        return new ReconciliationEnvironmentStub(
+            this.RECONCILIATION_AMOUNT_TOLERANCE_CENTS,
+            this.RECONCILIATION_DATE_TOLERANCE_DAYS,
+            this.RECONCILIATION_WORKERS,
+            this.RECONCILIATION_DATE_BUCKET_DAYS,
+            this.RECONCILIATION_GROUP_DATE_WINDOW_DAYS,
+            this.RECONCILIATION_GROUP_MAX_CANDIDATES,
+            RECONCILIATION_GROUP_TIME_BUDGET_MS,
+            this.RECONCILIATION_SPILL_DIR,
+            this.RECONCILIATION_SPILL_THRESHOLD,
+            this.RECONCILIATION_DATABASE_THRESHOLD,
+            this.RECONCILIATION_REFERENCE_SIMILARITY);
+      }
+
+      public ReconciliationEnvironmentStub withRECONCILIATION_SPILL_DIR(
+          Path RECONCILIATION_SPILL_DIR) {
+        return new ReconciliationEnvironmentStub(
+            this.RECONCILIATION_AMOUNT_TOLERANCE_CENTS,
+            this.RECONCILIATION_DATE_TOLERANCE_DAYS,
+            this.RECONCILIATION_WORKERS,
+            this.RECONCILIATION_DATE_BUCKET_DAYS,
+            this.RECONCILIATION_GROUP_DATE_WINDOW_DAYS,
+            this.RECONCILIATION_GROUP_MAX_CANDIDATES,
+            this.RECONCILIATION_GROUP_TIME_BUDGET_MS,
+            RECONCILIATION_SPILL_DIR,
+            this.RECONCILIATION_SPILL_THRESHOLD,
+            this.RECONCILIATION_DATABASE_THRESHOLD,
+            this.RECONCILIATION_REFERENCE_SIMILARITY);
+      }
+
+      public ReconciliationEnvironmentStub withRECONCILIATION_SPILL_THRESHOLD(
+          int RECONCILIATION_SPILL_THRESHOLD) {
+        return new ReconciliationEnvironmentStub(
+            this.RECONCILIATION_AMOUNT_TOLERANCE_CENTS,
+            this.RECONCILIATION_DATE_TOLERANCE_DAYS,
+            this.RECONCILIATION_WORKERS,
+            this.RECONCILIATION_DATE_BUCKET_DAYS,
+            this.RECONCILIATION_GROUP_DATE_WINDOW_DAYS,
+            this.RECONCILIATION_GROUP_MAX_CANDIDATES,
+            this.RECONCILIATION_GROUP_TIME_BUDGET_MS,
+            this.RECONCILIATION_SPILL_DIR,
+            RECONCILIATION_SPILL_THRESHOLD,
+            this.RECONCILIATION_DATABASE_THRESHOLD,
+            this.RECONCILIATION_REFERENCE_SIMILARITY);
+      }
+
+      public ReconciliationEnvironmentStub withRECONCILIATION_DATABASE_THRESHOLD(
+          int RECONCILIATION_DATABASE_THRESHOLD) {
+        return new ReconciliationEnvironmentStub(
+            this.RECONCILIATION_AMOUNT_TOLERANCE_CENTS,
+            this.RECONCILIATION_DATE_TOLERANCE_DAYS,
+            this.RECONCILIATION_WORKERS,
+            this.RECONCILIATION_DATE_BUCKET_DAYS,
+            this.RECONCILIATION_GROUP_DATE_WINDOW_DAYS,
+            this.RECONCILIATION_GROUP_MAX_CANDIDATES,
+            this.RECONCILIATION_GROUP_TIME_BUDGET_MS,
+            this.RECONCILIATION_SPILL_DIR,
+            this.RECONCILIATION_SPILL_THRESHOLD,
+            RECONCILIATION_DATABASE_THRESHOLD,
+            this.RECONCILIATION_REFERENCE_SIMILARITY);
+      }
+
+      public ReconciliationEnvironmentStub withRECONCILIATION_REFERENCE_SIMILARITY(
+          double RECONCILIATION_REFERENCE_SIMILARITY) {
+        return new ReconciliationEnvironmentStub(
+            this.RECONCILIATION_AMOUNT_TOLERANCE_CENTS,
+            this.RECONCILIATION_DATE_TOLERANCE_DAYS,
+            this.RECONCILIATION_WORKERS,
+            this.RECONCILIATION_DATE_BUCKET_DAYS,
+            this.RECONCILIATION_GROUP_DATE_WINDOW_DAYS,
+            this.RECONCILIATION_GROUP_MAX_CANDIDATES,
+            this.RECONCILIATION_GROUP_TIME_BUDGET_MS,
+            this.RECONCILIATION_SPILL_DIR,
+            this.RECONCILIATION_SPILL_THRESHOLD,
+            this.RECONCILIATION_DATABASE_THRESHOLD,
+            RECONCILIATION_REFERENCE_SIMILARITY);
+      }
+    }
+  }
 }
@@ -6,6 +6,8 @@ import static org.mockito.Mockito.*;
 import com.anibalxyz.features.auth.api.JwtMiddleware;
 import com.anibalxyz.features.auth.application.JwtService;
 import com.anibalxyz.features.auth.application.env.JwtEnvironment;
+import com.anibalxyz.features.transactions.domain.Currency;
+import com.anibalxyz.features.transactions.domain.SourceType;
 import com.anibalxyz.features.users.domain.*;
 import com.anibalxyz.features.users.infra.JpaUserRepository;
 import com.anibalxyz.features.users.infra.UserEntity;
@@ -14,7 +16,9 @@ import io.javalin.http.Context;
 import io.javalin.http.Cookie;
 import io.javalin.validation.Validator;
 import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
 import java.time.Clock;
+import java.time.Instant;
 import java.util.Map;
 import org.mockito.ArgumentCaptor;
 import org.mockito.stubbing.OngoingStubbing;
@@ -113,6 +117,76 @@ public class Helpers {
     return entity;
   }
 
+  /**
+   * Inserts a row into {@code sources}.
+   *
+   * @return The generated source id.
+   */
+  public static int persistSource(EntityManager em, String code, SourceType type) {
+    em.getTransaction().begin();
+    Number id =
+        (Number)
+            em.createNativeQuery(
+                    "INSERT INTO sources (code, name, type) VALUES (?, ?, CAST(? AS source_type))"
+                        + " RETURNING id")
+                .setParameter(1, code)
+                .setParameter(2, code)
+                .setParameter(3, type.name())
+                .getSingleResult();
+    em.getTransaction().commit();
+    return id.intValue();
+  }
+
+  /**
+   * Inserts a row into {@code reconciliation_rules}.
+   *
+   * @return The generated rule id.
+   */
+  public static int persistRule(
+      EntityManager em, int sourceId, int priority, String name, String definition) {
+    em.getTransaction().begin();
+    Number id =
+        (Number)
+            em.createNativeQuery(
+                    "INSERT INTO reconciliation_rules (source_id, priority, name, definition)"
+                        + " VALUES (?, ?, ?, ?) RETURNING id")
+                .setParameter(1, sourceId)
+                .setParameter(2, priority)
+                .setParameter(3, name)
+                .setParameter(4, definition)
+                .getSingleResult();
+    em.getTransaction().commit();
+    return id.intValue();
+  }
+
+  /**
+   * Inserts a row into {@code transactions}.
+   *
+   * @return The generated transaction id.
+   */
+  public static int persistTransaction(
+      EntityManager em,
+      int sourceId,
+      Instant transactionDate,
+      String reference,
+      Currency currency,
+      BigDecimal amount) {
+    em.getTransaction().begin();
+    Number id =
+        (Number)
+            em.createNativeQuery(
+                    "INSERT INTO transactions (source_id, transaction_date, reference, currency,"
+                        + " amount) VALUES (?, ?, ?, CAST(? AS currency_type), ?) RETURNING id")
+                .setParameter(1, sourceId)
+                .setParameter(2, transactionDate)
+                .setParameter(3, reference)
+                .setParameter(4, currency.name())
+                .setParameter(5, amount)
+                .getSingleResult();
+    em.getTransaction().commit();
+    return id.intValue();
+  }
+
   public static String getValueFromCookie(String cookie, String key) {
     if (cookie == null) {
       return null;
@@ -0,0 +1,7 @@
+-- Large reconciliation runs look up unmatched transactions by reference similarity instead of
+-- indexing every reference in memory. The index covers references uppercased and stripped of
+-- symbols, the same expression the lookup compares, so casing and punctuation do not count.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_transactions_reference_trgm
+  ON transactions USING gin (regexp_replace(upper(reference), '[^A-Z0-9]', '', 'g') gin_trgm_ops);
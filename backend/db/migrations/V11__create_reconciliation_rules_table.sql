@@ -0,0 +1,18 @@
+-- Matching rules of BANK sources, tried in priority order before the generic stages reach their
+-- rows. definition holds the conditions in the rule language, e.g. 'amount and date within 2'.
+CREATE TABLE reconciliation_rules (
+  id INT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+  source_id INT NOT NULL REFERENCES sources(id) ON DELETE CASCADE,
+  priority INT NOT NULL,
+  name VARCHAR(50) NOT NULL,
+  definition TEXT NOT NULL,
+  created_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  updated_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  CONSTRAINT uq_reconciliation_rules_source_priority UNIQUE(source_id, priority),
+  CONSTRAINT uq_reconciliation_rules_source_name UNIQUE(source_id, name)
+);
+
+CREATE TRIGGER set_updated_at_reconciliation_rules
+BEFORE UPDATE ON reconciliation_rules
+FOR EACH ROW
+EXECUTE FUNCTION set_updated_at();
@@ -0,0 +1,4 @@
+-- Large reconciliation runs match in the database, looking up for every unmatched BANK transaction
+-- the SYSTEM transactions of each source with its currency and an amount within the tolerance.
+CREATE INDEX idx_transactions_source_currency_amount_date
+  ON transactions (source_id, currency, amount, transaction_date);
@@ -0,0 +1,4 @@
+-- uq_reconciliations_transactions already covers lookups by left_transaction_id; the matching
+-- engine also probes by right_transaction_id to find unmatched SYSTEM transactions.
+CREATE INDEX idx_reconciliations_right_transaction_id
+  ON reconciliations (right_transaction_id);
@@ -0,0 +1,7 @@
+-- Discrepancy types recorded by the reconciliation engine for tolerance matches.
+-- Names must match com.anibalxyz.features.reconciliation.domain.Discrepancy.
+INSERT INTO tags (name, description, type) VALUES
+  ('AMOUNT_MISMATCH', 'Matched amounts differ within the configured tolerance', 'DISCREPANCY'),
+  ('DATE_MISMATCH', 'Matched transaction dates differ within the configured tolerance', 'DISCREPANCY'),
+  ('REFERENCE_MISMATCH', 'Matched references are not equal', 'DISCREPANCY')
+ON CONFLICT (name) DO NOTHING;
@@ -0,0 +1,13 @@
+-- Highest transaction id of each source already examined by the reconciliation engine.
+-- Incremental runs only load transactions above their source watermark.
+CREATE TABLE reconciliation_watermarks (
+  source_id INT PRIMARY KEY REFERENCES sources(id) ON DELETE CASCADE,
+  last_transaction_id INT NOT NULL,
+  created_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  updated_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TRIGGER set_updated_at_reconciliation_watermarks
+BEFORE UPDATE ON reconciliation_watermarks
+FOR EACH ROW
+EXECUTE FUNCTION set_updated_at();
@@ -0,0 +1,23 @@
+-- Many-to-one matches: one anchor transaction reconciled against several transactions of the
+-- opposite source type, e.g. a bank settlement covering many ledger entries.
+-- reconciliations keeps modelling 1:1 pairs.
+CREATE TABLE reconciliation_groups (
+  id INT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+  anchor_transaction_id INT NOT NULL UNIQUE REFERENCES transactions(id),
+  -- Sum of the member amounts minus the anchor amount, within the amount tolerance.
+  amount_difference NUMERIC(15,2) NOT NULL DEFAULT 0,
+  created_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  updated_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE reconciliation_group_members (
+  group_id INT NOT NULL REFERENCES reconciliation_groups(id) ON DELETE CASCADE,
+  transaction_id INT NOT NULL UNIQUE REFERENCES transactions(id),
+  created_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  PRIMARY KEY (group_id, transaction_id)
+);
+
+CREATE TRIGGER set_updated_at_reconciliation_groups
+BEFORE UPDATE ON reconciliation_groups
+FOR EACH ROW
+EXECUTE FUNCTION set_updated_at();
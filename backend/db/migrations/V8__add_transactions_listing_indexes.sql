@@ -0,0 +1,7 @@
+-- Transaction listings page through (transaction_date, id) by seeking past the last row read, so
+-- every page is a single range scan on one of these indexes, whether or not it filters by source.
+CREATE INDEX idx_transactions_date_id
+  ON transactions (transaction_date, id);
+
+CREATE INDEX idx_transactions_source_date_id
+  ON transactions (source_id, transaction_date, id);
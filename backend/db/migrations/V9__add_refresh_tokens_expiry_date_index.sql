@@ -0,0 +1,4 @@
+-- The expired token cleanup deletes in small batches of the oldest expired tokens, so each batch
+-- is a short range scan on this index instead of a sequential scan of the whole table.
+CREATE INDEX idx_refresh_tokens_expiry_date
+  ON refresh_tokens (expiry_date);